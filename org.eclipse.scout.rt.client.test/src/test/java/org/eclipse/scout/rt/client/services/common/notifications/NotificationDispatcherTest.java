@@ -24,6 +24,7 @@ import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.BeanMetaData;
 import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.IgnoreBean;
+import org.eclipse.scout.rt.platform.context.RunContexts;
 import org.eclipse.scout.rt.platform.job.IBlockingCondition;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.Jobs;
@@ -99,6 +100,25 @@ public class NotificationDispatcherTest {
     Mockito.verify(m_groupNotificationHandler, Mockito.times(2)).handleNotification(Mockito.any(INotificationGroup.class));
   }
 
+  @Test
+  public void testNotificationsForOtherSession() {
+    final IClientSession session = (IClientSession) IClientSession.CURRENT.get();
+    final ClientNotificationDispatcher dispatcher = BEANS.get(ClientNotificationDispatcher.class);
+
+    // dispatched asynchronously, as the session is not the current one
+    Jobs.schedule(() -> {
+      dispatcher.dispatchForSession(session, new Notification01(), mock(ClientNotificationAddress.class));
+      dispatcher.dispatchForSession(session, new Notification02(), mock(ClientNotificationAddress.class));
+      dispatcher.dispatchForSession(session, new Notification02(), mock(ClientNotificationAddress.class));
+    }, Jobs.newInput()
+        .withRunContext(RunContexts.empty()))
+        .awaitDoneAndGet();
+    waitForPendingNotifications(dispatcher);
+
+    Mockito.verify(m_globalNotificationHandler, Mockito.times(3)).handleNotification(Mockito.any(Serializable.class));
+    Mockito.verify(m_groupNotificationHandler, Mockito.times(2)).handleNotification(Mockito.any(INotificationGroup.class));
+  }
+
   /**
    * This method should only be used for debugging or test reasons. It waits for all notification jobs to be executed.
    */
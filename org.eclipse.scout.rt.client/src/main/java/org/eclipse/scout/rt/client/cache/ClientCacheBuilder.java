@@ -28,9 +28,13 @@ public class ClientCacheBuilder<K, V> extends CacheBuilder<K, V> {
 
   @Override
   protected ICache<K, V> createBasicCache(Map<K, V> cacheMap) {
-    ICacheValueResolver<K, V> valueResolver = getValueResolver();
+    ICacheValueResolver<K, V> valueResolver;
     if (isSharedAndRemoteAvailable() && isRemoteValueResolverEnabled()) {
-      valueResolver = new RemoteCacheValueResolver<>(getCacheId());
+      // values of shared caches are taken from the server, which preloads them from its snapshot
+      valueResolver = wrapRefreshValueResolver(new RemoteCacheValueResolver<>(getCacheId()));
+    }
+    else {
+      valueResolver = createValueResolver();
     }
     return new BasicCache<>(getCacheId(), getLabelSupplier(), valueResolver, cacheMap);
   }
@@ -12,7 +12,11 @@ package org.eclipse.scout.rt.client.clientnotification;
 import java.io.Serializable;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 
 import org.eclipse.scout.rt.client.IClientSession;
 import org.eclipse.scout.rt.client.context.ClientRunContexts;
@@ -21,12 +25,14 @@ import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.context.CorrelationId;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
 import org.eclipse.scout.rt.platform.job.DoneEvent;
 import org.eclipse.scout.rt.platform.job.IDoneHandler;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.transaction.TransactionScope;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.platform.util.CompositeObject;
 import org.eclipse.scout.rt.shared.ISession;
 import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
 import org.eclipse.scout.rt.shared.clientnotification.IClientNotificationAddress;
@@ -42,6 +48,7 @@ public class ClientNotificationDispatcher {
   private static final Logger LOG = LoggerFactory.getLogger(ClientNotificationDispatcher.class);
 
   private final Set<IFuture<Void>> m_notificationFutures = new HashSet<>();
+  private final ConcurrentMap<IClientSession, Queue<P_SessionNotification>> m_sessionNotifications = new ConcurrentHashMap<>();
 
   public void dispatchNotifications(List<ClientNotificationMessage> notifications) {
     if (notifications == null) {
@@ -140,7 +147,8 @@ public class ClientNotificationDispatcher {
 
   /**
    * Dispatch notifications within the context of a session.<br>
-   * Dispatching is always done asynchronously to ensure that it is not handled within a model thread.
+   * Dispatching is always done asynchronously to ensure that it is not handled within a model thread. Notifications
+   * for the same session arriving while a dispatching job is pending are dispatched by that job.
    *
    * @param session
    *          the session describes the {@link RunContext} in which the notification should be processed.
@@ -154,24 +162,53 @@ public class ClientNotificationDispatcher {
       dispatchSync(notification, address);
     }
     else {
-      IFuture<Void> future = Jobs.schedule(() -> dispatchSync(notification, address), Jobs.newInput()
+      P_SessionNotification sessionNotification = new P_SessionNotification(notification, address, CorrelationId.CURRENT.get());
+      m_sessionNotifications.compute(session, (key, queue) -> {
+        Queue<P_SessionNotification> result = queue != null ? queue : new ConcurrentLinkedQueue<>();
+        result.add(sessionNotification);
+        return result;
+      });
+
+      IFuture<Void> future = Jobs.schedule(() -> dispatchQueued(session), Jobs.newInput()
           .withRunContext(ClientRunContexts.empty()
-              .withSession(session, true)
-              .withCorrelationId(CorrelationId.CURRENT.get()))
-          .withName("Dispatching client notification"));
+              .withSession(session, true))
+          .withName("Dispatching client notifications")
+          .withCoalescingKey(new CompositeObject(ClientNotificationDispatcher.class, session)));
 
-      addPendingNotification(future);
+      if (addPendingNotification(future)) {
+        future.whenDone(new P_NotificationFutureCallback(future, session), null);
+      }
+    }
+  }
 
-      future.whenDone(new P_NotificationFutureCallback(future), null);
+  /**
+   * Dispatches all notifications queued for the given session so far. Every notification is dispatched in a separate
+   * transaction and with the correlation id it was received with.
+   */
+  protected void dispatchQueued(IClientSession session) {
+    Queue<P_SessionNotification> queue = m_sessionNotifications.remove(session);
+    if (queue == null) {
+      return; // dispatched by a previous job
+    }
+    for (P_SessionNotification sessionNotification : queue) {
+      try {
+        RunContexts.copyCurrent()
+            .withCorrelationId(sessionNotification.getCorrelationId())
+            .withTransactionScope(TransactionScope.REQUIRES_NEW)
+            .run(() -> dispatchSync(sessionNotification.getNotification(), sessionNotification.getAddress()));
+      }
+      catch (RuntimeException e) {
+        BEANS.get(ExceptionHandler.class).handle(e);
+      }
     }
   }
 
   /**
    * keep pending notification future to be able to wait for completion.
    */
-  protected void addPendingNotification(IFuture<Void> future) {
+  protected boolean addPendingNotification(IFuture<Void> future) {
     synchronized (m_notificationFutures) {
-      m_notificationFutures.add(future);
+      return m_notificationFutures.add(future);
     }
   }
 
@@ -200,14 +237,48 @@ public class ClientNotificationDispatcher {
 
   private class P_NotificationFutureCallback implements IDoneHandler<Void> {
     private final IFuture<Void> m_future;
+    private final IClientSession m_session;
 
     P_NotificationFutureCallback(IFuture<Void> future) {
+      this(future, null);
+    }
+
+    P_NotificationFutureCallback(IFuture<Void> future, IClientSession session) {
       m_future = future;
+      m_session = session;
     }
 
     @Override
     public void onDone(DoneEvent<Void> event) {
       removePendingNotification(m_future);
+      if (m_session != null && event.isCancelled() && !m_session.isActive()) {
+        // the queued notifications of a stopped session are never dispatched
+        m_sessionNotifications.remove(m_session);
+      }
+    }
+  }
+
+  private static final class P_SessionNotification {
+    private final Serializable m_notification;
+    private final IClientNotificationAddress m_address;
+    private final String m_correlationId;
+
+    P_SessionNotification(Serializable notification, IClientNotificationAddress address, String correlationId) {
+      m_notification = notification;
+      m_address = address;
+      m_correlationId = correlationId;
+    }
+
+    Serializable getNotification() {
+      return m_notification;
+    }
+
+    IClientNotificationAddress getAddress() {
+      return m_address;
+    }
+
+    String getCorrelationId() {
+      return m_correlationId;
     }
   }
 }
@@ -25,6 +25,7 @@ import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.IJobManager;
 import org.eclipse.scout.rt.platform.job.JobInput;
+import org.eclipse.scout.rt.platform.job.JobPriority;
 import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.job.filter.event.JobEventFilterBuilder;
 import org.eclipse.scout.rt.platform.job.filter.future.FutureFilterBuilder;
@@ -219,8 +220,8 @@ public final class ModelJobs {
   }
 
   /**
-   * Creates a {@link JobInput} specific for model jobs initialized with the given {@link ClientRunContext} and the
-   * session's model job semaphore.
+   * Creates a {@link JobInput} specific for model jobs initialized with the given {@link ClientRunContext}, the
+   * session's model job semaphore and the priority {@link JobPriority#INTERACTIVE}.
    * <p>
    * The job input returned can be associated with meta information about the job and with execution instructions to
    * tell the job manager how to run the job. The input is to be given to the job manager alongside with the
@@ -244,7 +245,8 @@ public final class ModelJobs {
     return BEANS.get(JobInput.class)
         .withThreadName("scout-model-thread")
         .withRunContext(clientRunContext)
-        .withExecutionSemaphore(clientRunContext.getSession().getModelJobSemaphore());
+        .withExecutionSemaphore(clientRunContext.getSession().getModelJobSemaphore())
+        .withPriority(JobPriority.INTERACTIVE);
   }
 
   /**
@@ -13,6 +13,8 @@ import org.eclipse.scout.rt.client.clientnotification.AbstractObservableNotifica
 import org.eclipse.scout.rt.client.context.ClientRunContexts;
 import org.eclipse.scout.rt.client.job.ModelJobs;
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.CompositeObject;
+import org.eclipse.scout.rt.shared.ISession;
 import org.eclipse.scout.rt.shared.clientnotification.IClientNotificationAddress;
 import org.eclipse.scout.rt.shared.services.common.bookmark.BookmarkChangedClientNotification;
 
@@ -20,7 +22,9 @@ public class BookmarkClientNotificationHandler extends AbstractObservableNotific
 
   @Override
   public void handleNotification(BookmarkChangedClientNotification notification, IClientNotificationAddress address) {
-    ModelJobs.schedule(() -> BEANS.get(IBookmarkService.class).loadBookmarks(), ModelJobs.newInput(ClientRunContexts.copyCurrent()));
+    // a burst of notifications reloads the bookmarks only once
+    ModelJobs.schedule(() -> BEANS.get(IBookmarkService.class).loadBookmarks(), ModelJobs.newInput(ClientRunContexts.copyCurrent())
+        .withCoalescingKey(new CompositeObject(BookmarkClientNotificationHandler.class, ISession.CURRENT.get())));
     super.handleNotification(notification, address);
   }
 
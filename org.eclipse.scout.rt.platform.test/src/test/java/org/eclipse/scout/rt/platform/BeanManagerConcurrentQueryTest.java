@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.eclipse.scout.rt.platform.internal.BeanHierarchy;
+import org.eclipse.scout.rt.platform.internal.BeanManagerImplementor;
+import org.eclipse.scout.rt.testing.platform.testcategory.ResourceIntensiveTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares the throughput of concurrent bean lookups of {@link BeanManagerImplementor} (lock-free read path) with a
+ * bean manager which acquires the read lock for every lookup (behavior before the read path was made lock-free).
+ * <p>
+ * The measured throughput is only logged and not asserted as it strongly depends on the executing infrastructure.
+ */
+@Category(ResourceIntensiveTest.class)
+public class BeanManagerConcurrentQueryTest {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BeanManagerConcurrentQueryTest.class);
+
+  private static final long DURATION_NANOS = TimeUnit.SECONDS.toNanos(2);
+
+  @Test
+  public void testConcurrentQueryThroughput() throws InterruptedException {
+    int threadCount = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+    long lockFree = measureQueriesPerSecond(new BeanManagerImplementor(), threadCount);
+    long locked = measureQueriesPerSecond(new P_AlwaysLockingBeanManager(), threadCount);
+
+    LOG.info("Bean lookups with {} threads: lock-free read path {} ops/s, locked read path {} ops/s", threadCount, lockFree, locked);
+    assertTrue(lockFree > 0);
+    assertTrue(locked > 0);
+  }
+
+  protected long measureQueriesPerSecond(BeanManagerImplementor beanManager, int threadCount) throws InterruptedException {
+    beanManager.registerClass(FixtureBean.class);
+    beanManager.registerClass(FixtureReplacingBean.class);
+    beanManager.registerClass(FixtureOtherBean.class);
+
+    AtomicLong counter = new AtomicLong();
+    AtomicReference<Throwable> error = new AtomicReference<>();
+    CountDownLatch start = new CountDownLatch(1);
+    Thread[] threads = new Thread[threadCount];
+    for (int i = 0; i < threadCount; i++) {
+      threads[i] = new Thread(() -> {
+        try {
+          start.await();
+          long count = 0;
+          long begin = System.nanoTime();
+          while (System.nanoTime() - begin < DURATION_NANOS) {
+            for (int j = 0; j < 100; j++) {
+              assertEquals(FixtureReplacingBean.class, beanManager.getBean(FixtureBean.class).getBeanClazz());
+              assertEquals(2, beanManager.getBeans(IFixtureBean.class).size());
+            }
+            count += 100;
+          }
+          counter.addAndGet(count);
+        }
+        catch (Throwable t) { // NOSONAR
+          error.set(t);
+        }
+      }, "bean-query-" + i);
+      threads[i].start();
+    }
+    start.countDown();
+    for (Thread thread : threads) {
+      thread.join();
+    }
+    assertNull("Exception occurred: " + error.get(), error.get());
+    return counter.get() / TimeUnit.NANOSECONDS.toSeconds(DURATION_NANOS);
+  }
+
+  /**
+   * Acquires the read lock for every query.
+   */
+  private static class P_AlwaysLockingBeanManager extends BeanManagerImplementor {
+    @Override
+    protected <T> List<IBean<T>> query(BeanHierarchy<T> h, boolean querySingle) {
+      getReadWriteLock().readLock().lock();
+      try {
+        return querySingle ? h.querySingle() : h.queryAll();
+      }
+      finally {
+        getReadWriteLock().readLock().unlock();
+      }
+    }
+  }
+
+  public interface IFixtureBean {
+  }
+
+  public static class FixtureBean implements IFixtureBean {
+  }
+
+  @Replace
+  public static class FixtureReplacingBean extends FixtureBean {
+  }
+
+  public static class FixtureOtherBean implements IFixtureBean {
+  }
+}
@@ -19,6 +19,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Phaser;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -36,6 +37,8 @@ import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.collection.AbstractTransactionalMap.AbstractMapTransactionMember;
 import org.eclipse.scout.rt.platform.util.concurrent.FutureCancelledError;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.testing.platform.job.JobTestUtil;
 import org.junit.ComparisonFailure;
 import org.junit.Test;
 
@@ -625,6 +628,132 @@ public class BasicCacheTest {
     assertEquals("newValue_5", RunContexts.empty().call(() -> cache.get(5)));
   }
 
+  @Test
+  public void testConcurrentGetResolvesOnce() {
+    P_BlockingResolver resolver = new P_BlockingResolver();
+    ICache<Integer, String> cache = createConcurrentCache("BasicCacheTestCacheId#testConcurrentGetResolvesOnce", resolver);
+    CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+
+    IFuture<String> future1 = Jobs.schedule(() -> cache.get(1), Jobs.newInput().withRunContext(RunContexts.empty()));
+    resolver.awaitResolving();
+    IFuture<String> future2 = Jobs.schedule(() -> cache.get(1), Jobs.newInput().withRunContext(RunContexts.empty()));
+    IFuture<String> future3 = Jobs.schedule(() -> cache.get(1), Jobs.newInput().withRunContext(RunContexts.empty()));
+    JobTestUtil.waitForCondition(() -> statistics.getMissCount() == 3);
+    resolver.release();
+
+    assertEquals("1.1", future1.awaitDoneAndGet());
+    assertEquals("1.1", future2.awaitDoneAndGet());
+    assertEquals("1.1", future3.awaitDoneAndGet());
+    assertEquals(1, resolver.getResolveCount());
+    assertEquals(1, statistics.getLoadSuccessCount());
+    assertEquals(2, statistics.getSharedLoadCount());
+  }
+
+  @Test
+  public void testConcurrentGetAllResolvesOnce() {
+    P_BlockingResolver resolver = new P_BlockingResolver();
+    ICache<Integer, String> cache = createConcurrentCache("BasicCacheTestCacheId#testConcurrentGetAllResolvesOnce", resolver);
+    CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+
+    IFuture<String> future1 = Jobs.schedule(() -> cache.get(1), Jobs.newInput().withRunContext(RunContexts.empty()));
+    resolver.awaitResolving();
+    IFuture<Map<Integer, String>> future2 = Jobs.schedule(() -> cache.getAll(Arrays.asList(1, 2)), Jobs.newInput().withRunContext(RunContexts.empty()));
+    // key 2 is resolved by the second caller which then waits for key 1
+    JobTestUtil.waitForCondition(() -> resolver.getResolveCount() == 2);
+    resolver.release();
+
+    assertEquals("1.1", future1.awaitDoneAndGet());
+    Map<Integer, String> values = future2.awaitDoneAndGet();
+    assertEquals("1.1", values.get(1));
+    assertEquals("2.2", values.get(2));
+    assertEquals(2, resolver.getResolveCount());
+    assertEquals(1, statistics.getSharedLoadCount());
+  }
+
+  @Test
+  public void testConcurrentGetAfterFailedResolve() {
+    P_BlockingResolver resolver = new P_BlockingResolver();
+    ICache<Integer, String> cache = createConcurrentCache("BasicCacheTestCacheId#testConcurrentGetAfterFailedResolve", resolver);
+    CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+
+    resolver.setFailing(true);
+    IFuture<String> future1 = Jobs.schedule(() -> cache.get(1), Jobs.newInput().withRunContext(RunContexts.empty()));
+    resolver.awaitResolving();
+    IFuture<String> future2 = Jobs.schedule(() -> cache.get(1), Jobs.newInput().withRunContext(RunContexts.empty()));
+    JobTestUtil.waitForCondition(() -> statistics.getMissCount() == 2);
+    resolver.setFailing(false);
+    resolver.release();
+
+    try {
+      future1.awaitDoneAndGet();
+      fail("ProcessingException expected");
+    }
+    catch (ProcessingException e) {
+      // expected
+    }
+    // the waiting caller resolves the value on its own
+    assertEquals("1.2", future2.awaitDoneAndGet());
+    assertEquals(1, statistics.getLoadFailureCount());
+    assertEquals(0, statistics.getSharedLoadCount());
+  }
+
+  protected ICache<Integer, String> createConcurrentCache(String id, ICacheValueResolver<Integer, String> resolver) {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    return cacheBuilder
+        .withCacheId(id)
+        .withValueResolver(resolver)
+        .withReplaceIfExists(true)
+        .build();
+  }
+
+  /**
+   * Resolver which blocks until it is released, and fails the first resolve if it is failing.
+   */
+  protected static class P_BlockingResolver implements ICacheValueResolver<Integer, String> {
+    private final CountDownLatch m_resolvingLatch = new CountDownLatch(1);
+    private final CountDownLatch m_blockingLatch = new CountDownLatch(1);
+    private final AtomicInteger m_resolveCount = new AtomicInteger();
+    private volatile boolean m_failing;
+
+    @Override
+    public String resolve(Integer key) {
+      int count = m_resolveCount.incrementAndGet();
+      m_resolvingLatch.countDown();
+      try {
+        m_blockingLatch.await();
+      }
+      catch (InterruptedException e) {
+        throw new ThreadInterruptedError("Interrupted while waiting for the test", e);
+      }
+      if (count == 1 && m_failing) {
+        throw new ProcessingException("Test exception - thrown");
+      }
+      return key + "." + count;
+    }
+
+    public void awaitResolving() {
+      try {
+        m_resolvingLatch.await();
+      }
+      catch (InterruptedException e) {
+        throw new ThreadInterruptedError("Interrupted while waiting for the test", e);
+      }
+    }
+
+    public void release() {
+      m_blockingLatch.countDown();
+    }
+
+    public void setFailing(boolean failing) {
+      m_failing = failing;
+    }
+
+    public int getResolveCount() {
+      return m_resolveCount.get();
+    }
+  }
+
   @Test
   public void testFuzzy() {
     testFuzzy(1000, false);
@@ -12,7 +12,11 @@ package org.eclipse.scout.rt.platform.cache;
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.mock;
 
+import java.util.Map;
+
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.platform.util.collection.TinyLfuEvictionPolicy;
 import org.junit.Test;
 
 /**
@@ -46,6 +50,20 @@ public class CacheBuilderTest {
     assertTrue(cacheDelegate instanceof BasicCache);
   }
 
+  @Test
+  public void testEvictionPolicy() {
+    Map<Integer, String> lruMap = new CacheBuilder<Integer, String>().withSizeBound(10).createCacheMap();
+    assertTrue(lruMap instanceof ConcurrentExpiringMap);
+    assertNull(((ConcurrentExpiringMap<Integer, String>) lruMap).getEvictionPolicy());
+    assertTrue(((ConcurrentExpiringMap<Integer, String>) lruMap).isTouchOnGet());
+
+    Map<Integer, String> tinyLfuMap = new CacheBuilder<Integer, String>().withSizeBound(10).withEvictionPolicy(CacheEvictionPolicy.TINY_LFU).createCacheMap();
+    assertTrue(tinyLfuMap instanceof ConcurrentExpiringMap);
+    assertTrue(((ConcurrentExpiringMap<Integer, String>) tinyLfuMap).getEvictionPolicy() instanceof TinyLfuEvictionPolicy);
+    assertEquals(10, ((ConcurrentExpiringMap<Integer, String>) tinyLfuMap).getEvictionPolicy().getCapacity());
+    assertFalse(((ConcurrentExpiringMap<Integer, String>) tinyLfuMap).isTouchOnGet());
+  }
+
   protected static class TestCacheWrapper extends AbstractCacheWrapper<Integer, String> {
 
     public TestCacheWrapper(ICache<Integer, String> delegate) {
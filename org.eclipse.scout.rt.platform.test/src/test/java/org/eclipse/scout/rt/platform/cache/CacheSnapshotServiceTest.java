@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @since 24.2
+ */
+public class CacheSnapshotServiceTest {
+
+  private static final String CACHE_ID = "CacheSnapshotServiceTest#cache";
+
+  private Path m_dir;
+  private long m_maxAgeMillis;
+  private CacheSnapshotService m_service;
+  private final AtomicInteger m_resolveCount = new AtomicInteger();
+
+  @Before
+  public void before() throws IOException {
+    m_dir = Files.createTempDirectory("cache-snapshot-test");
+    m_maxAgeMillis = 60_000L;
+    m_service = new CacheSnapshotService() {
+      @Override
+      protected Path getSnapshotDirectory() {
+        return m_dir;
+      }
+
+      @Override
+      protected long getMaxAgeMillis() {
+        return m_maxAgeMillis;
+      }
+    };
+  }
+
+  @After
+  public void after() {
+    IOUtility.deleteDirectory(m_dir.toFile());
+  }
+
+  protected ICache<Integer, String> createCache(String snapshotVersion) {
+    ICacheValueResolver<Integer, String> resolver = key -> {
+      m_resolveCount.incrementAndGet();
+      return "resolved" + key;
+    };
+    ICache<Integer, String> cache = new BasicCache<>(CACHE_ID, null, m_service.wrapValueResolver(CACHE_ID, snapshotVersion, resolver), new ConcurrentHashMap<>());
+    m_service.preload(cache);
+    return cache;
+  }
+
+  protected void writeSnapshot(String snapshotVersion) {
+    ICache<Integer, String> cache = new BasicCache<>(CACHE_ID, null, key -> "snapshot" + key, new ConcurrentHashMap<>());
+    cache.getAll(Arrays.asList(1, 2, 3));
+    m_service.writeSnapshot(cache, snapshotVersion);
+    assertTrue(Files.isRegularFile(m_service.getSnapshotFile(CACHE_ID)));
+  }
+
+  @Test
+  public void testPreload() {
+    writeSnapshot("1");
+    ICache<Integer, String> cache = createCache("1");
+    assertEquals(3, cache.getUnmodifiableMap().size());
+    assertEquals("snapshot1", cache.get(1));
+    assertEquals("snapshot3", cache.get(3));
+    assertEquals(0, m_resolveCount.get());
+    // the snapshot is read once
+    assertFalse(Files.exists(m_service.getSnapshotFile(CACHE_ID)));
+
+    assertEquals("resolved4", cache.get(4));
+    cache.invalidate(new KeyCacheEntryFilter<>(Arrays.asList(1)), false);
+    assertEquals("resolved1", cache.get(1));
+    assertEquals(2, m_resolveCount.get());
+  }
+
+  @Test
+  public void testDiscardOtherVersion() {
+    writeSnapshot("1");
+    ICache<Integer, String> cache = createCache("2");
+    assertTrue(cache.getUnmodifiableMap().isEmpty());
+    assertEquals("resolved1", cache.get(1));
+    assertFalse(Files.exists(m_service.getSnapshotFile(CACHE_ID)));
+  }
+
+  @Test
+  public void testDiscardOutdatedSnapshot() {
+    writeSnapshot("1");
+    m_maxAgeMillis = -1L;
+    ICache<Integer, String> cache = createCache("1");
+    assertTrue(cache.getUnmodifiableMap().isEmpty());
+    assertEquals("resolved1", cache.get(1));
+  }
+
+  @Test
+  public void testDiscardCorruptedSnapshot() throws IOException {
+    writeSnapshot("1");
+    Path file = m_service.getSnapshotFile(CACHE_ID);
+    byte[] content = Files.readAllBytes(file);
+    Files.write(file, Arrays.copyOf(content, content.length - 10));
+    ICache<Integer, String> cache = createCache("1");
+    assertTrue(cache.getUnmodifiableMap().isEmpty());
+    assertEquals("resolved1", cache.get(1));
+  }
+
+  @Test
+  public void testWriteSnapshotsOfRegisteredCaches() {
+    // registers the cache for snapshots
+    createCache("1");
+    BasicCache<Integer, String> registered = new BasicCache<>(CACHE_ID, null, key -> "value" + key, new ConcurrentHashMap<>());
+    registered.get(5);
+    BEANS.get(ICacheRegistryService.class).registerAndReplace(registered);
+    m_service.writeSnapshots();
+
+    ICache<Integer, String> preloadedCache = createCache("1");
+    assertEquals("value5", preloadedCache.get(5));
+  }
+}
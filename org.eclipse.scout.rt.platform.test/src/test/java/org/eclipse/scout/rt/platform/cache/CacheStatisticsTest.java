@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.junit.Test;
+
+/**
+ * @since 24.2
+ */
+public class CacheStatisticsTest {
+
+  protected ICache<Integer, String> createCache(String id, Integer sizeBound, Integer maxConcurrentResolve) {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    return cacheBuilder
+        .withCacheId(id)
+        .withValueResolver(key -> {
+          if (key < 0) {
+            throw new ProcessingException("Test exception - thrown");
+          }
+          return "value" + key;
+        })
+        .withSizeBound(sizeBound)
+        .withEvictionPolicy(CacheEvictionPolicy.TINY_LFU)
+        .withMaxConcurrentResolve(maxConcurrentResolve)
+        .withReplaceIfExists(true)
+        .build();
+  }
+
+  @Test
+  public void testHitsMissesAndLoads() {
+    ICache<Integer, String> cache = createCache("CacheStatisticsTest.hits", null, null);
+    CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+    assertNotNull(statistics);
+    assertEquals(1.0, statistics.getHitRate(), 0.0);
+
+    cache.get(1);
+    cache.get(1);
+    cache.get(2);
+    try {
+      cache.get(-1);
+      fail("ProcessingException expected");
+    }
+    catch (ProcessingException e) {
+      // expected
+    }
+    cache.getAll(Arrays.asList(1, 2, 3, 4));
+
+    assertEquals(3, statistics.getHitCount());
+    assertEquals(5, statistics.getMissCount());
+    assertEquals(3.0 / 8, statistics.getHitRate(), 0.0001);
+    assertEquals(3, statistics.getLoadSuccessCount());
+    assertEquals(1, statistics.getLoadFailureCount());
+    assertEquals(4, statistics.getSize());
+  }
+
+  @Test
+  public void testEvictionsAndInvalidations() {
+    ICache<Integer, String> cache = createCache("CacheStatisticsTest.evictions", 10, null);
+    CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+    for (int i = 0; i < 15; i++) {
+      cache.get(i);
+    }
+    assertEquals(5, statistics.getEvictionCount());
+    assertEquals(10, statistics.getSize());
+
+    cache.invalidate(new KeyCacheEntryFilter<>(Arrays.asList(1, 2)), false);
+    cache.invalidate(new AllCacheEntryFilter<>(), false);
+    assertEquals(2, statistics.getInvalidationCount());
+    assertEquals(0, statistics.getSize());
+  }
+
+  @Test
+  public void testBoundedResolveWrapper() {
+    ICache<Integer, String> cache = createCache("CacheStatisticsTest.bounded", null, 1);
+    assertTrue(cache instanceof BoundedResolveCacheWrapper);
+    CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+
+    cache.get(1);
+    cache.get(1);
+    cache.getAll(Arrays.asList(1));
+    assertEquals(2, statistics.getHitCount());
+    assertEquals(1, statistics.getMissCount());
+  }
+
+  @Test
+  public void testRegistry() {
+    ICache<Integer, String> cache = createCache("CacheStatisticsTest.registry", null, null);
+    assertSame(cache.getAdapter(CacheStatistics.class), BEANS.get(ICacheRegistryService.class).getStatistics().get("CacheStatisticsTest.registry"));
+  }
+}
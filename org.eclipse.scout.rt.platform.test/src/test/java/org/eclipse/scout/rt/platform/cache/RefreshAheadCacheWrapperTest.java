@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import static org.junit.Assert.*;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.testing.platform.job.JobTestUtil;
+import org.junit.Test;
+
+/**
+ * Tests for {@link RefreshAheadCacheWrapper}
+ *
+ * @since 24.2
+ */
+public class RefreshAheadCacheWrapperTest {
+
+  private final AtomicInteger m_counter = new AtomicInteger();
+  private final AtomicBoolean m_failing = new AtomicBoolean();
+  private volatile CountDownLatch m_resolveLatch;
+
+  protected ICache<Integer, String> createCache(String id, long refreshAfterMillis, boolean staleWhileRevalidate) {
+    @SuppressWarnings("unchecked")
+    ICacheBuilder<Integer, String> cacheBuilder = BEANS.get(ICacheBuilder.class);
+    return cacheBuilder
+        .withCacheId(id)
+        .withValueResolver(key -> {
+          CountDownLatch latch = m_resolveLatch;
+          if (latch != null) {
+            try {
+              latch.await();
+            }
+            catch (InterruptedException e) {
+              throw new ThreadInterruptedError("Interrupted while waiting for the test", e);
+            }
+          }
+          if (m_failing.get()) {
+            throw new ProcessingException("Test exception - thrown");
+          }
+          return key + "." + m_counter.incrementAndGet();
+        })
+        .withRefreshAhead(refreshAfterMillis, TimeUnit.MILLISECONDS, staleWhileRevalidate)
+        .withReplaceIfExists(true)
+        .build();
+  }
+
+  @Test
+  public void testRefreshAhead() throws InterruptedException {
+    ICache<Integer, String> cache = createCache("RefreshAheadCacheWrapperTest.refreshAhead", 20, false);
+    assertTrue(cache instanceof RefreshAheadCacheWrapper);
+    CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+    assertEquals("1.1", cache.get(1));
+    assertEquals("1.1", cache.get(1));
+    assertEquals(0, statistics.getRefreshSuccessCount());
+
+    Thread.sleep(50);
+    assertEquals("1.1", cache.get(1));
+    JobTestUtil.waitForCondition(() -> statistics.getRefreshSuccessCount() == 1);
+    assertEquals("1.2", cache.get(1));
+    assertEquals(2, statistics.getLoadSuccessCount());
+  }
+
+  @Test
+  public void testReadersGetPreviousValueWhileRefreshing() throws InterruptedException {
+    ICache<Integer, String> cache = createCache("RefreshAheadCacheWrapperTest.previousValue", 20, false);
+    CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+    assertEquals("1.1", cache.getAll(Arrays.asList(1)).get(1));
+
+    Thread.sleep(50);
+    m_resolveLatch = new CountDownLatch(1);
+    try {
+      assertEquals("1.1", cache.get(1));
+      // the value is reloaded in the background right now
+      for (int i = 0; i < 10; i++) {
+        assertEquals("1.1", cache.get(1));
+        assertEquals("1.1", cache.getAll(Arrays.asList(1)).get(1));
+      }
+      assertEquals(0, statistics.getRefreshSuccessCount());
+    }
+    finally {
+      m_resolveLatch.countDown();
+      m_resolveLatch = null;
+    }
+    JobTestUtil.waitForCondition(() -> statistics.getRefreshSuccessCount() == 1);
+    assertEquals("1.2", cache.get(1));
+  }
+
+  @Test
+  public void testStaleWhileRevalidate() {
+    ICache<Integer, String> cache = createCache("RefreshAheadCacheWrapperTest.staleWhileRevalidate", TimeUnit.MINUTES.toMillis(1), true);
+    CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+    cache.getAll(Arrays.asList(1, 2));
+
+    cache.invalidate(new KeyCacheEntryFilter<>(Arrays.asList(1)), false);
+    Map<Integer, String> values = cache.getAll(Arrays.asList(1, 2));
+    assertTrue(values.get(1).startsWith("1."));
+    assertTrue(values.get(2).startsWith("2."));
+    assertEquals(1, statistics.getStaleReadCount());
+    JobTestUtil.waitForCondition(() -> statistics.getRefreshSuccessCount() == 1);
+    assertEquals("1.3", cache.get(1));
+
+    cache.invalidate(new AllCacheEntryFilter<>(), false);
+    assertEquals("1.3", cache.get(1));
+    assertEquals(2, statistics.getStaleReadCount());
+    JobTestUtil.waitForCondition(() -> statistics.getRefreshSuccessCount() == 2);
+    assertEquals("1.4", cache.get(1));
+  }
+
+  @Test
+  public void testInvalidateWithoutStaleWhileRevalidate() {
+    ICache<Integer, String> cache = createCache("RefreshAheadCacheWrapperTest.invalidate", TimeUnit.MINUTES.toMillis(1), false);
+    CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+    assertEquals("1.1", cache.get(1));
+
+    cache.invalidate(new KeyCacheEntryFilter<>(Arrays.asList(1)), false);
+    assertEquals("1.2", cache.get(1));
+    assertEquals(0, statistics.getStaleReadCount());
+    assertEquals(0, statistics.getRefreshSuccessCount());
+  }
+
+  @Test
+  public void testRefreshFailure() throws InterruptedException {
+    ICache<Integer, String> cache = createCache("RefreshAheadCacheWrapperTest.failure", 20, false);
+    CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+    assertEquals("1.1", cache.get(1));
+
+    Thread.sleep(50);
+    m_failing.set(true);
+    assertEquals("1.1", cache.get(1));
+    JobTestUtil.waitForCondition(() -> statistics.getRefreshFailureCount() == 1);
+
+    // the previous value is kept if its refresh failed, and the refresh is retried upon the next access
+    assertEquals("1.1", cache.get(1));
+    assertEquals("1.1", cache.getCachedValue(1));
+    m_failing.set(false);
+    JobTestUtil.waitForCondition(() -> !"1.1".equals(cache.get(1)));
+    assertTrue(statistics.getRefreshSuccessCount() > 0);
+  }
+
+  @Test
+  public void testRefreshFailureWithStaleWhileRevalidate() {
+    ICache<Integer, String> cache = createCache("RefreshAheadCacheWrapperTest.failureStaleWhileRevalidate", TimeUnit.MINUTES.toMillis(1), true);
+    CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+    assertEquals("1.1", cache.get(1));
+
+    m_failing.set(true);
+    cache.invalidate(new KeyCacheEntryFilter<>(Arrays.asList(1)), false);
+    assertEquals("1.1", cache.get(1));
+    JobTestUtil.waitForCondition(() -> statistics.getRefreshFailureCount() == 1);
+
+    // the previous value is still returned while the refresh is retried
+    assertEquals("1.1", cache.get(1));
+    m_failing.set(false);
+    JobTestUtil.waitForCondition(() -> "1.2".equals(cache.get(1)));
+    assertEquals(1, statistics.getRefreshSuccessCount());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testInvalidRefreshAfter() {
+    createCache("RefreshAheadCacheWrapperTest.invalid", 0, false);
+  }
+}
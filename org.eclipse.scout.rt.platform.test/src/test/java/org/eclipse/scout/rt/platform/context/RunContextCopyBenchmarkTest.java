@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.context;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.platform.testcategory.ResourceIntensiveTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Benchmark of <code>RunContexts.copyCurrent().call(...)</code>, which is done for every job and service call. Logs the
+ * throughput and the number of bytes allocated per invocation.
+ */
+@Category(ResourceIntensiveTest.class)
+@RunWith(PlatformTestRunner.class)
+public class RunContextCopyBenchmarkTest {
+
+  private static final Logger LOG = LoggerFactory.getLogger(RunContextCopyBenchmarkTest.class);
+
+  private static final ThreadLocal<String> THREAD_LOCAL = new ThreadLocal<>();
+
+  private static final int WARMUP_ITERATIONS = 50_000;
+  private static final int ITERATIONS = 500_000;
+
+  @Test
+  public void testCopyCurrentAndCall() {
+    RunContexts.empty()
+        .withLocale(Locale.GERMAN)
+        .withCorrelationId("cid")
+        .withProperty("key", "value")
+        .withThreadLocal(THREAD_LOCAL, "value")
+        .run(() -> {
+          measure("copyCurrent().call()", () -> RunContexts.copyCurrent().call(() -> PropertyMap.CURRENT.get().get("key")));
+          measure("copy()", () -> RunContext.CURRENT.get().copy().getProperty("key"));
+        });
+  }
+
+  /**
+   * Measures the given callable, which must return <code>"value"</code>. The results are counted, so that the
+   * invocations cannot be optimized away.
+   */
+  protected void measure(final String name, final Callable<Object> callable) throws Exception {
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      callable.call();
+    }
+
+    int validResults = 0;
+    final long allocatedBytesBefore = getAllocatedBytes();
+    final long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      if ("value".equals(callable.call())) {
+        validResults++;
+      }
+    }
+    final long elapsedNanos = System.nanoTime() - start;
+    final long allocatedBytes = getAllocatedBytes() - allocatedBytesBefore;
+
+    assertEquals(name, ITERATIONS, validResults);
+    assertEquals("value", THREAD_LOCAL.get());
+    LOG.info("{}: {} ops/s, {} ns/op, {} bytes/op", name, ITERATIONS * TimeUnit.SECONDS.toNanos(1) / Math.max(1, elapsedNanos), elapsedNanos / ITERATIONS,
+        allocatedBytesBefore < 0 ? "n/a" : String.valueOf(allocatedBytes / ITERATIONS));
+  }
+
+  /**
+   * @return the number of bytes allocated by the current thread, or -1 if not supported by the JVM.
+   */
+  protected long getAllocatedBytes() {
+    final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+      return ((com.sun.management.ThreadMXBean) threadMXBean).getCurrentThreadAllocatedBytes();
+    }
+    return -1;
+  }
+}
@@ -14,10 +14,12 @@ import static org.mockito.Mockito.*;
 
 import java.security.AccessController;
 import java.security.PrivilegedExceptionAction;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Locale;
+import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -479,6 +481,68 @@ public class RunContextTest {
         });
   }
 
+  /**
+   * A copy shares its state with the origin, which must not be visible upon modification.
+   */
+  @Test
+  public void testCopyIsolation() {
+    final ITransactionMember txMember1 = mock(ITransactionMember.class);
+    final ITransactionMember txMember2 = mock(ITransactionMember.class);
+    final RunContext origin = RunContexts.empty()
+        .withProperty("key", "origin")
+        .withThreadLocal(THREAD_LOCAL, "origin")
+        .withTransactionMember(txMember1);
+
+    final RunContext copy = origin.copy()
+        .withProperty("key", "copy")
+        .withProperty("other", "copy")
+        .withThreadLocal(THREAD_LOCAL, "copy")
+        .withTransactionMember(txMember2);
+    origin.withProperty("key2", "origin");
+
+    assertEquals("origin", origin.getProperty("key"));
+    assertNull(origin.getProperty("other"));
+    assertEquals("origin", origin.getThreadLocal(THREAD_LOCAL));
+    assertEquals(Collections.singletonList(txMember1), origin.m_transactionMembers);
+
+    assertEquals("copy", copy.getProperty("key"));
+    assertNull(copy.getProperty("key2"));
+    assertEquals("copy", copy.getThreadLocal(THREAD_LOCAL));
+    assertEquals(Arrays.asList(txMember1, txMember2), copy.m_transactionMembers);
+
+    copy.withoutTransactionMembers();
+    assertTrue(copy.m_transactionMembers.isEmpty());
+    assertEquals(Collections.singletonList(txMember1), origin.m_transactionMembers);
+
+    // Properties put while running must not be visible in the origin.
+    copy.run(() -> PropertyMap.CURRENT.get().put("running", "copy"));
+    assertEquals("copy", copy.getProperty("running"));
+    assertNull(origin.getProperty("running"));
+  }
+
+  @Test
+  public void testPropertyMapIteratorModifiesMap() {
+    final RunContext origin = RunContexts.empty()
+        .withProperty("key1", "origin")
+        .withProperty("key2", "origin");
+    final RunContext copy = origin.copy();
+
+    for (Iterator<Entry<Object, Object>> it = copy.getPropertyMap().iterator(); it.hasNext();) {
+      Entry<Object, Object> entry = it.next();
+      if ("key1".equals(entry.getKey())) {
+        it.remove();
+      }
+      else {
+        entry.setValue("copy");
+      }
+    }
+
+    assertFalse(copy.getPropertyMap().contains("key1"));
+    assertEquals("copy", copy.getProperty("key2"));
+    assertEquals("origin", origin.getProperty("key1"));
+    assertEquals("origin", origin.getProperty("key2"));
+  }
+
   @Test
   public void testCurrentRunContext() {
     final RunContext runContext = RunContexts.empty();
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.interceptor.internal;
+
+import static org.junit.Assert.*;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.IBeanDecorationFactory;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.interceptor.IBeanDecorator;
+import org.eclipse.scout.rt.platform.interceptor.IBeanInvocationContext;
+import org.eclipse.scout.rt.platform.internal.BeanImplementor;
+import org.eclipse.scout.rt.platform.internal.BeanManagerImplementor;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.platform.testcategory.ResourceIntensiveTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@RunWith(PlatformTestRunner.class)
+public class BeanMethodInvokerTest {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BeanMethodInvokerTest.class);
+
+  @Test
+  public void testInvoke() throws Throwable {
+    P_Service service = new P_Service();
+    assertEquals(5, BeanMethodInvoker.invoke(ITestService.class.getMethod("add", int.class, int.class), service, new Object[]{2, 3}));
+    assertEquals("a-b", BeanMethodInvoker.invoke(ITestService.class.getMethod("concat", String.class, String.class), service, new Object[]{"a", "b"}));
+    assertNull(BeanMethodInvoker.invoke(ITestService.class.getMethod("noop"), service, null));
+    assertNull(BeanMethodInvoker.invoke(ITestService.class.getMethod("noop"), service, new Object[0]));
+  }
+
+  @Test(expected = IOException.class)
+  public void testInvokeThrowsOriginalException() throws Throwable {
+    BeanMethodInvoker.invoke(ITestService.class.getMethod("fail"), new P_Service(), null);
+  }
+
+  @Test
+  public void testInvokeWithWideningConversion() throws Throwable {
+    assertEquals(4L, BeanMethodInvoker.invoke(ITestService.class.getMethod("twice", long.class), new P_Service(), new Object[]{2}));
+  }
+
+  @Test
+  public void testInvokeWithArgumentMismatch() throws Throwable {
+    Method add = ITestService.class.getMethod("add", int.class, int.class);
+    P_Service service = new P_Service();
+    assertArgumentMismatch(() -> BeanMethodInvoker.invoke(add, service, new Object[]{"2", 3}));
+    assertArgumentMismatch(() -> BeanMethodInvoker.invoke(add, service, new Object[]{null, 3}));
+    assertArgumentMismatch(() -> BeanMethodInvoker.invoke(add, service, new Object[]{2}));
+    assertArgumentMismatch(() -> BeanMethodInvoker.invoke(add, service, null));
+    assertArgumentMismatch(() -> BeanMethodInvoker.invoke(add, new Object(), new Object[]{2, 3}));
+    assertEquals(0, service.getInvocationCount());
+  }
+
+  @Test
+  public void testInvokeThrowsRuntimeExceptionOfMethod() throws Throwable {
+    P_Service service = new P_Service();
+    try {
+      BeanMethodInvoker.invoke(ITestService.class.getMethod("npe"), service, null);
+      fail("NullPointerException expected");
+    }
+    catch (NullPointerException e) {
+      assertEquals("npe", e.getMessage());
+    }
+    assertEquals(1, service.getInvocationCount());
+  }
+
+  protected void assertArgumentMismatch(P_Invocation invocation) throws Throwable {
+    try {
+      invocation.invoke();
+      fail("ProcessingException expected");
+    }
+    catch (ProcessingException e) {
+      assertTrue(e.getMessage().startsWith("argument mismatch"));
+    }
+  }
+
+  @Test
+  public void testBeanProxyImplementor() {
+    BeanImplementor<ITestService> bean = new BeanImplementor<>(new BeanMetaData(ITestService.class, new P_Service()).withApplicationScoped(true));
+    ITestService proxy = new BeanProxyImplementor<>(bean, context -> context.proceed(), ITestService.class).getProxy();
+
+    assertEquals(5, proxy.add(2, 3));
+    assertEquals("a-b", proxy.concat("a", "b"));
+    proxy.noop();
+    try {
+      proxy.failRuntime();
+      fail("IllegalStateException expected");
+    }
+    catch (IllegalStateException e) {
+      assertEquals("runtime", e.getMessage());
+    }
+    try {
+      proxy.fail();
+      fail("UndeclaredThrowableException expected");
+    }
+    catch (UndeclaredThrowableException e) {
+      assertTrue(e.getCause() instanceof IOException);
+    }
+  }
+
+  /**
+   * Compares the invocation of a decorated bean using {@link BeanMethodInvoker} with the previous invocation using
+   * {@link Method#invoke(Object, Object...)}. Every call looks up the bean first, as {@code BEANS.get(...)} does, so
+   * that a new proxy is created for each call. The measured durations are only logged.
+   */
+  @Test
+  @Category(ResourceIntensiveTest.class)
+  public void testInvocationPerformance() {
+    BeanManagerImplementor methodHandleBeans = createBeanManager(IBeanInvocationContext::proceed);
+    BeanManagerImplementor reflectionBeans = createBeanManager(context -> {
+      try {
+        return context.getTargetMethod().invoke(context.getTargetObject(), context.getTargetArgs());
+      }
+      catch (ReflectiveOperationException e) {
+        throw new ProcessingException("invocation failed", e);
+      }
+    });
+    int iterations = 1_000_000;
+    long expectedSum = 0;
+    for (int i = 0; i < iterations; i++) {
+      expectedSum += i + 1;
+    }
+    for (int round = 0; round < 3; round++) { // first rounds are warm-up
+      long t0 = System.nanoTime();
+      long reflectionSum = 0;
+      for (int i = 0; i < iterations; i++) {
+        reflectionSum += reflectionBeans.getBean(ITestService.class).getInstance().add(i, 1);
+      }
+      long t1 = System.nanoTime();
+      long methodHandleSum = 0;
+      for (int i = 0; i < iterations; i++) {
+        methodHandleSum += methodHandleBeans.getBean(ITestService.class).getInstance().add(i, 1);
+      }
+      long t2 = System.nanoTime();
+      LOG.info("Round {}: {} bean lookups and invocations using reflection {} ms, using method handles {} ms", round, iterations,
+          TimeUnit.NANOSECONDS.toMillis(t1 - t0), TimeUnit.NANOSECONDS.toMillis(t2 - t1));
+      assertEquals(expectedSum, reflectionSum);
+      assertEquals(expectedSum, methodHandleSum);
+    }
+  }
+
+  protected BeanManagerImplementor createBeanManager(IBeanDecorator<ITestService> decorator) {
+    BeanManagerImplementor beanManager = new BeanManagerImplementor(new IBeanDecorationFactory() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public <T> IBeanDecorator<T> decorate(IBean<T> bean, Class<? extends T> queryType) {
+        return (IBeanDecorator<T>) decorator;
+      }
+    });
+    beanManager.registerBean(new BeanMetaData(ITestService.class, new P_Service()).withApplicationScoped(true));
+    return beanManager;
+  }
+
+  public interface ITestService {
+    int add(int a, int b);
+
+    String concat(String a, String b);
+
+    void noop();
+
+    void fail() throws IOException;
+
+    void failRuntime();
+
+    long twice(long a);
+
+    void npe();
+  }
+
+  @FunctionalInterface
+  protected interface P_Invocation {
+    @SuppressWarnings("squid:S00112")
+    Object invoke() throws Throwable;
+  }
+
+  private static class P_Service implements ITestService {
+    private int m_invocationCount;
+
+    public int getInvocationCount() {
+      return m_invocationCount;
+    }
+
+    @Override
+    public int add(int a, int b) {
+      m_invocationCount++;
+      return a + b;
+    }
+
+    @Override
+    public String concat(String a, String b) {
+      return a + "-" + b;
+    }
+
+    @Override
+    public void noop() {
+      // nop
+    }
+
+    @Override
+    public void fail() throws IOException {
+      throw new IOException("checked");
+    }
+
+    @Override
+    public void failRuntime() {
+      throw new IllegalStateException("runtime");
+    }
+
+    @Override
+    public long twice(long a) {
+      return 2 * a;
+    }
+
+    @Override
+    public void npe() {
+      m_invocationCount++;
+      throw new NullPointerException("npe");
+    }
+  }
+}
@@ -118,6 +118,30 @@ public class BeanHierarchyTest {
     assertEquals(Arrays.asList(bean3), h.sortedBeanCopy());
   }
 
+  @Test
+  public void testQueryResultIsCachedUntilModification() {
+    BeanHierarchy<AbstractBaseClass> h = new BeanHierarchy<>(AbstractBaseClass.class);
+    assertNull(h.getQueryResult(true));
+    assertNull(h.getQueryResult(false));
+
+    BeanImplementor<AbstractBaseClass> beanA = new BeanImplementor<>(new BeanMetaData(SubClassA.class));
+    h.addBean(beanA);
+    assertNull(h.getQueryResult(false));
+
+    assertEquals(Arrays.asList(beanA), h.queryAll());
+    assertSame(h.queryAll(), h.getQueryResult(false));
+    assertSame(h.querySingle(), h.getQueryResult(true));
+
+    BeanImplementor<AbstractBaseClass> beanB = new BeanImplementor<>(new BeanMetaData(SubClassB.class));
+    h.addBean(beanB);
+    assertNull(h.getQueryResult(false));
+    assertEquals(Arrays.asList(beanA, beanB), h.queryAll());
+
+    h.removeBean(beanA);
+    assertNull(h.getQueryResult(true));
+    assertEquals(Arrays.asList(beanB), h.querySingle());
+  }
+
   public interface ITestInterface {
   }
 
@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.CreateImmediately;
+import org.eclipse.scout.rt.platform.CreateImmediatelyAfter;
+import org.eclipse.scout.rt.platform.IgnoreBean;
+import org.eclipse.scout.rt.platform.exception.InitializationException;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * Tests for {@link BeanManagerImplementor#startCreateImmediatelyBeans(boolean)}
+ */
+@RunWith(PlatformTestRunner.class)
+public class CreateImmediatelyBeansTest {
+
+  private static final List<Class<?>> CREATED = Collections.synchronizedList(new ArrayList<>());
+
+  @Before
+  public void before() {
+    CREATED.clear();
+  }
+
+  @Test
+  public void testSequentialRespectsDependencies() {
+    BeanManagerImplementor beanManager = createBeanManager(P_BeanC.class, P_BeanB.class, P_BeanA.class);
+    beanManager.startCreateImmediatelyBeans(false);
+    assertEquals(3, CREATED.size());
+    assertTrue(CREATED.indexOf(P_BeanA.class) < CREATED.indexOf(P_BeanB.class));
+    assertTrue(CREATED.indexOf(P_BeanB.class) < CREATED.indexOf(P_BeanC.class));
+  }
+
+  @Test
+  public void testParallelRespectsDependencies() {
+    BeanManagerImplementor beanManager = createBeanManager(P_BeanC.class, P_BeanB.class, P_BeanA.class, P_BeanD.class);
+    beanManager.startCreateImmediatelyBeans(true);
+    assertEquals(4, CREATED.size());
+    assertTrue(CREATED.indexOf(P_BeanA.class) < CREATED.indexOf(P_BeanB.class));
+    assertTrue(CREATED.indexOf(P_BeanB.class) < CREATED.indexOf(P_BeanC.class));
+    assertTrue(CREATED.contains(P_BeanD.class));
+  }
+
+  @Test
+  public void testParallelReportsFailure() {
+    BeanManagerImplementor beanManager = createBeanManager(P_FailingBean.class, P_AfterFailingBean.class, P_BeanA.class);
+    try {
+      beanManager.startCreateImmediatelyBeans(true);
+      fail("InitializationException expected");
+    }
+    catch (InitializationException e) {
+      assertTrue(e.getMessage().contains(P_FailingBean.class.getName()));
+    }
+    assertFalse(CREATED.contains(P_AfterFailingBean.class));
+  }
+
+  @Test(expected = InitializationException.class)
+  public void testCyclicDependencies() {
+    createBeanManager(P_CyclicBean1.class, P_CyclicBean2.class).startCreateImmediatelyBeans(false);
+  }
+
+  @Test
+  public void testSortByDependenciesKeepsOrderOfIndependentBeans() {
+    BeanManagerImplementor beanManager = createBeanManager(P_BeanA.class, P_BeanD.class);
+    List<Class<?>> sorted = new ArrayList<>();
+    beanManager.sortByDependencies(beanManager.collectCreateImmediatelyDependencies(beanManager.collectCreateImmediatelyBeans()))
+        .forEach(bean -> sorted.add(bean.getBeanClazz()));
+    assertEquals(Arrays.asList(P_BeanA.class, P_BeanD.class), sorted);
+  }
+
+  protected BeanManagerImplementor createBeanManager(Class<?>... beanClasses) {
+    BeanManagerImplementor beanManager = new BeanManagerImplementor();
+    for (Class<?> beanClass : beanClasses) {
+      beanManager.registerClass(beanClass);
+    }
+    return beanManager;
+  }
+
+  @IgnoreBean
+  @ApplicationScoped
+  @CreateImmediately
+  private static class P_BeanA {
+    P_BeanA() {
+      CREATED.add(getClass());
+    }
+  }
+
+  @IgnoreBean
+  @ApplicationScoped
+  @CreateImmediately
+  @CreateImmediatelyAfter(P_BeanA.class)
+  private static class P_BeanB {
+    P_BeanB() {
+      CREATED.add(getClass());
+    }
+  }
+
+  @IgnoreBean
+  @ApplicationScoped
+  @CreateImmediately
+  @CreateImmediatelyAfter({P_BeanB.class, String.class})
+  private static class P_BeanC {
+    P_BeanC() {
+      CREATED.add(getClass());
+    }
+  }
+
+  @IgnoreBean
+  @ApplicationScoped
+  @CreateImmediately
+  private static class P_BeanD {
+    P_BeanD() {
+      CREATED.add(getClass());
+    }
+  }
+
+  @IgnoreBean
+  @ApplicationScoped
+  @CreateImmediately
+  private static class P_FailingBean {
+    P_FailingBean() {
+      throw new IllegalStateException("expected");
+    }
+  }
+
+  @IgnoreBean
+  @ApplicationScoped
+  @CreateImmediately
+  @CreateImmediatelyAfter(P_FailingBean.class)
+  private static class P_AfterFailingBean {
+    P_AfterFailingBean() {
+      CREATED.add(getClass());
+    }
+  }
+
+  @IgnoreBean
+  @ApplicationScoped
+  @CreateImmediately
+  @CreateImmediatelyAfter(P_CyclicBean2.class)
+  private static class P_CyclicBean1 {
+  }
+
+  @IgnoreBean
+  @ApplicationScoped
+  @CreateImmediately
+  @CreateImmediatelyAfter(P_CyclicBean1.class)
+  private static class P_CyclicBean2 {
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.eclipse.scout.rt.platform.PlatformStartTest.FixturePlatformWithMinimalBeanManager;
+import org.eclipse.scout.rt.platform.internal.PlatformStartupProfiler.Entry;
+import org.eclipse.scout.rt.platform.internal.PlatformStartupProfiler.Span;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Test;
+
+public class PlatformStartupProfilerTest {
+
+  @Test
+  public void testRecordSpans() {
+    PlatformStartupProfiler profiler = new PlatformStartupProfiler();
+    try (Span ignored = profiler.start(PlatformStartupProfiler.CATEGORY_PHASE, "first")) {
+      try (Span ignored2 = profiler.start(PlatformStartupProfiler.CATEGORY_CREATE_IMMEDIATELY, "nested")) {
+        // nop
+      }
+    }
+    profiler.record(PlatformStartupProfiler.CATEGORY_PHASE, "second", System.nanoTime(), 5_000_000L);
+
+    List<Entry> entries = profiler.getEntries();
+    assertEquals(3, entries.size());
+    assertEquals("first", entries.get(0).getName());
+    assertEquals("nested", entries.get(1).getName());
+    assertEquals("second", entries.get(2).getName());
+    assertEquals(Thread.currentThread().getName(), entries.get(0).getThreadName());
+    assertTrue(entries.get(0).getDurationNanos() >= entries.get(1).getDurationNanos());
+
+    List<Entry> slowestPhases = profiler.getSlowestEntries(PlatformStartupProfiler.CATEGORY_PHASE);
+    assertEquals(2, slowestPhases.size());
+    assertEquals("second", slowestPhases.get(0).getName());
+  }
+
+  @Test
+  public void testJsonExport() {
+    PlatformStartupProfiler profiler = new PlatformStartupProfiler();
+    profiler.record(PlatformStartupProfiler.CATEGORY_PHASE, "a \"quoted\"\\name", System.nanoTime(), 1_500_000L);
+
+    JSONArray json = new JSONArray(profiler.toJson());
+    assertEquals(1, json.length());
+    JSONObject entry = json.getJSONObject(0);
+    assertEquals("phase", entry.getString("category"));
+    assertEquals("a \"quoted\"\\name", entry.getString("name"));
+    assertEquals(1.5, entry.getDouble("durationMillis"), 0);
+
+    JSONObject trace = new JSONObject(profiler.toChromeTraceJson());
+    assertEquals("ms", trace.getString("displayTimeUnit"));
+    JSONObject traceEvent = trace.getJSONArray("traceEvents").getJSONObject(0);
+    assertEquals("X", traceEvent.getString("ph"));
+    assertEquals(1500, traceEvent.getLong("dur"));
+    assertEquals(Thread.currentThread().getName(), traceEvent.getJSONObject("args").getString("thread"));
+
+    assertEquals("[]", new PlatformStartupProfiler().toJson());
+  }
+
+  @Test
+  public void testPlatformStartIsRecorded() {
+    FixturePlatformWithMinimalBeanManager platform = new FixturePlatformWithMinimalBeanManager();
+    platform.start();
+    try {
+      Set<String> phases = platform.getStartupProfiler().getEntries().stream()
+          .filter(entry -> PlatformStartupProfiler.CATEGORY_PHASE.equals(entry.getCategory()))
+          .map(Entry::getName)
+          .collect(Collectors.toSet());
+      assertTrue(phases.contains("createBeanManager"));
+      assertTrue(phases.contains("validateConfiguration"));
+      assertTrue(phases.contains("startCreateImmediatelyBeans"));
+    }
+    finally {
+      platform.stop();
+    }
+  }
+}
@@ -19,6 +19,10 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
@@ -64,6 +68,24 @@ public class JandexInventoryBuilderTest {
     assertNotNull(index2);
   }
 
+  @Test
+  public void testScanModulesConcurrently() throws IOException {
+    JandexInventoryBuilder builder = new JandexInventoryBuilder(RebuildStrategy.IF_MISSING) {
+      @Override
+      protected int getScanParallelism() {
+        return 3;
+      }
+    };
+    URI jarIndexUri = builder.findIndexUri(new URL("jar:" + getClass().getResource("test repository/test.jar_").toExternalForm() + "!/META-INF/scout.xml"));
+    URI folderIndexUri = builder.findIndexUri(getClass().getResource("test repository/META-INF/scout.xml"));
+    URI classesIndexUri = builder.findIndexUri(getClass().getResource("/" + JandexInventoryBuilder.SCOUT_XML_PATH));
+    List<URI> indexUris = Arrays.asList(jarIndexUri, folderIndexUri, classesIndexUri);
+
+    Map<URI, Index> indexes = builder.scanModules(indexUris);
+    assertEquals(indexUris, new ArrayList<>(indexes.keySet()));
+    assertNotNull(indexes.get(classesIndexUri).getClassByName(DotName.createSimple(FixtureJandexInventoryObject.class.getName())));
+  }
+
   @Test
   public void testScanFolderWithRebuildStrategyAlways() {
     URL scoutXml = getClass().getResource("/" + JandexInventoryBuilder.SCOUT_XML_PATH);
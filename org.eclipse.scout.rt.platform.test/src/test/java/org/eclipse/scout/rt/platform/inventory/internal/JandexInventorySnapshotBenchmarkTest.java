@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.inventory.internal;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.function.Supplier;
+
+import org.eclipse.scout.rt.platform.inventory.internal.JandexInventoryBuilder.RebuildStrategy;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.testing.platform.testcategory.ResourceIntensiveTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the class inventory part of the platform startup with {@link RebuildStrategy#IF_MISSING}: scanning all
+ * modules of the classpath compared to reading them from a {@link JandexInventorySnapshot} (including the computation of
+ * its fingerprint). Logs the average time of both.
+ */
+@Category(ResourceIntensiveTest.class)
+public class JandexInventorySnapshotBenchmarkTest {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JandexInventorySnapshotBenchmarkTest.class);
+
+  private static final int WARMUP_ITERATIONS = 3;
+  private static final int ITERATIONS = 10;
+
+  private Path m_file;
+
+  @Before
+  public void before() throws IOException {
+    m_file = Files.createTempFile("jandex-snapshot-benchmark", ".bin");
+    Files.delete(m_file);
+  }
+
+  @After
+  public void after() throws IOException {
+    Files.deleteIfExists(m_file);
+  }
+
+  @Test
+  public void testStartupWithAndWithoutSnapshot() {
+    // writes the snapshot
+    int classCount = scanAllModules(m_file);
+
+    long scanNanos = measure(() -> scanAllModules(null), classCount);
+    long snapshotNanos = measure(() -> scanAllModules(m_file), classCount);
+    LOG.info("Class inventory of {} classes: scan {} ms, snapshot {} ms", classCount, StringUtility.formatNanos(scanNanos), StringUtility.formatNanos(snapshotNanos));
+  }
+
+  protected int scanAllModules(Path snapshotFile) {
+    JandexInventoryBuilder builder = new JandexInventoryBuilder(RebuildStrategy.IF_MISSING, snapshotFile);
+    builder.scanAllModules();
+    return builder.finish().getKnownClasses().size();
+  }
+
+  /**
+   * @return average nanoseconds of one invocation
+   */
+  protected long measure(Supplier<Integer> startup, int expectedClassCount) {
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      startup.get();
+    }
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      assertEquals(expectedClassCount, startup.get().intValue());
+    }
+    return (System.nanoTime() - start) / ITERATIONS;
+  }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.inventory.internal;
+
+import static org.junit.Assert.*;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.scout.rt.platform.inventory.internal.JandexInventoryBuilder.RebuildStrategy;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class JandexInventorySnapshotTest {
+
+  private Path m_file;
+  private URI m_indexUri;
+  private Map<URI, Index> m_indexes;
+
+  @Before
+  public void before() throws IOException {
+    m_file = Files.createTempFile("jandex-snapshot-test", ".bin");
+    Files.delete(m_file);
+
+    URL scoutXml = getClass().getResource("/" + JandexInventoryBuilder.SCOUT_XML_PATH);
+    JandexInventoryBuilder builder = new JandexInventoryBuilder(RebuildStrategy.IF_MISSING);
+    m_indexUri = builder.findIndexUri(scoutXml);
+    m_indexes = new LinkedHashMap<>();
+    m_indexes.put(m_indexUri, builder.scanModule(m_indexUri));
+  }
+
+  @After
+  public void after() throws IOException {
+    Files.deleteIfExists(m_file);
+  }
+
+  @Test
+  public void testWriteAndRead() {
+    JandexInventorySnapshot snapshot = new JandexInventorySnapshot(m_file);
+    assertNull(snapshot.read("fingerprint"));
+
+    snapshot.write("fingerprint", m_indexes);
+    assertTrue(Files.isRegularFile(m_file));
+
+    Map<URI, Index> indexes = snapshot.read("fingerprint");
+    assertNotNull(indexes);
+    assertEquals(Collections.singleton(m_indexUri), indexes.keySet());
+    Index index = indexes.get(m_indexUri);
+    assertEquals(m_indexes.get(m_indexUri).getKnownClasses().size(), index.getKnownClasses().size());
+    assertNotNull(index.getClassByName(DotName.createSimple(JandexInventorySnapshotTest.class.getName())));
+  }
+
+  @Test
+  public void testReadWithDifferentFingerprint() {
+    JandexInventorySnapshot snapshot = new JandexInventorySnapshot(m_file);
+    snapshot.write("fingerprint", m_indexes);
+    assertNull(snapshot.read("other"));
+  }
+
+  @Test
+  public void testReadCorruptedFile() throws IOException {
+    JandexInventorySnapshot snapshot = new JandexInventorySnapshot(m_file);
+    snapshot.write("fingerprint", m_indexes);
+
+    byte[] content = Files.readAllBytes(m_file);
+    content[content.length / 2] ^= 0xFF;
+    Files.write(m_file, content);
+    assertNull(snapshot.read("fingerprint"));
+
+    Files.write(m_file, new byte[]{1, 2, 3});
+    assertNull(snapshot.read("fingerprint"));
+  }
+
+  @Test
+  public void testComputeFingerprint() {
+    JandexInventorySnapshot snapshot = new JandexInventorySnapshot(m_file);
+    URI other = URI.create("jar:file:/not/existing.jar!/META-INF/jandex.idx");
+    String fingerprint = snapshot.computeFingerprint(Arrays.asList(m_indexUri, other));
+    assertEquals(fingerprint, snapshot.computeFingerprint(Arrays.asList(other, m_indexUri)));
+    assertNotEquals(fingerprint, snapshot.computeFingerprint(Collections.singletonList(m_indexUri)));
+  }
+
+  @Test
+  public void testComputeFingerprintOfFolder() throws IOException {
+    Path folder = Files.createTempDirectory("jandex-snapshot-test");
+    try {
+      Path indexFile = Files.createDirectories(folder.resolve("META-INF")).resolve("jandex.idx");
+      Path classFile = Files.createDirectories(folder.resolve("a")).resolve("A.class");
+      Files.write(classFile, new byte[]{1});
+
+      JandexInventorySnapshot snapshot = new JandexInventorySnapshot(m_file);
+      List<URI> indexUris = Collections.singletonList(indexFile.toUri());
+      assertNull(snapshot.computeFingerprint(indexUris));
+
+      Files.write(indexFile, new byte[]{1});
+      Files.setLastModifiedTime(indexFile, FileTime.fromMillis(1_000_000L));
+      String fingerprint = snapshot.computeFingerprint(indexUris);
+      assertNotNull(fingerprint);
+      assertEquals(fingerprint, snapshot.computeFingerprint(indexUris));
+
+      // class files are not read as long as the index file exists (see RebuildStrategy.IF_MISSING)
+      Files.setLastModifiedTime(classFile, FileTime.fromMillis(2_000_000L));
+      Files.write(folder.resolve("a").resolve("B.class"), new byte[]{1});
+      assertEquals(fingerprint, snapshot.computeFingerprint(indexUris));
+
+      Files.setLastModifiedTime(indexFile, FileTime.fromMillis(2_000_000L));
+      assertNotEquals(fingerprint, snapshot.computeFingerprint(indexUris));
+    }
+    finally {
+      IOUtility.deleteDirectory(folder.toFile());
+    }
+  }
+
+  @Test
+  public void testToFileOfNestedJar() {
+    JandexInventorySnapshot snapshot = new JandexInventorySnapshot(m_file);
+    assertEquals(new File("/a.jar").getAbsoluteFile(), snapshot.toFile(URI.create("jar:file:/a.jar!/META-INF/jandex.idx")).getAbsoluteFile());
+    assertEquals(new File("/a.jar").getAbsoluteFile(), snapshot.toFile(URI.create("jar:file:/a.jar!/lib/b.jar!/META-INF/jandex.idx")).getAbsoluteFile());
+  }
+
+  @Test
+  public void testScanAllModulesWritesAndUsesSnapshot() {
+    JandexInventoryBuilder builder = new JandexInventoryBuilder(RebuildStrategy.IF_MISSING, m_file);
+    builder.scanAllModules();
+    assertTrue(Files.isRegularFile(m_file));
+    int classCount = builder.finish().getKnownClasses().size();
+
+    JandexInventoryBuilder builderFromSnapshot = new JandexInventoryBuilder(RebuildStrategy.IF_MISSING, m_file) {
+      @Override
+      protected Index scanModuleInternal(URI indexUri) {
+        throw new AssertionError("Modules must not be scanned if a valid snapshot exists");
+      }
+    };
+    builderFromSnapshot.scanAllModules();
+    assertEquals(classCount, builderFromSnapshot.finish().getKnownClasses().size());
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.util.concurrent.IRunnable;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.platform.util.BlockingCountDownLatch;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class JobCoalescingTest {
+
+  @Test
+  public void testCoalescePendingJob() {
+    AtomicInteger runCount = new AtomicInteger();
+    Object key = new Object();
+
+    IRunnable runnable = runCount::incrementAndGet;
+
+    IFuture<Void> future1 = Jobs.schedule(runnable, newDelayedInput(key));
+    IFuture<Void> future2 = Jobs.schedule(runnable, newDelayedInput(key));
+    IFuture<Void> future3 = Jobs.schedule(runnable, newDelayedInput(new Object()));
+
+    assertSame(future1, future2);
+    assertNotSame(future1, future3);
+
+    future1.awaitDone(10, TimeUnit.SECONDS);
+    future3.awaitDone(10, TimeUnit.SECONDS);
+    assertEquals(2, runCount.get());
+  }
+
+  @Test
+  public void testRunningJobIsNotCoalesced() throws InterruptedException {
+    Object key = new Object();
+    BlockingCountDownLatch running = new BlockingCountDownLatch(1);
+
+    IFuture<Void> future1 = Jobs.schedule(() -> {
+      running.countDownAndBlock();
+    }, Jobs.newInput()
+        .withCoalescingKey(key));
+    assertTrue(running.await());
+
+    IFuture<Void> future2 = Jobs.schedule(() -> {
+      // NOOP
+    }, Jobs.newInput()
+        .withCoalescingKey(key));
+    assertNotSame(future1, future2);
+
+    running.unblock();
+    future1.awaitDone(10, TimeUnit.SECONDS);
+    future2.awaitDone(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void testCancelledJobIsNotCoalesced() {
+    Object key = new Object();
+
+    IFuture<Void> future1 = Jobs.schedule(() -> {
+      // NOOP
+    }, newDelayedInput(key));
+    future1.cancel(false);
+
+    IFuture<Void> future2 = Jobs.schedule(() -> {
+      // NOOP
+    }, newDelayedInput(key));
+    assertNotSame(future1, future2);
+    future2.awaitDone(10, TimeUnit.SECONDS);
+    assertFalse(future2.isCancelled());
+  }
+
+  @Test
+  public void testAccumulator() {
+    List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+    JobAccumulator<String> accumulator = new JobAccumulator<>(batches::add, () -> Jobs.newInput()
+        .withExecutionTrigger(Jobs.newExecutionTrigger()
+            .withStartIn(200, TimeUnit.MILLISECONDS)));
+
+    IFuture<Void> future = accumulator.add("a");
+    assertSame(future, accumulator.add("b"));
+    assertSame(future, accumulator.add("c"));
+    future.awaitDone(10, TimeUnit.SECONDS);
+
+    assertEquals(Collections.singletonList(Arrays.asList("a", "b", "c")), batches);
+  }
+
+  protected JobInput newDelayedInput(Object coalescingKey) {
+    return Jobs.newInput()
+        .withCoalescingKey(coalescingKey)
+        .withExecutionTrigger(Jobs.newExecutionTrigger()
+            .withStartIn(200, TimeUnit.MILLISECONDS));
+  }
+}
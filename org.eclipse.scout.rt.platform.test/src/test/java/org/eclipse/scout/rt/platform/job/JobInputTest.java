@@ -32,11 +32,13 @@ public class JobInputTest {
   public void testCopy() {
     JobInput input = Jobs.newInput().withRunContext(RunContexts.empty());
     input.withName("name");
+    input.withPriority(JobPriority.BACKGROUND);
 
     JobInput copy = input.copy();
 
     assertNotSame(input.getRunContext(), copy.getRunContext());
     assertEquals(input.getName(), copy.getName());
+    assertEquals(JobPriority.BACKGROUND, copy.getPriority());
   }
 
   @Test
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.transaction.ITransaction;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
+import org.eclipse.scout.rt.platform.util.SleepUtil;
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.platform.util.BlockingCountDownLatch;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class JobScopeTest {
+
+  @Test
+  public void testJoinAll() {
+    try (JobScope scope = Jobs.newScope()) {
+      IFuture<String> future1 = scope.fork(() -> "a");
+      IFuture<String> future2 = scope.fork(() -> "b");
+      scope.joinAll();
+
+      assertEquals("a", future1.awaitDoneAndGet());
+      assertEquals("b", future2.awaitDoneAndGet());
+    }
+  }
+
+  @Test
+  public void testJoinAllWithoutJobs() {
+    try (JobScope scope = Jobs.newScope()) {
+      scope.joinAll();
+    }
+  }
+
+  /**
+   * Tests that forked jobs never join the transaction of the forking thread, also if the scope is given a copy of the
+   * current context (which would join the current transaction by default).
+   */
+  @Test
+  public void testForkWithinTransaction() {
+    RunContexts.empty().withTransactionScope(TransactionScope.REQUIRES_NEW).run(() -> {
+      ITransaction transaction = ITransaction.CURRENT.get();
+      assertNotNull(transaction);
+
+      try (JobScope scope = Jobs.newScope()) {
+        IFuture<ITransaction> future1 = scope.fork(() -> ITransaction.CURRENT.get());
+        IFuture<ITransaction> future2 = scope.fork(() -> ITransaction.CURRENT.get());
+        scope.joinAll();
+
+        assertNotNull(future1.awaitDoneAndGet());
+        assertNotSame(transaction, future1.awaitDoneAndGet());
+        assertNotSame(transaction, future2.awaitDoneAndGet());
+        assertNotSame(future1.awaitDoneAndGet(), future2.awaitDoneAndGet());
+      }
+
+      try (JobScope scope = Jobs.newScope().withRunContext(RunContexts.copyCurrent())) {
+        IFuture<ITransaction> future1 = scope.fork(() -> ITransaction.CURRENT.get());
+        IFuture<ITransaction> future2 = scope.fork(() -> ITransaction.CURRENT.get());
+        scope.joinAll();
+
+        assertNotNull(future1.awaitDoneAndGet());
+        assertNotSame(transaction, future1.awaitDoneAndGet());
+        assertNotSame(transaction, future2.awaitDoneAndGet());
+        assertNotSame(future1.awaitDoneAndGet(), future2.awaitDoneAndGet());
+      }
+    });
+  }
+
+  @Test
+  public void testFailureCancelsSiblings() throws InterruptedException {
+    BlockingCountDownLatch siblingRunning = new BlockingCountDownLatch(1);
+    try (JobScope scope = Jobs.newScope()) {
+      IFuture<Void> sibling = scope.fork(() -> {
+        siblingRunning.countDownAndBlock(30, TimeUnit.SECONDS);
+      });
+      assertTrue(siblingRunning.await());
+      scope.fork(() -> {
+        throw new IllegalStateException("expected JUnit test exception");
+      });
+
+      try {
+        scope.joinAll();
+        fail("IllegalStateException expected");
+      }
+      catch (IllegalStateException e) {
+        assertEquals("expected JUnit test exception", e.getMessage());
+      }
+      assertTrue(sibling.isCancelled());
+    }
+  }
+
+  @Test
+  public void testJoinAny() {
+    try (JobScope scope = Jobs.newScope()) {
+      IFuture<String> slow = scope.fork(() -> {
+        SleepUtil.sleepSafe(30, TimeUnit.SECONDS);
+        return "slow";
+      });
+      scope.fork(() -> {
+        throw new IllegalStateException("expected JUnit test exception");
+      });
+      scope.fork(() -> "fast");
+
+      assertEquals("fast", scope.joinAny());
+      assertTrue(slow.isCancelled());
+    }
+  }
+
+  @Test
+  public void testJoinAnyAllFailed() {
+    try (JobScope scope = Jobs.newScope()) {
+      scope.fork(() -> {
+        throw new IllegalStateException("expected JUnit test exception");
+      });
+      scope.fork(() -> {
+        throw new IllegalStateException("expected JUnit test exception");
+      });
+
+      scope.joinAny();
+      fail("IllegalStateException expected");
+    }
+    catch (IllegalStateException e) {
+      assertEquals("expected JUnit test exception", e.getMessage());
+    }
+  }
+
+  @Test
+  public void testDeadline() {
+    IFuture<Void> future = null;
+    try (JobScope scope = Jobs.newScope().withDeadline(200, TimeUnit.MILLISECONDS)) {
+      future = scope.fork(() -> SleepUtil.sleepSafe(30, TimeUnit.SECONDS));
+      scope.joinAll();
+      fail("TimedOutError expected");
+    }
+    catch (TimedOutError e) {
+      assertTrue(future.isCancelled());
+    }
+  }
+
+  @Test
+  public void testCloseCancelsJobs() {
+    IFuture<Void> future;
+    try (JobScope scope = Jobs.newScope()) {
+      future = scope.fork(() -> SleepUtil.sleepSafe(30, TimeUnit.SECONDS));
+    }
+    assertTrue(future.isCancelled());
+    assertTrue(future.isFinished());
+  }
+
+  @Test
+  public void testMaxParallelism() {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    try (JobScope scope = Jobs.newScope().withMaxParallelism(2)) {
+      for (int i = 0; i < 10; i++) {
+        scope.fork(() -> {
+          maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+          SleepUtil.sleepSafe(20, TimeUnit.MILLISECONDS);
+          running.decrementAndGet();
+        });
+      }
+      scope.joinAll();
+    }
+    assertTrue(maxRunning.get() <= 2);
+  }
+
+  /**
+   * Tests that a job joining its forked jobs releases its permit, so that the forked jobs can acquire the same
+   * semaphore, like model jobs of a session.
+   */
+  @Test
+  public void testJoinReleasesPermit() {
+    IExecutionSemaphore semaphore = Jobs.newExecutionSemaphore(1);
+    String result = Jobs.schedule(() -> {
+      try (JobScope scope = Jobs.newScope().withExecutionSemaphore(semaphore)) {
+        IFuture<String> future1 = scope.fork(() -> "a");
+        IFuture<String> future2 = scope.fork(() -> "b");
+        scope.joinAll();
+        return future1.awaitDoneAndGet() + future2.awaitDoneAndGet();
+      }
+    }, Jobs.newInput()
+        .withExecutionSemaphore(semaphore))
+        .awaitDoneAndGet(10, TimeUnit.SECONDS);
+
+    assertEquals("ab", result);
+  }
+
+  @Test
+  public void testCancelParent() throws InterruptedException {
+    BlockingCountDownLatch forkedRunning = new BlockingCountDownLatch(1);
+    AtomicInteger cancelledCount = new AtomicInteger();
+    IFuture<Void> parent = Jobs.schedule(() -> {
+      try (JobScope scope = Jobs.newScope()) {
+        scope.fork(() -> {
+          try {
+            forkedRunning.countDownAndBlock(30, TimeUnit.SECONDS);
+          }
+          finally {
+            cancelledCount.incrementAndGet();
+          }
+        });
+        scope.joinAll();
+      }
+    }, Jobs.newInput()
+        .withExceptionHandling(null, true));
+
+    assertTrue(forkedRunning.await());
+    parent.cancel(true);
+    parent.awaitFinished(10, TimeUnit.SECONDS);
+    assertEquals(1, cancelledCount.get());
+  }
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.job.IDoneHandler;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.JobInput;
+import org.eclipse.scout.rt.platform.job.JobState;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.job.internal.ExecutionSemaphore.QueuePosition;
+import org.eclipse.scout.rt.platform.job.listener.IJobListener;
+import org.eclipse.scout.rt.platform.job.listener.JobEvent;
+import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.platform.testcategory.ResourceIntensiveTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Stress test and benchmark of {@link ExecutionSemaphore} with many threads handing off permits at a high rate.
+ */
+@Category(ResourceIntensiveTest.class)
+@RunWith(PlatformTestRunner.class)
+public class ExecutionSemaphoreStressTest {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ExecutionSemaphoreStressTest.class);
+
+  private static final int THREAD_COUNT = 16;
+  private static final int ROUNDS_PER_THREAD = 5_000;
+  private static final int MODEL_JOB_COUNT = 20_000;
+
+  @Test(timeout = 60_000)
+  public void testMutualExclusionUnderContention() throws InterruptedException {
+    assertConcurrencyLevel((ExecutionSemaphore) Jobs.newExecutionSemaphore(1), 1);
+  }
+
+  @Test(timeout = 60_000)
+  public void testThreePermitsUnderContention() throws InterruptedException {
+    assertConcurrencyLevel((ExecutionSemaphore) Jobs.newExecutionSemaphore(3), 3);
+  }
+
+  /**
+   * Model jobs scheduled by a single thread must run one after the other and in the order scheduled.
+   */
+  @Test(timeout = 60_000)
+  public void testModelJobHandOff() {
+    final IExecutionSemaphore semaphore = Jobs.newExecutionSemaphore(1);
+    final List<Integer> protocol = Collections.synchronizedList(new ArrayList<>(MODEL_JOB_COUNT));
+    final AtomicInteger concurrent = new AtomicInteger();
+    final AtomicInteger maxConcurrent = new AtomicInteger();
+
+    final long start = System.nanoTime();
+    IFuture<Void> lastFuture = null;
+    for (int i = 0; i < MODEL_JOB_COUNT; i++) {
+      final int jobIndex = i;
+      lastFuture = Jobs.schedule(() -> {
+        maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+        protocol.add(jobIndex);
+        concurrent.decrementAndGet();
+      }, Jobs.newInput()
+          .withName("model-job-{}", jobIndex)
+          .withExecutionSemaphore(semaphore));
+    }
+    lastFuture.awaitDone(30, TimeUnit.SECONDS);
+    final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    LOG.info("Handed off {} model jobs in {} ms", MODEL_JOB_COUNT, elapsedMillis);
+
+    assertEquals(1, maxConcurrent.get());
+    assertEquals(MODEL_JOB_COUNT, protocol.size());
+    for (int i = 0; i < MODEL_JOB_COUNT; i++) {
+      assertEquals(Integer.valueOf(i), protocol.get(i));
+    }
+    assertEquals(0, semaphore.getCompetitorCount());
+  }
+
+  /**
+   * Compares the permit hand-off throughput with the previous read/write lock based implementation (see
+   * {@link LockBasedExecutionSemaphore}). Both semaphores are used with the same stub tasks.
+   */
+  @Test(timeout = 120_000)
+  public void testHandOffThroughput() throws InterruptedException {
+    final ExecutionSemaphore lockFreeSemaphore = (ExecutionSemaphore) Jobs.newExecutionSemaphore(1);
+    final LockBasedExecutionSemaphore lockBasedSemaphore = new LockBasedExecutionSemaphore(1);
+    for (int i = 0; i < 2; i++) { // first round is warm-up
+      final long lockFree = measureThroughput(lockFreeSemaphore, task -> {
+        lockFreeSemaphore.acquire(task, QueuePosition.TAIL);
+        lockFreeSemaphore.release(task);
+      });
+      final long lockBased = measureThroughput(lockBasedSemaphore, task -> {
+        lockBasedSemaphore.acquire(task, QueuePosition.TAIL);
+        lockBasedSemaphore.release(task);
+      });
+      LOG.info("Permit hand-offs with {} threads: lock-free semaphore {} ops/s, lock based semaphore {} ops/s", THREAD_COUNT, lockFree, lockBased);
+    }
+    assertEquals(0, lockFreeSemaphore.getCompetitorCount());
+    assertEquals(0, lockBasedSemaphore.getCompetitorCount());
+  }
+
+  protected void assertConcurrencyLevel(final ExecutionSemaphore semaphore, final int permits) throws InterruptedException {
+    final AtomicInteger concurrent = new AtomicInteger();
+    final AtomicInteger maxConcurrent = new AtomicInteger();
+    runConcurrently(semaphore, task -> {
+      semaphore.acquire(task, QueuePosition.TAIL);
+      try {
+        maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+        concurrent.decrementAndGet();
+      }
+      finally {
+        semaphore.release(task);
+      }
+    });
+
+    assertTrue("max concurrent: " + maxConcurrent.get(), maxConcurrent.get() <= permits);
+    assertEquals(0, semaphore.getCompetitorCount());
+  }
+
+  protected long measureThroughput(final IExecutionSemaphore semaphore, final P_Round round) throws InterruptedException {
+    final long start = System.nanoTime();
+    runConcurrently(semaphore, round);
+    final long elapsedNanos = System.nanoTime() - start;
+    return (long) THREAD_COUNT * ROUNDS_PER_THREAD * TimeUnit.SECONDS.toNanos(1) / Math.max(1, elapsedNanos);
+  }
+
+  /**
+   * Runs the given round {@link #ROUNDS_PER_THREAD} times in {@link #THREAD_COUNT} threads. Every thread uses its own
+   * task.
+   */
+  protected void runConcurrently(final IExecutionSemaphore semaphore, final P_Round round) throws InterruptedException {
+    final CountDownLatch startLatch = new CountDownLatch(1);
+    final CountDownLatch doneLatch = new CountDownLatch(THREAD_COUNT);
+    final AtomicLong failures = new AtomicLong();
+    for (int i = 0; i < THREAD_COUNT; i++) {
+      final IFuture<?> task = new P_Task(Jobs.newInput()
+          .withExecutionSemaphore(semaphore)
+          .withName("task-{}", i));
+      final Thread thread = new Thread(() -> {
+        try {
+          startLatch.await();
+          for (int r = 0; r < ROUNDS_PER_THREAD; r++) {
+            round.run(task);
+          }
+        }
+        catch (Throwable t) { // NOSONAR
+          LOG.error("Round failed", t);
+          failures.incrementAndGet();
+        }
+        finally {
+          doneLatch.countDown();
+        }
+      }, "semaphore-stress-" + i);
+      thread.start();
+    }
+    startLatch.countDown();
+    assertTrue(doneLatch.await(50, TimeUnit.SECONDS));
+    assertEquals(0, failures.get());
+  }
+
+  @FunctionalInterface
+  protected interface P_Round {
+    void run(IFuture<?> task) throws Exception;
+  }
+
+  /**
+   * Minimal task which only provides its {@link JobInput}, so that the measured time is spent in the semaphore.
+   */
+  protected static class P_Task implements IFuture<Void> {
+
+    private final JobInput m_input;
+
+    public P_Task(final JobInput input) {
+      m_input = input;
+    }
+
+    @Override
+    public JobInput getJobInput() {
+      return m_input;
+    }
+
+    @Override
+    public IExecutionSemaphore getExecutionSemaphore() {
+      return m_input.getExecutionSemaphore();
+    }
+
+    @Override
+    public boolean isSingleExecution() {
+      return true;
+    }
+
+    @Override
+    public boolean cancel(final boolean interruptIfRunning) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return false;
+    }
+
+    @Override
+    public boolean isDone() {
+      return false;
+    }
+
+    @Override
+    public boolean isFinished() {
+      return false;
+    }
+
+    @Override
+    public JobState getState() {
+      return JobState.RUNNING;
+    }
+
+    @Override
+    public void awaitDone() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void awaitDone(final long timeout, final TimeUnit unit) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void awaitFinished(final long timeout, final TimeUnit unit) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Void awaitDoneAndGet() {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Void awaitDoneAndGet(final long timeout, final TimeUnit unit) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public IFuture<Void> whenDone(final IDoneHandler<Void> callback, final RunContext runContext) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <FUNCTION_RESULT> IFuture<FUNCTION_RESULT> whenDoneSchedule(final BiFunction<Void, Throwable, FUNCTION_RESULT> function, final JobInput input) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public IFuture<Void> whenDoneSchedule(final BiConsumer<Void, Throwable> function, final JobInput input) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public IRegistrationHandle addListener(final IJobListener listener) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public IRegistrationHandle addListener(final Predicate<JobEvent> filter, final IJobListener listener) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addExecutionHint(final String hint) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeExecutionHint(final String hint) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean containsExecutionHint(final String hint) {
+      return false;
+    }
+
+    @Override
+    public String toString() {
+      return m_input.getName();
+    }
+  }
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.JobInput;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.job.filter.future.FutureIndexKey;
+import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.platform.util.IAdaptable;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.platform.testcategory.ResourceIntensiveTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@RunWith(PlatformTestRunner.class)
+public class FutureSetTest {
+
+  private static final Logger LOG = LoggerFactory.getLogger(FutureSetTest.class);
+
+  private String m_jobIdentifier;
+
+  @Before
+  public void before() {
+    m_jobIdentifier = UUID.randomUUID().toString();
+  }
+
+  @After
+  public void after() {
+    Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(m_jobIdentifier)
+        .toFilter(), true);
+  }
+
+  @Test
+  public void testExecutionHintIndex() {
+    final IFuture<Void> future1 = scheduleDelayed(Jobs.newInput().withExecutionHint("hint-1"));
+    final IFuture<Void> future2 = scheduleDelayed(Jobs.newInput().withExecutionHint("hint-2"));
+
+    assertEquals(CollectionUtility.hashSet(future1), getFutures("hint-1"));
+    assertEquals(CollectionUtility.hashSet(future2), getFutures("hint-2"));
+
+    // The index must follow changes of the execution hints.
+    future2.addExecutionHint("hint-1");
+    assertEquals(CollectionUtility.hashSet(future1, future2), getFutures("hint-1"));
+
+    future1.removeExecutionHint("hint-1");
+    assertEquals(CollectionUtility.hashSet(future2), getFutures("hint-1"));
+    assertEquals(Collections.emptySet(), getFutures("hint-3"));
+
+    // A finished Future must be removed from the index.
+    future2.cancel(false);
+    future2.awaitFinished(10, TimeUnit.SECONDS);
+    assertEquals(Collections.emptySet(), getFutures("hint-1"));
+  }
+
+  @Test
+  public void testExecutionSemaphoreIndex() {
+    final IExecutionSemaphore semaphore1 = Jobs.newExecutionSemaphore(1);
+    final IExecutionSemaphore semaphore2 = Jobs.newExecutionSemaphore(1);
+    final IFuture<Void> future1 = scheduleDelayed(Jobs.newInput().withExecutionSemaphore(semaphore1));
+    final IFuture<Void> future2 = scheduleDelayed(Jobs.newInput().withExecutionSemaphore(semaphore2));
+
+    assertEquals(CollectionUtility.hashSet(future1), Jobs.getJobManager().getFutures(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionSemaphore(semaphore1)
+        .toFilter()));
+    assertEquals(CollectionUtility.hashSet(future2), Jobs.getJobManager().getFutures(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionSemaphore(semaphore2)
+        .andMatchExecutionHint(m_jobIdentifier)
+        .toFilter()));
+  }
+
+  @Test
+  public void testRunContextAdapterIndex() {
+    final Object session1 = new Object();
+    final Object session2 = new Object();
+    final IFuture<Void> future1 = scheduleDelayed(Jobs.newInput().withRunContext(new P_SessionRunContext(session1)));
+
+    // The index is built upon the first query.
+    assertEquals(CollectionUtility.hashSet(future1), Jobs.getJobManager().getFutures(new P_SessionFilter(session1)));
+
+    // Futures registered afterwards are indexed at once.
+    final IFuture<Void> future2 = scheduleDelayed(Jobs.newInput().withRunContext(new P_SessionRunContext(session2)));
+    final IFuture<Void> future3 = scheduleDelayed(Jobs.newInput().withRunContext(new P_SessionRunContext(session1)));
+    assertEquals(CollectionUtility.hashSet(future1, future3), Jobs.getJobManager().getFutures(new P_SessionFilter(session1)));
+    assertEquals(CollectionUtility.hashSet(future2), Jobs.getJobManager().getFutures(new P_SessionFilter(session2)));
+
+    // Cancel all Futures of a session.
+    assertTrue(Jobs.getJobManager().cancel(new P_SessionFilter(session1), false));
+    assertTrue(future1.isCancelled());
+    assertFalse(future2.isCancelled());
+    assertTrue(future3.isCancelled());
+  }
+
+  @Test
+  public void testFutureFilter() {
+    final IFuture<Void> future1 = scheduleDelayed(Jobs.newInput());
+    final IFuture<Void> future2 = scheduleDelayed(Jobs.newInput());
+
+    assertEquals(CollectionUtility.hashSet(future1), Jobs.getJobManager().getFutures(Jobs.newFutureFilterBuilder()
+        .andMatchFuture(future1)
+        .toFilter()));
+    assertEquals(Collections.emptySet(), Jobs.getJobManager().getFutures(Jobs.newFutureFilterBuilder()
+        .andMatchFuture(future1)
+        .andMatchFuture(future2)
+        .toFilter()));
+  }
+
+  /**
+   * Compares filtered queries and waits among 50k pending Futures with a filter which is not indexed.
+   */
+  @Test
+  @Category(ResourceIntensiveTest.class)
+  public void testPerformance() {
+    final int futureCount = 50_000;
+    final int sessionCount = 1_000;
+    final Object[] sessions = new Object[sessionCount];
+    for (int i = 0; i < sessionCount; i++) {
+      sessions[i] = new Object();
+    }
+
+    for (int i = 0; i < futureCount; i++) {
+      scheduleDelayed(Jobs.newInput()
+          .withRunContext(new P_SessionRunContext(sessions[i % sessionCount])));
+    }
+
+    final int queryCount = 1_000;
+    final Object session = sessions[42];
+    final P_SessionFilter indexedFilter = new P_SessionFilter(session);
+    final Predicate<IFuture<?>> scanFilter = indexedFilter::test; // not adaptable
+
+    long start = System.nanoTime();
+    for (int i = 0; i < queryCount; i++) {
+      assertEquals(futureCount / sessionCount, Jobs.getJobManager().getFutures(indexedFilter).size());
+    }
+    final long indexedNanos = System.nanoTime() - start;
+
+    start = System.nanoTime();
+    for (int i = 0; i < queryCount; i++) {
+      assertEquals(futureCount / sessionCount, Jobs.getJobManager().getFutures(scanFilter).size());
+    }
+    final long scanNanos = System.nanoTime() - start;
+
+    start = System.nanoTime();
+    assertTrue(Jobs.getJobManager().cancel(indexedFilter, false));
+    Jobs.getJobManager().awaitFinished(indexedFilter, 10, TimeUnit.SECONDS);
+    final long cancelNanos = System.nanoTime() - start;
+
+    LOG.info("{} queries among {} futures: indexed {} ms, full scan {} ms; cancel and await session futures {} ms", queryCount, futureCount,
+        TimeUnit.NANOSECONDS.toMillis(indexedNanos), TimeUnit.NANOSECONDS.toMillis(scanNanos), TimeUnit.NANOSECONDS.toMillis(cancelNanos));
+  }
+
+  protected IFuture<Void> scheduleDelayed(final JobInput input) {
+    return Jobs.schedule(() -> {
+      // NOOP
+    }, input
+        .withExecutionHint(m_jobIdentifier)
+        .withExecutionTrigger(Jobs.newExecutionTrigger()
+            .withStartIn(1, TimeUnit.HOURS)));
+  }
+
+  protected Set<IFuture<?>> getFutures(final String hint) {
+    return Jobs.getJobManager().getFutures(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(hint)
+        .andMatchExecutionHint(m_jobIdentifier)
+        .toFilter());
+  }
+
+  private static final class P_Session {
+    // marker type for the RunContext adapter
+  }
+
+  private static final class P_SessionRunContext extends RunContext {
+
+    private final Object m_session;
+
+    private P_SessionRunContext(final Object session) {
+      m_session = session;
+    }
+
+    @Override
+    public RunContext copy() {
+      final P_SessionRunContext copy = new P_SessionRunContext(m_session);
+      copy.copyValues(this);
+      return copy;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T getAdapter(final Class<T> type) {
+      if (type == P_Session.class) {
+        return (T) m_session;
+      }
+      return null;
+    }
+  }
+
+  private static final class P_SessionFilter implements Predicate<IFuture<?>>, IAdaptable {
+
+    private final Object m_session;
+
+    private P_SessionFilter(final Object session) {
+      m_session = session;
+    }
+
+    @Override
+    public boolean test(final IFuture<?> future) {
+      final RunContext runContext = future.getJobInput().getRunContext();
+      return runContext != null && runContext.getAdapter(P_Session.class) == m_session;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T getAdapter(final Class<T> type) {
+      if (type == FutureIndexKey.class) {
+        return (T) FutureIndexKey.runContextAdapter(P_Session.class, m_session);
+      }
+      return null;
+    }
+  }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.IJobManager;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.job.JobTestUtil;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+
+@RunWith(PlatformTestRunner.class)
+public class JobManagerMetricProviderTest {
+
+  private JobManagerMetricProvider m_metricsMock;
+  private IBean<?> m_metricsBean;
+  private IBean<IJobManager> m_jobManagerBean;
+
+  @Before
+  public void before() {
+    m_metricsMock = Mockito.mock(JobManagerMetricProvider.class);
+    m_metricsBean = BeanTestingHelper.get().registerBean(new BeanMetaData(JobManagerMetricProvider.class, m_metricsMock));
+    m_jobManagerBean = JobTestUtil.replaceCurrentJobManager(new JobManager() {
+      // must be a subclass in order to replace JobManager
+    });
+  }
+
+  @After
+  public void after() {
+    JobTestUtil.unregisterAndShutdownJobManager(m_jobManagerBean);
+    BeanTestingHelper.get().unregisterBean(m_metricsBean);
+  }
+
+  @Test
+  public void testJobExecuted() {
+    Jobs.schedule(() -> {
+      // NOOP
+    }, Jobs.newInput()
+        .withName("metrics-job")
+        .withExecutionHint("metrics-hint"))
+        .awaitDone(10, TimeUnit.SECONDS);
+
+    verify(m_metricsMock, timeout(10_000)).jobExecuted(argThat(input -> "metrics-job".equals(input.getName())), longThat(duration -> duration >= 0));
+  }
+
+  @Test
+  public void testSemaphore() throws InterruptedException {
+    final IExecutionSemaphore semaphore = Jobs.newExecutionSemaphore(1);
+    final CountDownLatch latch = new CountDownLatch(1);
+    final IFuture<Void> future1 = Jobs.schedule(latch::await, Jobs.newInput().withExecutionSemaphore(semaphore));
+    JobTestUtil.waitForPermitCompetitors(semaphore, 1);
+    final IFuture<Void> future2 = Jobs.schedule(() -> {
+      // NOOP
+    }, Jobs.newInput().withExecutionSemaphore(semaphore));
+    JobTestUtil.waitForPermitCompetitors(semaphore, 2);
+
+    latch.countDown();
+    future1.awaitDone(10, TimeUnit.SECONDS);
+    future2.awaitDone(10, TimeUnit.SECONDS);
+
+    verify(m_metricsMock).semaphorePermitAcquired(eq(false), eq(0L));
+    verify(m_metricsMock).semaphoreTaskQueued(1);
+    verify(m_metricsMock).semaphorePermitAcquired(eq(true), longThat(wait -> wait >= 0));
+  }
+
+  @Test
+  public void testBoundJobName() {
+    JobManagerMetricProvider provider = new JobManagerMetricProvider();
+    for (int i = 0; i < JobManagerMetricProvider.MAX_JOB_NAMES; i++) {
+      assertEquals("job-" + i, provider.boundJobName("job-" + i));
+    }
+    assertEquals("job-0", provider.boundJobName("job-0"));
+    assertEquals(JobManagerMetricProvider.OTHER_JOB_NAME, provider.boundJobName("job-new"));
+    assertEquals(JobManagerMetricProvider.OTHER_JOB_NAME, provider.boundJobName(null));
+  }
+
+  @Test
+  public void testToHint() {
+    JobManagerMetricProvider provider = new JobManagerMetricProvider();
+    assertEquals(JobManagerMetricProvider.NO_HINT, provider.toHint(null));
+    assertEquals(JobManagerMetricProvider.NO_HINT, provider.toHint(Collections.emptySet()));
+    assertEquals("a", provider.toHint(Collections.singleton("a")));
+    assertEquals("a,b", provider.toHint(new HashSet<>(Arrays.asList("b", "a"))));
+  }
+
+  @Test
+  public void testInactive() {
+    JobManagerMetricProvider provider = new JobManagerMetricProvider();
+    assertFalse(provider.isActive());
+    // must not fail if not registered
+    provider.jobRejected(false);
+    provider.semaphoreTaskQueued(1);
+    provider.semaphorePermitAcquired(true, 1L);
+  }
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.job.JobPriority;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class JobPriorityDispatcherTest {
+
+  private static final int UNLIMITED = Integer.MAX_VALUE;
+
+  private ExecutorService m_executor;
+  private List<String> m_rejected;
+
+  @Before
+  public void before() {
+    m_executor = Executors.newCachedThreadPool(new NamedThreadFactory("priority-dispatcher-test"));
+    m_rejected = Collections.synchronizedList(new ArrayList<>());
+  }
+
+  @After
+  public void after() {
+    m_executor.shutdownNow();
+  }
+
+  @Test
+  public void testPriorityOrder() throws InterruptedException {
+    JobPriorityDispatcher dispatcher = createDispatcher(1, new int[]{UNLIMITED, UNLIMITED, UNLIMITED}, 100);
+    List<String> executed = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch blocker = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(4);
+
+    dispatcher.execute(new P_Runnable("blocking", () -> {
+      await(blocker);
+      done.countDown();
+    }), JobPriority.DEFAULT);
+    dispatcher.execute(new P_Runnable("background", () -> record(executed, "background", done)), JobPriority.BACKGROUND);
+    dispatcher.execute(new P_Runnable("default", () -> record(executed, "default", done)), JobPriority.DEFAULT);
+    dispatcher.execute(new P_Runnable("interactive", () -> record(executed, "interactive", done)), JobPriority.INTERACTIVE);
+
+    assertEquals(1, dispatcher.getQueueSize(JobPriority.BACKGROUND));
+    assertEquals(1, dispatcher.getQueueSize(JobPriority.DEFAULT));
+    assertEquals(1, dispatcher.getQueueSize(JobPriority.INTERACTIVE));
+
+    blocker.countDown();
+    assertTrue(done.await(10, TimeUnit.SECONDS));
+    assertEquals(Arrays.asList("interactive", "default", "background"), executed);
+    assertEquals(0, dispatcher.getRunningCount(JobPriority.DEFAULT));
+  }
+
+  @Test
+  public void testConcurrencyLimit() throws InterruptedException {
+    JobPriorityDispatcher dispatcher = createDispatcher(UNLIMITED, new int[]{UNLIMITED, UNLIMITED, 1}, 100);
+    CountDownLatch blocker = new CountDownLatch(1);
+    CountDownLatch interactiveDone = new CountDownLatch(1);
+    CountDownLatch backgroundDone = new CountDownLatch(2);
+
+    dispatcher.execute(new P_Runnable("background-1", () -> {
+      await(blocker);
+      backgroundDone.countDown();
+    }), JobPriority.BACKGROUND);
+    dispatcher.execute(new P_Runnable("background-2", backgroundDone::countDown), JobPriority.BACKGROUND);
+    assertEquals(1, dispatcher.getQueueSize(JobPriority.BACKGROUND));
+
+    // Interactive jobs are not affected by the limit of background jobs.
+    dispatcher.execute(new P_Runnable("interactive", interactiveDone::countDown), JobPriority.INTERACTIVE);
+    assertTrue(interactiveDone.await(10, TimeUnit.SECONDS));
+    assertEquals(1, dispatcher.getQueueSize(JobPriority.BACKGROUND));
+
+    blocker.countDown();
+    assertTrue(backgroundDone.await(10, TimeUnit.SECONDS));
+  }
+
+  /**
+   * A job waiting for a queued job must release its thread, or otherwise, the queued job could never run.
+   */
+  @Test
+  public void testJobAwaitingQueuedJob() throws InterruptedException {
+    JobPriorityDispatcher dispatcher = createDispatcher(1, new int[]{UNLIMITED, UNLIMITED, UNLIMITED}, 100);
+    CountDownLatch awaitedDone = new CountDownLatch(1);
+    CountDownLatch done = new CountDownLatch(1);
+
+    dispatcher.execute(new P_Runnable("waiting", () -> {
+      dispatcher.execute(new P_Runnable("awaited", awaitedDone::countDown), JobPriority.DEFAULT);
+      assertEquals(1, dispatcher.getQueueSize(JobPriority.DEFAULT));
+
+      assertTrue(dispatcher.beginBlocking());
+      try {
+        await(awaitedDone);
+      }
+      finally {
+        dispatcher.endBlocking();
+      }
+      done.countDown();
+    }), JobPriority.DEFAULT);
+
+    assertTrue(done.await(10, TimeUnit.SECONDS));
+    assertFalse(dispatcher.beginBlocking()); // not running a job
+  }
+
+  @Test
+  public void testQueueFull() {
+    JobPriorityDispatcher dispatcher = createDispatcher(1, new int[]{UNLIMITED, UNLIMITED, UNLIMITED}, 1);
+    CountDownLatch blocker = new CountDownLatch(1);
+    try {
+      dispatcher.execute(new P_Runnable("blocking", () -> await(blocker)), JobPriority.DEFAULT);
+      dispatcher.execute(new P_Runnable("queued", () -> {
+      }), JobPriority.DEFAULT);
+      dispatcher.execute(new P_Runnable("rejected", () -> {
+      }), JobPriority.INTERACTIVE);
+
+      assertEquals(Collections.singletonList("rejected"), m_rejected);
+    }
+    finally {
+      blocker.countDown();
+    }
+  }
+
+  @Test
+  public void testShutdown() {
+    JobPriorityDispatcher dispatcher = createDispatcher(1, new int[]{UNLIMITED, UNLIMITED, UNLIMITED}, 100);
+    CountDownLatch blocker = new CountDownLatch(1);
+    try {
+      dispatcher.execute(new P_Runnable("blocking", () -> await(blocker)), JobPriority.DEFAULT);
+      dispatcher.execute(new P_Runnable("queued", () -> fail("must not run")), JobPriority.DEFAULT);
+
+      dispatcher.shutdown();
+      assertEquals(Collections.singletonList("queued"), m_rejected);
+      assertEquals(0, dispatcher.getQueueSize(JobPriority.DEFAULT));
+
+      dispatcher.execute(new P_Runnable("after-shutdown", () -> fail("must not run")), JobPriority.DEFAULT);
+      assertEquals(Arrays.asList("queued", "after-shutdown"), m_rejected);
+    }
+    finally {
+      blocker.countDown();
+    }
+  }
+
+  protected JobPriorityDispatcher createDispatcher(int maxThreads, int[] maxConcurrency, int queueCapacity) {
+    return new JobPriorityDispatcher(m_executor, runnable -> m_rejected.add(runnable.toString()), new JobManagerMetricProvider(), maxThreads, maxConcurrency, queueCapacity);
+  }
+
+  protected static void record(List<String> executed, String name, CountDownLatch done) {
+    executed.add(name);
+    done.countDown();
+  }
+
+  protected static void await(CountDownLatch latch) {
+    try {
+      assertTrue(latch.await(10, TimeUnit.SECONDS));
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static class P_Runnable implements IRejectableRunnable {
+
+    private final String m_name;
+    private final Runnable m_runnable;
+
+    P_Runnable(String name, Runnable runnable) {
+      m_name = name;
+      m_runnable = runnable;
+    }
+
+    @Override
+    public void run() {
+      m_runnable.run();
+    }
+
+    @Override
+    public void reject() {
+      // NOOP
+    }
+
+    @Override
+    public String toString() {
+      return m_name;
+    }
+  }
+}
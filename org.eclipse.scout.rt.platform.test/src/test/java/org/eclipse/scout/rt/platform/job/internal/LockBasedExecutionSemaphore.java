@@ -0,0 +1,197 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
+
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.internal.ExecutionSemaphore.IPermitAcquiredCallback;
+import org.eclipse.scout.rt.platform.job.internal.ExecutionSemaphore.QueuePosition;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+
+/**
+ * The read/write lock based implementation of {@link ExecutionSemaphore} before it was made lock-free, reduced to the
+ * acquisition and release of permits. Used as baseline by {@link ExecutionSemaphoreStressTest}.
+ */
+public class LockBasedExecutionSemaphore implements IExecutionSemaphore {
+
+  private final ReadLock m_readLock;
+  private final WriteLock m_writeLock;
+
+  private volatile int m_permits;
+  private final Deque<AcquisitionTask> m_queue;
+  private final Set<IFuture<?>> m_permitOwners;
+
+  public LockBasedExecutionSemaphore(final int permits) {
+    m_permits = permits;
+    m_queue = new ArrayDeque<>();
+    m_permitOwners = new HashSet<>();
+
+    final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    m_readLock = lock.readLock();
+    m_writeLock = lock.writeLock();
+  }
+
+  @Override
+  public int getPermits() {
+    return m_permits;
+  }
+
+  @Override
+  public IExecutionSemaphore withPermits(final int permits) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public IExecutionSemaphore seal() {
+    return this;
+  }
+
+  @Override
+  public int getCompetitorCount() {
+    m_readLock.lock();
+    try {
+      return m_queue.size() + m_permitOwners.size();
+    }
+    finally {
+      m_readLock.unlock();
+    }
+  }
+
+  @Override
+  public boolean isPermitOwner(final IFuture<?> task) {
+    m_readLock.lock();
+    try {
+      return m_permitOwners.contains(task);
+    }
+    finally {
+      m_readLock.unlock();
+    }
+  }
+
+  protected void acquire(final IFuture<?> task, final QueuePosition queuePosition) {
+    assertSameSemaphore(task);
+
+    final Object acquisitionLock = new Object();
+    final AtomicBoolean waitingForPermit = new AtomicBoolean(true);
+
+    compete(task, queuePosition, () -> {
+      synchronized (acquisitionLock) {
+        if (waitingForPermit.get()) {
+          acquisitionLock.notify();
+        }
+        else {
+          release(task);
+        }
+      }
+    });
+
+    // Block the current thread until a permit is acquired.
+    synchronized (acquisitionLock) {
+      while (!isPermitOwner(task)) {
+        try {
+          acquisitionLock.wait();
+        }
+        catch (final InterruptedException e) {
+          Thread.currentThread().interrupt();
+          waitingForPermit.set(false);
+          throw new ThreadInterruptedError("Interrupted while competing for a permit");
+        }
+      }
+    }
+  }
+
+  protected boolean compete(final IFuture<?> task, final QueuePosition queuePosition, final IPermitAcquiredCallback permitAcquiredCallback) {
+    assertSameSemaphore(task);
+
+    boolean permitFree;
+    m_writeLock.lock();
+    try {
+      permitFree = (m_permitOwners.size() < m_permits && m_queue.isEmpty());
+      if (permitFree) {
+        m_permitOwners.add(task);
+      }
+      else if (queuePosition == QueuePosition.HEAD) {
+        m_queue.offerFirst(new AcquisitionTask(task, permitAcquiredCallback));
+      }
+      else {
+        m_queue.offerLast(new AcquisitionTask(task, permitAcquiredCallback));
+      }
+    }
+    finally {
+      m_writeLock.unlock();
+    }
+
+    if (permitFree) {
+      permitAcquiredCallback.onPermitAcquired();
+    }
+    return permitFree;
+  }
+
+  protected void release(final IFuture<?> permitOwner) {
+    assertSameSemaphore(permitOwner);
+    Assertions.assertTrue(isPermitOwner(permitOwner), "Task does not own a permit [task={}]", permitOwner);
+
+    final AcquisitionTask acquisitionTask;
+    m_writeLock.lock();
+    try {
+      m_permitOwners.remove(permitOwner);
+      acquisitionTask = assignOnePermit();
+    }
+    finally {
+      m_writeLock.unlock();
+    }
+
+    if (acquisitionTask != null) {
+      acquisitionTask.m_callback.onPermitAcquired();
+    }
+  }
+
+  protected AcquisitionTask assignOnePermit() {
+    m_writeLock.lock();
+    try {
+      if (m_permitOwners.size() >= m_permits) {
+        return null;
+      }
+      final AcquisitionTask acquisitionTask = m_queue.poll();
+      if (acquisitionTask == null) {
+        return null;
+      }
+      m_permitOwners.add(acquisitionTask.m_competingTask);
+      return acquisitionTask;
+    }
+    finally {
+      m_writeLock.unlock();
+    }
+  }
+
+  protected void assertSameSemaphore(final IFuture<?> task) {
+    Assertions.assertSame(this, task.getJobInput().getExecutionSemaphore(), "Wrong execution semaphore [expected={}, actual={}]", this, task.getJobInput().getExecutionSemaphore());
+  }
+
+  protected static class AcquisitionTask {
+    private final IFuture<?> m_competingTask;
+    private final IPermitAcquiredCallback m_callback;
+
+    public AcquisitionTask(final IFuture<?> competingTask, final IPermitAcquiredCallback callback) {
+      m_competingTask = competingTask;
+      m_callback = callback;
+    }
+  }
+}
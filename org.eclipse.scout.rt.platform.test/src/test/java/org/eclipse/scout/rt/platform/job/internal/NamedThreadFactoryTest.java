@@ -9,12 +9,14 @@
  */
 package org.eclipse.scout.rt.platform.job.internal;
 
-import static org.junit.Assert.assertNull;
+import static org.junit.Assert.*;
 
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
+import org.eclipse.scout.rt.platform.job.internal.NamedThreadFactory.ThreadInfo;
 import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -39,4 +41,24 @@ public class NamedThreadFactoryTest {
     latch.await(1, TimeUnit.SECONDS);
     assertNull(childThreadMdcValue.get());
   }
+
+  @Test
+  public void testDelegate() throws InterruptedException {
+    MDC.put(MDC_KEY, "value should not be pushed to child thread");
+
+    final AtomicReference<String> childThreadMdcValue = new AtomicReference<>();
+    final AtomicReference<ThreadInfo> childThreadInfo = new AtomicReference<>();
+    final CountDownLatch latch = new CountDownLatch(1);
+    Thread thread = new NamedThreadFactory("delegate-test-thread", Executors.defaultThreadFactory()).newThread(() -> {
+      childThreadMdcValue.set(MDC.get(MDC_KEY));
+      childThreadInfo.set(ThreadInfo.CURRENT.get());
+      latch.countDown();
+    });
+    assertEquals("delegate-test-thread-1", thread.getName());
+    thread.start();
+
+    assertTrue(latch.await(1, TimeUnit.SECONDS));
+    assertNull(childThreadMdcValue.get());
+    assertNotNull(childThreadInfo.get());
+  }
 }
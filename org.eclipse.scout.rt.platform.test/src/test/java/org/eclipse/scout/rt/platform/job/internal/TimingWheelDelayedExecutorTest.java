@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
+import org.eclipse.scout.rt.platform.util.SleepUtil;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.platform.testcategory.ResourceIntensiveTest;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@RunWith(PlatformTestRunner.class)
+public class TimingWheelDelayedExecutorTest {
+
+  private static final Logger LOG = LoggerFactory.getLogger(TimingWheelDelayedExecutorTest.class);
+
+  private ExecutorService m_executor;
+
+  @Before
+  public void before() {
+    m_executor = Executors.newCachedThreadPool(new NamedThreadFactory("timing-wheel-test"));
+  }
+
+  @After
+  public void after() {
+    m_executor.shutdownNow();
+  }
+
+  @Test
+  public void testNeverFiresEarly() throws InterruptedException {
+    TimingWheelDelayedExecutor executor = new TimingWheelDelayedExecutor(m_executor, "timing-wheel", 5);
+    Random random = new Random(42);
+    int taskCount = 200;
+    CountDownLatch latch = new CountDownLatch(taskCount);
+    AtomicLong earlyFirings = new AtomicLong();
+    for (int i = 0; i < taskCount; i++) {
+      long fireTime = System.currentTimeMillis() + random.nextInt(500);
+      executor.schedule(() -> {
+        if (System.currentTimeMillis() < fireTime) {
+          earlyFirings.incrementAndGet();
+        }
+        latch.countDown();
+      }, new Date(fireTime));
+    }
+
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+    assertEquals(0, earlyFirings.get());
+    assertEquals(0, executor.getQueueSize());
+  }
+
+  @Test
+  public void testFireTimeInPast() throws InterruptedException {
+    TimingWheelDelayedExecutor executor = new TimingWheelDelayedExecutor(m_executor, "timing-wheel", 5);
+    CountDownLatch latch = new CountDownLatch(1);
+    executor.schedule(latch::countDown, new Date(System.currentTimeMillis() - 1000));
+    assertTrue(latch.await(5, TimeUnit.SECONDS));
+  }
+
+  @Test
+  public void testCancel() {
+    TimingWheelDelayedExecutor executor = new TimingWheelDelayedExecutor(m_executor, "timing-wheel", 5);
+    AtomicBoolean fired = new AtomicBoolean();
+    IRegistrationHandle handle = executor.schedule(() -> fired.set(true), new Date(System.currentTimeMillis() + 200));
+    assertEquals(1, executor.getQueueSize());
+
+    handle.dispose();
+    assertEquals(0, executor.getQueueSize());
+    SleepUtil.sleepSafe(400, TimeUnit.MILLISECONDS);
+    assertFalse(fired.get());
+  }
+
+  /**
+   * Advances the wheel manually across the slot boundaries of all levels.
+   */
+  @Test
+  public void testCascading() {
+    TimingWheelDelayedExecutor executor = new TimingWheelDelayedExecutor(new P_NoDispatchExecutorService(), "timing-wheel", 10);
+    long baseTick = executor.getCurrentTick();
+    long[] deltas = {1, 255, 256, 257, 65_535, 65_536, 65_537, 1_000_000, 16_777_216 + 3};
+
+    List<AtomicBoolean> fired = new ArrayList<>();
+    for (long delta : deltas) {
+      AtomicBoolean flag = new AtomicBoolean();
+      fired.add(flag);
+      executor.schedule(() -> flag.set(true), new Date((baseTick + delta) * executor.getTickMillis()));
+    }
+
+    for (int i = 0; i < deltas.length; i++) {
+      executor.advanceTo(baseTick + deltas[i] - 1);
+      assertFalse("fired too early: " + deltas[i], fired.get(i).get());
+      executor.advanceTo(baseTick + deltas[i]);
+      assertTrue("not fired: " + deltas[i], fired.get(i).get());
+    }
+    assertEquals(0, executor.getQueueSize());
+  }
+
+  @Test
+  public void testCancelInWheel() {
+    TimingWheelDelayedExecutor executor = new TimingWheelDelayedExecutor(new P_NoDispatchExecutorService(), "timing-wheel", 10);
+    long baseTick = executor.getCurrentTick();
+    AtomicBoolean fired1 = new AtomicBoolean();
+    AtomicBoolean fired2 = new AtomicBoolean();
+    IRegistrationHandle handle1 = executor.schedule(() -> fired1.set(true), new Date((baseTick + 300) * executor.getTickMillis()));
+    executor.schedule(() -> fired2.set(true), new Date((baseTick + 300) * executor.getTickMillis()));
+    executor.advanceTo(baseTick + 10); // inserts the tasks into the wheel
+
+    handle1.dispose();
+    executor.advanceTo(baseTick + 300);
+    assertFalse(fired1.get());
+    assertTrue(fired2.get());
+  }
+
+  /**
+   * Compares scheduling, cancelling and firing of 100k pending delayed jobs with {@link DelayedExecutor}.
+   */
+  @Test
+  @Category(ResourceIntensiveTest.class)
+  public void testPerformance() throws InterruptedException {
+    measure("priority queue", new DelayedExecutor(m_executor, "delayed-executor"));
+    measure("timing wheel", new TimingWheelDelayedExecutor(m_executor, "timing-wheel", TimingWheelDelayedExecutor.DEFAULT_TICK_MILLIS));
+  }
+
+  protected void measure(String name, IDelayedExecutor executor) throws InterruptedException {
+    int pendingCount = 100_000;
+    Random random = new Random(42);
+
+    // Schedule long running housekeeping jobs and cancel them again.
+    long now = System.currentTimeMillis();
+    List<IRegistrationHandle> handles = new ArrayList<>(pendingCount);
+    long start = System.nanoTime();
+    for (int i = 0; i < pendingCount; i++) {
+      handles.add(executor.schedule(() -> fail("must not fire"), new Date(now + TimeUnit.MINUTES.toMillis(10) + random.nextInt(3_600_000))));
+    }
+    long scheduleNanos = System.nanoTime() - start;
+
+    start = System.nanoTime();
+    for (IRegistrationHandle handle : handles) {
+      handle.dispose();
+    }
+    long cancelNanos = System.nanoTime() - start;
+
+    // Fire jobs within one second and measure the delay between fire time and firing.
+    int firingCount = 10_000;
+    CountDownLatch latch = new CountDownLatch(firingCount);
+    AtomicLong totalLateness = new AtomicLong();
+    long fireStart = System.currentTimeMillis() + 500;
+    for (int i = 0; i < firingCount; i++) {
+      long fireTime = fireStart + random.nextInt(1000);
+      executor.schedule(() -> {
+        totalLateness.addAndGet(System.currentTimeMillis() - fireTime);
+        latch.countDown();
+      }, new Date(fireTime));
+    }
+    assertTrue(latch.await(30, TimeUnit.SECONDS));
+
+    LOG.info("{}: scheduled {} jobs in {} ms, cancelled in {} ms, average firing lateness {} ms", name, pendingCount,
+        TimeUnit.NANOSECONDS.toMillis(scheduleNanos), TimeUnit.NANOSECONDS.toMillis(cancelNanos), totalLateness.get() / (double) firingCount);
+  }
+
+  /**
+   * Does not run the dispatch loop, so that the test can advance the wheel.
+   */
+  private static class P_NoDispatchExecutorService extends AbstractExecutorService {
+
+    @Override
+    public void execute(Runnable command) {
+      // NOOP
+    }
+
+    @Override
+    public void shutdown() {
+      // NOOP
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+      return new ArrayList<>();
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return false;
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return false;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+      return true;
+    }
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.IJobManager;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.job.internal.NamedThreadFactory.ThreadInfo;
+import org.eclipse.scout.rt.platform.util.concurrent.FutureCancelledError;
+import org.eclipse.scout.rt.testing.platform.job.JobTestUtil;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.AfterClass;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+@RunWith(PlatformTestRunner.class)
+public class VirtualThreadJobManagerTest {
+
+  private static IBean<IJobManager> s_jobManagerBean;
+
+  @BeforeClass
+  public static void beforeClass() {
+    Assume.assumeTrue("Virtual threads not supported by this Java runtime", VirtualThreads.isSupported());
+    s_jobManagerBean = JobTestUtil.replaceCurrentJobManager(new JobManager() {
+      @Override
+      protected ExecutorService createExecutor() {
+        return createVirtualThreadExecutor(createRejectedExecutionHandler());
+      }
+    });
+  }
+
+  @AfterClass
+  public static void afterClass() {
+    if (s_jobManagerBean != null) {
+      JobTestUtil.unregisterAndShutdownJobManager(s_jobManagerBean);
+    }
+  }
+
+  @Test
+  public void testRunInVirtualThread() {
+    final List<Object> result = Jobs.schedule(() -> {
+      List<Object> values = new ArrayList<>();
+      values.add(VirtualThreads.isVirtual(Thread.currentThread()));
+      values.add(ThreadInfo.CURRENT.get() != null);
+      values.add(Thread.currentThread().getName());
+      values.add(RunContext.CURRENT.get().getProperty("key"));
+      return values;
+    }, Jobs.newInput()
+        .withName("virtual-job")
+        .withRunContext(RunContexts.empty().withProperty("key", "value")))
+        .awaitDoneAndGet(10, TimeUnit.SECONDS);
+
+    assertEquals(Boolean.TRUE, result.get(0));
+    assertEquals(Boolean.TRUE, result.get(1));
+    assertTrue((String) result.get(2), ((String) result.get(2)).startsWith("scout-vthread-"));
+    assertEquals("value", result.get(3));
+  }
+
+  @Test
+  public void testCancel() throws InterruptedException {
+    final CountDownLatch running = new CountDownLatch(1);
+    final AtomicBoolean interrupted = new AtomicBoolean();
+    final IFuture<Void> future = Jobs.schedule(() -> {
+      running.countDown();
+      try {
+        Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+      }
+      catch (InterruptedException e) {
+        interrupted.set(true);
+      }
+    }, Jobs.newInput());
+
+    assertTrue(running.await(10, TimeUnit.SECONDS));
+    assertTrue(future.cancel(true));
+    try {
+      future.awaitDoneAndGet(10, TimeUnit.SECONDS);
+      fail("cancellation expected");
+    }
+    catch (FutureCancelledError expected) { // NOSONAR
+      // expected
+    }
+    JobTestUtil.waitForCondition(interrupted::get);
+    assertTrue(interrupted.get());
+  }
+
+  @Test
+  public void testExecutionSemaphore() {
+    final IExecutionSemaphore semaphore = Jobs.newExecutionSemaphore(2);
+    final AtomicInteger concurrent = new AtomicInteger();
+    final AtomicInteger maxConcurrent = new AtomicInteger();
+    final List<IFuture<Void>> futures = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      futures.add(Jobs.schedule(() -> {
+        maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+        Thread.sleep(5);
+        concurrent.decrementAndGet();
+      }, Jobs.newInput().withExecutionSemaphore(semaphore)));
+    }
+    for (IFuture<Void> future : futures) {
+      future.awaitDoneAndGet(10, TimeUnit.SECONDS);
+    }
+    assertTrue("max concurrent: " + maxConcurrent.get(), maxConcurrent.get() <= 2);
+  }
+}
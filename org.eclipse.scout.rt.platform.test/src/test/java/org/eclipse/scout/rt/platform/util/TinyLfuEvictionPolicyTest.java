@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.util;
+
+import static org.junit.Assert.*;
+
+import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.platform.util.collection.TinyLfuEvictionPolicy;
+import org.eclipse.scout.rt.testing.platform.testcategory.ResourceIntensiveTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Tests for {@link TinyLfuEvictionPolicy}
+ *
+ * @since 24.2
+ */
+public class TinyLfuEvictionPolicyTest {
+  private static final Logger LOG = LoggerFactory.getLogger(TinyLfuEvictionPolicyTest.class);
+
+  @Test
+  public void testStrictSizeBound() {
+    List<Integer> evicted = new ArrayList<>();
+    ConcurrentExpiringMap<Integer, String> map = new ConcurrentExpiringMap<Integer, String>(new ConcurrentHashMap<>(), -1, false, new TinyLfuEvictionPolicy<>(100)) {
+      @Override
+      protected void execEntryEvicted(Integer key, String value) {
+        evicted.add(key);
+      }
+    };
+
+    for (int i = 0; i < 1000; i++) {
+      map.put(i, String.valueOf(i));
+      assertTrue(map.size() <= 100);
+    }
+    assertEquals(100, map.size());
+    assertEquals(900, evicted.size());
+    assertEquals(100, ((TinyLfuEvictionPolicy<Integer>) map.getEvictionPolicy()).size());
+  }
+
+  @Test
+  public void testFrequentKeysSurviveScan() {
+    ConcurrentExpiringMap<Integer, String> map = createMap(100);
+    for (int round = 0; round < 10; round++) {
+      for (int i = 0; i < 50; i++) {
+        if (map.get(i) == null) {
+          map.put(i, String.valueOf(i));
+        }
+      }
+    }
+
+    // scan over keys used only once, while the frequent keys are still in use
+    int misses = 0;
+    for (int i = 1000; i < 11000; i++) {
+      map.put(i, String.valueOf(i));
+      if (i % 10 == 0 && map.get(i / 10 % 50) == null) {
+        misses++;
+      }
+    }
+    assertEquals(0, misses);
+    assertEquals(100, map.size());
+  }
+
+  @Test
+  public void testSmallWindow() {
+    // a capacity of 10 results in a window of a single key
+    List<Integer> evicted = new ArrayList<>();
+    ConcurrentExpiringMap<Integer, String> map = new ConcurrentExpiringMap<Integer, String>(new ConcurrentHashMap<>(), -1, false, new TinyLfuEvictionPolicy<>(10)) {
+      @Override
+      protected void execEntryEvicted(Integer key, String value) {
+        evicted.add(key);
+      }
+    };
+    for (int i = 0; i < 10; i++) {
+      map.put(i, String.valueOf(i));
+    }
+    for (int round = 0; round < 5; round++) {
+      assertNotNull(map.get(0));
+    }
+
+    // a new key leaving the window is admitted to the main area instead of being evicted by the next write
+    for (int i = 10; i < 20; i++) {
+      map.put(i, String.valueOf(i));
+      map.put(i + 100, String.valueOf(i + 100));
+      assertFalse(evicted.contains(i));
+    }
+    assertFalse(evicted.contains(0));
+    assertEquals(10, map.size());
+  }
+
+  @Test
+  public void testRemoveAndClear() {
+    ConcurrentExpiringMap<Integer, String> map = createMap(10);
+    TinyLfuEvictionPolicy<Integer> policy = (TinyLfuEvictionPolicy<Integer>) map.getEvictionPolicy();
+    for (int i = 0; i < 10; i++) {
+      map.put(i, String.valueOf(i));
+    }
+
+    map.remove(1);
+    assertTrue(map.remove(2, "2"));
+    assertFalse(map.remove(3, "x"));
+    assertEquals(8, policy.size());
+
+    // removed keys make room, so no entry is evicted
+    map.put(10, "10");
+    map.put(11, "11");
+    assertEquals(10, map.size());
+    assertEquals(10, policy.size());
+
+    map.clear();
+    assertEquals(0, policy.size());
+    assertTrue(map.isEmpty());
+  }
+
+  @Test
+  public void testChangeCapacity() {
+    ConcurrentExpiringMap<Integer, String> map = createMap(100);
+    for (int i = 0; i < 100; i++) {
+      map.put(i, String.valueOf(i));
+    }
+
+    ConcurrentExpiringMap<Integer, String> smallMap = new ConcurrentExpiringMap<>(map, 10);
+    assertEquals(10, smallMap.size());
+    assertEquals(10, smallMap.getEvictionPolicy().getCapacity());
+
+    for (int i = 100; i < 200; i++) {
+      smallMap.put(i, String.valueOf(i));
+    }
+    assertEquals(10, smallMap.size());
+  }
+
+  @Test
+  public void testCapacityOne() {
+    ConcurrentExpiringMap<Integer, String> map = createMap(1);
+    map.put(1, "1");
+    map.put(2, "2");
+    assertEquals(1, map.size());
+    assertEquals("2", map.get(2));
+  }
+
+  @Test
+  public void testFrequency() {
+    TinyLfuEvictionPolicy<String> policy = new TinyLfuEvictionPolicy<>(100);
+    policy.recordWrite("a");
+    for (int i = 0; i < 5; i++) {
+      policy.recordAccess("a");
+    }
+    assertEquals(6, policy.frequency("a"));
+    assertEquals(0, policy.frequency("b"));
+  }
+
+  /**
+   * Compares the hit rates of the default LRU eviction of {@link ConcurrentExpiringMap} with
+   * {@link TinyLfuEvictionPolicy} on synthetic traces with a fixed seed: a Zipf distribution typical for caches of
+   * lookup data, the same distribution interrupted by scans over keys used only once, and a loop over slightly more
+   * keys than the cache can hold.
+   */
+  @Test
+  @Category(ResourceIntensiveTest.class)
+  public void testHitRates() {
+    int capacity = 1000;
+    int[] zipf = zipfTrace(500_000, 100_000, 0.9, 42L);
+    int[] zipfWithScans = new int[zipf.length];
+    int scanKey = Integer.MAX_VALUE / 2;
+    for (int i = 0; i < zipf.length; i++) {
+      zipfWithScans[i] = (i / 5000) % 2 == 1 ? scanKey++ : zipf[i];
+    }
+    int[] loop = new int[500_000];
+    for (int i = 0; i < loop.length; i++) {
+      loop[i] = i % (capacity * 3 / 2);
+    }
+
+    for (Map.Entry<String, int[]> trace : Arrays.asList(
+        new SimpleEntry<>("zipf", zipf),
+        new SimpleEntry<>("zipf with scans", zipfWithScans),
+        new SimpleEntry<>("loop", loop))) {
+      long start = System.nanoTime();
+      double lruHitRate = replay(new ConcurrentExpiringMap<>(new ConcurrentHashMap<>(), -1, true, capacity), trace.getValue());
+      long lruMillis = (System.nanoTime() - start) / 1_000_000;
+
+      start = System.nanoTime();
+      double tinyLfuHitRate = replay(createMap(capacity), trace.getValue());
+      long tinyLfuMillis = (System.nanoTime() - start) / 1_000_000;
+
+      LOG.info("{}: LRU hit rate {}% in {} ms, TinyLFU hit rate {}% in {} ms", trace.getKey(),
+          String.format("%.2f", lruHitRate), lruMillis, String.format("%.2f", tinyLfuHitRate), tinyLfuMillis);
+      assertTrue(tinyLfuHitRate > lruHitRate);
+    }
+  }
+
+  protected static ConcurrentExpiringMap<Integer, String> createMap(int capacity) {
+    return new ConcurrentExpiringMap<>(new ConcurrentHashMap<>(), -1, false, new TinyLfuEvictionPolicy<>(capacity));
+  }
+
+  protected static double replay(Map<Integer, String> map, int[] trace) {
+    int hits = 0;
+    for (int key : trace) {
+      if (map.get(key) != null) {
+        hits++;
+      }
+      else {
+        map.put(key, "value");
+      }
+    }
+    return 100.0 * hits / trace.length;
+  }
+
+  protected static int[] zipfTrace(int length, int keyCount, double exponent, long seed) {
+    double[] cumulative = new double[keyCount];
+    double sum = 0;
+    for (int i = 0; i < keyCount; i++) {
+      sum += 1.0 / Math.pow(i + 1, exponent);
+      cumulative[i] = sum;
+    }
+    Random random = new Random(seed);
+    int[] trace = new int[length];
+    for (int i = 0; i < length; i++) {
+      int index = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+      trace[i] = index < 0 ? -index - 1 : index;
+    }
+    return trace;
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares that a {@link CreateImmediately} bean must only be instantiated after all {@link CreateImmediately} beans
+ * of the given types have been instantiated.
+ * <p>
+ * This is relevant if the eager beans are created in parallel (see
+ * {@link org.eclipse.scout.rt.platform.config.PlatformConfigProperties.CreateImmediatelyParallelProperty}). Types
+ * which are not {@link CreateImmediately} beans are ignored, as they are created on first use anyway.
+ */
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface CreateImmediatelyAfter {
+
+  /**
+   * @return the types of the {@link CreateImmediately} beans which must have been created before this bean.
+   */
+  Class<?>[] value();
+}
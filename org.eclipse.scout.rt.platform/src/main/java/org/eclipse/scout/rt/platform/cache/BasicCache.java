@@ -12,16 +12,22 @@ package org.eclipse.scout.rt.platform.cache;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.function.Supplier;
 
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 import org.eclipse.scout.rt.platform.util.collection.AbstractTransactionalMap;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -31,14 +37,20 @@ import org.slf4j.LoggerFactory;
  * Note:
  * <ul>
  * <li>This cache is only thread safe if the provided cacheMap is thread safe.
- * <li>There might be multiple concurrent resolve operations running for the same key unless one is using
- * {@link BoundedResolveCacheWrapper} to limit these operations.
+ * <li>Concurrent misses of the same key are resolved only once: further callers wait for the result of the first
+ * caller, or resolve the value on their own if it fails. This also applies to keys of {@link #getAll(Collection)}. In a
+ * transactional cache, values are not shared with a transaction which invalidated the cache, as they may reflect its
+ * uncommitted changes. Use {@link BoundedResolveCacheWrapper} to limit the number of concurrent resolve operations of
+ * different keys.
+ * <li>Statistics are recorded, which are available by <code>getAdapter(CacheStatistics.class)</code>.
+ * <li>The value resolver is available by <code>getAdapter</code> with its class.
  * </ul>
  *
  * @since 5.2
  */
 public class BasicCache<K, V> implements ICache<K, V> {
   private static final Logger LOG = LoggerFactory.getLogger(BasicCache.class);
+  private static final ThreadLocal<Boolean> RESOLVING = new ThreadLocal<>();
 
   protected final String m_cacheId;
   protected final Supplier<String> m_labelSupplier;
@@ -46,6 +58,9 @@ public class BasicCache<K, V> implements ICache<K, V> {
   protected final Map<K, V> m_cacheMap;
 
   protected final AbstractTransactionalMap<K, ?> m_transactionalMap; // is null if not transactional cache
+  protected final CacheStatistics m_statistics;
+  protected final CacheMetricProvider m_metrics;
+  protected final ConcurrentMap<K, P_PendingResolve<V>> m_pendingResolves = new ConcurrentHashMap<>();
 
   /**
    * @deprecated Use constructor including label supplier as second argument. Label supplier can be retrieved via
@@ -88,6 +103,16 @@ public class BasicCache<K, V> implements ICache<K, V> {
     m_cacheMap = Assertions.assertNotNull(cacheMap);
 
     m_transactionalMap = transactionalMap;
+    m_statistics = createStatistics();
+    m_metrics = BEANS.opt(CacheMetricProvider.class);
+  }
+
+  protected CacheStatistics createStatistics() {
+    if (m_cacheMap instanceof ConcurrentExpiringMap) {
+      ConcurrentExpiringMap<K, V> expiringMap = (ConcurrentExpiringMap<K, V>) m_cacheMap;
+      return new CacheStatistics(m_cacheId, m_cacheMap::size, expiringMap::getEvictionCount);
+    }
+    return new CacheStatistics(m_cacheId, m_cacheMap::size, () -> 0L);
   }
 
   @Override
@@ -121,15 +146,12 @@ public class BasicCache<K, V> implements ICache<K, V> {
       return null;
     }
     V value = m_cacheMap.get(key);
-    if (value == null) {
-      if (m_transactionalMap != null) {
-        m_transactionalMap.getTransactionMember(true); // enforce creation of transaction member before resolve
-      }
-      value = m_resolver.resolve(key);
-      if (value != null) {
-        V alreadySetValue = m_cacheMap.putIfAbsent(key, value);
-        value = alreadySetValue != null ? alreadySetValue : value;
-      }
+    if (value != null) {
+      m_statistics.recordHits(1);
+    }
+    else {
+      m_statistics.recordMisses(1);
+      value = isResolveShareable() ? resolveShared(key) : resolveAndPut(key);
     }
     return value;
   }
@@ -149,15 +171,185 @@ public class BasicCache<K, V> implements ICache<K, V> {
         iterator.remove();
       }
     }
+    m_statistics.recordHits(result.size());
     if (keys.isEmpty()) {
       // all keys could be resolved with cache
       return result;
     }
 
+    m_statistics.recordMisses(keys.size());
+    if (!isResolveShareable()) {
+      result.putAll(resolveAllAndPut(keys));
+      return result;
+    }
+
+    // resolve the keys no concurrent caller is resolving, then wait for the others
+    Map<K, P_PendingResolve<V>> ownResolves = new HashMap<>();
+    Map<K, P_PendingResolve<V>> concurrentResolves = new HashMap<>();
+    int version = getResolveVersion();
+    for (K key : keys) {
+      P_PendingResolve<V> pendingResolve = new P_PendingResolve<>(version);
+      P_PendingResolve<V> concurrentResolve = registerPendingResolve(key, pendingResolve);
+      if (concurrentResolve == null) {
+        ownResolves.put(key, pendingResolve);
+      }
+      else {
+        concurrentResolves.put(key, concurrentResolve);
+      }
+    }
+    if (!ownResolves.isEmpty()) {
+      Map<K, V> resolvedValues = null;
+      try {
+        resolvedValues = resolveAllAndPut(ownResolves.keySet());
+        result.putAll(resolvedValues);
+      }
+      finally {
+        for (Entry<K, P_PendingResolve<V>> entry : ownResolves.entrySet()) {
+          completePendingResolve(entry.getKey(), entry.getValue(), resolvedValues != null, resolvedValues != null ? resolvedValues.get(entry.getKey()) : null);
+        }
+      }
+    }
+    Set<K> failedKeys = new HashSet<>();
+    for (Entry<K, P_PendingResolve<V>> entry : concurrentResolves.entrySet()) {
+      P_PendingResolve<V> pendingResolve = entry.getValue();
+      if (awaitPendingResolve(pendingResolve)) {
+        if (pendingResolve.getValue() != null) {
+          result.put(entry.getKey(), pendingResolve.getValue());
+        }
+      }
+      else {
+        failedKeys.add(entry.getKey());
+      }
+    }
+    m_statistics.recordSharedLoads(concurrentResolves.size() - failedKeys.size());
+    if (!failedKeys.isEmpty()) {
+      result.putAll(resolveAllAndPut(failedKeys));
+    }
+    return result;
+  }
+
+  /**
+   * @return true if a value resolved by this thread may be handed to concurrent callers and vice versa. This is not the
+   *         case if the current transaction modified a transactional cache, or if this thread is resolving a value
+   *         already: waiting for a concurrent resolve within a resolve could result in a deadlock.
+   */
+  protected boolean isResolveShareable() {
+    if (RESOLVING.get() != null) {
+      return false;
+    }
+    return m_transactionalMap == null || !m_transactionalMap.isModifiedInCurrentTransaction();
+  }
+
+  /**
+   * Resolves the value, unless a concurrent caller is resolving it already. In that case, waits for its result, or
+   * resolves the value on its own if the concurrent resolve failed.
+   */
+  protected V resolveShared(K key) {
+    P_PendingResolve<V> pendingResolve = new P_PendingResolve<>(getResolveVersion());
+    P_PendingResolve<V> concurrentResolve = registerPendingResolve(key, pendingResolve);
+    if (concurrentResolve != null) {
+      if (awaitPendingResolve(concurrentResolve)) {
+        m_statistics.recordSharedLoads(1);
+        return concurrentResolve.getValue();
+      }
+      return resolveAndPut(key);
+    }
+
+    boolean success = false;
+    V value = null;
+    try {
+      value = resolveAndPut(key);
+      success = true;
+      return value;
+    }
+    finally {
+      completePendingResolve(key, pendingResolve, success, value);
+    }
+  }
+
+  /**
+   * @return the concurrent resolve of the key to wait for, or <code>null</code> if the given resolve was registered and
+   *         the caller has to resolve the value.
+   */
+  protected P_PendingResolve<V> registerPendingResolve(K key, P_PendingResolve<V> pendingResolve) {
+    while (true) {
+      P_PendingResolve<V> concurrentResolve = m_pendingResolves.putIfAbsent(key, pendingResolve);
+      if (concurrentResolve == null || concurrentResolve.getVersion() == pendingResolve.getVersion()) {
+        return concurrentResolve;
+      }
+      // the concurrent resolve started before an invalidation was committed, so its value may be outdated
+      if (m_pendingResolves.replace(key, concurrentResolve, pendingResolve)) {
+        return null;
+      }
+    }
+  }
+
+  /**
+   * @return the version of a transactional cache, which changes with the commit of each invalidation.
+   */
+  protected int getResolveVersion() {
+    return m_transactionalMap != null ? m_transactionalMap.getInsertVersion() : 0;
+  }
+
+  protected void completePendingResolve(K key, P_PendingResolve<V> pendingResolve, boolean success, V value) {
+    m_pendingResolves.remove(key, pendingResolve);
+    pendingResolve.complete(success, value);
+  }
+
+  /**
+   * @return true if the concurrent resolve succeeded, false if it failed.
+   */
+  protected boolean awaitPendingResolve(P_PendingResolve<V> pendingResolve) {
+    try {
+      return pendingResolve.await();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ThreadInterruptedError("Interrupted while waiting for a concurrent resolve of cache '{}'", m_cacheId, e);
+    }
+  }
+
+  protected V resolveAndPut(K key) {
     if (m_transactionalMap != null) {
       m_transactionalMap.getTransactionMember(true); // enforce creation of transaction member before resolve
     }
-    Map<K, V> resolvedValues = m_resolver.resolveAll(keys);
+    long start = System.nanoTime();
+    boolean success = false;
+    V value;
+    Boolean resolving = RESOLVING.get();
+    RESOLVING.set(Boolean.TRUE);
+    try {
+      value = m_resolver.resolve(key);
+      success = true;
+    }
+    finally {
+      RESOLVING.set(resolving);
+      recordLoad(success, System.nanoTime() - start);
+    }
+    if (value != null) {
+      V alreadySetValue = m_cacheMap.putIfAbsent(key, value);
+      value = alreadySetValue != null ? alreadySetValue : value;
+    }
+    return value;
+  }
+
+  protected Map<K, V> resolveAllAndPut(Set<K> keys) {
+    if (m_transactionalMap != null) {
+      m_transactionalMap.getTransactionMember(true); // enforce creation of transaction member before resolve
+    }
+    long start = System.nanoTime();
+    boolean success = false;
+    Map<K, V> resolvedValues;
+    Boolean resolving = RESOLVING.get();
+    RESOLVING.set(Boolean.TRUE);
+    try {
+      resolvedValues = m_resolver.resolveAll(keys);
+      success = true;
+    }
+    finally {
+      RESOLVING.set(resolving);
+      recordLoad(success, System.nanoTime() - start);
+    }
     for (Iterator<Entry<K, V>> iterator = resolvedValues.entrySet().iterator(); iterator.hasNext();) {
       Entry<K, V> entry = iterator.next();
       // remove any null values from the resolved values map
@@ -171,13 +363,13 @@ public class BasicCache<K, V> implements ICache<K, V> {
         }
       }
     }
-    result.putAll(resolvedValues);
-    return result;
+    return resolvedValues;
   }
 
   @Override
   public void invalidate(ICacheEntryFilter<K, V> filter, boolean propagate) {
     LOG.debug("Invalidate cache '{}' [propagate={}, filter={}]", m_cacheId, propagate, filter);
+    m_statistics.recordInvalidation();
 
     if (filter instanceof AllCacheEntryFilter) {
       m_cacheMap.clear();
@@ -192,13 +384,77 @@ public class BasicCache<K, V> implements ICache<K, V> {
       m_cacheMap.entrySet().removeIf(entry -> filter.accept(entry.getKey(), entry.getValue()));
     }
 
+    // callers after the invalidation must not get values of resolve operations started before
+    if (filter instanceof KeyCacheEntryFilter) {
+      for (K key : ((KeyCacheEntryFilter<K, V>) filter).getKeys()) {
+        m_pendingResolves.remove(key);
+      }
+    }
+    else if (filter != null) {
+      m_pendingResolves.clear();
+    }
+
     if (m_transactionalMap != null) {
       m_transactionalMap.markInsertsDirty();
     }
   }
 
+  protected void recordLoad(boolean success, long durationNanos) {
+    if (success) {
+      m_statistics.recordLoadSuccess(durationNanos);
+    }
+    else {
+      m_statistics.recordLoadFailure(durationNanos);
+    }
+    if (m_metrics != null) {
+      m_metrics.valueLoaded(m_cacheId, success, durationNanos);
+    }
+  }
+
   @Override
   public <T> T getAdapter(Class<T> clazz) {
+    if (clazz == CacheStatistics.class) {
+      return clazz.cast(m_statistics);
+    }
+    if (clazz.isInstance(m_resolver)) {
+      return clazz.cast(m_resolver);
+    }
     return null;
   }
+
+  /**
+   * Result of a resolve operation which concurrent callers of the same key wait for.
+   */
+  protected static class P_PendingResolve<V> {
+    private final int m_version;
+    private final CountDownLatch m_done = new CountDownLatch(1);
+    private volatile boolean m_success;
+    private volatile V m_value;
+
+    protected P_PendingResolve(int version) {
+      m_version = version;
+    }
+
+    protected int getVersion() {
+      return m_version;
+    }
+
+    protected void complete(boolean success, V value) {
+      m_success = success;
+      m_value = value;
+      m_done.countDown();
+    }
+
+    /**
+     * @return true if the resolve succeeded, false if it failed.
+     */
+    protected boolean await() throws InterruptedException {
+      m_done.await();
+      return m_success;
+    }
+
+    protected V getValue() {
+      return m_value;
+    }
+  }
 }
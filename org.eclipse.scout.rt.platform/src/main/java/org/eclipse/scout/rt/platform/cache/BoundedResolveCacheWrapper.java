@@ -26,16 +26,19 @@ import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
  */
 public class BoundedResolveCacheWrapper<K, V> extends AbstractCacheWrapper<K, V> {
   private final Semaphore m_semaphore;
+  private final CacheStatistics m_statistics;
 
   public BoundedResolveCacheWrapper(ICache<K, V> delegate, int maximumResolves) {
     super(delegate);
     m_semaphore = new Semaphore(maximumResolves);
+    m_statistics = delegate.getAdapter(CacheStatistics.class);
   }
 
   @Override
   public V get(K key) {
     V value = getCachedValue(key);
     if (value != null) {
+      recordHits(1);
       return value;
     }
     try {
@@ -66,6 +69,7 @@ public class BoundedResolveCacheWrapper<K, V> extends AbstractCacheWrapper<K, V>
       result.put(key, value);
     }
     if (result.size() == keys.size()) {
+      recordHits(result.size());
       return result;
     }
     try {
@@ -83,4 +87,11 @@ public class BoundedResolveCacheWrapper<K, V> extends AbstractCacheWrapper<K, V>
       m_semaphore.release();
     }
   }
+
+  protected void recordHits(int count) {
+    // hits answered by this wrapper do not reach the delegate
+    if (m_statistics != null) {
+      m_statistics.recordHits(count);
+    }
+  }
 }
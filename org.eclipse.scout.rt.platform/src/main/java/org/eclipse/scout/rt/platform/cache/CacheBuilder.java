@@ -21,11 +21,13 @@ import java.util.function.Supplier;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.BeanUtility;
 import org.eclipse.scout.rt.platform.util.NumberUtility;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
 import org.eclipse.scout.rt.platform.util.collection.ConcurrentTransactionalMap;
 import org.eclipse.scout.rt.platform.util.collection.CopyOnWriteTransactionalMap;
+import org.eclipse.scout.rt.platform.util.collection.TinyLfuEvictionPolicy;
 
 /**
  * @since 5.2
@@ -48,7 +50,11 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
   private Long m_timeToLive;
   private boolean m_touchOnGet;
   private Integer m_sizeBound;
+  private CacheEvictionPolicy m_evictionPolicy;
   private Integer m_maxConcurrentResolve;
+  private Long m_refreshAfter;
+  private boolean m_staleWhileRevalidate;
+  private String m_snapshotVersion;
   private boolean m_throwIfExists;
   private boolean m_replaceIfExists;
 
@@ -58,6 +64,7 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     m_threadSafe = true;
     m_throwIfExists = true;
     m_replaceIfExists = false;
+    m_evictionPolicy = CacheEvictionPolicy.LRU;
   }
 
   @Override
@@ -70,6 +77,7 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     cache = addBeforeCustomWrappers(cache);
     cache = addCustomWrappers(cache);
     cache = addAfterCustomWrappers(cache);
+    preloadSnapshot(cache);
     if (isReplaceIfExists()) {
       registerAndReplace(cache);
       return cache;
@@ -93,10 +101,20 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     BEANS.get(ICacheRegistryService.class).register(cache);
   }
 
+  protected void preloadSnapshot(ICache<K, V> cache) {
+    if (getSnapshotVersion() != null) {
+      BEANS.get(CacheSnapshotService.class).preload(cache);
+    }
+  }
+
   protected Map<K, V> createCacheMap() {
     if (!isCreateExpiringMap() && isTransactional() && (isSingleton() || !isTransactionalFastForward())) {
       return new CopyOnWriteTransactionalMap<>(getCacheId(), isTransactionalFastForward());
     }
+    else if (isCreateExpiringMap() && getSizeBound() != null && getEvictionPolicy() == CacheEvictionPolicy.TINY_LFU) {
+      long timeToLive = NumberUtility.nvl(getTimeToLive(), -1L);
+      return new ConcurrentExpiringMap<>(createConcurrentMap(), timeToLive, isTouchOnGet(), new TinyLfuEvictionPolicy<K>(getSizeBound()));
+    }
     else if (isCreateExpiringMap()) {
       boolean touchOnGet = isTouchOnGet() || getSizeBound() != null;
       long timeToLive = NumberUtility.nvl(getTimeToLive(), -1L);
@@ -123,13 +141,39 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
   }
 
   protected ICache<K, V> createBasicCache(Map<K, V> cacheMap) {
-    return new BasicCache<>(getCacheId(), getLabelSupplier(), getValueResolver(), cacheMap);
+    return new BasicCache<>(getCacheId(), getLabelSupplier(), createValueResolver(), cacheMap);
+  }
+
+  /**
+   * @return the value resolver of this builder, which answers the keys of a snapshot first if
+   *         {@link #withSnapshot(String)} is set.
+   */
+  protected ICacheValueResolver<K, V> createValueResolver() {
+    ICacheValueResolver<K, V> valueResolver = getValueResolver();
+    if (getSnapshotVersion() != null) {
+      valueResolver = BEANS.get(CacheSnapshotService.class).wrapValueResolver(getCacheId(), getSnapshotVersion(), valueResolver);
+    }
+    return wrapRefreshValueResolver(valueResolver);
+  }
+
+  /**
+   * @return the given value resolver, wrapped for the {@link RefreshAheadCacheWrapper} if
+   *         {@link #withRefreshAhead(Long, TimeUnit, boolean)} is set.
+   */
+  protected ICacheValueResolver<K, V> wrapRefreshValueResolver(ICacheValueResolver<K, V> valueResolver) {
+    if (getRefreshAfter() != null) {
+      return RefreshAheadCacheWrapper.wrapValueResolver(valueResolver);
+    }
+    return valueResolver;
   }
 
   protected ICache<K, V> addBeforeCustomWrappers(ICache<K, V> cache) {
     if (getMaxConcurrentResolve() != null) {
       cache = new BoundedResolveCacheWrapper<>(cache, getMaxConcurrentResolve());
     }
+    if (getRefreshAfter() != null) {
+      cache = new RefreshAheadCacheWrapper<>(cache, getRefreshAfter(), isStaleWhileRevalidate());
+    }
     return cache;
   }
 
@@ -313,6 +357,16 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     return m_sizeBound;
   }
 
+  @Override
+  public CacheBuilder<K, V> withEvictionPolicy(CacheEvictionPolicy evictionPolicy) {
+    m_evictionPolicy = Assertions.assertNotNull(evictionPolicy, "evictionPolicy must not be null");
+    return this;
+  }
+
+  public CacheEvictionPolicy getEvictionPolicy() {
+    return m_evictionPolicy;
+  }
+
   @Override
   public CacheBuilder<K, V> withMaxConcurrentResolve(Integer maxConcurrentResolve) {
     if (maxConcurrentResolve != null && maxConcurrentResolve < 0) {
@@ -326,6 +380,42 @@ public class CacheBuilder<K, V> implements ICacheBuilder<K, V> {
     return m_maxConcurrentResolve;
   }
 
+  @Override
+  public CacheBuilder<K, V> withRefreshAhead(Long refreshAfterDuration, TimeUnit refreshAfterUnit, boolean staleWhileRevalidate) {
+    if (refreshAfterDuration == null || refreshAfterUnit == null) {
+      m_refreshAfter = null;
+    }
+    else {
+      if (refreshAfterDuration <= 0L) {
+        throw new IllegalArgumentException("refreshAfterDuration must be greater than zero");
+      }
+      m_refreshAfter = refreshAfterUnit.toMillis(refreshAfterDuration);
+      m_staleWhileRevalidate = staleWhileRevalidate;
+    }
+    return this;
+  }
+
+  /**
+   * @return refresh after duration in milliseconds
+   */
+  public Long getRefreshAfter() {
+    return m_refreshAfter;
+  }
+
+  public boolean isStaleWhileRevalidate() {
+    return m_staleWhileRevalidate;
+  }
+
+  @Override
+  public CacheBuilder<K, V> withSnapshot(String snapshotVersion) {
+    m_snapshotVersion = snapshotVersion;
+    return this;
+  }
+
+  public String getSnapshotVersion() {
+    return m_snapshotVersion;
+  }
+
   @Override
   public CacheBuilder<K, V> withAdditionalCustomWrapper(Class<? extends ICache> cacheClass, Object... arguments) {
     if (cacheClass != null) {
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+import org.eclipse.scout.rt.platform.util.collection.TinyLfuEvictionPolicy;
+
+/**
+ * Policy to evict values from a cache with a size bound.
+ *
+ * @see ICacheBuilder#withEvictionPolicy(CacheEvictionPolicy)
+ * @since 24.2
+ */
+public enum CacheEvictionPolicy {
+  /**
+   * Least recently used values are evicted once the cache grows beyond 1.5 times its size bound (see
+   * {@link ConcurrentExpiringMap}). This is the default policy.
+   */
+  LRU,
+  /**
+   * Rarely used values are evicted as soon as the cache reaches its size bound (see {@link TinyLfuEvictionPolicy}).
+   * Yields better hit rates than {@link #LRU} for most workloads, in particular for workloads with scans over many
+   * values used only once, and evicts in constant time.
+   */
+  TINY_LFU
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.opentelemetry.AttributesCache;
+import org.eclipse.scout.rt.platform.opentelemetry.IMetricProvider;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.BatchCallback;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * {@link IMetricProvider} for the caches registered in the {@link ICacheRegistryService}, based on their
+ * {@link CacheStatistics}:
+ * <ul>
+ * <li>number of hits and misses</li>
+ * <li>number of successful and failed loads, and load duration</li>
+ * <li>number of evictions</li>
+ * <li>number of local and remote invalidations</li>
+ * <li>number of background refreshes and of reads answered with a previous value meanwhile</li>
+ * <li>number of cached values</li>
+ * </ul>
+ * <p>
+ * As long as this provider is not registered (e.g. no OpenTelemetry SDK is available), the recording methods do
+ * nothing.
+ * </p>
+ *
+ * @since 24.2
+ */
+public class CacheMetricProvider implements IMetricProvider {
+
+  protected static final AttributeKey<String> CACHE_ID = AttributeKey.stringKey("cache.id");
+  protected static final AttributeKey<String> RESULT = AttributeKey.stringKey("result");
+  protected static final AttributeKey<String> ORIGIN = AttributeKey.stringKey("origin");
+
+  private final AttributesCache<String, String> m_resultAttributes = AttributesCache.of(64, 2, (cacheId, result) -> Attributes.of(CACHE_ID, cacheId, RESULT, result));
+  private final AttributesCache<String, String> m_originAttributes = AttributesCache.of(64, 2, (cacheId, origin) -> Attributes.of(CACHE_ID, cacheId, ORIGIN, origin));
+  private final AttributesCache<String, String> m_cacheAttributes = AttributesCache.of(64, 1, (cacheId, unused) -> Attributes.of(CACHE_ID, cacheId));
+  private volatile P_Instruments m_instruments;
+
+  @Override
+  public void register(OpenTelemetry openTelemetry) {
+    Meter meter = openTelemetry.getMeter(getClass().getName());
+    m_instruments = new P_Instruments(meter);
+  }
+
+  @Override
+  public void close() {
+    P_Instruments instruments = m_instruments;
+    m_instruments = null;
+    if (instruments != null) {
+      instruments.close();
+    }
+  }
+
+  /**
+   * Records the duration of a call to the {@link ICacheValueResolver} of a cache.
+   */
+  public void valueLoaded(String cacheId, boolean success, long durationNanos) {
+    P_Instruments instruments = m_instruments;
+    if (instruments == null) {
+      return;
+    }
+    instruments.m_loadDuration.record(durationNanos / (double) TimeUnit.MILLISECONDS.toNanos(1), m_resultAttributes.getOrCreate(cacheId, success ? "success" : "failure"));
+  }
+
+  /**
+   * Observes the statistics of all registered caches. Invoked by OpenTelemetry upon metrics export.
+   */
+  protected void observe(ObservableLongMeasurement requests, ObservableLongMeasurement loads, ObservableLongMeasurement evictions, ObservableLongMeasurement invalidations, ObservableLongMeasurement refreshes,
+      ObservableLongMeasurement staleReads, ObservableLongMeasurement size) {
+    ICacheRegistryService registry = BEANS.opt(ICacheRegistryService.class);
+    if (registry == null) {
+      return;
+    }
+    for (CacheStatistics statistics : registry.getStatistics().values()) {
+      String cacheId = statistics.getCacheId();
+      requests.record(statistics.getHitCount(), m_resultAttributes.getOrCreate(cacheId, "hit"));
+      requests.record(statistics.getMissCount(), m_resultAttributes.getOrCreate(cacheId, "miss"));
+      loads.record(statistics.getLoadSuccessCount(), m_resultAttributes.getOrCreate(cacheId, "success"));
+      loads.record(statistics.getLoadFailureCount(), m_resultAttributes.getOrCreate(cacheId, "failure"));
+      long remoteInvalidations = statistics.getRemoteInvalidationCount();
+      invalidations.record(Math.max(0, statistics.getInvalidationCount() - remoteInvalidations), m_originAttributes.getOrCreate(cacheId, "local"));
+      invalidations.record(remoteInvalidations, m_originAttributes.getOrCreate(cacheId, "remote"));
+      refreshes.record(statistics.getRefreshSuccessCount(), m_resultAttributes.getOrCreate(cacheId, "success"));
+      refreshes.record(statistics.getRefreshFailureCount(), m_resultAttributes.getOrCreate(cacheId, "failure"));
+      refreshes.record(statistics.getRefreshDroppedCount(), m_resultAttributes.getOrCreate(cacheId, "dropped"));
+      Attributes cacheAttributes = m_cacheAttributes.getOrCreate(cacheId, "");
+      staleReads.record(statistics.getStaleReadCount(), cacheAttributes);
+      evictions.record(statistics.getEvictionCount(), cacheAttributes);
+      size.record(statistics.getSize(), cacheAttributes);
+    }
+  }
+
+  protected class P_Instruments {
+
+    protected final DoubleHistogram m_loadDuration;
+    protected final BatchCallback m_observer;
+
+    protected P_Instruments(Meter meter) {
+      m_loadDuration = meter.histogramBuilder("scout.cache.load.duration")
+          .setDescription("The duration of a call to the value resolver of a cache.")
+          .setUnit("ms")
+          .build();
+
+      ObservableLongMeasurement requests = meter.counterBuilder("scout.cache.requests")
+          .setDescription("The number of cache lookups, by result hit or miss.")
+          .setUnit("{request}")
+          .buildObserver();
+      ObservableLongMeasurement loads = meter.counterBuilder("scout.cache.loads")
+          .setDescription("The number of calls to the value resolver of a cache, by result success or failure.")
+          .setUnit("{load}")
+          .buildObserver();
+      ObservableLongMeasurement evictions = meter.counterBuilder("scout.cache.evictions")
+          .setDescription("The number of values evicted from a cache because of its size bound or time to live.")
+          .setUnit("{value}")
+          .buildObserver();
+      ObservableLongMeasurement invalidations = meter.counterBuilder("scout.cache.invalidations")
+          .setDescription("The number of cache invalidations, by origin local or remote (cluster or server notification).")
+          .setUnit("{invalidation}")
+          .buildObserver();
+      ObservableLongMeasurement refreshes = meter.counterBuilder("scout.cache.refreshes")
+          .setDescription("The number of values reloaded in the background, by result success, failure or dropped (refresh queue full).")
+          .setUnit("{refresh}")
+          .buildObserver();
+      ObservableLongMeasurement staleReads = meter.counterBuilder("scout.cache.stale.reads")
+          .setDescription("The number of cache lookups answered with a previous value while the value is reloaded in the background.")
+          .setUnit("{request}")
+          .buildObserver();
+      ObservableLongMeasurement size = meter.upDownCounterBuilder("scout.cache.size")
+          .setDescription("The number of values in a cache.")
+          .setUnit("{value}")
+          .buildObserver();
+      m_observer = meter.batchCallback(() -> observe(requests, loads, evictions, invalidations, refreshes, staleReads, size), requests, loads, evictions, invalidations, refreshes, staleReads, size);
+    }
+
+    protected void close() {
+      m_observer.close();
+    }
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.CacheRefreshMaxConcurrentProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.CacheRefreshQueueCapacityProperty;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.context.RunMonitor;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.JobPriority;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
+import org.eclipse.scout.rt.platform.util.concurrent.IRunnable;
+
+/**
+ * Runs the background refreshes of all caches built with
+ * {@link ICacheBuilder#withRefreshAhead(Long, java.util.concurrent.TimeUnit, boolean)}.
+ * <p>
+ * At most {@link CacheRefreshMaxConcurrentProperty} refreshes run concurrently as jobs of priority
+ * {@link JobPriority#BACKGROUND}. At most {@link CacheRefreshQueueCapacityProperty} further refreshes are queued;
+ * further refreshes are dropped, so that a burst of stale values does not flood the job manager.
+ *
+ * @since 24.2
+ */
+@ApplicationScoped
+public class CacheRefreshExecutor {
+
+  private final IExecutionSemaphore m_semaphore;
+  private final int m_queueCapacity;
+  private final AtomicInteger m_pendingCount = new AtomicInteger();
+
+  public CacheRefreshExecutor() {
+    m_semaphore = Jobs.newExecutionSemaphore(CONFIG.getPropertyValue(CacheRefreshMaxConcurrentProperty.class));
+    m_queueCapacity = CONFIG.getPropertyValue(CacheRefreshQueueCapacityProperty.class);
+  }
+
+  /**
+   * Schedules the given refresh operation unless the refresh queue is full.
+   *
+   * @return <code>true</code> if the refresh was scheduled, <code>false</code> if it was dropped.
+   */
+  public boolean schedule(String cacheId, IRunnable refresh) {
+    int maxPendingCount = m_queueCapacity + m_semaphore.getPermits();
+    if (m_pendingCount.incrementAndGet() > maxPendingCount) {
+      m_pendingCount.decrementAndGet();
+      return false;
+    }
+    try {
+      Jobs.schedule(refresh, Jobs.newInput()
+          .withName("Refreshing value of cache {}", cacheId)
+          .withRunContext(createRunContext())
+          .withExecutionSemaphore(m_semaphore)
+          .withPriority(JobPriority.BACKGROUND))
+          .whenDone(event -> m_pendingCount.decrementAndGet(), null);
+    }
+    catch (RuntimeException e) {
+      m_pendingCount.decrementAndGet();
+      throw e;
+    }
+    return true;
+  }
+
+  /**
+   * @return the number of refreshes scheduled which did not complete yet.
+   */
+  public int getPendingCount() {
+    return m_pendingCount.get();
+  }
+
+  /**
+   * The refresh runs in a new transaction and does not depend on the run monitor of the caller which triggered it.
+   */
+  protected RunContext createRunContext() {
+    return RunContexts.copyCurrent(true)
+        .withRunMonitor(BEANS.get(RunMonitor.class))
+        .withTransactionScope(TransactionScope.REQUIRES_NEW);
+  }
+}
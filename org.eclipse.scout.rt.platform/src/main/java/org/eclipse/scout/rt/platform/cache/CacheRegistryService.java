@@ -10,6 +10,7 @@
 package org.eclipse.scout.rt.platform.cache;
 
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.scout.rt.platform.util.Assertions;
@@ -50,6 +51,18 @@ public class CacheRegistryService implements ICacheRegistryService {
     return getMap().get(cacheId);
   }
 
+  @Override
+  public Map<String, CacheStatistics> getStatistics() {
+    Map<String, CacheStatistics> statistics = new TreeMap<>();
+    for (ICache<?, ?> cache : getMap().values()) {
+      CacheStatistics cacheStatistics = cache.getAdapter(CacheStatistics.class);
+      if (cacheStatistics != null) {
+        statistics.put(cache.getCacheId(), cacheStatistics);
+      }
+    }
+    return statistics;
+  }
+
   protected Map<String, ICache> getMap() {
     return m_map;
   }
@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IPlatform.State;
+import org.eclipse.scout.rt.platform.IPlatformListener;
+import org.eclipse.scout.rt.platform.PlatformEvent;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.CacheSnapshotDirectoryProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.CacheSnapshotMaxAgeProperty;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.serialization.IObjectSerializer;
+import org.eclipse.scout.rt.platform.serialization.SerializationUtility;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes the values of caches built with {@link ICacheBuilder#withSnapshot(String)} to snapshot files on shutdown and
+ * preloads them when the caches are built after the next startup. Snapshots are only used if
+ * {@link CacheSnapshotDirectoryProperty} is set.
+ * <p>
+ * A snapshot is read once: the file is deleted when the cache is built, so that a snapshot never survives a restart
+ * without shutdown. Snapshots of another cache version, older than {@link CacheSnapshotMaxAgeProperty} or which cannot
+ * be read are discarded.
+ * <p>
+ * Preloading passes the snapshot keys to {@link ICache#getAll(java.util.Collection)} with a value resolver answering
+ * them from the snapshot. Values are therefore put into the cache like resolved values, including transactional and
+ * time to live handling.
+ * <p>
+ * File layout: magic, format version, cache id, cache version, creation time, followed by the gzip compressed cache
+ * entries serialized with {@link SerializationUtility#createObjectSerializer()}.
+ *
+ * @since 24.2
+ */
+@ApplicationScoped
+public class CacheSnapshotService {
+  private static final Logger LOG = LoggerFactory.getLogger(CacheSnapshotService.class);
+
+  protected static final int MAGIC = 0x53435343; // "SCSC"
+  protected static final int FORMAT_VERSION = 1;
+
+  private final Map<String, String> m_snapshotVersions = new ConcurrentHashMap<>();
+  private final Map<String, P_SnapshotValueResolver<?, ?>> m_pendingPreloads = new ConcurrentHashMap<>();
+
+  /**
+   * @return true if a snapshot directory is configured.
+   */
+  public boolean isEnabled() {
+    return getSnapshotDirectory() != null;
+  }
+
+  /**
+   * Registers the cache to be written to a snapshot on shutdown and reads its snapshot, if any.
+   *
+   * @return a value resolver answering the keys of the snapshot first, or the given resolver if there is no valid
+   *         snapshot.
+   */
+  public <K, V> ICacheValueResolver<K, V> wrapValueResolver(String cacheId, String snapshotVersion, ICacheValueResolver<K, V> resolver) {
+    if (!isEnabled()) {
+      return resolver;
+    }
+    m_snapshotVersions.put(cacheId, snapshotVersion);
+    Map<K, V> entries = readSnapshot(cacheId, snapshotVersion);
+    if (entries == null || entries.isEmpty()) {
+      m_pendingPreloads.remove(cacheId);
+      return resolver;
+    }
+    P_SnapshotValueResolver<K, V> snapshotResolver = new P_SnapshotValueResolver<>(resolver, entries);
+    m_pendingPreloads.put(cacheId, snapshotResolver);
+    return snapshotResolver;
+  }
+
+  /**
+   * Preloads the snapshot read by {@link #wrapValueResolver(String, String, ICacheValueResolver)} into the given cache.
+   * Errors are logged but not propagated, the values are resolved on access in that case.
+   */
+  public <K, V> void preload(ICache<K, V> cache) {
+    @SuppressWarnings("unchecked")
+    P_SnapshotValueResolver<K, V> snapshotResolver = (P_SnapshotValueResolver<K, V>) m_pendingPreloads.remove(cache.getCacheId());
+    if (snapshotResolver == null) {
+      return;
+    }
+    try {
+      Set<K> keys = snapshotResolver.getSnapshotKeys();
+      RunContexts.copyCurrent(true)
+          .withTransactionScope(TransactionScope.REQUIRES_NEW)
+          .run(() -> cache.getAll(keys));
+      LOG.info("Preloaded {} values of cache '{}' from snapshot", keys.size(), cache.getCacheId());
+    }
+    catch (Exception e) {
+      LOG.warn("Error while preloading cache '{}' from snapshot", cache.getCacheId(), e);
+    }
+    finally {
+      // values are only taken from the snapshot while preloading, later misses are resolved
+      snapshotResolver.discardSnapshot();
+    }
+  }
+
+  /**
+   * Writes the snapshots of all registered caches.
+   */
+  public void writeSnapshots() {
+    if (!isEnabled()) {
+      return;
+    }
+    ICacheRegistryService registry = BEANS.get(ICacheRegistryService.class);
+    for (Entry<String, String> entry : m_snapshotVersions.entrySet()) {
+      ICache<Object, Object> cache = registry.opt(entry.getKey());
+      if (cache != null) {
+        writeSnapshot(cache, entry.getValue());
+      }
+    }
+  }
+
+  /**
+   * Writes the current values of the given cache to its snapshot file. The file is first written to a temporary file
+   * and then atomically moved. Errors are logged but not propagated as the snapshot is an optimization only.
+   */
+  public void writeSnapshot(ICache<?, ?> cache, String snapshotVersion) {
+    Path file = getSnapshotFile(cache.getCacheId());
+    try {
+      HashMap<Object, Object> entries = new HashMap<>();
+      for (Entry<?, ?> entry : cache.getUnmodifiableMap().entrySet()) {
+        if (entry.getKey() != null && entry.getValue() != null) {
+          entries.put(entry.getKey(), entry.getValue());
+        }
+      }
+      Path dir = file.toAbsolutePath().getParent();
+      Files.createDirectories(dir);
+      File tmp = File.createTempFile("cache-snapshot", ".tmp", dir.toFile());
+      try {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp.toPath())))) {
+          out.writeInt(MAGIC);
+          out.writeInt(FORMAT_VERSION);
+          out.writeUTF(cache.getCacheId());
+          out.writeUTF(snapshotVersion);
+          out.writeLong(System.currentTimeMillis());
+          out.flush();
+          try (OutputStream gzip = new GZIPOutputStream(out)) {
+            createObjectSerializer().serialize(gzip, entries);
+          }
+        }
+        Files.move(tmp.toPath(), file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      }
+      finally {
+        Files.deleteIfExists(tmp.toPath());
+      }
+      LOG.info("Wrote snapshot '{}' of cache '{}' containing {} values", file, cache.getCacheId(), entries.size());
+    }
+    catch (Exception e) {
+      LOG.warn("Error while writing snapshot '{}' of cache '{}'", file, cache.getCacheId(), e);
+    }
+  }
+
+  /**
+   * Reads and deletes the snapshot file of the given cache.
+   *
+   * @return the entries of the snapshot or {@code null} if there is no snapshot file or if it is not valid.
+   */
+  @SuppressWarnings("unchecked")
+  protected <K, V> Map<K, V> readSnapshot(String cacheId, String snapshotVersion) {
+    Path file = getSnapshotFile(cacheId);
+    if (!Files.isRegularFile(file)) {
+      return null;
+    }
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+      if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION || !cacheId.equals(in.readUTF())) {
+        LOG.info("Ignore snapshot '{}' of cache '{}'. Unknown format.", file, cacheId);
+        return null;
+      }
+      if (!snapshotVersion.equals(in.readUTF())) {
+        LOG.info("Ignore outdated snapshot '{}' of cache '{}'. Cache version has changed.", file, cacheId);
+        return null;
+      }
+      long age = System.currentTimeMillis() - in.readLong();
+      if (age < 0 || age > getMaxAgeMillis()) {
+        LOG.info("Ignore outdated snapshot '{}' of cache '{}'. Snapshot is {}s old.", file, cacheId, TimeUnit.MILLISECONDS.toSeconds(age));
+        return null;
+      }
+      try (InputStream gzip = new GZIPInputStream(in)) {
+        return createObjectSerializer().deserialize(gzip, HashMap.class);
+      }
+    }
+    catch (Exception e) {
+      LOG.warn("Error while reading snapshot '{}' of cache '{}'", file, cacheId, e);
+      return null;
+    }
+    finally {
+      deleteSnapshotFile(file);
+    }
+  }
+
+  protected void deleteSnapshotFile(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    }
+    catch (Exception e) {
+      LOG.warn("Could not delete snapshot '{}'", file, e);
+    }
+  }
+
+  protected Path getSnapshotFile(String cacheId) {
+    return getSnapshotDirectory().resolve(cacheId.replaceAll("[^\\w.-]", "_") + ".snapshot");
+  }
+
+  protected Path getSnapshotDirectory() {
+    return CONFIG.getPropertyValue(CacheSnapshotDirectoryProperty.class);
+  }
+
+  protected long getMaxAgeMillis() {
+    return TimeUnit.SECONDS.toMillis(CONFIG.getPropertyValue(CacheSnapshotMaxAgeProperty.class));
+  }
+
+  protected IObjectSerializer createObjectSerializer() {
+    return SerializationUtility.createObjectSerializer();
+  }
+
+  /**
+   * Answers the keys of a snapshot from the snapshot, other keys from the cache value resolver.
+   */
+  protected static class P_SnapshotValueResolver<K, V> implements ICacheValueResolver<K, V> {
+    private final ICacheValueResolver<K, V> m_delegate;
+    private final Map<K, V> m_snapshot;
+
+    protected P_SnapshotValueResolver(ICacheValueResolver<K, V> delegate, Map<K, V> snapshot) {
+      m_delegate = delegate;
+      m_snapshot = new ConcurrentHashMap<>(snapshot);
+    }
+
+    protected Set<K> getSnapshotKeys() {
+      return new HashSet<>(m_snapshot.keySet());
+    }
+
+    protected void discardSnapshot() {
+      m_snapshot.clear();
+    }
+
+    @Override
+    public V resolve(K key) {
+      V value = m_snapshot.remove(key);
+      return value != null ? value : m_delegate.resolve(key);
+    }
+
+    @Override
+    public Map<K, V> resolveAll(Set<K> keys) {
+      Map<K, V> result = new HashMap<>();
+      Set<K> missingKeys = new HashSet<>();
+      for (K key : keys) {
+        V value = m_snapshot.remove(key);
+        if (value != null) {
+          result.put(key, value);
+        }
+        else {
+          missingKeys.add(key);
+        }
+      }
+      if (!missingKeys.isEmpty()) {
+        result.putAll(m_delegate.resolveAll(missingKeys));
+      }
+      return result;
+    }
+  }
+
+  /**
+   * {@link IPlatformListener} to write the cache snapshots upon platform shutdown.
+   */
+  public static class PlatformListener implements IPlatformListener {
+
+    @Override
+    public void stateChanged(PlatformEvent event) {
+      if (event.getState() == State.PlatformStopping) {
+        BEANS.get(CacheSnapshotService.class).writeSnapshots();
+      }
+    }
+  }
+}
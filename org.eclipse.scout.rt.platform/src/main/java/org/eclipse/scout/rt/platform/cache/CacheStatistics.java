@@ -0,0 +1,231 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.eclipse.scout.rt.platform.util.collection.ConcurrentExpiringMap;
+
+/**
+ * Statistics of an {@link ICache}. All counts are cumulative since the creation of the cache.
+ * <p>
+ * The statistics of a cache are available by <code>cache.getAdapter(CacheStatistics.class)</code>, and for all
+ * registered caches by {@link ICacheRegistryService#getStatistics()}. The recording methods are thread-safe and cheap
+ * enough to be called on every cache access.
+ *
+ * @since 24.2
+ */
+public class CacheStatistics {
+
+  private final String m_cacheId;
+  private final LongSupplier m_sizeSupplier;
+  private final LongSupplier m_evictionCountSupplier;
+
+  private final LongAdder m_hitCount = new LongAdder();
+  private final LongAdder m_missCount = new LongAdder();
+  private final LongAdder m_loadSuccessCount = new LongAdder();
+  private final LongAdder m_loadFailureCount = new LongAdder();
+  private final LongAdder m_totalLoadTimeNanos = new LongAdder();
+  private final LongAdder m_sharedLoadCount = new LongAdder();
+  private final LongAdder m_invalidationCount = new LongAdder();
+  private final LongAdder m_remoteInvalidationCount = new LongAdder();
+  private final LongAdder m_propagatedInvalidationCount = new LongAdder();
+  private final LongAdder m_refreshSuccessCount = new LongAdder();
+  private final LongAdder m_refreshFailureCount = new LongAdder();
+  private final LongAdder m_refreshDroppedCount = new LongAdder();
+  private final LongAdder m_staleReadCount = new LongAdder();
+
+  /**
+   * @param sizeSupplier
+   *          supplies the current number of cached values.
+   * @param evictionCountSupplier
+   *          supplies the number of values evicted so far, e.g. {@link ConcurrentExpiringMap#getEvictionCount()}.
+   */
+  public CacheStatistics(String cacheId, LongSupplier sizeSupplier, LongSupplier evictionCountSupplier) {
+    m_cacheId = cacheId;
+    m_sizeSupplier = sizeSupplier;
+    m_evictionCountSupplier = evictionCountSupplier;
+  }
+
+  public void recordHits(int count) {
+    m_hitCount.add(count);
+  }
+
+  public void recordMisses(int count) {
+    m_missCount.add(count);
+  }
+
+  /**
+   * Records a call to the {@link ICacheValueResolver} which completed normally.
+   */
+  public void recordLoadSuccess(long loadTimeNanos) {
+    m_loadSuccessCount.increment();
+    m_totalLoadTimeNanos.add(loadTimeNanos);
+  }
+
+  /**
+   * Records a call to the {@link ICacheValueResolver} which failed with an exception.
+   */
+  public void recordLoadFailure(long loadTimeNanos) {
+    m_loadFailureCount.increment();
+    m_totalLoadTimeNanos.add(loadTimeNanos);
+  }
+
+  /**
+   * Records misses answered by the {@link ICacheValueResolver} call of a concurrent caller of the same key.
+   */
+  public void recordSharedLoads(int count) {
+    m_sharedLoadCount.add(count);
+  }
+
+  /**
+   * Records an invalidation of the cache, regardless of whether triggered locally or remotely.
+   */
+  public void recordInvalidation() {
+    m_invalidationCount.increment();
+  }
+
+  /**
+   * Records an invalidation triggered by a notification of another cluster node or of the server.
+   */
+  public void recordRemoteInvalidation() {
+    m_remoteInvalidationCount.increment();
+  }
+
+  /**
+   * Records an invalidation propagated to other cluster nodes or to the server.
+   */
+  public void recordPropagatedInvalidation() {
+    m_propagatedInvalidationCount.increment();
+  }
+
+  /**
+   * Records a background refresh of a value, see {@link ICacheBuilder#withRefreshAhead(Long, java.util.concurrent.TimeUnit, boolean)}.
+   */
+  public void recordRefresh(boolean success) {
+    if (success) {
+      m_refreshSuccessCount.increment();
+    }
+    else {
+      m_refreshFailureCount.increment();
+    }
+  }
+
+  /**
+   * Records a background refresh which was not scheduled because the refresh queue was full.
+   */
+  public void recordRefreshDropped() {
+    m_refreshDroppedCount.increment();
+  }
+
+  /**
+   * Records a request answered with a previous value while the current value is reloaded in the background. Such a
+   * request is counted as hit as well.
+   */
+  public void recordStaleReads(int count) {
+    m_staleReadCount.add(count);
+    m_hitCount.add(count);
+  }
+
+  public String getCacheId() {
+    return m_cacheId;
+  }
+
+  public long getSize() {
+    return m_sizeSupplier.getAsLong();
+  }
+
+  public long getHitCount() {
+    return m_hitCount.sum();
+  }
+
+  public long getMissCount() {
+    return m_missCount.sum();
+  }
+
+  public long getRequestCount() {
+    return getHitCount() + getMissCount();
+  }
+
+  /**
+   * @return the ratio of requests answered by the cache, or <code>1.0</code> if there was no request yet.
+   */
+  public double getHitRate() {
+    long hitCount = getHitCount();
+    long requestCount = hitCount + getMissCount();
+    return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+  }
+
+  public long getLoadSuccessCount() {
+    return m_loadSuccessCount.sum();
+  }
+
+  public long getLoadFailureCount() {
+    return m_loadFailureCount.sum();
+  }
+
+  public long getSharedLoadCount() {
+    return m_sharedLoadCount.sum();
+  }
+
+  public long getTotalLoadTimeNanos() {
+    return m_totalLoadTimeNanos.sum();
+  }
+
+  /**
+   * @return the average time spent in the {@link ICacheValueResolver}, or <code>0</code> if no value was loaded yet.
+   */
+  public long getAverageLoadTimeNanos() {
+    long loadCount = getLoadSuccessCount() + getLoadFailureCount();
+    return loadCount == 0 ? 0 : getTotalLoadTimeNanos() / loadCount;
+  }
+
+  public long getEvictionCount() {
+    return m_evictionCountSupplier.getAsLong();
+  }
+
+  public long getInvalidationCount() {
+    return m_invalidationCount.sum();
+  }
+
+  public long getRemoteInvalidationCount() {
+    return m_remoteInvalidationCount.sum();
+  }
+
+  public long getPropagatedInvalidationCount() {
+    return m_propagatedInvalidationCount.sum();
+  }
+
+  public long getRefreshSuccessCount() {
+    return m_refreshSuccessCount.sum();
+  }
+
+  public long getRefreshFailureCount() {
+    return m_refreshFailureCount.sum();
+  }
+
+  public long getRefreshDroppedCount() {
+    return m_refreshDroppedCount.sum();
+  }
+
+  public long getStaleReadCount() {
+    return m_staleReadCount.sum();
+  }
+
+  @Override
+  public String toString() {
+    return "CacheStatistics [cacheId=" + m_cacheId + ", size=" + getSize() + ", hits=" + getHitCount() + ", misses=" + getMissCount()
+        + ", loadSuccesses=" + getLoadSuccessCount() + ", loadFailures=" + getLoadFailureCount() + ", sharedLoads=" + getSharedLoadCount() + ", averageLoadTimeNanos=" + getAverageLoadTimeNanos()
+        + ", evictions=" + getEvictionCount() + ", invalidations=" + getInvalidationCount() + ", remoteInvalidations=" + getRemoteInvalidationCount()
+        + ", propagatedInvalidations=" + getPropagatedInvalidationCount() + ", refreshSuccesses=" + getRefreshSuccessCount() + ", refreshFailures=" + getRefreshFailureCount()
+        + ", refreshesDropped=" + getRefreshDroppedCount() + ", staleReads=" + getStaleReadCount() + "]";
+  }
+}
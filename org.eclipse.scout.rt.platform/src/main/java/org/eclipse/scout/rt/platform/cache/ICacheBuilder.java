@@ -173,7 +173,8 @@ public interface ICacheBuilder<K, V> {
    * If set to a non-null value, the maximum number of cached values is bounded. The provided size bound is <em>not</em>
    * enforced and is just a guidance value.
    * <p>
-   * The current policy that is used to evict elements is least recently used (LRU).
+   * The policy that is used to evict elements is least recently used (LRU) by default, see
+   * {@link #withEvictionPolicy(CacheEvictionPolicy)}.
    *
    * @param sizeBound
    *          the target size that map should have approximately.
@@ -181,6 +182,17 @@ public interface ICacheBuilder<K, V> {
    */
   ICacheBuilder<K, V> withSizeBound(Integer sizeBound);
 
+  /**
+   * Sets the policy to evict values if a size bound is set (see {@link #withSizeBound(Integer)}). Default is
+   * {@link CacheEvictionPolicy#LRU}.
+   *
+   * @param evictionPolicy
+   *          the eviction policy; not <code>null</code>.
+   * @return this builder
+   * @since 24.2
+   */
+  ICacheBuilder<K, V> withEvictionPolicy(CacheEvictionPolicy evictionPolicy);
+
   /**
    * <b>Warning: Potential deadlock</b>
    * <p>
@@ -195,6 +207,52 @@ public interface ICacheBuilder<K, V> {
    */
   ICacheBuilder<K, V> withMaxConcurrentResolve(Integer maxConcurrentResolve);
 
+  /**
+   * If booth arguments <tt>refreshAfterDuration</tt> and <tt>refreshAfterUnit</tt> are not null, values are reloaded
+   * in the background instead of letting readers wait for the value resolver:
+   * <ul>
+   * <li>Reading a value which was loaded longer than the refresh duration ago returns it and schedules a reload. Use a
+   * refresh duration shorter than the time to live (see {@link #withTimeToLive(Long, TimeUnit, boolean)}), so that
+   * frequently used values are reloaded before they expire.</li>
+   * <li>While a value is reloaded, readers get the previous value.</li>
+   * <li>If <tt>staleWhileRevalidate</tt> is true, readers get the previous value of an invalidated entry as well until
+   * it is reloaded, but at most for the refresh duration after the invalidation. Only use this for caches whose
+   * readers tolerate outdated values for a short time, e.g. code types.</li>
+   * </ul>
+   * Reloads run in a new transaction and are bounded by the {@link CacheRefreshExecutor}.
+   *
+   * @param refreshAfterDuration
+   *          duration after the load of a value a read access triggers a reload in the background
+   * @param refreshAfterUnit
+   *          refresh after unit
+   * @param staleWhileRevalidate
+   *          if true, invalidated values are returned until they are reloaded in the background
+   * @return this builder
+   * @throws IllegalArgumentException
+   *           if refreshAfterDuration is not greater than zero
+   * @since 24.2
+   * @see RefreshAheadCacheWrapper
+   */
+  ICacheBuilder<K, V> withRefreshAhead(Long refreshAfterDuration, TimeUnit refreshAfterUnit, boolean staleWhileRevalidate);
+
+  /**
+   * If <tt>snapshotVersion</tt> is not null and a snapshot directory is configured, the values of this cache are
+   * written to a snapshot on shutdown and preloaded from it when the cache is built after the next startup, so that
+   * the value resolver is not invoked for them.
+   * <p>
+   * A snapshot is discarded if its version differs from the given one, or if it is older than the maximal snapshot
+   * age. Change the version whenever keys or values change incompatibly. As invalidations are missed while the
+   * application is down, only use snapshots for caches of rarely changing data, e.g. code types or permissions. Keys
+   * and values must be serializable.
+   *
+   * @param snapshotVersion
+   *          version of the cache keys and values, e.g. the application version
+   * @return this builder
+   * @since 24.2
+   * @see CacheSnapshotService
+   */
+  ICacheBuilder<K, V> withSnapshot(String snapshotVersion);
+
   /**
    * Adds a cache wrapper to the constructed cache instance. In the cache instance these additional wrappers are ordered
    * in the same sequence as they were added. The cache wrapper is created always through a constructor that takes as
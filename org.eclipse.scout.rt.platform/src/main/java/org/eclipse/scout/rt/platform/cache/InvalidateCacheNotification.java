@@ -14,6 +14,10 @@ import java.io.Serializable;
 /**
  * Notification for invalidated cache entries. Based on {@link ICacheEntryFilter}.
  * <p>
+ * A notification may carry a version stamp: the origin which published it and a sequence number which is increased
+ * by the origin for each published notification of a cache. Receivers use it to ignore duplicates and to detect
+ * missed notifications.
+ * <p>
  * This class is immutable.
  *
  * @since 5.2
@@ -23,8 +27,21 @@ public class InvalidateCacheNotification implements Serializable {
 
   private final String m_cacheId;
   private final ICacheEntryFilter<?, ?> m_filter;
+  private final String m_origin;
+  private final long m_sequence;
 
   public InvalidateCacheNotification(String cacheId, ICacheEntryFilter<?, ?> filter) {
+    this(cacheId, filter, null, 0L);
+  }
+
+  /**
+   * @param origin
+   *          unique id of the publisher, <code>null</code> for a notification without version stamp
+   * @param sequence
+   *          sequence number of this notification for the cache and origin
+   * @since 24.2
+   */
+  public InvalidateCacheNotification(String cacheId, ICacheEntryFilter<?, ?> filter, String origin, long sequence) {
     super();
     if (cacheId == null) {
       throw new IllegalArgumentException("cacheId should not be null");
@@ -34,6 +51,8 @@ public class InvalidateCacheNotification implements Serializable {
     }
     m_cacheId = cacheId;
     m_filter = filter;
+    m_origin = origin;
+    m_sequence = sequence;
   }
 
   public String getCacheId() {
@@ -44,8 +63,33 @@ public class InvalidateCacheNotification implements Serializable {
     return m_filter;
   }
 
+  /**
+   * @since 24.2
+   */
+  public String getOrigin() {
+    return m_origin;
+  }
+
+  /**
+   * @since 24.2
+   */
+  public long getSequence() {
+    return m_sequence;
+  }
+
+  /**
+   * @return true if this notification carries a version stamp
+   * @since 24.2
+   */
+  public boolean isVersioned() {
+    return m_origin != null;
+  }
+
   @Override
   public String toString() {
+    if (isVersioned()) {
+      return "InvalidateCacheNotification [cacheId=" + m_cacheId + ", filter=" + m_filter + ", origin=" + m_origin + ", sequence=" + m_sequence + "]";
+    }
     return "InvalidateCacheNotification [cacheId=" + m_cacheId + ", filter=" + m_filter + "]";
   }
 }
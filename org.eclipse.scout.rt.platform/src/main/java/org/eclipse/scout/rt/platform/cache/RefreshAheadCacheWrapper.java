@@ -0,0 +1,437 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This wrapper reloads values in the background, so that readers do not have to wait for the value resolver:
+ * <ul>
+ * <li>A value which was loaded longer than the refresh duration ago is returned, and a reload is scheduled in the
+ * background. Set the refresh duration shorter than the time to live of the cache, so that frequently used values are
+ * reloaded before they expire.</li>
+ * <li>While a value is reloaded, readers get the previous value.</li>
+ * <li>If <tt>staleWhileRevalidate</tt> is set, readers get the previous value of an invalidated entry as well, and the
+ * first reader schedules a reload in the background. Previous values are returned at most for the refresh duration
+ * after the invalidation; later readers or readers of values which failed to reload resolve the value
+ * synchronously.</li>
+ * </ul>
+ * Reloads are run by the {@link CacheRefreshExecutor}, which bounds the number of concurrent reloads. If its queue is
+ * full, the reload is dropped and retried upon the next access of the value. A reload resolves the value before the
+ * cached one is replaced, so that the previous value is kept if the value resolver fails; the reload is retried upon
+ * the next access of the value then.
+ * <p>
+ * The wrapped cache must resolve its values with a resolver created by {@link #wrapValueResolver(ICacheValueResolver)},
+ * which hands the reloaded values to the wrapped cache. They are therefore put into the cache like resolved values,
+ * including transactional and time to live handling.
+ * <p>
+ * Refreshes, dropped refreshes and reads of previous values are recorded in the {@link CacheStatistics} of the cache. A
+ * refresh invalidates the key in the wrapped cache (without propagation) and is therefore recorded as invalidation as
+ * well.
+ * <p>
+ * <b>The cache implementation on which this wrapper is based on must be still thread safe.</b>
+ *
+ * @since 24.2
+ */
+public class RefreshAheadCacheWrapper<K, V> extends AbstractCacheWrapper<K, V> {
+  private static final Logger LOG = LoggerFactory.getLogger(RefreshAheadCacheWrapper.class);
+
+  private final long m_refreshAfterNanos;
+  private final boolean m_staleWhileRevalidate;
+  private final CacheStatistics m_statistics;
+  private final P_RefreshValueResolver<K, V> m_valueResolver;
+
+  private final Map<K, Long> m_loadTimes = new ConcurrentHashMap<>();
+  private final Map<K, P_StaleValue<V>> m_staleValues = new ConcurrentHashMap<>();
+  private final Set<K> m_refreshing = ConcurrentHashMap.newKeySet();
+  private final AtomicLong m_invalidationSequence = new AtomicLong();
+
+  /**
+   * @param refreshAfterMillis
+   *          duration after the load of a value a read access triggers a reload in the background; must be greater
+   *          than zero.
+   * @param staleWhileRevalidate
+   *          if true, invalidated values are returned until they are reloaded in the background.
+   */
+  @SuppressWarnings("unchecked")
+  public RefreshAheadCacheWrapper(ICache<K, V> delegate, long refreshAfterMillis, boolean staleWhileRevalidate) {
+    super(delegate);
+    Assertions.assertGreater(refreshAfterMillis, 0L, "refreshAfterMillis must be greater than 0");
+    m_refreshAfterNanos = TimeUnit.MILLISECONDS.toNanos(refreshAfterMillis);
+    m_staleWhileRevalidate = staleWhileRevalidate;
+    m_statistics = delegate.getAdapter(CacheStatistics.class);
+    m_valueResolver = Assertions.assertNotNull(delegate.getAdapter(P_RefreshValueResolver.class),
+        "cache '{}' must resolve its values with RefreshAheadCacheWrapper.wrapValueResolver", delegate.getCacheId());
+  }
+
+  /**
+   * @return the given value resolver wrapped so that a {@link RefreshAheadCacheWrapper} is able to put reloaded values
+   *         into the cache using it.
+   */
+  public static <K, V> ICacheValueResolver<K, V> wrapValueResolver(ICacheValueResolver<K, V> valueResolver) {
+    return new P_RefreshValueResolver<>(valueResolver);
+  }
+
+  public boolean isStaleWhileRevalidate() {
+    return m_staleWhileRevalidate;
+  }
+
+  @Override
+  public V get(K key) {
+    if (key == null) {
+      return null;
+    }
+    // answered without the delegate, so that a concurrent refresh does not cause a resolve
+    V value = getCachedValue(key);
+    if (value != null) {
+      recordHits(1);
+      refreshIfDue(key);
+      return value;
+    }
+    value = getStaleValue(key);
+    if (value != null) {
+      recordStaleReads(1);
+      scheduleRefresh(key);
+      return value;
+    }
+
+    value = super.get(key);
+    if (value != null) {
+      recordLoadTime(key, false);
+    }
+    return value;
+  }
+
+  @Override
+  public Map<K, V> getAll(Collection<? extends K> keys) {
+    Map<K, V> result = new HashMap<>();
+    List<K> missingKeys = new ArrayList<>();
+    int staleCount = 0;
+    for (K key : keys) {
+      if (key == null) {
+        continue;
+      }
+      V value = getCachedValue(key);
+      if (value != null) {
+        refreshIfDue(key);
+      }
+      else if ((value = getStaleValue(key)) != null) {
+        staleCount++;
+        scheduleRefresh(key);
+      }
+      else {
+        missingKeys.add(key);
+        continue;
+      }
+      result.put(key, value);
+    }
+    recordHits(result.size() - staleCount);
+    recordStaleReads(staleCount);
+    if (missingKeys.isEmpty()) {
+      return result;
+    }
+
+    Map<K, V> loadedValues = super.getAll(missingKeys);
+    for (Entry<K, V> entry : loadedValues.entrySet()) {
+      if (entry.getValue() != null) {
+        recordLoadTime(entry.getKey(), false);
+      }
+    }
+    result.putAll(loadedValues);
+    return result;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public void invalidate(ICacheEntryFilter<K, V> filter, boolean propagate) {
+    m_invalidationSequence.incrementAndGet();
+    if (m_staleWhileRevalidate) {
+      retainStaleValues(filter);
+    }
+    else {
+      discardStaleValues(filter);
+    }
+
+    super.invalidate(filter, propagate);
+
+    if (filter instanceof AllCacheEntryFilter) {
+      m_loadTimes.clear();
+    }
+    else if (filter instanceof KeyCacheEntryFilter) {
+      for (K key : ((KeyCacheEntryFilter<K, V>) filter).getKeys()) {
+        m_loadTimes.remove(key);
+      }
+    }
+    else if (filter != null) {
+      m_loadTimes.keySet().removeIf(key -> getCachedValue(key) == null);
+    }
+  }
+
+  /**
+   * Keeps the values about to be invalidated so that they are returned until they are reloaded.
+   */
+  @SuppressWarnings("unchecked")
+  protected void retainStaleValues(ICacheEntryFilter<K, V> filter) {
+    // expired values of keys which were not accessed anymore are discarded here
+    long now = System.nanoTime();
+    m_staleValues.values().removeIf(staleValue -> !staleValue.isValid(now, m_refreshAfterNanos));
+
+    if (filter instanceof KeyCacheEntryFilter) {
+      for (K key : ((KeyCacheEntryFilter<K, V>) filter).getKeys()) {
+        retainStaleValue(key, getCachedValue(key), now);
+      }
+    }
+    else if (filter != null) {
+      for (Entry<K, V> entry : getUnmodifiableMap().entrySet()) {
+        if (filter instanceof AllCacheEntryFilter || filter.accept(entry.getKey(), entry.getValue())) {
+          retainStaleValue(entry.getKey(), entry.getValue(), now);
+        }
+      }
+    }
+  }
+
+  /**
+   * Discards the previous values returned while a refresh is running, so that invalidated values are not returned
+   * anymore.
+   */
+  @SuppressWarnings("unchecked")
+  protected void discardStaleValues(ICacheEntryFilter<K, V> filter) {
+    if (filter instanceof AllCacheEntryFilter) {
+      m_staleValues.clear();
+    }
+    else if (filter instanceof KeyCacheEntryFilter) {
+      for (K key : ((KeyCacheEntryFilter<K, V>) filter).getKeys()) {
+        m_staleValues.remove(key);
+      }
+    }
+    else if (filter != null) {
+      m_staleValues.entrySet().removeIf(entry -> filter.accept(entry.getKey(), entry.getValue().getValue()));
+    }
+  }
+
+  protected void retainStaleValue(K key, V value, long now) {
+    if (key != null && value != null) {
+      m_staleValues.put(key, new P_StaleValue<>(value, now));
+    }
+  }
+
+  protected V getStaleValue(K key) {
+    P_StaleValue<V> staleValue = m_staleValues.get(key);
+    if (staleValue == null) {
+      return null;
+    }
+    if (staleValue.isValid(System.nanoTime(), m_refreshAfterNanos)) {
+      return staleValue.getValue();
+    }
+    m_staleValues.remove(key, staleValue);
+    return null;
+  }
+
+  protected void refreshIfDue(K key) {
+    Long loadTime = m_loadTimes.get(key);
+    if (loadTime == null) {
+      // loaded before this wrapper observed it, e.g. through the value resolver of a bounded cache wrapper
+      recordLoadTime(key, true);
+    }
+    else if (System.nanoTime() - loadTime >= m_refreshAfterNanos) {
+      scheduleRefresh(key);
+    }
+  }
+
+  protected void recordLoadTime(K key, boolean ifAbsent) {
+    if (ifAbsent) {
+      m_loadTimes.putIfAbsent(key, System.nanoTime());
+    }
+    else {
+      m_loadTimes.put(key, System.nanoTime());
+    }
+    if (m_loadTimes.size() > 2 * getUnmodifiableMap().size() + 64) {
+      // keys evicted from the cache due to its size bound or time to live
+      m_loadTimes.keySet().removeIf(k -> getCachedValue(k) == null);
+    }
+  }
+
+  protected void scheduleRefresh(K key) {
+    if (!m_refreshing.add(key)) {
+      return; // refresh already pending
+    }
+    boolean scheduled = false;
+    try {
+      scheduled = BEANS.get(CacheRefreshExecutor.class).schedule(getCacheId(), () -> refresh(key));
+    }
+    finally {
+      if (!scheduled) {
+        m_refreshing.remove(key);
+        if (m_statistics != null) {
+          m_statistics.recordRefreshDropped();
+        }
+      }
+    }
+  }
+
+  /**
+   * Reloads the value of the given key. Invoked by the {@link CacheRefreshExecutor}.
+   */
+  protected void refresh(K key) {
+    long invalidationSequence = m_invalidationSequence.get();
+    boolean success = false;
+    try {
+      // the current value stays cached while the new one is resolved, so that it is kept if the resolver fails
+      V value = m_valueResolver.reload(key);
+      if (invalidationSequence == m_invalidationSequence.get()) {
+        replaceCachedValue(key, value, invalidationSequence);
+      }
+      success = true;
+    }
+    catch (RuntimeException e) {
+      LOG.warn("Failed to refresh value of cache '{}' [key={}]", getCacheId(), key, e);
+    }
+    finally {
+      if (success && invalidationSequence == m_invalidationSequence.get()) {
+        m_staleValues.remove(key);
+      }
+      m_refreshing.remove(key);
+      if (m_statistics != null) {
+        m_statistics.recordRefresh(success);
+      }
+    }
+  }
+
+  /**
+   * Replaces the cached value of the given key by the reloaded value, or removes it if the value does not exist
+   * anymore.
+   */
+  protected void replaceCachedValue(K key, V value, long invalidationSequence) {
+    ICacheEntryFilter<K, V> keyFilter = new KeyCacheEntryFilter<>(Collections.singleton(key));
+    if (value == null) {
+      getDelegate().invalidate(keyFilter, false);
+      m_loadTimes.remove(key);
+      return;
+    }
+
+    // readers get the current value until the reloaded one is put
+    retainStaleValue(key, getCachedValue(key), System.nanoTime());
+    m_valueResolver.offer(key, value);
+    try {
+      getDelegate().invalidate(keyFilter, false);
+      getDelegate().get(key);
+    }
+    finally {
+      m_valueResolver.withdraw(key, value);
+    }
+    if (invalidationSequence != m_invalidationSequence.get()) {
+      // invalidated meanwhile: the reloaded value may be outdated already
+      getDelegate().invalidate(keyFilter, false);
+      m_loadTimes.remove(key);
+    }
+    else {
+      recordLoadTime(key, false);
+    }
+  }
+
+  protected void recordHits(int count) {
+    // hits answered by this wrapper do not reach the delegate
+    if (m_statistics != null && count > 0) {
+      m_statistics.recordHits(count);
+    }
+  }
+
+  protected void recordStaleReads(int count) {
+    if (m_statistics != null && count > 0) {
+      m_statistics.recordStaleReads(count);
+    }
+  }
+
+  /**
+   * Value resolver answering keys with the values reloaded by a {@link RefreshAheadCacheWrapper} first.
+   */
+  protected static class P_RefreshValueResolver<K, V> implements ICacheValueResolver<K, V> {
+    private final ICacheValueResolver<K, V> m_delegate;
+    private final Map<K, V> m_reloadedValues = new ConcurrentHashMap<>();
+
+    protected P_RefreshValueResolver(ICacheValueResolver<K, V> delegate) {
+      m_delegate = Assertions.assertNotNull(delegate);
+    }
+
+    /**
+     * Resolves the value of the given key with the wrapped resolver, without putting it into the cache.
+     */
+    protected V reload(K key) {
+      return m_delegate.resolve(key);
+    }
+
+    protected void offer(K key, V value) {
+      m_reloadedValues.put(key, value);
+    }
+
+    protected void withdraw(K key, V value) {
+      m_reloadedValues.remove(key, value);
+    }
+
+    @Override
+    public V resolve(K key) {
+      V value = m_reloadedValues.remove(key);
+      return value != null ? value : m_delegate.resolve(key);
+    }
+
+    @Override
+    public Map<K, V> resolveAll(Set<K> keys) {
+      Map<K, V> result = new HashMap<>();
+      Set<K> missingKeys = new HashSet<>();
+      for (K key : keys) {
+        V value = m_reloadedValues.remove(key);
+        if (value != null) {
+          result.put(key, value);
+        }
+        else {
+          missingKeys.add(key);
+        }
+      }
+      if (!missingKeys.isEmpty()) {
+        result.putAll(m_delegate.resolveAll(missingKeys));
+      }
+      return result;
+    }
+  }
+
+  protected static class P_StaleValue<V> {
+    private final V m_value;
+    private final long m_retainedNanos;
+
+    protected P_StaleValue(V value, long retainedNanos) {
+      m_value = value;
+      m_retainedNanos = retainedNanos;
+    }
+
+    protected V getValue() {
+      return m_value;
+    }
+
+    protected boolean isValid(long now, long maxAgeNanos) {
+      return now - m_retainedNanos < maxAgeNanos;
+    }
+  }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache.management;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.management.ObjectName;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.CreateImmediately;
+import org.eclipse.scout.rt.platform.cache.CacheStatistics;
+import org.eclipse.scout.rt.platform.cache.ICacheRegistryService;
+import org.eclipse.scout.rt.platform.jmx.MBeanUtility;
+
+@ApplicationScoped
+@CreateImmediately
+public class CacheMonitorMBean implements ICacheMonitorMBean {
+
+  /*
+   * JMX registration
+   */
+
+  protected ObjectName jmxObjectName() {
+    return MBeanUtility.toJmxName("org.eclipse.scout.rt.platform", "Caches");
+  }
+
+  @PostConstruct
+  protected void postConstruct() {
+    MBeanUtility.register(jmxObjectName(), this);
+  }
+
+  @PreDestroy
+  protected void preDestroy() {
+    MBeanUtility.unregister(jmxObjectName());
+  }
+
+  /*
+   * MBean implementation
+   */
+
+  protected Map<String, CacheStatistics> getStatistics() {
+    return BEANS.get(ICacheRegistryService.class).getStatistics();
+  }
+
+  @Override
+  public int getCacheCount() {
+    return getStatistics().size();
+  }
+
+  @Override
+  public CacheInfo[] getCacheInfos() {
+    return getStatistics().values().stream()
+        .map(this::toCacheInfo)
+        .toArray(CacheInfo[]::new);
+  }
+
+  protected CacheInfo toCacheInfo(CacheStatistics statistics) {
+    return new CacheInfo(
+        statistics.getCacheId(),
+        statistics.getSize(),
+        statistics.getHitCount(),
+        statistics.getMissCount(),
+        statistics.getHitRate(),
+        statistics.getLoadSuccessCount(),
+        statistics.getLoadFailureCount(),
+        statistics.getSharedLoadCount(),
+        statistics.getAverageLoadTimeNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1),
+        statistics.getEvictionCount(),
+        statistics.getInvalidationCount(),
+        statistics.getRemoteInvalidationCount(),
+        statistics.getPropagatedInvalidationCount(),
+        statistics.getRefreshSuccessCount(),
+        statistics.getRefreshFailureCount(),
+        statistics.getRefreshDroppedCount(),
+        statistics.getStaleReadCount());
+  }
+}
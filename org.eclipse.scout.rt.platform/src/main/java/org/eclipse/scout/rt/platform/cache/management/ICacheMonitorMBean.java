@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.cache.management;
+
+import java.beans.ConstructorProperties;
+
+import javax.management.MXBean;
+
+import org.eclipse.scout.rt.platform.cache.CacheStatistics;
+
+/**
+ * Jmx access to the {@link CacheStatistics} of the registered caches.
+ *
+ * @since 24.2
+ */
+@MXBean
+public interface ICacheMonitorMBean {
+
+  /**
+   * @return the number of registered caches recording statistics
+   */
+  int getCacheCount();
+
+  /**
+   * @return the statistics of all registered caches, ordered by cache id
+   */
+  CacheInfo[] getCacheInfos();
+
+  class CacheInfo {
+    private final String m_cacheId;
+    private final long m_size;
+    private final long m_hitCount;
+    private final long m_missCount;
+    private final double m_hitRate;
+    private final long m_loadSuccessCount;
+    private final long m_loadFailureCount;
+    private final long m_sharedLoadCount;
+    private final double m_averageLoadTimeMillis;
+    private final long m_evictionCount;
+    private final long m_invalidationCount;
+    private final long m_remoteInvalidationCount;
+    private final long m_propagatedInvalidationCount;
+    private final long m_refreshSuccessCount;
+    private final long m_refreshFailureCount;
+    private final long m_refreshDroppedCount;
+    private final long m_staleReadCount;
+
+    @ConstructorProperties({"cacheId", "size", "hitCount", "missCount", "hitRate", "loadSuccessCount", "loadFailureCount", "sharedLoadCount", "averageLoadTimeMillis",
+        "evictionCount", "invalidationCount", "remoteInvalidationCount", "propagatedInvalidationCount", "refreshSuccessCount", "refreshFailureCount", "refreshDroppedCount",
+        "staleReadCount"})
+    public CacheInfo(String cacheId, long size, long hitCount, long missCount, double hitRate, long loadSuccessCount, long loadFailureCount, long sharedLoadCount,
+        double averageLoadTimeMillis, long evictionCount, long invalidationCount, long remoteInvalidationCount, long propagatedInvalidationCount, long refreshSuccessCount,
+        long refreshFailureCount, long refreshDroppedCount, long staleReadCount) {
+      m_cacheId = cacheId;
+      m_size = size;
+      m_hitCount = hitCount;
+      m_missCount = missCount;
+      m_hitRate = hitRate;
+      m_loadSuccessCount = loadSuccessCount;
+      m_loadFailureCount = loadFailureCount;
+      m_sharedLoadCount = sharedLoadCount;
+      m_averageLoadTimeMillis = averageLoadTimeMillis;
+      m_evictionCount = evictionCount;
+      m_invalidationCount = invalidationCount;
+      m_remoteInvalidationCount = remoteInvalidationCount;
+      m_propagatedInvalidationCount = propagatedInvalidationCount;
+      m_refreshSuccessCount = refreshSuccessCount;
+      m_refreshFailureCount = refreshFailureCount;
+      m_refreshDroppedCount = refreshDroppedCount;
+      m_staleReadCount = staleReadCount;
+    }
+
+    public String getCacheId() {
+      return m_cacheId;
+    }
+
+    public long getSize() {
+      return m_size;
+    }
+
+    public long getHitCount() {
+      return m_hitCount;
+    }
+
+    public long getMissCount() {
+      return m_missCount;
+    }
+
+    public double getHitRate() {
+      return m_hitRate;
+    }
+
+    public long getLoadSuccessCount() {
+      return m_loadSuccessCount;
+    }
+
+    public long getLoadFailureCount() {
+      return m_loadFailureCount;
+    }
+
+    public long getSharedLoadCount() {
+      return m_sharedLoadCount;
+    }
+
+    public double getAverageLoadTimeMillis() {
+      return m_averageLoadTimeMillis;
+    }
+
+    public long getEvictionCount() {
+      return m_evictionCount;
+    }
+
+    public long getInvalidationCount() {
+      return m_invalidationCount;
+    }
+
+    public long getRemoteInvalidationCount() {
+      return m_remoteInvalidationCount;
+    }
+
+    public long getPropagatedInvalidationCount() {
+      return m_propagatedInvalidationCount;
+    }
+
+    public long getRefreshSuccessCount() {
+      return m_refreshSuccessCount;
+    }
+
+    public long getRefreshFailureCount() {
+      return m_refreshFailureCount;
+    }
+
+    public long getRefreshDroppedCount() {
+      return m_refreshDroppedCount;
+    }
+
+    public long getStaleReadCount() {
+      return m_staleReadCount;
+    }
+  }
+}
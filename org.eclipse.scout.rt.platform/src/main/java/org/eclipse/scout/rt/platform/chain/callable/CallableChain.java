@@ -11,8 +11,6 @@ package org.eclipse.scout.rt.platform.chain.callable;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.Callable;
 
@@ -39,7 +37,19 @@ public class CallableChain<RESULT> {
 
   private static final Logger LOG = LoggerFactory.getLogger(CallableChain.class);
 
-  private final LinkedList<IChainable> m_chainables = new LinkedList<>();
+  private final List<IChainable> m_chainables;
+
+  public CallableChain() {
+    m_chainables = new ArrayList<>();
+  }
+
+  /**
+   * @param initialCapacity
+   *          the expected number of decorators and interceptors, to avoid resizing while building the chain.
+   */
+  public CallableChain(final int initialCapacity) {
+    m_chainables = new ArrayList<>(initialCapacity);
+  }
 
   /**
    * Adds the given decorator to the beginning of this chain to decorate the execution of a {@link Callable}.
@@ -47,7 +57,7 @@ public class CallableChain<RESULT> {
    * @return <code>this</code> in order to support method chaining.
    */
   public CallableChain<RESULT> addFirst(final ICallableDecorator decorator) {
-    m_chainables.addFirst(decorator);
+    m_chainables.add(0, decorator);
     return this;
   }
 
@@ -57,7 +67,7 @@ public class CallableChain<RESULT> {
    * @return <code>this</code> in order to support method chaining.
    */
   public CallableChain<RESULT> addFirst(final ICallableInterceptor<RESULT> interceptor) {
-    m_chainables.addFirst(interceptor);
+    m_chainables.add(0, interceptor);
     return this;
   }
 
@@ -67,7 +77,7 @@ public class CallableChain<RESULT> {
    * @return <code>this</code> in order to support method chaining.
    */
   public CallableChain<RESULT> addLast(final ICallableDecorator decorator) {
-    m_chainables.addLast(decorator);
+    m_chainables.add(decorator);
     return this;
   }
 
@@ -185,11 +195,12 @@ public class CallableChain<RESULT> {
    */
   public static class Chain<RESULT> {
 
-    private final Iterator<IChainable> m_iterator;
+    private final List<IChainable> m_chainables;
     private final Callable<RESULT> m_command;
+    private int m_position;
 
     public Chain(final List<IChainable> chainables, final Callable<RESULT> command) {
-      m_iterator = chainables.iterator();
+      m_chainables = chainables;
       m_command = command;
     }
 
@@ -203,15 +214,19 @@ public class CallableChain<RESULT> {
      */
     public RESULT continueChain() throws Exception {
       // List of decorators invoked in this round.
-      final List<IUndecorator> undecorators = new ArrayList<>();
+      List<IUndecorator> undecorators = null;
 
       try {
-        while (m_iterator.hasNext()) {
-          final IChainable next = m_iterator.next();
+        final int size = m_chainables.size();
+        while (m_position < size) {
+          final IChainable next = m_chainables.get(m_position++);
 
           if (next instanceof ICallableDecorator) {
             final IUndecorator undecorator = ((ICallableDecorator) next).decorate();
             if (undecorator != null) {
+              if (undecorators == null) {
+                undecorators = new ArrayList<>(size - m_position + 1);
+              }
               undecorators.add(undecorator);
             }
           }
@@ -227,8 +242,10 @@ public class CallableChain<RESULT> {
       }
       finally {
         // Let the decorators to perform some 'after-execution' actions in reverse order.
-        for (int i = undecorators.size() - 1; i >= 0; i--) {
-          undecorateSafe(undecorators.get(i));
+        if (undecorators != null) {
+          for (int i = undecorators.size() - 1; i >= 0; i--) {
+            undecorateSafe(undecorators.get(i));
+          }
         }
       }
     }
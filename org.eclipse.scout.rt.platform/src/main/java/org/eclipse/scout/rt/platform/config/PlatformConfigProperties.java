@@ -145,6 +145,55 @@ public final class PlatformConfigProperties {
     }
   }
 
+  public static class JandexSnapshotFileProperty extends AbstractStringConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jandex.snapshotFile";
+    }
+
+    @Override
+    public String description() {
+      return "Path to a file containing a persisted snapshot of all Jandex indexes of the classpath. If set, the class inventory is loaded from this file on startup "
+          + "as long as the classpath modules did not change. If the file is missing or outdated, the classpath is scanned and the file is (re-)written. "
+          + "The snapshot is only used if the Jandex rebuild strategy is IF_MISSING (property 'scout.jandex.rebuild'). By default no snapshot is used.";
+    }
+  }
+
+  public static class CreateImmediatelyParallelProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.createImmediately.parallel";
+    }
+
+    @Override
+    public String description() {
+      return "Specifies if the @CreateImmediately beans are instantiated in parallel using the job manager during platform startup. "
+          + "Use @CreateImmediatelyAfter on beans which must wait for other eager beans. "
+          + "If enabled, other threads may already access beans while the eager beans are being created. The default value is false.";
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
+
+  public static class PlatformStartupTraceFileProperty extends AbstractStringConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.platform.startupTraceFile";
+    }
+
+    @Override
+    public String description() {
+      return "Path to a file to which the timeline of the platform startup is written in the Chrome trace event format once the platform has been started. "
+          + "The timeline is also available using JMX. By default no file is written.";
+    }
+  }
+
   public static class JobManagerCorePoolSizeProperty extends AbstractPositiveIntegerConfigProperty {
 
     @Override
@@ -192,8 +241,10 @@ public final class PlatformConfigProperties {
 
     @Override
     public String description() {
-      return String.format("The maximal number of threads to be created once the value of '%s' is exceeded. The default value is unlimited (which means limited by the resources of the machine).",
-          BEANS.get(JobManagerCorePoolSizeProperty.class).getKey());
+      return String.format("The maximal number of jobs running concurrently. Further jobs are queued by their priority (see '%s'). "
+          + "Threads which do not run a job, like the scheduler thread, and threads of jobs waiting for other jobs to complete are not counted, so the number of threads may exceed this value. "
+          + "Threads are created once the value of '%s' is exceeded. The default value is unlimited (which means limited by the resources of the machine).",
+          BEANS.get(JobManagerQueueCapacityProperty.class).getKey(), BEANS.get(JobManagerCorePoolSizeProperty.class).getKey());
     }
 
     @Override
@@ -240,6 +291,192 @@ public final class PlatformConfigProperties {
     }
   }
 
+  public static class JobManagerVirtualThreadsProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.virtualThreads";
+    }
+
+    @Override
+    public String description() {
+      return String.format("Specifies whether jobs are executed in virtual threads instead of pooled platform threads. Requires a Java runtime supporting virtual threads (Java 21 or newer), "
+          + "otherwise the job manager falls back to platform threads. If enabled, the properties '%s', '%s' and '%s' have no effect. The default value is false.",
+          BEANS.get(JobManagerCorePoolSizeProperty.class).getKey(), BEANS.get(JobManagerMaximumPoolSizeProperty.class).getKey(), BEANS.get(JobManagerPrestartCoreThreadsProperty.class).getKey());
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
+
+  public static class JobManagerTimingWheelSchedulerProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.timingWheelScheduler";
+    }
+
+    @Override
+    public String description() {
+      return "Specifies whether delayed and repetitive jobs are scheduled using a hierarchical timing wheel instead of a priority queue. "
+          + "The timing wheel schedules and cancels in constant time and is recommended for a high number of pending delayed jobs (e.g. many sessions), "
+          + "but fires jobs with a granularity of 10ms. The default value is false.";
+    }
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+  }
+
+  public static class JobManagerQueueCapacityProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.queueCapacity";
+    }
+
+    @Override
+    public String description() {
+      return String.format("The maximal number of jobs queued because all threads are in use (see '%s') or the concurrency limit of their priority class is reached. "
+          + "Jobs are rejected if the queue is full. Queued jobs are run in the order of their priority class. The default value is 10000.",
+          BEANS.get(JobManagerMaximumPoolSizeProperty.class).getKey());
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return 10_000;
+    }
+  }
+
+  public static class JobManagerMaxConcurrentInteractiveJobsProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.maxConcurrentInteractiveJobs";
+    }
+
+    @Override
+    public String description() {
+      return "The maximal number of jobs with priority 'INTERACTIVE' running concurrently. Further jobs are queued. The default value is unlimited.";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return Integer.MAX_VALUE;
+    }
+  }
+
+  public static class JobManagerMaxConcurrentDefaultJobsProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.maxConcurrentDefaultJobs";
+    }
+
+    @Override
+    public String description() {
+      return "The maximal number of jobs with priority 'DEFAULT' running concurrently. Further jobs are queued. The default value is unlimited.";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return Integer.MAX_VALUE;
+    }
+  }
+
+  public static class JobManagerMaxConcurrentBackgroundJobsProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.jobmanager.maxConcurrentBackgroundJobs";
+    }
+
+    @Override
+    public String description() {
+      return "The maximal number of jobs with priority 'BACKGROUND' running concurrently. Further jobs are queued. "
+          + "Limit this value to keep threads available for interactive jobs if many background jobs are scheduled at once. The default value is unlimited.";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return Integer.MAX_VALUE;
+    }
+  }
+
+  public static class CacheRefreshMaxConcurrentProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.cache.refreshMaxConcurrent";
+    }
+
+    @Override
+    public String description() {
+      return "The maximal number of cache values reloaded in the background concurrently, for all caches with refresh ahead enabled. The default value is 4.";
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return 4;
+    }
+  }
+
+  public static class CacheRefreshQueueCapacityProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.cache.refreshQueueCapacity";
+    }
+
+    @Override
+    public String description() {
+      return String.format("The maximal number of cache values waiting to be reloaded in the background because '%s' values are reloaded already. "
+          + "Further refreshes are dropped and retried upon the next access of the value. The default value is 1000.",
+          BEANS.get(CacheRefreshMaxConcurrentProperty.class).getKey());
+    }
+
+    @Override
+    public Integer getDefaultValue() {
+      return 1000;
+    }
+  }
+
+  public static class CacheSnapshotDirectoryProperty extends AbstractPathConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.cache.snapshotDirectory";
+    }
+
+    @Override
+    public String description() {
+      return "Directory the values of caches built with a snapshot version are written to on shutdown and preloaded from at startup. "
+          + "By default no directory is set and snapshots are disabled.";
+    }
+  }
+
+  public static class CacheSnapshotMaxAgeProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public String getKey() {
+      return "scout.cache.snapshotMaxAge";
+    }
+
+    @Override
+    public String description() {
+      return "The maximal age (in seconds) of a cache snapshot to be preloaded at startup. Older snapshots are discarded, "
+          + "as the data might have changed while the application was down. The default value is 10 minutes.";
+    }
+
+    @Override
+    public Long getDefaultValue() {
+      return 600L;
+    }
+  }
+
   public static class DevelopmentTextsFileWatcherEnabledProperty extends AbstractBooleanConfigProperty {
 
     @Override
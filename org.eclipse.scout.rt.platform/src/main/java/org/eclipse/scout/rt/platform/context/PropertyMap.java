@@ -9,15 +9,21 @@
  */
 package org.eclipse.scout.rt.platform.context;
 
+import java.util.AbstractMap.SimpleEntry;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.scout.rt.platform.util.Assertions;
 
 /**
  * Map to associate properties with the current context.
+ * <p>
+ * The properties are held in an immutable map which is replaced upon modification. That way, a copy shares the
+ * properties with its origin until one of them is modified, which makes copying cheap. Copies are created for every
+ * {@link RunContext} and job, whereas properties are rarely modified.
  *
  * @since 3.8.2
  */
@@ -38,18 +44,14 @@ public class PropertyMap implements Iterable<Entry<Object, Object>> {
    */
   public static final String PROP_CLIENT_SCOPE = "scout.scope.client";
 
-  private final Map<Object, Object> m_properties;
+  private volatile Map<Object, Object> m_properties; // never modified, but replaced upon modification
 
   public PropertyMap() {
     this(null);
   }
 
   public PropertyMap(final PropertyMap origin) {
-    m_properties = new ConcurrentHashMap<>();
-
-    if (origin != null && !origin.m_properties.isEmpty()) {
-      m_properties.putAll(origin.m_properties);
-    }
+    m_properties = (origin != null ? origin.m_properties : Collections.emptyMap());
   }
 
   /**
@@ -69,8 +71,9 @@ public class PropertyMap implements Iterable<Entry<Object, Object>> {
   @SuppressWarnings("unchecked")
   public <VALUE> VALUE getOrDefault(final Object key, final VALUE defaultValue) {
     Assertions.assertNotNull(key, "Key must not be null");
-    if (m_properties.containsKey(key)) {
-      return (VALUE) m_properties.get(key);
+    final Map<Object, Object> properties = m_properties;
+    if (properties.containsKey(key)) {
+      return (VALUE) properties.get(key);
     }
     else {
       return defaultValue;
@@ -81,13 +84,20 @@ public class PropertyMap implements Iterable<Entry<Object, Object>> {
    * Puts the given key-value association to this {@link PropertyMap}, or removes it if a <code>null</code>-value is
    * provided.
    */
-  public void put(final Object key, final Object value) {
+  public synchronized void put(final Object key, final Object value) {
     Assertions.assertNotNull(key, "Key must not be null");
     if (value == null) {
-      m_properties.remove(key);
+      if (!m_properties.containsKey(key)) {
+        return;
+      }
+      final Map<Object, Object> properties = new HashMap<>(m_properties);
+      properties.remove(key);
+      m_properties = properties.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(properties);
     }
     else {
-      m_properties.put(key, value);
+      final Map<Object, Object> properties = new HashMap<>(m_properties);
+      properties.put(key, value);
+      m_properties = Collections.unmodifiableMap(properties);
     }
   }
 
@@ -99,13 +109,17 @@ public class PropertyMap implements Iterable<Entry<Object, Object>> {
     return m_properties.containsKey(key);
   }
 
-  public void clear() {
-    m_properties.clear();
+  public synchronized void clear() {
+    m_properties = Collections.emptyMap();
   }
 
+  /**
+   * Returns an iterator over the properties at the time of this call. Modifications of this map during the iteration
+   * are not reflected. {@link Iterator#remove()} and {@link Entry#setValue(Object)} are supported and modify this map.
+   */
   @Override
   public Iterator<Entry<Object, Object>> iterator() {
-    return m_properties.entrySet().iterator();
+    return new P_Iterator(m_properties.entrySet().iterator());
   }
 
   /**
@@ -123,4 +137,47 @@ public class PropertyMap implements Iterable<Entry<Object, Object>> {
     return propertyMap.contains(property);
 
   }
+
+  /**
+   * Iterator over a snapshot of the properties which writes removals and new values through to this map.
+   */
+  private class P_Iterator implements Iterator<Entry<Object, Object>> {
+
+    private final Iterator<Entry<Object, Object>> m_iterator;
+    private Entry<Object, Object> m_current;
+
+    P_Iterator(final Iterator<Entry<Object, Object>> iterator) {
+      m_iterator = iterator;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return m_iterator.hasNext();
+    }
+
+    @Override
+    public Entry<Object, Object> next() {
+      final Entry<Object, Object> entry = m_iterator.next();
+      m_current = new SimpleEntry<Object, Object>(entry) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public Object setValue(final Object value) {
+          Assertions.assertNotNull(value, "Value must not be null");
+          put(getKey(), value);
+          return super.setValue(value);
+        }
+      };
+      return m_current;
+    }
+
+    @Override
+    public void remove() {
+      if (m_current == null) {
+        throw new IllegalStateException();
+      }
+      put(m_current.getKey(), null);
+      m_current = null;
+    }
+  }
 }
@@ -12,6 +12,7 @@ package org.eclipse.scout.rt.platform.context;
 import java.security.AccessController;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
@@ -26,6 +27,7 @@ import javax.security.auth.Subject;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.chain.IChainable;
 import org.eclipse.scout.rt.platform.chain.callable.CallableChain;
 import org.eclipse.scout.rt.platform.exception.DefaultRuntimeExceptionTranslator;
 import org.eclipse.scout.rt.platform.exception.IExceptionTranslator;
@@ -57,6 +59,10 @@ import org.slf4j.MDC;
  * whether to use an existing transaction, or to start a new transaction. If starting a new transaction, the transaction
  * is committed or rolled back upon the completion of the runnable. The default transaction scope is
  * {@link TransactionScope#REQUIRED}, which starts a new transaction only if not running in a transaction yet.
+ * <p>
+ * Copies of a context share the collections of thread-locals, diagnostics, transaction members and interceptors with
+ * their origin. These collections are never modified, but replaced upon modification, which makes copying a context
+ * cheap. Likewise, the {@link RunMonitor} is only created when first required.
  *
  * @since 5.1
  */
@@ -68,32 +74,43 @@ public class RunContext implements IAdaptable {
    */
   public static final ThreadLocal<RunContext> CURRENT = new ThreadLocal<>();
 
-  protected RunMonitor m_runMonitor = BEANS.get(RunMonitor.class);
+  /**
+   * Number of decorators and interceptors always contained in the chain created by {@link #createCallableChain()}.
+   */
+  private static final int BUILTIN_CHAIN_SIZE = 10;
+
+  protected volatile RunMonitor m_runMonitor; // created lazily, use getRunMonitor()
   protected RunMonitor m_parentRunMonitor;
   protected Subject m_subject;
   protected Locale m_locale;
   protected String m_correlationId;
   protected PropertyMap m_propertyMap = new PropertyMap();
 
-  protected Map<ThreadLocal<?>, ThreadLocalProcessor<?>> m_threadLocalProcessors = new HashMap<>();
-  protected Map<String, DiagnosticContextValueProcessor> m_diagnosticProcessors = new HashMap<>();
+  // The following collections are never modified, but replaced upon modification, so that they can be shared with copies.
+  protected Map<ThreadLocal<?>, ThreadLocalProcessor<?>> m_threadLocalProcessors = Collections.emptyMap();
+  protected Map<String, DiagnosticContextValueProcessor> m_diagnosticProcessors = Collections.emptyMap();
 
   protected TransactionScope m_transactionScope = TransactionScope.REQUIRED;
   protected ITransaction m_transaction;
   protected Supplier<ITransaction> m_newTransactionSupplier;
-  protected List<ITransactionMember> m_transactionMembers = new ArrayList<>();
+  protected List<ITransactionMember> m_transactionMembers = Collections.emptyList();
 
-  protected List<IRunContextChainInterceptor<?>> m_interceptors = new ArrayList<>();
+  protected List<IRunContextChainInterceptor<?>> m_interceptors = Collections.emptyList();
 
   @PostConstruct
   protected void initChainInterceptors() {
     List<IRunContextChainInterceptorProducer<RunContext>> producers = BEANS.get(RunContextChainIntercepterRegistry.class).getRunContextInterceptorProducer(this.getClass());
+    if (producers.isEmpty()) {
+      return;
+    }
+    List<IRunContextChainInterceptor<?>> interceptors = new ArrayList<>(producers.size());
     for (IRunContextChainInterceptorProducer<RunContext> producer : producers) {
       IRunContextChainInterceptor<Object> interceptor = producer.create();
       if (interceptor != null) {
-        m_interceptors.add(interceptor);
+        interceptors.add(interceptor);
       }
     }
+    m_interceptors = interceptors;
   }
 
   /**
@@ -152,7 +169,7 @@ public class RunContext implements IAdaptable {
    */
   @SuppressWarnings("squid:S1181")
   public <RESULT, EXCEPTION extends Throwable> RESULT call(final Callable<RESULT> callable, final Class<? extends IExceptionTranslator<EXCEPTION>> exceptionTranslator) throws EXCEPTION {
-    final ThreadInterrupter threadInterrupter = new ThreadInterrupter(Thread.currentThread(), m_runMonitor);
+    final ThreadInterrupter threadInterrupter = new ThreadInterrupter(Thread.currentThread(), getRunMonitor());
     try {
       return this.<RESULT> createCallableChain().call(callable);
     }
@@ -172,8 +189,9 @@ public class RunContext implements IAdaptable {
    * {@link #interceptCallableChain(CallableChain)}. Contributions are added before setting the transaction boundary.
    */
   protected <RESULT> CallableChain<RESULT> createCallableChain() {
-    final CallableChain<RESULT> contributions = new CallableChain<>();
+    final CallableChain<RESULT> contributions = new CallableChain<>(0);
     interceptCallableChain(contributions);
+    final List<IChainable> contributionList = contributions.values();
 
     @SuppressWarnings("unchecked")
     final TransactionProcessor<RESULT> transactionProcessor = BEANS.get(TransactionProcessor.class)
@@ -182,18 +200,21 @@ public class RunContext implements IAdaptable {
         .withNewTransactionSupplier(m_newTransactionSupplier)
         .withTransactionMembers(m_transactionMembers);
 
-    return new CallableChain<RESULT>()
-        .add(new RunMonitorCancellableProcessor(m_parentRunMonitor, m_runMonitor))
+    // The chain is not cached: its processors capture the state of this context, which is mutable, and
+    // contributions of subclasses may depend on any state of theirs.
+    final RunMonitor runMonitor = getRunMonitor();
+    return new CallableChain<RESULT>(BUILTIN_CHAIN_SIZE + m_threadLocalProcessors.size() + contributionList.size() + m_diagnosticProcessors.size() + m_interceptors.size())
+        .add(new RunMonitorCancellableProcessor(m_parentRunMonitor, runMonitor))
         .add(new ThreadLocalProcessor<>(CURRENT, this))
         .add(new ThreadLocalProcessor<>(CorrelationId.CURRENT, m_correlationId))
-        .add(new ThreadLocalProcessor<>(RunMonitor.CURRENT, Assertions.assertNotNull(m_runMonitor)))
+        .add(new ThreadLocalProcessor<>(RunMonitor.CURRENT, Assertions.assertNotNull(runMonitor)))
         .add(new SubjectProcessor<>(m_subject))
         .add(new DiagnosticContextValueProcessor(BEANS.get(PrinicpalContextValueProvider.class)))
         .add(new DiagnosticContextValueProcessor(BEANS.get(CorrelationIdContextValueProvider.class)))
         .add(new ThreadLocalProcessor<>(NlsLocale.CURRENT, m_locale))
         .add(new ThreadLocalProcessor<>(PropertyMap.CURRENT, m_propertyMap))
         .addAll(m_threadLocalProcessors.values())
-        .addAll(contributions.asList())
+        .addAll(contributionList)
         .addAll(m_diagnosticProcessors.values())
         .add(transactionProcessor)
         .addAll(m_interceptors);
@@ -213,6 +234,17 @@ public class RunContext implements IAdaptable {
    * Returns the {@link RunMonitor} associated, and is not <code>null</code>.
    */
   public RunMonitor getRunMonitor() {
+    final RunMonitor runMonitor = m_runMonitor;
+    if (runMonitor != null) {
+      return runMonitor;
+    }
+    return createRunMonitorIfAbsent();
+  }
+
+  private synchronized RunMonitor createRunMonitorIfAbsent() {
+    if (m_runMonitor == null) {
+      m_runMonitor = BEANS.get(RunMonitor.class);
+    }
     return m_runMonitor;
   }
 
@@ -374,7 +406,10 @@ public class RunContext implements IAdaptable {
    * which always applies for transaction scope {@link TransactionScope#REQUIRES_NEW}.
    */
   public RunContext withTransactionMember(final ITransactionMember transactionMember) {
-    m_transactionMembers.add(transactionMember);
+    final List<ITransactionMember> transactionMembers = new ArrayList<>(m_transactionMembers.size() + 1);
+    transactionMembers.addAll(m_transactionMembers);
+    transactionMembers.add(transactionMember);
+    m_transactionMembers = transactionMembers;
     return this;
   }
 
@@ -382,7 +417,7 @@ public class RunContext implements IAdaptable {
    * Removes all transaction members associated with this context.
    */
   public RunContext withoutTransactionMembers() {
-    m_transactionMembers.clear();
+    m_transactionMembers = Collections.emptyList();
     return this;
   }
 
@@ -403,7 +438,9 @@ public class RunContext implements IAdaptable {
    * context has this {@link ThreadLocal} set.
    */
   public <THREAD_LOCAL> RunContext withThreadLocal(final ThreadLocal<THREAD_LOCAL> threadLocal, final THREAD_LOCAL value) {
-    m_threadLocalProcessors.put(threadLocal, new ThreadLocalProcessor<>(threadLocal, value));
+    final Map<ThreadLocal<?>, ThreadLocalProcessor<?>> threadLocalProcessors = new HashMap<>(m_threadLocalProcessors);
+    threadLocalProcessors.put(threadLocal, new ThreadLocalProcessor<>(threadLocal, value));
+    m_threadLocalProcessors = threadLocalProcessors;
     return this;
   }
 
@@ -413,7 +450,9 @@ public class RunContext implements IAdaptable {
    * @see MDC
    */
   public RunContext withDiagnostic(final IDiagnosticContextValueProvider provider) {
-    m_diagnosticProcessors.put(provider.key(), new DiagnosticContextValueProcessor(provider));
+    final Map<String, DiagnosticContextValueProcessor> diagnosticProcessors = new HashMap<>(m_diagnosticProcessors);
+    diagnosticProcessors.put(provider.key(), new DiagnosticContextValueProcessor(provider));
+    m_diagnosticProcessors = diagnosticProcessors;
     return this;
   }
 
@@ -516,7 +555,7 @@ public class RunContext implements IAdaptable {
    * Copies the values of the specified {@link RunContext} to <code>this</code> context.
    */
   protected void copyValues(final RunContext origin) {
-    m_runMonitor = origin.m_runMonitor;
+    m_runMonitor = origin.getRunMonitor();
     m_parentRunMonitor = origin.m_parentRunMonitor;
     m_subject = origin.m_subject;
     m_locale = origin.m_locale;
@@ -525,10 +564,10 @@ public class RunContext implements IAdaptable {
     m_transactionScope = origin.m_transactionScope;
     m_transaction = origin.m_transaction;
     m_newTransactionSupplier = origin.m_newTransactionSupplier;
-    m_transactionMembers = new ArrayList<>(origin.m_transactionMembers);
-    m_threadLocalProcessors = new HashMap<>(origin.m_threadLocalProcessors);
-    m_diagnosticProcessors = new HashMap<>(origin.m_diagnosticProcessors);
-    m_interceptors = new ArrayList<>(origin.m_interceptors);
+    m_transactionMembers = origin.m_transactionMembers;
+    m_threadLocalProcessors = origin.m_threadLocalProcessors;
+    m_diagnosticProcessors = origin.m_diagnosticProcessors;
+    m_interceptors = origin.m_interceptors;
   }
 
   /**
@@ -546,15 +585,21 @@ public class RunContext implements IAdaptable {
     m_transactionScope = currentRunContext.m_transactionScope;
     m_transaction = ITransaction.CURRENT.get();
     m_newTransactionSupplier = currentRunContext.m_newTransactionSupplier;
-    m_transactionMembers = new ArrayList<>(currentRunContext.m_transactionMembers);
-    m_diagnosticProcessors = new HashMap<>(currentRunContext.m_diagnosticProcessors);
+    m_transactionMembers = currentRunContext.m_transactionMembers;
+    m_diagnosticProcessors = currentRunContext.m_diagnosticProcessors;
 
     // Create a copy of the current 'thread-local' processors, and update their values to their current value.
-    m_threadLocalProcessors = new HashMap<>(currentRunContext.m_threadLocalProcessors.size());
-    for (final ThreadLocalProcessor<?> threadLocalProcessor : currentRunContext.m_threadLocalProcessors.values()) {
-      @SuppressWarnings("unchecked")
-      final ThreadLocal<Object> threadLocal = (ThreadLocal<Object>) threadLocalProcessor.getThreadLocal();
-      m_threadLocalProcessors.put(threadLocal, new ThreadLocalProcessor<>(threadLocal, threadLocal.get()));
+    if (currentRunContext.m_threadLocalProcessors.isEmpty()) {
+      m_threadLocalProcessors = Collections.emptyMap();
+    }
+    else {
+      final Map<ThreadLocal<?>, ThreadLocalProcessor<?>> threadLocalProcessors = new HashMap<>(currentRunContext.m_threadLocalProcessors.size());
+      for (final ThreadLocalProcessor<?> threadLocalProcessor : currentRunContext.m_threadLocalProcessors.values()) {
+        @SuppressWarnings("unchecked")
+        final ThreadLocal<Object> threadLocal = (ThreadLocal<Object>) threadLocalProcessor.getThreadLocal();
+        threadLocalProcessors.put(threadLocal, new ThreadLocalProcessor<>(threadLocal, threadLocal.get()));
+      }
+      m_threadLocalProcessors = threadLocalProcessors;
     }
 
     // copy interceptors
@@ -10,7 +10,10 @@
 package org.eclipse.scout.rt.platform.context;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.annotation.PostConstruct;
 
@@ -27,11 +30,15 @@ public class RunContextChainIntercepterRegistry {
 
   private final TypeParameterBeanRegistry<IRunContextChainInterceptorProducer> m_runContextInterceptorProducers = new TypeParameterBeanRegistry<>(IRunContextChainInterceptorProducer.class);
 
+  // Producers by RunContext class, because they are resolved upon the construction of every RunContext.
+  private final Map<Class<?>, List<IRunContextChainInterceptorProducer>> m_producersByRunContextClass = new ConcurrentHashMap<>();
+
   private IRegistrationHandle m_registrationHandle;
 
   @PostConstruct
   protected void buildProducerLinking() {
     m_registrationHandle = m_runContextInterceptorProducers.registerBeans(BEANS.all(IRunContextChainInterceptorProducer.class));
+    m_producersByRunContextClass.clear();
   }
 
   /**
@@ -42,13 +49,17 @@ public class RunContextChainIntercepterRegistry {
     buildProducerLinking();
   }
 
+  /**
+   * Returns the producers for the given {@link RunContext} class. The returned list is not modifiable.
+   */
   @SuppressWarnings("unchecked")
   public <T extends RunContext> List<IRunContextChainInterceptorProducer<T>> getRunContextInterceptorProducer(Class<?> runContextClass) {
-    List<IRunContextChainInterceptorProducer<T>> result = new ArrayList<>();
-    List<IRunContextChainInterceptorProducer> beans = m_runContextInterceptorProducers.getBeans(runContextClass);
-    for (IRunContextChainInterceptorProducer iRunContextChainInterceptorProducer : beans) {
-      result.add(iRunContextChainInterceptorProducer);
+    List<IRunContextChainInterceptorProducer> producers = m_producersByRunContextClass.get(runContextClass);
+    if (producers == null) {
+      List<IRunContextChainInterceptorProducer> beans = m_runContextInterceptorProducers.getBeans(runContextClass);
+      producers = beans.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(beans));
+      m_producersByRunContextClass.put(runContextClass, producers);
     }
-    return result;
+    return (List) producers;
   }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.interceptor.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Invokes methods of decorated beans using {@link MethodHandle}s instead of {@link Method#invoke(Object, Object...)}.
+ * <p>
+ * A {@link MethodHandle} of the shape {@code (Object target, Object[] args) -> Object} is created once per
+ * {@link Method} and cached. Compared to reflective calls, no access checks and no {@link InvocationTargetException}
+ * wrapping take place on each invocation.
+ * <p>
+ * Decorated beans get a new {@link BeanProxyImplementor} on almost every lookup, so the handles are not held by the
+ * proxy but in a {@link ClassValue} of the class declaring the method. The cache is thereby bound to the lifetime of
+ * that class and does not keep its class loader reachable.
+ * <p>
+ * Arguments which do not match the parameter types of the method are reported the same way as by reflection: the
+ * arguments are converted strictly by the handle (i.e. before the target method is called), and if that fails, the
+ * method is invoked by reflection, which accepts widening conversions and throws a {@link ProcessingException} for
+ * arguments which cannot be converted. If no {@link MethodHandle} can be created for a method (e.g. because it is not
+ * accessible), the invocation falls back to reflection as well.
+ */
+public final class BeanMethodInvoker {
+  private static final Logger LOG = LoggerFactory.getLogger(BeanMethodInvoker.class);
+
+  private static final MethodHandle REFLECTIVE_FALLBACK;
+
+  static {
+    try {
+      REFLECTIVE_FALLBACK = MethodHandles.lookup().findStatic(BeanMethodInvoker.class, "invokeReflective",
+          MethodType.methodType(Object.class, Method.class, Object.class, Object[].class));
+    }
+    catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  private static final ClassValue<ConcurrentMap<Method, MethodHandle>> HANDLES = new ClassValue<ConcurrentMap<Method, MethodHandle>>() {
+    @Override
+    protected ConcurrentMap<Method, MethodHandle> computeValue(Class<?> declaringClass) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
+  private BeanMethodInvoker() {
+  }
+
+  /**
+   * Invokes the given method on the given target. In contrast to {@link Method#invoke(Object, Object...)} exceptions
+   * thrown by the method are not wrapped into an {@link InvocationTargetException} but thrown as they are.
+   *
+   * @throws ProcessingException
+   *           if the target or the arguments do not match the method (like {@link BeanProxyImplementor} always did)
+   */
+  @SuppressWarnings("squid:S00112")
+  public static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+    MethodHandle handle = HANDLES.get(method.getDeclaringClass()).computeIfAbsent(method, BeanMethodInvoker::createHandle);
+    try {
+      return handle.invokeExact(target, args);
+    }
+    catch (ClassCastException | NullPointerException | IllegalArgumentException e) {
+      if (isInvocable(method, target, args)) {
+        throw e; // thrown by the method itself
+      }
+      // the handle rejected the target or the arguments before the method was called
+      return invokeReflective(method, target, args);
+    }
+  }
+
+  static MethodHandle createHandle(Method method) {
+    try {
+      method.setAccessible(true);
+      MethodHandle handle = MethodHandles.lookup().unreflect(method);
+      // box primitives first, so that the conversion from Object is a strict cast (see isInvocable)
+      int parameterCount = method.getParameterCount();
+      return handle
+          .asType(handle.type().wrap())
+          .asType(MethodType.genericMethodType(parameterCount + 1))
+          .asSpreader(Object[].class, parameterCount);
+    }
+    catch (IllegalAccessException | RuntimeException e) {
+      LOG.debug("Cannot create method handle for {}. Falling back to reflection.", method, e);
+      return MethodHandles.insertArguments(REFLECTIVE_FALLBACK, 0, method);
+    }
+  }
+
+  /**
+   * @return {@code true} if the given target and arguments are accepted by the handle created by
+   *         {@link #createHandle(Method)} without any conversion failure.
+   */
+  static boolean isInvocable(Method method, Object target, Object[] args) {
+    if (!method.getDeclaringClass().isInstance(target)) {
+      return false;
+    }
+    Class<?>[] parameterTypes = MethodType.methodType(void.class, method.getParameterTypes()).wrap().parameterArray();
+    int argCount = args == null ? 0 : args.length;
+    if (argCount != parameterTypes.length) {
+      return false;
+    }
+    for (int i = 0; i < argCount; i++) {
+      Object arg = args[i];
+      if (arg == null ? method.getParameterTypes()[i].isPrimitive() : !parameterTypes[i].isInstance(arg)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @SuppressWarnings("squid:S00112")
+  private static Object invokeReflective(Method method, Object target, Object[] args) throws Throwable {
+    try {
+      return method.invoke(target, args);
+    }
+    catch (IllegalAccessException e) {
+      throw new ProcessingException("access denied", e);
+    }
+    catch (IllegalArgumentException e) {
+      throw new ProcessingException("argument mismatch", e);
+    }
+    catch (InvocationTargetException e) {
+      throw e.getCause();
+    }
+  }
+}
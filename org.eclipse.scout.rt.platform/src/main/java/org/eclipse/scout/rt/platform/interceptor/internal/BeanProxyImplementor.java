@@ -10,14 +10,12 @@
 package org.eclipse.scout.rt.platform.interceptor.internal;
 
 import java.lang.reflect.InvocationHandler;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.UndeclaredThrowableException;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.exception.DefaultExceptionTranslator;
-import org.eclipse.scout.rt.platform.exception.ProcessingException;
 import org.eclipse.scout.rt.platform.interceptor.DecoratingProxy;
 import org.eclipse.scout.rt.platform.interceptor.IBeanDecorator;
 import org.eclipse.scout.rt.platform.interceptor.IBeanInvocationContext;
@@ -25,7 +23,8 @@ import org.eclipse.scout.rt.platform.interceptor.IInstanceInvocationHandler;
 import org.eclipse.scout.rt.platform.util.Assertions;
 
 /**
- * default implementation used to wrap around an interface using a java proxy {@link InvocationHandler}
+ * default implementation used to wrap around an interface using a java proxy {@link InvocationHandler}. The target
+ * methods are invoked using cached method handles (see {@link BeanMethodInvoker}).
  */
 public class BeanProxyImplementor<T> implements IInstanceInvocationHandler<T> {
   private final IBean<T> m_bean;
@@ -66,20 +65,15 @@ public class BeanProxyImplementor<T> implements IInstanceInvocationHandler<T> {
       }
 
       @Override
+      @SuppressWarnings("squid:S1181")
       public Object proceed() {
         try {
-          return method.invoke(instance, args);
+          return BeanMethodInvoker.invoke(method, instance, args);
         }
-        catch (IllegalAccessException e) {
-          throw new ProcessingException("access denied", e);
-        }
-        catch (IllegalArgumentException e) {
-          throw new ProcessingException("argument mismatch", e);
-        }
-        catch (InvocationTargetException e) {
+        catch (Throwable t) {
           // Do not use DefaultRuntimeExceptionTranslator here because it would wrap checked exceptions into a PlatformException.
           // But this method must return an exception of a type that DefaultExceptionTranslator can unwrap again (see DefaultExceptionTranslator#isWrapperException()).
-          Throwable originalThrowable = BEANS.get(DefaultExceptionTranslator.class).unwrap(e);
+          Throwable originalThrowable = BEANS.get(DefaultExceptionTranslator.class).unwrap(t);
           if (originalThrowable instanceof Error) {
             throw (Error) originalThrowable;
           }
@@ -27,7 +27,8 @@ import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
 
 /**
- * This class is not thread safe
+ * Modifications of this class are not thread safe and must be guarded by the caller. Computed query results are
+ * immutable and safely published, so {@link #getQueryResult(boolean)} may be called without any lock.
  */
 public class BeanHierarchy<T> {
 
@@ -35,13 +36,9 @@ public class BeanHierarchy<T> {
   private final List<IBean<T>> m_beans;
 
   /**
-   * Redundant, derived by {@link #m_beans}
+   * Redundant, derived by {@link #m_beans}. {@code null} if not computed yet or invalidated.
    */
-  private List<IBean<T>> m_single;
-  /**
-   * Redundant, derived by {@link #m_beans}
-   */
-  private List<IBean<T>> m_all;
+  private volatile QueryResult<T> m_queryResult;
 
   public BeanHierarchy(Class<T> clazz) {
     m_clazz = clazz;
@@ -99,9 +96,21 @@ public class BeanHierarchy<T> {
     return query(false);
   }
 
+  /**
+   * @return the already computed result of {@link #querySingle()} (if {@code querySingle} is {@code true}) or
+   *         {@link #queryAll()} or {@code null} if the result has not been computed yet. This method never computes
+   *         the result itself and may therefore be called without holding any lock.
+   */
+  public List<IBean<T>> getQueryResult(boolean querySingle) {
+    QueryResult<T> result = m_queryResult;
+    if (result == null) {
+      return null;
+    }
+    return result.get(querySingle);
+  }
+
   protected void invalidate() {
-    m_single = null;
-    m_all = null;
+    m_queryResult = null;
   }
 
   /**
@@ -128,17 +137,15 @@ public class BeanHierarchy<T> {
   }
 
   protected List<IBean<T>> query(boolean querySingle) {
-    if (m_single == null || m_all == null) {
-      initialize();
-    }
-    if (querySingle) {
-      return m_single;
+    QueryResult<T> result = m_queryResult;
+    if (result == null) {
+      result = initialize();
     }
-    return m_all;
+    return result.get(querySingle);
   }
 
   @SuppressWarnings({"unchecked", "squid:S1244" /* Floating point numbers should not be tested for equality */})
-  protected void initialize() {
+  protected QueryResult<T> initialize() {
     List<IBean<T>> list = sortedBeanCopy();
     //manage replaced beans
     final Map<Class<?>, IBean<?>> extendsMap = new HashMap<>();//key is replaced by value
@@ -174,24 +181,26 @@ public class BeanHierarchy<T> {
     //remove replaced beans
     list.removeIf(tiBean -> extendsMap.containsKey(tiBean.getBeanClazz()));
 
+    List<IBean<T>> all;
+    List<IBean<T>> single;
     if (list.isEmpty()) {
-      m_all = Collections.emptyList();
-      m_single = Collections.emptyList();
+      all = Collections.emptyList();
+      single = Collections.emptyList();
     }
     else {
-      m_all = Collections.unmodifiableList(new ArrayList<>(list));
+      all = Collections.unmodifiableList(new ArrayList<>(list));
 
       IBean<T> exactBean = getExactBean(list, refClazz);
       if (exactBean != null) {
         // we have an exact match: use it
-        m_single = Collections.singletonList(exactBean);
+        single = Collections.singletonList(exactBean);
       }
       else if (!refClazz.isInterface() && !Modifier.isAbstract(refClazz.getModifiers())) {
         // we queried an specific class (no interface, no abstract class): only exact beans are allowed but we don't have one.
-        m_single = Collections.emptyList();
+        single = Collections.emptyList();
       }
       else if (list.size() == 1) {
-        m_single = Collections.singletonList(list.get(0));
+        single = Collections.singletonList(list.get(0));
       }
       else {
         //only retain lowest order and if lowest order is same for multiple beans, keep them all, provocating a multiple instance exception on querySingle
@@ -207,9 +216,12 @@ public class BeanHierarchy<T> {
         while (iterator.hasNext() && orderOf(curBean = iterator.next()) == lowestOrder) {
           lowestOrderBeans.add(curBean);
         }
-        m_single = Collections.unmodifiableList(new ArrayList<>(lowestOrderBeans));
+        single = Collections.unmodifiableList(new ArrayList<>(lowestOrderBeans));
       }
     }
+    QueryResult<T> result = new QueryResult<>(single, all);
+    m_queryResult = result;
+    return result;
   }
 
   /**
@@ -229,6 +241,24 @@ public class BeanHierarchy<T> {
     return null; // no exact match found
   }
 
+  /**
+   * Immutable result of {@link #initialize()}. Both lists are computed together so that concurrent readers always see
+   * a consistent pair.
+   */
+  protected static final class QueryResult<T> {
+    private final List<IBean<T>> m_single;
+    private final List<IBean<T>> m_all;
+
+    private QueryResult(List<IBean<T>> single, List<IBean<T>> all) {
+      m_single = single;
+      m_all = all;
+    }
+
+    public List<IBean<T>> get(boolean querySingle) {
+      return querySingle ? m_single : m_all;
+    }
+  }
+
   private static final Comparator<IBean<?>> ORDER_COMPARATOR = Comparator
       .<IBean<?>> comparingDouble(BeanHierarchy::orderOf)
       .thenComparing(o -> o.getBeanClazz().getName());
@@ -13,26 +13,35 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.BeanMetaData;
 import org.eclipse.scout.rt.platform.CreateImmediately;
+import org.eclipse.scout.rt.platform.CreateImmediatelyAfter;
 import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.IBeanDecorationFactory;
 import org.eclipse.scout.rt.platform.IBeanManager;
+import org.eclipse.scout.rt.platform.context.RunContexts;
 import org.eclipse.scout.rt.platform.exception.InitializationException;
 import org.eclipse.scout.rt.platform.interceptor.IBeanDecorator;
 import org.eclipse.scout.rt.platform.interceptor.internal.BeanProxyImplementor;
+import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.BeanUtility;
 import org.eclipse.scout.rt.platform.util.CollectionUtility;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,10 +51,12 @@ public class BeanManagerImplementor implements IBeanManager {
 
   private final ReentrantReadWriteLock m_lock;
   /**
-   * BeanHierarchies are only accessed when we have acquired {@link #m_lock}.
+   * BeanHierarchies are only modified when we have acquired the write lock of {@link #m_lock}. Already computed query
+   * results of a hierarchy are read without any lock (see {@link #query(BeanHierarchy, boolean)}).
    */
   private final Map<Class<?>, BeanHierarchy> m_beanHierarchies;
   private IBeanDecorationFactory m_beanDecorationFactory;
+  private volatile PlatformStartupProfiler m_startupProfiler;
 
   public BeanManagerImplementor() {
     this(null);
@@ -53,7 +64,7 @@ public class BeanManagerImplementor implements IBeanManager {
 
   public BeanManagerImplementor(IBeanDecorationFactory f) {
     m_lock = new ReentrantReadWriteLock(true);
-    m_beanHierarchies = new HashMap<>();
+    m_beanHierarchies = new ConcurrentHashMap<>();
     m_beanDecorationFactory = f;
   }
 
@@ -67,34 +78,37 @@ public class BeanManagerImplementor implements IBeanManager {
 
   protected <T> List<IBean<T>> querySingle(Class<T> beanClazz) {
     checkAccess();
-    m_lock.readLock().lock();
-    try {
-      @SuppressWarnings("unchecked")
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return Collections.emptyList();
-      }
-      else {
-        List<IBean<T>> singleBean = h.querySingle();
-        return getDecoratedBeans(singleBean, beanClazz);
-      }
-    }
-    finally {
-      m_lock.readLock().unlock();
+    @SuppressWarnings("unchecked")
+    BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
+    if (h == null) {
+      return Collections.emptyList();
     }
+    return getDecoratedBeans(query(h, true), beanClazz);
   }
 
   protected <T> List<IBean<T>> queryAll(Class<T> beanClazz) {
+    checkAccess();
+    @SuppressWarnings("unchecked")
+    BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
+    if (h == null) {
+      return Collections.emptyList();
+    }
+    return getDecoratedBeans(query(h, false), beanClazz);
+  }
+
+  /**
+   * Returns the (immutable) query result of the given hierarchy. If the result has already been computed since the last
+   * modification of the hierarchy, it is returned without acquiring any lock. Otherwise, it is computed while holding
+   * the read lock, which guarantees that no concurrent modification takes place.
+   */
+  protected <T> List<IBean<T>> query(BeanHierarchy<T> h, boolean querySingle) {
+    List<IBean<T>> result = h.getQueryResult(querySingle);
+    if (result != null) {
+      return result;
+    }
     m_lock.readLock().lock();
     try {
-      checkAccess();
-      @SuppressWarnings("unchecked")
-      BeanHierarchy<T> h = m_beanHierarchies.get(beanClazz);
-      if (h == null) {
-        return Collections.emptyList();
-      }
-      List<IBean<T>> allBeans = h.queryAll();
-      return getDecoratedBeans(allBeans, beanClazz);
+      return querySingle ? h.querySingle() : h.queryAll();
     }
     finally {
       m_lock.readLock().unlock();
@@ -329,6 +343,14 @@ public class BeanManagerImplementor implements IBeanManager {
     return m_beanDecorationFactory;
   }
 
+  /**
+   * @param profiler
+   *          profiler recording the creation of {@link CreateImmediately} beans or {@code null} to disable profiling.
+   */
+  protected void setStartupProfiler(PlatformStartupProfiler profiler) {
+    m_startupProfiler = profiler;
+  }
+
   /**
    * Creates the bean which represents the given {@link BeanMetaData}, and which is registered in bean manager.
    */
@@ -337,10 +359,51 @@ public class BeanManagerImplementor implements IBeanManager {
   }
 
   public void startCreateImmediatelyBeans() {
-    for (IBean bean : getBeans(Object.class)) {
+    startCreateImmediatelyBeans(false);
+  }
+
+  /**
+   * Instantiates all {@link CreateImmediately} beans respecting the dependencies declared by
+   * {@link CreateImmediatelyAfter}.
+   *
+   * @param parallel
+   *          {@code true} to instantiate independent beans concurrently using the job manager, {@code false} to
+   *          instantiate them one by one in the current thread.
+   */
+  public void startCreateImmediatelyBeans(boolean parallel) {
+    List<IBean<?>> beans = collectCreateImmediatelyBeans();
+    Map<IBean<?>, Set<IBean<?>>> dependencies = collectCreateImmediatelyDependencies(beans);
+    if (parallel) {
+      createImmediatelyInParallel(dependencies);
+    }
+    else {
+      for (IBean<?> bean : sortByDependencies(dependencies)) {
+        createImmediately(bean);
+      }
+    }
+  }
+
+  /**
+   * Creates the instance of the given {@link CreateImmediately} bean and records the time required (including its
+   * {@code @PostConstruct} methods) if a {@link PlatformStartupProfiler} is set.
+   */
+  protected void createImmediately(IBean<?> bean) {
+    PlatformStartupProfiler profiler = m_startupProfiler;
+    if (profiler == null) {
+      bean.getInstance();
+      return;
+    }
+    try (PlatformStartupProfiler.Span ignored = profiler.start(PlatformStartupProfiler.CATEGORY_CREATE_IMMEDIATELY, bean.getBeanClazz().getName())) {
+      bean.getInstance();
+    }
+  }
+
+  protected List<IBean<?>> collectCreateImmediatelyBeans() {
+    List<IBean<?>> result = new ArrayList<>();
+    for (IBean<?> bean : getBeans(Object.class)) {
       if (isCreateImmediately(bean)) {
         if (isApplicationScoped(bean)) {
-          bean.getInstance();
+          result.add(bean);
         }
         else {
           throw new InitializationException(String.format(
@@ -351,6 +414,147 @@ public class BeanManagerImplementor implements IBeanManager {
         }
       }
     }
+    return result;
+  }
+
+  /**
+   * @return the given beans (in the same order) mapped to the beans they have to wait for according to
+   *         {@link CreateImmediatelyAfter}.
+   */
+  protected Map<IBean<?>, Set<IBean<?>>> collectCreateImmediatelyDependencies(List<IBean<?>> beans) {
+    Map<IBean<?>, Set<IBean<?>>> dependencies = new LinkedHashMap<>();
+    for (IBean<?> bean : beans) {
+      Set<IBean<?>> beanDependencies = new LinkedHashSet<>();
+      CreateImmediatelyAfter after = bean.getBeanAnnotation(CreateImmediatelyAfter.class);
+      if (after != null) {
+        for (Class<?> type : after.value()) {
+          for (IBean<?> candidate : beans) {
+            if (candidate != bean && type.isAssignableFrom(candidate.getBeanClazz())) {
+              beanDependencies.add(candidate);
+            }
+          }
+        }
+      }
+      dependencies.put(bean, beanDependencies);
+    }
+    return dependencies;
+  }
+
+  /**
+   * @return the beans sorted so that every bean comes after its dependencies. Beans without dependencies between each
+   *         other keep their original order.
+   */
+  protected List<IBean<?>> sortByDependencies(Map<IBean<?>, Set<IBean<?>>> dependencies) {
+    List<IBean<?>> sorted = new ArrayList<>(dependencies.size());
+    Set<IBean<?>> done = new HashSet<>();
+    Map<IBean<?>, Set<IBean<?>>> pending = new LinkedHashMap<>(dependencies);
+    while (!pending.isEmpty()) {
+      IBean<?> next = null;
+      for (Entry<IBean<?>, Set<IBean<?>>> entry : pending.entrySet()) {
+        if (done.containsAll(entry.getValue())) {
+          next = entry.getKey();
+          break;
+        }
+      }
+      if (next == null) {
+        throw new InitializationException(String.format("Cyclic @%s dependencies between beans %s",
+            CreateImmediatelyAfter.class.getSimpleName(), pending.keySet()));
+      }
+      pending.remove(next);
+      done.add(next);
+      sorted.add(next);
+    }
+    return sorted;
+  }
+
+  @SuppressWarnings("squid:S1181")
+  protected void createImmediatelyInParallel(Map<IBean<?>, Set<IBean<?>>> dependencies) {
+    sortByDependencies(dependencies); // fail early on cyclic dependencies
+
+    Map<IBean<?>, Set<IBean<?>>> pending = new LinkedHashMap<>();
+    for (Entry<IBean<?>, Set<IBean<?>>> entry : dependencies.entrySet()) {
+      pending.put(entry.getKey(), new HashSet<>(entry.getValue()));
+    }
+    BlockingQueue<CreateImmediatelyResult> completed = new LinkedBlockingQueue<>();
+    List<CreateImmediatelyResult> failures = new ArrayList<>();
+    int running = 0;
+    while (!pending.isEmpty() || running > 0) {
+      if (failures.isEmpty()) {
+        for (Iterator<Entry<IBean<?>, Set<IBean<?>>>> it = pending.entrySet().iterator(); it.hasNext();) {
+          Entry<IBean<?>, Set<IBean<?>>> entry = it.next();
+          if (entry.getValue().isEmpty()) {
+            it.remove();
+            scheduleCreateImmediately(entry.getKey(), completed);
+            running++;
+          }
+        }
+      }
+      if (running == 0) {
+        break; // only reached after a failure, remaining beans are not created anymore
+      }
+
+      CreateImmediatelyResult result;
+      try {
+        result = completed.take();
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new ThreadInterruptedError("Interrupted while creating @{} beans", CreateImmediately.class.getSimpleName());
+      }
+      running--;
+      if (result.getError() != null) {
+        failures.add(result);
+      }
+      else {
+        for (Set<IBean<?>> waitingFor : pending.values()) {
+          waitingFor.remove(result.getBean());
+        }
+      }
+    }
+
+    if (!failures.isEmpty()) {
+      CreateImmediatelyResult first = failures.get(0);
+      InitializationException e = new InitializationException(String.format("Failed to create @%s bean '%s'",
+          CreateImmediately.class.getSimpleName(), first.getBean().getBeanClazz()), first.getError());
+      for (CreateImmediatelyResult failure : failures.subList(1, failures.size())) {
+        e.addSuppressed(failure.getError());
+      }
+      throw e;
+    }
+  }
+
+  @SuppressWarnings("squid:S1181")
+  protected void scheduleCreateImmediately(IBean<?> bean, BlockingQueue<CreateImmediatelyResult> completed) {
+    Jobs.schedule(() -> {
+      Throwable error = null;
+      try {
+        createImmediately(bean);
+      }
+      catch (Throwable t) {
+        error = t;
+      }
+      completed.add(new CreateImmediatelyResult(bean, error));
+    }, Jobs.newInput()
+        .withName("Create @{} bean {}", CreateImmediately.class.getSimpleName(), bean.getBeanClazz().getName())
+        .withRunContext(RunContexts.empty()));
+  }
+
+  protected static class CreateImmediatelyResult {
+    private final IBean<?> m_bean;
+    private final Throwable m_error;
+
+    protected CreateImmediatelyResult(IBean<?> bean, Throwable error) {
+      m_bean = bean;
+      m_error = error;
+    }
+
+    public IBean<?> getBean() {
+      return m_bean;
+    }
+
+    public Throwable getError() {
+      return m_error;
+    }
   }
 
   public static boolean isCreateImmediately(IBean<?> bean) {
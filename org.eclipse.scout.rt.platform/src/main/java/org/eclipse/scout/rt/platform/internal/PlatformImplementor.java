@@ -10,6 +10,10 @@
 package org.eclipse.scout.rt.platform.internal;
 
 import java.awt.*;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.EnumSet;
 import java.util.List;
@@ -29,8 +33,11 @@ import org.eclipse.scout.rt.platform.PlatformEvent;
 import org.eclipse.scout.rt.platform.SimpleBeanDecorationFactory;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.config.ConfigUtility;
+import org.eclipse.scout.rt.platform.config.IConfigProperty;
 import org.eclipse.scout.rt.platform.config.IConfigurationValidator;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.CreateImmediatelyParallelProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.PlatformDevModeProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.PlatformStartupTraceFileProperty;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
 import org.eclipse.scout.rt.platform.inventory.ClassInventory;
 import org.eclipse.scout.rt.platform.inventory.IClassInventory;
@@ -58,6 +65,7 @@ public class PlatformImplementor implements IPlatform {
   private final AtomicReference<State> m_state; // may be read at any time by any thread
   private BeanManagerImplementor m_beanManager;
   private volatile boolean m_initializedSuccessfully;
+  private volatile PlatformStartupProfiler m_startupProfiler;
 
   public PlatformImplementor() {
     m_state = new AtomicReference<>(State.PlatformStopped);
@@ -84,6 +92,14 @@ public class PlatformImplementor implements IPlatform {
     }
   }
 
+  /**
+   * @return the profiler which recorded the last (or currently running) platform startup or {@code null} if this
+   *         platform was never started.
+   */
+  public PlatformStartupProfiler getStartupProfiler() {
+    return m_startupProfiler;
+  }
+
   @Override
   public void awaitPlatformStarted() {
     awaitLatchSafe(m_platformStarted);
@@ -128,23 +144,47 @@ public class PlatformImplementor implements IPlatform {
   public void start() {
     try {
       m_platformLock.writeLock().lock();
+      boolean writeLockHeld = true;
       try {
         notifyPlatformStarting();
         if (m_state.get() != State.PlatformStopped) {
           throw new PlatformException("Platform is not stopped [m_state=" + m_state.get() + "]");
         }
 
+        m_startupProfiler = createStartupProfiler();
         try {
-          validateHeadless();
-          m_beanManager = createBeanManager();
+          try (PlatformStartupProfiler.Span ignored = startPhase("validateHeadless")) {
+            validateHeadless();
+          }
+          try (PlatformStartupProfiler.Span ignored = startPhase("createBeanManager")) {
+            m_beanManager = createBeanManager();
+          }
+          m_beanManager.setStartupProfiler(m_startupProfiler);
           //now all IPlatformListener are registered and can receive platform events
           changeState(State.BeanManagerPrepared, true);
 
-          validateConfiguration();
-          initBeanDecorationFactory();
+          try (PlatformStartupProfiler.Span ignored = startPhase("validateConfiguration")) {
+            validateConfiguration();
+          }
+          try (PlatformStartupProfiler.Span ignored = startPhase("initBeanDecorationFactory")) {
+            initBeanDecorationFactory();
+          }
 
           changeState(State.BeanManagerValid, true);
-          startCreateImmediatelyBeans();
+          if (isCreateImmediatelyInParallel()) {
+            // downgrade to the read lock: the beans are created by other threads which must be able to access the bean manager
+            m_platformLock.readLock().lock();
+            m_platformLock.writeLock().unlock();
+            writeLockHeld = false;
+            try (PlatformStartupProfiler.Span ignored = startPhase("startCreateImmediatelyBeans")) {
+              startCreateImmediatelyBeansInParallel();
+            }
+          }
+          else {
+            try (PlatformStartupProfiler.Span ignored = startPhase("startCreateImmediatelyBeans")) {
+              startCreateImmediatelyBeans();
+            }
+          }
         }
         catch (RuntimeException | Error e) {
           LOG.error("Error during platform startup", e);
@@ -155,16 +195,62 @@ public class PlatformImplementor implements IPlatform {
       finally {
         //since we are using a reentrant lock, platform beans can be accessed within platform listeners
         //lock has to be released after the State.BeanManagerValid change to make sure everything is initialized correctly, before beans can be accessed.
-        m_platformLock.writeLock().unlock();
+        if (writeLockHeld) {
+          m_platformLock.writeLock().unlock();
+        }
+        else {
+          m_platformLock.readLock().unlock();
+        }
       }
       changeState(State.PlatformStarted, true);
       m_initializedSuccessfully = true;
+      m_beanManager.setStartupProfiler(null);
+      logStartupProfile();
+      exportStartupProfile();
     }
     finally {
       notifyPlatformStarted();
     }
   }
 
+  protected PlatformStartupProfiler createStartupProfiler() {
+    return new PlatformStartupProfiler();
+  }
+
+  protected PlatformStartupProfiler.Span startPhase(String name) {
+    return m_startupProfiler.start(PlatformStartupProfiler.CATEGORY_PHASE, name);
+  }
+
+  protected void exportStartupProfile() {
+    String traceFile = getConfigPropertyValue(PlatformStartupTraceFileProperty.class);
+    if (!StringUtility.hasText(traceFile)) {
+      return;
+    }
+    try {
+      Files.write(Paths.get(traceFile), m_startupProfiler.toChromeTraceJson().getBytes(StandardCharsets.UTF_8));
+      LOG.info("Wrote platform startup trace to '{}'", traceFile);
+    }
+    catch (IOException | RuntimeException e) {
+      LOG.warn("Could not write platform startup trace to '{}'", traceFile, e);
+    }
+  }
+
+  protected static boolean isStartupState(State state) {
+    return state == State.BeanManagerPrepared || state == State.BeanManagerValid || state == State.PlatformStarted;
+  }
+
+  protected void logStartupProfile() {
+    if (!LOG.isInfoEnabled()) {
+      return;
+    }
+    PlatformStartupProfiler profiler = m_startupProfiler;
+    LOG.info("Platform startup phases: {}", profiler.getSlowestEntries(PlatformStartupProfiler.CATEGORY_PHASE));
+    List<PlatformStartupProfiler.Entry> slowestBeans = profiler.getSlowestEntries(PlatformStartupProfiler.CATEGORY_CREATE_IMMEDIATELY);
+    if (!slowestBeans.isEmpty()) {
+      LOG.info("Slowest @CreateImmediately beans: {}", slowestBeans.subList(0, Math.min(5, slowestBeans.size())));
+    }
+  }
+
   protected void validateHeadless() {
     final boolean scoutHeadless = ConfigUtility.getPropertyBoolean(SCOUT_HEADLESS_PROPERTY, true);
     String awtHeadlessStr = System.getProperty(AWT_HEADLESS_PROPERTY);
@@ -219,16 +305,21 @@ public class PlatformImplementor implements IPlatform {
 
   protected BeanManagerImplementor createBeanManager() {
     BeanManagerImplementor beanManager = newBeanManagerImplementor();
-    IClassInventory inv = ClassInventory.get();
+    IClassInventory inv;
+    try (PlatformStartupProfiler.Span ignored = startPhase("classInventory")) {
+      inv = ClassInventory.get();
+    }
     long t0 = System.nanoTime();
     Set<Class> allBeans = new BeanFilter().collect(inv);
     long t1 = System.nanoTime();
     LOG.info("Collected {} beans in {} ms", allBeans.size(), StringUtility.formatNanos(t1 - t0));
+    m_startupProfiler.record(PlatformStartupProfiler.CATEGORY_PHASE, "collectBeans", t0, t1 - t0);
     for (Class<?> bean : allBeans) {
       beanManager.registerClass(bean);
     }
     long t2 = System.nanoTime();
     LOG.info("Registered {} beans in {} ms", allBeans.size(), StringUtility.formatNanos(t2 - t1));
+    m_startupProfiler.record(PlatformStartupProfiler.CATEGORY_PHASE, "registerBeans", t1, t2 - t1);
     return beanManager;
   }
 
@@ -249,6 +340,23 @@ public class PlatformImplementor implements IPlatform {
     m_beanManager.startCreateImmediatelyBeans();
   }
 
+  protected void startCreateImmediatelyBeansInParallel() {
+    m_beanManager.startCreateImmediatelyBeans(true);
+  }
+
+  protected boolean isCreateImmediatelyInParallel() {
+    return BooleanUtility.nvl(getConfigPropertyValue(CreateImmediatelyParallelProperty.class));
+  }
+
+  /**
+   * @return the value of the given config property or {@code null} if the property is not registered in the bean
+   *         manager of this platform.
+   */
+  protected <DATA_TYPE> DATA_TYPE getConfigPropertyValue(Class<? extends IConfigProperty<DATA_TYPE>> clazz) {
+    IBean<? extends IConfigProperty<DATA_TYPE>> bean = m_beanManager.optBean(clazz);
+    return bean == null ? null : bean.getInstance().getValue();
+  }
+
   @Override
   public void stop() {
     m_beanManager.callPreDestroyOnBeans();
@@ -328,6 +436,9 @@ public class PlatformImplementor implements IPlatform {
         long t0 = System.nanoTime();
         listener.stateChanged(event);
         long t1 = System.nanoTime();
+        if (isStartupState(newState)) {
+          m_startupProfiler.record(PlatformStartupProfiler.CATEGORY_PLATFORM_LISTENER, newState + " " + bean.getBeanClazz().getName(), t0, t1 - t0);
+        }
         if (LOG.isDebugEnabled()) {
           LOG.debug("StateEvent {} took {} ms for '{}' ", newState, StringUtility.formatNanos(t1 - t0), bean);
         }
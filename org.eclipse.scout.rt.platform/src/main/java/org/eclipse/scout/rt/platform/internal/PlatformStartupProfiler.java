@@ -0,0 +1,215 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.internal;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+/**
+ * Records the timeline of a platform startup: the startup phases, every {@link org.eclipse.scout.rt.platform.IPlatformListener}
+ * notification and the creation of every {@link org.eclipse.scout.rt.platform.CreateImmediately} bean (including its
+ * {@code @PostConstruct} methods).
+ * <p>
+ * The recorded timeline can be exported as JSON ({@link #toJson()}) or in the Chrome trace event format
+ * ({@link #toChromeTraceJson()}) which can be loaded into {@code chrome://tracing} or similar tools.
+ * <p>
+ * This class is thread safe.
+ *
+ * @see PlatformImplementor#getStartupProfiler()
+ */
+public class PlatformStartupProfiler {
+
+  public static final String CATEGORY_PHASE = "phase";
+  public static final String CATEGORY_PLATFORM_LISTENER = "platformListener";
+  public static final String CATEGORY_CREATE_IMMEDIATELY = "createImmediately";
+
+  private final long m_originNanos;
+  private final long m_originMillis;
+  private final ConcurrentLinkedQueue<Entry> m_entries = new ConcurrentLinkedQueue<>();
+
+  public PlatformStartupProfiler() {
+    m_originNanos = System.nanoTime();
+    m_originMillis = System.currentTimeMillis();
+  }
+
+  /**
+   * @return wall clock time (milliseconds since epoch) at which this profiler was created.
+   */
+  public long getOriginMillis() {
+    return m_originMillis;
+  }
+
+  /**
+   * Starts a new span which is recorded as soon as it is closed.
+   * <p>
+   * Usage: <code>try (Span span = profiler.start(CATEGORY_PHASE, "validateConfiguration")) { ... }</code>
+   */
+  public Span start(String category, String name) {
+    return new Span(category, name, System.nanoTime());
+  }
+
+  /**
+   * Records an already measured span.
+   *
+   * @param startNanos
+   *          start of the span as returned by {@link System#nanoTime()}
+   * @param durationNanos
+   *          duration of the span in nanoseconds
+   */
+  public void record(String category, String name, long startNanos, long durationNanos) {
+    Thread thread = Thread.currentThread();
+    m_entries.add(new Entry(category, name, thread.getName(), thread.getId(), startNanos - m_originNanos, durationNanos));
+  }
+
+  /**
+   * @return all recorded entries ordered by their start time.
+   */
+  public List<Entry> getEntries() {
+    List<Entry> entries = new ArrayList<>(m_entries);
+    entries.sort(Comparator.comparingLong(Entry::getStartNanos));
+    return entries;
+  }
+
+  /**
+   * @return all recorded entries of the given category ordered by their duration (longest first).
+   */
+  public List<Entry> getSlowestEntries(String category) {
+    List<Entry> entries = new ArrayList<>();
+    for (Entry entry : m_entries) {
+      if (entry.getCategory().equals(category)) {
+        entries.add(entry);
+      }
+    }
+    entries.sort(Comparator.comparingLong(Entry::getDurationNanos).reversed());
+    return entries;
+  }
+
+  /**
+   * @return the timeline as JSON array of objects with the attributes {@code category}, {@code name}, {@code thread},
+   *         {@code startMillis} (relative to the start of the profiler) and {@code durationMillis}.
+   */
+  public String toJson() {
+    JSONArray json = new JSONArray();
+    for (Entry entry : getEntries()) {
+      json.put(new JSONObject()
+          .put("category", entry.getCategory())
+          .put("name", entry.getName())
+          .put("thread", entry.getThreadName())
+          .put("startMillis", toMillis(entry.getStartNanos()))
+          .put("durationMillis", toMillis(entry.getDurationNanos())));
+    }
+    return json.toString();
+  }
+
+  /**
+   * @return the timeline in the Chrome trace event format (complete events, timestamps in microseconds).
+   */
+  public String toChromeTraceJson() {
+    JSONArray traceEvents = new JSONArray();
+    for (Entry entry : getEntries()) {
+      traceEvents.put(new JSONObject()
+          .put("ph", "X")
+          .put("pid", 1)
+          .put("tid", entry.getThreadId())
+          .put("cat", entry.getCategory())
+          .put("name", entry.getName())
+          .put("ts", TimeUnit.NANOSECONDS.toMicros(entry.getStartNanos()))
+          .put("dur", TimeUnit.NANOSECONDS.toMicros(entry.getDurationNanos()))
+          .put("args", new JSONObject().put("thread", entry.getThreadName())));
+    }
+    return new JSONObject()
+        .put("traceEvents", traceEvents)
+        .put("displayTimeUnit", "ms")
+        .toString();
+  }
+
+  protected static double toMillis(long nanos) {
+    return nanos / 1_000L / 1000d;
+  }
+
+  /**
+   * A running span. Closing it records the span.
+   */
+  public final class Span implements AutoCloseable {
+    private final String m_category;
+    private final String m_name;
+    private final long m_startNanos;
+
+    private Span(String category, String name, long startNanos) {
+      m_category = category;
+      m_name = name;
+      m_startNanos = startNanos;
+    }
+
+    @Override
+    public void close() {
+      record(m_category, m_name, m_startNanos, System.nanoTime() - m_startNanos);
+    }
+  }
+
+  /**
+   * A recorded span.
+   */
+  public static final class Entry {
+    private final String m_category;
+    private final String m_name;
+    private final String m_threadName;
+    private final long m_threadId;
+    private final long m_startNanos;
+    private final long m_durationNanos;
+
+    public Entry(String category, String name, String threadName, long threadId, long startNanos, long durationNanos) {
+      m_category = category;
+      m_name = name;
+      m_threadName = threadName;
+      m_threadId = threadId;
+      m_startNanos = startNanos;
+      m_durationNanos = durationNanos;
+    }
+
+    public String getCategory() {
+      return m_category;
+    }
+
+    public String getName() {
+      return m_name;
+    }
+
+    public String getThreadName() {
+      return m_threadName;
+    }
+
+    public long getThreadId() {
+      return m_threadId;
+    }
+
+    /**
+     * @return start of this entry in nanoseconds relative to the start of the profiler
+     */
+    public long getStartNanos() {
+      return m_startNanos;
+    }
+
+    public long getDurationNanos() {
+      return m_durationNanos;
+    }
+
+    @Override
+    public String toString() {
+      return m_category + ":" + m_name + " [" + toMillis(m_durationNanos) + "ms]";
+    }
+  }
+}
@@ -19,15 +19,27 @@ import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JandexRebuildProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JandexSnapshotFileProperty;
 import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.job.internal.NamedThreadFactory;
+import org.eclipse.scout.rt.platform.util.StringUtility;
 import org.eclipse.scout.rt.platform.util.date.DateUtility;
 import org.jboss.jandex.CompositeIndex;
 import org.jboss.jandex.Index;
@@ -68,44 +80,209 @@ public class JandexInventoryBuilder {
   }
 
   private final RebuildStrategy m_rebuildStrategy;
+  private final Path m_snapshotFile;
 
   private final List<IndexView> m_indexList;
 
   public JandexInventoryBuilder() {
     // do not use the CONFIG class here because the platform is not ready yet
-    this(new JandexRebuildProperty().getValue());
+    this(new JandexRebuildProperty().getValue(), toPath(new JandexSnapshotFileProperty().getValue()));
   }
 
   public JandexInventoryBuilder(RebuildStrategy rebuildStrategy) {
+    this(rebuildStrategy, null);
+  }
+
+  /**
+   * @param snapshotFile
+   *          optional path of a {@link JandexInventorySnapshot} file. If {@code null}, no snapshot is used.
+   */
+  public JandexInventoryBuilder(RebuildStrategy rebuildStrategy, Path snapshotFile) {
     m_rebuildStrategy = rebuildStrategy;
+    m_snapshotFile = snapshotFile;
     m_indexList = new ArrayList<>();
   }
 
+  private static Path toPath(String path) {
+    return StringUtility.hasText(path) ? Paths.get(path) : null;
+  }
+
   public RebuildStrategy getRebuildStrategy() {
     return m_rebuildStrategy;
   }
 
+  public Path getSnapshotFile() {
+    return m_snapshotFile;
+  }
+
   public void scanAllModules() {
+    List<URI> indexUris = findAllIndexUris();
+    JandexInventorySnapshot snapshot = createSnapshot();
+    if (snapshot != null) {
+      String fingerprint = snapshot.computeFingerprint(indexUris);
+      Map<URI, Index> snapshotIndexes = fingerprint == null ? null : snapshot.read(fingerprint);
+      if (snapshotIndexes != null) {
+        LOG.info("Using class inventory snapshot '{}' containing {} modules", snapshot.getFile(), snapshotIndexes.size());
+        synchronized (m_indexList) {
+          m_indexList.addAll(snapshotIndexes.values());
+        }
+        return;
+      }
+    }
+
+    Map<URI, Index> scannedIndexes = scanModules(indexUris);
+    synchronized (m_indexList) {
+      m_indexList.addAll(scannedIndexes.values());
+    }
+    if (snapshot != null) {
+      // scanning writes missing index files of exploded folders, so the fingerprint is computed again
+      String fingerprint = snapshot.computeFingerprint(indexUris);
+      if (fingerprint != null) {
+        snapshot.write(fingerprint, scannedIndexes);
+      }
+    }
+  }
+
+  /**
+   * Scans the given modules concurrently using at most {@link #getScanParallelism()} threads.
+   *
+   * @return the indexes of all modules in the order of the given URIs (independent of the order in which the scans
+   *         completed). Modules without index are not part of the result.
+   */
+  protected Map<URI, Index> scanModules(List<URI> indexUris) {
+    Map<URI, Index> scannedIndexes = new ConcurrentHashMap<>();
+    Map<URI, Long> scanNanos = new ConcurrentHashMap<>();
+    int parallelism = Math.max(1, Math.min(getScanParallelism(), indexUris.size()));
+    long t0 = System.nanoTime();
+    if (parallelism == 1) {
+      for (URI indexUri : indexUris) {
+        scanModuleInto(indexUri, scannedIndexes, scanNanos);
+      }
+    }
+    else {
+      ExecutorService executor = Executors.newFixedThreadPool(parallelism, new NamedThreadFactory("scout-jandex-scan"));
+      try {
+        List<Future<?>> futures = new ArrayList<>(indexUris.size());
+        for (URI indexUri : indexUris) {
+          futures.add(executor.submit(() -> scanModuleInto(indexUri, scannedIndexes, scanNanos)));
+        }
+        for (Future<?> future : futures) {
+          awaitScan(future);
+        }
+      }
+      finally {
+        executor.shutdownNow();
+      }
+    }
+    long totalNanos = System.nanoTime() - t0;
+
+    Map<URI, Index> orderedIndexes = new LinkedHashMap<>();
+    for (URI indexUri : indexUris) {
+      Index index = scannedIndexes.get(indexUri);
+      if (index != null) {
+        orderedIndexes.put(indexUri, index);
+      }
+    }
+    logScanTimes(scanNanos, totalNanos, parallelism);
+    return orderedIndexes;
+  }
+
+  /**
+   * @return maximum number of modules scanned concurrently. Default is the number of available processors.
+   */
+  protected int getScanParallelism() {
+    return Runtime.getRuntime().availableProcessors();
+  }
+
+  protected void scanModuleInto(URI indexUri, Map<URI, Index> indexes, Map<URI, Long> scanNanos) {
+    long t0 = System.nanoTime();
+    Index index = scanModuleInternal(indexUri);
+    scanNanos.put(indexUri, System.nanoTime() - t0);
+    if (index != null) {
+      indexes.put(indexUri, index);
+    }
+  }
+
+  protected void awaitScan(Future<?> future) {
+    try {
+      future.get();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PlatformException("Interrupted while scanning modules with jandex", e);
+    }
+    catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw new PlatformException("Error while scanning modules with jandex", cause);
+    }
+  }
+
+  protected void logScanTimes(Map<URI, Long> scanNanos, long totalNanos, int parallelism) {
+    if (LOG.isDebugEnabled()) {
+      scanNanos.entrySet().stream()
+          .sorted(Map.Entry.<URI, Long> comparingByValue().reversed())
+          .forEach(e -> LOG.debug("Scanned module '{}' in {} ms", e.getKey(), StringUtility.formatNanos(e.getValue())));
+    }
+    if (LOG.isInfoEnabled()) {
+      Map.Entry<URI, Long> slowest = scanNanos.entrySet().stream()
+          .max(Map.Entry.comparingByValue())
+          .orElse(null);
+      LOG.info("Scanned {} modules in {} ms using {} threads. Slowest module: {} ({} ms)", scanNanos.size(), StringUtility.formatNanos(totalNanos), parallelism,
+          slowest == null ? null : slowest.getKey(), slowest == null ? null : StringUtility.formatNanos(slowest.getValue()));
+    }
+  }
+
+  /**
+   * @return the URIs of the jandex indexes of all modules in the classpath (modules containing a
+   *         {@value #SCOUT_XML_PATH}), sorted by their URI.
+   */
+  protected List<URI> findAllIndexUris() {
     try {
-      Collections.list(getClass().getClassLoader().getResources(SCOUT_XML_PATH))
-          .parallelStream()
+      return Collections.list(getClass().getClassLoader().getResources(SCOUT_XML_PATH))
+          .stream()
           .map(this::findIndexUri)
-          .forEach(this::scanModule);
+          .sorted()
+          .collect(Collectors.toList());
     }
     catch (IOException ex) {
       throw new PlatformException("Error while reading resources '{}'", SCOUT_XML_PATH, ex);
     }
   }
 
+  /**
+   * @return the {@link JandexInventorySnapshot} to use or {@code null} if no snapshot is configured. Snapshots are only
+   *         used with {@link RebuildStrategy#IF_MISSING}, the other strategies expect class files to change.
+   */
+  protected JandexInventorySnapshot createSnapshot() {
+    if (m_snapshotFile == null) {
+      return null;
+    }
+    if (m_rebuildStrategy != RebuildStrategy.IF_MISSING) {
+      LOG.info("Ignoring class inventory snapshot '{}' because rebuild strategy is {}", m_snapshotFile, m_rebuildStrategy);
+      return null;
+    }
+    return new JandexInventorySnapshot(m_snapshotFile);
+  }
+
   public Index scanModule(URI indexUri) {
-    try {
-      Index index = scanModuleUnsafe(indexUri);
-      if (index != null) {
-        synchronized (m_indexList) {
-          m_indexList.add(index);
-        }
+    Index index = scanModuleInternal(indexUri);
+    if (index != null) {
+      synchronized (m_indexList) {
+        m_indexList.add(index);
       }
-      return index;
+    }
+    return index;
+  }
+
+  protected Index scanModuleInternal(URI indexUri) {
+    try {
+      return scanModuleUnsafe(indexUri);
     }
     catch (PlatformException p) {
       throw p;
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.inventory.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.zip.CRC32;
+
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.util.HexUtility;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persisted snapshot of all Jandex module indexes of the classpath, merged into one single file.
+ * <p>
+ * The snapshot is bound to a fingerprint of the scanned modules (see {@link #computeFingerprint(Collection)}). A
+ * snapshot with a different fingerprint, an unknown format version or a wrong checksum is ignored, in which case the
+ * caller is expected to fall back to scanning the modules (and typically writes a new snapshot afterwards).
+ * <p>
+ * File layout: magic, format version, fingerprint, number of modules, for each module its index URI and the serialized
+ * Jandex index, followed by a CRC32 checksum of all preceding bytes.
+ */
+public class JandexInventorySnapshot {
+  private static final Logger LOG = LoggerFactory.getLogger(JandexInventorySnapshot.class);
+
+  protected static final int MAGIC = 0x53435349; // "SCSI"
+  protected static final int FORMAT_VERSION = 1;
+
+  private final Path m_file;
+
+  public JandexInventorySnapshot(Path file) {
+    m_file = file;
+  }
+
+  public Path getFile() {
+    return m_file;
+  }
+
+  /**
+   * @return the module indexes (key is the index URI) stored in the snapshot file or {@code null} if there is no
+   *         snapshot file or if it is not valid for the given fingerprint.
+   */
+  public Map<URI, Index> read(String fingerprint) {
+    if (!Files.isRegularFile(m_file)) {
+      LOG.info("No class inventory snapshot found at '{}'", m_file);
+      return null;
+    }
+    try {
+      byte[] content = Files.readAllBytes(m_file);
+      if (content.length < Long.BYTES) {
+        LOG.info("Ignore class inventory snapshot '{}'. File is truncated.", m_file);
+        return null;
+      }
+      int payloadLength = content.length - Long.BYTES;
+      long expectedChecksum = ByteBuffer.wrap(content, payloadLength, Long.BYTES).getLong();
+      if (checksum(content, payloadLength) != expectedChecksum) {
+        LOG.info("Ignore class inventory snapshot '{}'. Checksum does not match.", m_file);
+        return null;
+      }
+
+      DataInputStream in = new DataInputStream(new ByteArrayInputStream(content, 0, payloadLength));
+      if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+        LOG.info("Ignore class inventory snapshot '{}'. Unknown format.", m_file);
+        return null;
+      }
+      String snapshotFingerprint = in.readUTF();
+      if (!snapshotFingerprint.equals(fingerprint)) {
+        LOG.info("Ignore outdated class inventory snapshot '{}'. Classpath has changed.", m_file);
+        return null;
+      }
+
+      int moduleCount = in.readInt();
+      Map<URI, Index> indexes = new LinkedHashMap<>(moduleCount);
+      for (int i = 0; i < moduleCount; i++) {
+        URI indexUri = URI.create(in.readUTF());
+        byte[] indexData = new byte[in.readInt()];
+        in.readFully(indexData);
+        indexes.put(indexUri, new IndexReader(new ByteArrayInputStream(indexData)).read());
+      }
+      return indexes;
+    }
+    catch (Exception e) {
+      LOG.warn("Error while reading class inventory snapshot '{}'. Falling back to scanning the classpath.", m_file, e);
+      return null;
+    }
+  }
+
+  /**
+   * Writes the given module indexes to the snapshot file. The file is first written to a temporary file and then
+   * atomically moved, so that concurrently starting processes never read a partially written snapshot. Errors are
+   * logged but not propagated as the snapshot is an optimization only.
+   */
+  public void write(String fingerprint, Map<URI, Index> indexes) {
+    try {
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      DataOutputStream out = new DataOutputStream(bytes);
+      out.writeInt(MAGIC);
+      out.writeInt(FORMAT_VERSION);
+      out.writeUTF(fingerprint);
+      out.writeInt(indexes.size());
+      for (Entry<URI, Index> entry : indexes.entrySet()) {
+        ByteArrayOutputStream indexData = new ByteArrayOutputStream();
+        new IndexWriter(indexData).write(entry.getValue());
+        out.writeUTF(entry.getKey().toString());
+        out.writeInt(indexData.size());
+        indexData.writeTo(out);
+      }
+      out.flush();
+      byte[] payload = bytes.toByteArray();
+      out.writeLong(checksum(payload, payload.length));
+      out.flush();
+
+      Path dir = m_file.toAbsolutePath().getParent();
+      if (dir != null) {
+        Files.createDirectories(dir);
+      }
+      File tmp = File.createTempFile("jandex-snapshot", ".tmp", dir == null ? null : dir.toFile());
+      try {
+        Files.write(tmp.toPath(), bytes.toByteArray());
+        Files.move(tmp.toPath(), m_file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      }
+      finally {
+        Files.deleteIfExists(tmp.toPath());
+      }
+      LOG.info("Wrote class inventory snapshot '{}' containing {} modules", m_file, indexes.size());
+    }
+    catch (Exception e) {
+      LOG.warn("Error while writing class inventory snapshot '{}'", m_file, e);
+    }
+  }
+
+  /**
+   * Computes a fingerprint of the given module index URIs from the size and the last modification time of each jar
+   * and of the <code>META-INF/jandex.idx</code> file of each exploded folder. This only requires one file system
+   * access per module. Class files of exploded folders are not part of the fingerprint because with
+   * {@link JandexInventoryBuilder.RebuildStrategy#IF_MISSING} an existing index file is used even if they changed.
+   *
+   * @return the fingerprint or {@code null} if an exploded folder has no index file, in which case the folder is
+   *         scanned and no snapshot must be used.
+   */
+  public String computeFingerprint(Collection<URI> indexUris) {
+    List<String> parts = new ArrayList<>();
+    for (URI indexUri : indexUris) {
+      parts.add(indexUri.toString());
+      File file = toFile(indexUri);
+      if (file == null) {
+        continue;
+      }
+      if (!file.isFile()) {
+        if ("file".equals(indexUri.getScheme())) {
+          return null;
+        }
+        continue;
+      }
+      parts.add(file.length() + "@" + file.lastModified());
+    }
+    parts.sort(null);
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      for (String part : parts) {
+        digest.update(part.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+      }
+      return HexUtility.encode(digest.digest());
+    }
+    catch (NoSuchAlgorithmException e) {
+      throw new PlatformException("Cannot compute class inventory fingerprint", e);
+    }
+  }
+
+  /**
+   * @return the file of the module containing the given index URI: the (outermost) jar file or the index file of
+   *         exploded folders. {@code null} for other protocols.
+   */
+  protected File toFile(URI indexUri) {
+    try {
+      if ("file".equals(indexUri.getScheme())) {
+        return new File(indexUri);
+      }
+      if ("jar".equals(indexUri.getScheme())) {
+        // nested jars (jar:file:/a.jar!/lib/b.jar!/...) are part of the outermost jar
+        String s = indexUri.getRawSchemeSpecificPart();
+        return new File(new URI(s.substring(0, s.indexOf('!'))));
+      }
+    }
+    catch (Exception e) {
+      LOG.debug("Cannot resolve file of '{}'", indexUri, e);
+    }
+    return null;
+  }
+
+  protected static long checksum(byte[] data, int length) {
+    CRC32 crc = new CRC32();
+    crc.update(data, 0, length);
+    return crc.getValue();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + "[" + m_file + "]";
+  }
+}
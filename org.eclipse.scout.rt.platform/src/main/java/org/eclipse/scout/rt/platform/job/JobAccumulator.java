@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job;
+
+import static org.eclipse.scout.rt.platform.util.Assertions.assertNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Accumulates elements to be processed by a job, so that a burst of elements results in a single job which processes
+ * all of them at once.
+ * <p>
+ * The job is scheduled with this accumulator as coalescing key (see {@link JobInput#withCoalescingKey(Object)}).
+ * Elements added while the job is pending are processed by that job. Elements added once the job commenced execution
+ * are processed by a subsequent job.
+ * <p>
+ * Example usage:
+ *
+ * <pre>
+ * JobAccumulator&lt;String&gt; accumulator = new JobAccumulator&lt;&gt;(ids -&gt; reload(ids), () -&gt; Jobs.newInput()
+ *     .withName("Reloading data")
+ *     .withExecutionTrigger(Jobs.newExecutionTrigger()
+ *         .withStartIn(100, TimeUnit.MILLISECONDS)));
+ *
+ * accumulator.add(id);
+ * </pre>
+ *
+ * @since 24.2
+ */
+public class JobAccumulator<ELEMENT> {
+
+  private final Consumer<List<ELEMENT>> m_operation;
+  private final Supplier<JobInput> m_inputSupplier;
+  private final Queue<ELEMENT> m_elements = new ConcurrentLinkedQueue<>();
+
+  /**
+   * @param operation
+   *          the operation to process the accumulated elements.
+   * @param inputSupplier
+   *          supplies a new {@link JobInput} for every job to be scheduled.
+   */
+  public JobAccumulator(final Consumer<List<ELEMENT>> operation, final Supplier<JobInput> inputSupplier) {
+    m_operation = assertNotNull(operation, "Operation must not be null");
+    m_inputSupplier = assertNotNull(inputSupplier, "InputSupplier must not be null");
+  }
+
+  /**
+   * Adds the given element to be processed by the pending job, or schedules a new job if no job is pending.
+   *
+   * @return the Future of the job to process the element.
+   */
+  public IFuture<Void> add(final ELEMENT element) {
+    m_elements.add(assertNotNull(element, "Element must not be null"));
+    return Jobs.schedule(this::processAccumulated, m_inputSupplier.get()
+        .withCoalescingKey(this));
+  }
+
+  /**
+   * Processes all elements accumulated so far.
+   */
+  protected void processAccumulated() {
+    final List<ELEMENT> elements = new ArrayList<>();
+    for (ELEMENT element = m_elements.poll(); element != null; element = m_elements.poll()) {
+      elements.add(element);
+    }
+    if (!elements.isEmpty()) {
+      m_operation.accept(elements);
+    }
+  }
+}
@@ -18,6 +18,7 @@ import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
+import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.Assertions.AssertionException;
 import org.eclipse.scout.rt.platform.util.ToStringBuilder;
 import org.slf4j.helpers.MessageFormatter;
@@ -49,6 +50,8 @@ public class JobInput {
   protected String m_threadName = "scout-thread";
   protected RunContext m_runContext;
   protected ExecutionTrigger m_executionTrigger;
+  protected JobPriority m_priority = JobPriority.DEFAULT;
+  protected Object m_coalescingKey;
 
   protected ExceptionHandler m_exceptionHandler = BEANS.get(ExceptionHandler.class);
   protected boolean m_swallowException = false;
@@ -231,6 +234,44 @@ public class JobInput {
     return this;
   }
 
+  public JobPriority getPriority() {
+    return m_priority;
+  }
+
+  /**
+   * Sets the priority class of the job. If all worker threads are in use, or the concurrency limit of the priority
+   * class is reached, the job is queued until a thread gets available. Queued jobs are run in the order of their
+   * priority class. By default, a job has the priority {@link JobPriority#DEFAULT}.
+   *
+   * @see JobPriority
+   */
+  public JobInput withPriority(final JobPriority priority) {
+    m_priority = Assertions.assertNotNull(priority, "Priority must not be null");
+    return this;
+  }
+
+  public Object getCoalescingKey() {
+    return m_coalescingKey;
+  }
+
+  /**
+   * Sets the key to coalesce the job with jobs scheduled before. As long as a job with the same key did not commence
+   * execution yet, scheduling this job does not create a new job, but returns the {@link IFuture} of the pending job
+   * instead. Once the pending job commences execution, the next job with that key is scheduled anew.
+   * <p>
+   * This is useful to reduce the number of jobs if the same logical work is requested repeatedly in bursts, e.g. to
+   * reload data upon notifications. To merge all requests within some time window, schedule the job with a start
+   * delay, e.g. via {@link ExecutionTrigger#withStartIn(long, java.util.concurrent.TimeUnit)}. To process data
+   * accumulated by the coalesced requests, use {@link JobAccumulator}.
+   * <p>
+   * The key must implement {@link Object#equals(Object)} and {@link Object#hashCode()}, and is typically composed of
+   * the job's purpose and its scope, e.g. the session. By default, a job is not coalesced.
+   */
+  public JobInput withCoalescingKey(final Object coalescingKey) {
+    m_coalescingKey = coalescingKey;
+    return this;
+  }
+
   public Set<String> getExecutionHints() {
     return m_executionHints;
   }
@@ -277,6 +318,8 @@ public class JobInput {
     builder.attr("executionTrigger", m_executionTrigger);
     builder.attr("runContext", m_runContext);
     builder.attr("executionHints", m_executionHints);
+    builder.attr("priority", m_priority);
+    builder.attr("coalescingKey", m_coalescingKey);
 
     return builder.toString();
   }
@@ -295,6 +338,8 @@ public class JobInput {
     copy.m_runContext = (m_runContext != null ? m_runContext.copy() : null);
     copy.m_executionTrigger = (m_executionTrigger != null ? m_executionTrigger.copy() : null);
     copy.m_executionHints = new HashSet<>(m_executionHints);
+    copy.m_priority = m_priority;
+    copy.m_coalescingKey = m_coalescingKey;
 
     return copy;
   }
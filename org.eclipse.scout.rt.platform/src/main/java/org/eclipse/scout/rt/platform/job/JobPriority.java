@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job;
+
+/**
+ * Priority class of a job. If all worker threads of the job manager are in use, or the concurrency limit of a priority
+ * class is reached, jobs are queued and given to the next available worker thread in the order of their priority
+ * class. The concurrency limit of each class is configurable, so that a flood of background jobs does not occupy the
+ * worker threads needed for interactive jobs.
+ *
+ * @since 24.2
+ * @see JobInput#withPriority(JobPriority)
+ */
+public enum JobPriority {
+
+  /**
+   * Jobs a user is waiting for, e.g. model jobs processing UI requests.
+   */
+  INTERACTIVE,
+
+  /**
+   * Default priority of a job.
+   */
+  DEFAULT,
+
+  /**
+   * Bulk work nobody is waiting for, e.g. imports, the handling of cluster notifications or cleanup jobs.
+   */
+  BACKGROUND
+}
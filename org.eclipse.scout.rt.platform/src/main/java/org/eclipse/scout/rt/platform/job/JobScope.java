@@ -0,0 +1,357 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job;
+
+import static org.eclipse.scout.rt.platform.util.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import jakarta.annotation.PostConstruct;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.Bean;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.context.RunMonitor;
+import org.eclipse.scout.rt.platform.exception.DefaultRuntimeExceptionTranslator;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
+import org.eclipse.scout.rt.platform.util.concurrent.FutureCancelledError;
+import org.eclipse.scout.rt.platform.util.concurrent.ICancellable;
+import org.eclipse.scout.rt.platform.util.concurrent.IRunnable;
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.platform.util.concurrent.TimedOutError;
+
+/**
+ * Scope to fork jobs which run concurrently, and to join them again ('fork/join'), e.g. to query several backend
+ * systems in parallel. A scope guarantees that no forked job outlives the scope.
+ * <p>
+ * Jobs forked by a scope:
+ * <ul>
+ * <li>run on behalf of a copy of the current {@link RunContext}, but in a separate transaction, because a transaction
+ * must not be shared among threads (see {@link #withRunContext(RunContext)});</li>
+ * <li>compete for the permits of the scope's {@link IExecutionSemaphore}, if any (see
+ * {@link #withMaxParallelism(int)});</li>
+ * <li>are cancelled once the {@link RunMonitor} of the creating thread is cancelled, the deadline elapses, a sibling
+ * fails while joining all jobs, or upon {@link #close()}.</li>
+ * </ul>
+ * Joining is done by an {@link IBlockingCondition}. That is why a job which belongs to an {@link IExecutionSemaphore}
+ * (e.g. a model job) releases its permit while joining, so that forked jobs may acquire the same semaphore.
+ * <p>
+ * Example usage:
+ *
+ * <pre>
+ * try (JobScope scope = Jobs.newScope()
+ *     .withMaxParallelism(4)
+ *     .withDeadline(10, TimeUnit.SECONDS)) {
+ *   IFuture&lt;Customer&gt; customer = scope.fork(() -&gt; loadCustomer(id));
+ *   IFuture&lt;List&lt;Order&gt;&gt; orders = scope.fork(() -&gt; loadOrders(id));
+ *   scope.joinAll();
+ *   return new CustomerView(customer.awaitDoneAndGet(), orders.awaitDoneAndGet());
+ * }
+ * </pre>
+ *
+ * A scope is meant to be used by the thread which created it.
+ *
+ * @since 24.2
+ * @see Jobs#newScope()
+ */
+@Bean
+public class JobScope implements ICancellable, AutoCloseable {
+
+  private final Object m_lock = new Object();
+  private final IBlockingCondition m_changedCondition = Jobs.newBlockingCondition(false);
+  private final String m_identifier = "JobScope-" + UUID.randomUUID();
+
+  private final List<IFuture<?>> m_futures = new ArrayList<>(); // guarded by m_lock
+  private int m_doneCount; // guarded by m_lock
+  private IFuture<?> m_firstSucceeded; // guarded by m_lock
+  private Throwable m_firstFailure; // guarded by m_lock
+  private volatile boolean m_cancelled;
+  private volatile boolean m_closed;
+
+  private String m_name = "scoped job";
+  private RunContext m_runContext;
+  private IExecutionSemaphore m_executionSemaphore;
+  private long m_deadlineNanos;
+  private boolean m_deadlineSet;
+  private RunMonitor m_parentRunMonitor;
+
+  @PostConstruct
+  protected void init() {
+    m_parentRunMonitor = RunMonitor.CURRENT.get();
+    if (m_parentRunMonitor != null) {
+      m_parentRunMonitor.registerCancellable(this);
+    }
+  }
+
+  /**
+   * Sets the name of the forked jobs.
+   */
+  public JobScope withName(final String name) {
+    m_name = name;
+    return this;
+  }
+
+  /**
+   * Sets the {@link RunContext} to run the forked jobs on behalf. Each job runs on behalf of a copy of that context,
+   * but with its own {@link RunMonitor}, so that cancelling a job does not cancel its siblings or the caller, and with
+   * {@link TransactionScope#REQUIRES_NEW}, so that the jobs never join the transaction of the given context.
+   * <p>
+   * By default, a copy of the current context is used with {@link TransactionScope#REQUIRES_NEW}, or an empty context
+   * if not running in a context.
+   */
+  public JobScope withRunContext(final RunContext runContext) {
+    m_runContext = runContext;
+    return this;
+  }
+
+  /**
+   * Limits the number of forked jobs running concurrently, which is a shorthand for
+   * <code>withExecutionSemaphore(Jobs.newExecutionSemaphore(maxParallelism))</code>.
+   */
+  public JobScope withMaxParallelism(final int maxParallelism) {
+    assertGreater(maxParallelism, 0, "MaxParallelism must be greater than 0");
+    return withExecutionSemaphore(Jobs.newExecutionSemaphore(maxParallelism));
+  }
+
+  /**
+   * Sets the {@link IExecutionSemaphore} the forked jobs compete for. Typically, that is a semaphore dedicated to this
+   * scope, or a semaphore which limits the access to some shared resource.
+   */
+  public JobScope withExecutionSemaphore(final IExecutionSemaphore executionSemaphore) {
+    m_executionSemaphore = executionSemaphore;
+    return this;
+  }
+
+  /**
+   * Sets the deadline relative to now, until which all forked jobs must complete. Upon joining, the jobs are cancelled
+   * and {@link TimedOutError} is thrown once elapsed. Jobs which did not commence execution until the deadline are not
+   * executed at all.
+   */
+  public JobScope withDeadline(final long timeout, final TimeUnit unit) {
+    assertGreater(timeout, 0L, "Timeout must be greater than 0");
+    m_deadlineNanos = System.nanoTime() + unit.toNanos(timeout);
+    m_deadlineSet = true;
+    return this;
+  }
+
+  /**
+   * Runs the given {@link IRunnable} in a job of this scope.
+   */
+  public IFuture<Void> fork(final IRunnable runnable) {
+    return fork(() -> {
+      runnable.run();
+      return null;
+    });
+  }
+
+  /**
+   * Runs the given {@link Callable} in a job of this scope.
+   */
+  public <RESULT> IFuture<RESULT> fork(final Callable<RESULT> callable) {
+    assertFalse(m_closed, "JobScope is closed [scope={}]", this);
+    final IFuture<RESULT> future = Jobs.schedule(callable, newJobInput());
+    synchronized (m_lock) {
+      m_futures.add(future);
+    }
+    future.whenDone(event -> onDone(future, event), null);
+
+    if (m_cancelled) {
+      future.cancel(true);
+    }
+    return future;
+  }
+
+  /**
+   * Waits until all forked jobs completed. If a job fails, the other jobs are cancelled and the failure is thrown.
+   * Cancelled jobs are not considered a failure.
+   *
+   * @throws TimedOutError
+   *           if the deadline elapsed, in which case all jobs are cancelled.
+   * @throws ThreadInterruptedError
+   *           if the current thread was interrupted while waiting, in which case all jobs are cancelled.
+   */
+  public void joinAll() {
+    await(() -> m_firstFailure != null || m_doneCount == m_futures.size());
+
+    final Throwable failure;
+    synchronized (m_lock) {
+      failure = m_firstFailure;
+    }
+    if (failure != null) {
+      cancel(true);
+      throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(failure);
+    }
+  }
+
+  /**
+   * Waits until the first forked job completed successfully, cancels the other jobs, and returns its result. Failures
+   * are tolerated as long as some job is still running.
+   *
+   * @throws RuntimeException
+   *           the failure of the first failed job if all jobs failed.
+   * @throws FutureCancelledError
+   *           if all jobs were cancelled.
+   * @throws TimedOutError
+   *           if the deadline elapsed, in which case all jobs are cancelled.
+   * @throws ThreadInterruptedError
+   *           if the current thread was interrupted while waiting, in which case all jobs are cancelled.
+   */
+  @SuppressWarnings("unchecked")
+  public <RESULT> RESULT joinAny() {
+    synchronized (m_lock) {
+      assertFalse(m_futures.isEmpty(), "No job forked [scope={}]", this);
+    }
+    await(() -> m_firstSucceeded != null || m_doneCount == m_futures.size());
+
+    final IFuture<?> succeeded;
+    final Throwable failure;
+    synchronized (m_lock) {
+      succeeded = m_firstSucceeded;
+      failure = m_firstFailure;
+    }
+    cancel(true);
+
+    if (succeeded != null) {
+      return (RESULT) succeeded.awaitDoneAndGet();
+    }
+    if (failure != null) {
+      throw BEANS.get(DefaultRuntimeExceptionTranslator.class).translate(failure);
+    }
+    throw new FutureCancelledError("All jobs of the scope were cancelled")
+        .withContextInfo("scope", this);
+  }
+
+  /**
+   * Cancels all forked jobs which did not complete yet, including the jobs forked afterwards.
+   */
+  @Override
+  public boolean cancel(final boolean interruptIfRunning) {
+    m_cancelled = true;
+    Jobs.getJobManager().cancel(Jobs.newFutureFilterBuilder()
+        .andMatchExecutionHint(m_identifier)
+        .toFilter(), interruptIfRunning);
+    return true;
+  }
+
+  @Override
+  public boolean isCancelled() {
+    return m_cancelled;
+  }
+
+  /**
+   * Cancels all forked jobs which did not complete yet, and waits until all jobs finished, meaning that no job of this
+   * scope is running anymore.
+   */
+  @Override
+  public void close() {
+    if (m_closed) {
+      return;
+    }
+    m_closed = true;
+    try {
+      cancel(true);
+      Jobs.getJobManager().awaitFinished(Jobs.newFutureFilterBuilder()
+          .andMatchExecutionHint(m_identifier)
+          .toFilter(), Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+    finally {
+      if (m_parentRunMonitor != null) {
+        m_parentRunMonitor.unregisterCancellable(this);
+      }
+    }
+  }
+
+  /**
+   * Creates the input to run a forked job.
+   */
+  protected JobInput newJobInput() {
+    final RunContext runContext = (m_runContext != null ? m_runContext.copy() : newDefaultRunContext())
+        .withRunMonitor(BEANS.get(RunMonitor.class))
+        .withTransactionScope(TransactionScope.REQUIRES_NEW); // a transaction must not be shared among threads
+
+    final JobInput input = Jobs.newInput()
+        .withName(m_name)
+        .withRunContext(runContext)
+        .withExecutionSemaphore(m_executionSemaphore)
+        .withExecutionHint(m_identifier)
+        .withExceptionHandling(null, false); // failures are propagated by joining
+    if (m_deadlineSet) {
+      input.withExpirationTime(Math.max(1, m_deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+    return input;
+  }
+
+  protected RunContext newDefaultRunContext() {
+    return RunContexts.copyCurrent(true);
+  }
+
+  /**
+   * Invoked once a forked job completed.
+   */
+  protected void onDone(final IFuture<?> future, final DoneEvent<?> event) {
+    synchronized (m_lock) {
+      m_doneCount++;
+      if (event.isCancelled()) {
+        // NOOP: cancellation is not a failure
+      }
+      else if (event.isFailed()) {
+        m_firstFailure = (m_firstFailure != null ? m_firstFailure : event.getException());
+      }
+      else if (m_firstSucceeded == null) {
+        m_firstSucceeded = future;
+      }
+      m_changedCondition.setBlocking(false);
+    }
+  }
+
+  /**
+   * Blocks the current thread until the given condition is fulfilled, which is evaluated whenever a forked job
+   * completes.
+   */
+  protected void await(final BooleanSupplier condition) {
+    try {
+      while (true) {
+        synchronized (m_lock) {
+          if (condition.getAsBoolean()) {
+            return;
+          }
+          m_changedCondition.setBlocking(true);
+        }
+
+        if (!m_deadlineSet) {
+          m_changedCondition.waitFor();
+          continue;
+        }
+
+        final long remainingNanos = m_deadlineNanos - System.nanoTime();
+        if (remainingNanos <= 0) {
+          throw new TimedOutError("Deadline of job scope elapsed")
+              .withContextInfo("scope", this);
+        }
+        m_changedCondition.waitFor(remainingNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+    catch (final TimedOutError | ThreadInterruptedError e) {
+      cancel(true);
+      throw e;
+    }
+  }
+
+  @Override
+  public String toString() {
+    return m_identifier + "[name=" + m_name + "]";
+  }
+}
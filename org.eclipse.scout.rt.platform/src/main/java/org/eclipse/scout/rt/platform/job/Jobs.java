@@ -255,6 +255,28 @@ public final class Jobs {
     return BEANS.get(IJobManager.class).newBlockingCondition(blocking);
   }
 
+  /**
+   * Creates a scope to fork jobs which run concurrently, and to join them again. The scope must be closed, which
+   * cancels the jobs not completed yet, so that no forked job outlives the scope.
+   * <p>
+   * Example usage:
+   *
+   * <pre>
+   * try (JobScope scope = Jobs.newScope()
+   *     .withMaxParallelism(4)
+   *     .withDeadline(10, TimeUnit.SECONDS)) {
+   *   scope.fork(() -&gt; ...);
+   *   scope.fork(() -&gt; ...);
+   *   scope.joinAll();
+   * }
+   * </pre>
+   *
+   * See {@link JobScope} for more information.
+   */
+  public static JobScope newScope() {
+    return BEANS.get(JobScope.class);
+  }
+
   /**
    * Creates a trigger to define the schedule upon which the job will commence execution.
    * <p>
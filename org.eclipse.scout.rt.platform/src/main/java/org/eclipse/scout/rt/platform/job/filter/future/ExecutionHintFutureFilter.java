@@ -12,13 +12,14 @@ package org.eclipse.scout.rt.platform.job.filter.future;
 import java.util.function.Predicate;
 
 import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.util.IAdaptable;
 
 /**
  * Filter to accept Futures which are tagged with a specific execution hint.
  *
  * @since 5.2
  */
-public class ExecutionHintFutureFilter implements Predicate<IFuture<?>> {
+public class ExecutionHintFutureFilter implements Predicate<IFuture<?>>, IAdaptable {
 
   private final String m_hint;
 
@@ -30,4 +31,13 @@ public class ExecutionHintFutureFilter implements Predicate<IFuture<?>> {
   public boolean test(final IFuture<?> future) {
     return future.containsExecutionHint(m_hint);
   }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> T getAdapter(final Class<T> type) {
+    if (type == FutureIndexKey.class && m_hint != null) {
+      return (T) FutureIndexKey.executionHint(m_hint);
+    }
+    return null;
+  }
 }
@@ -13,6 +13,7 @@ import java.util.function.Predicate;
 
 import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
 import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.util.IAdaptable;
 import org.eclipse.scout.rt.platform.util.ObjectUtility;
 
 /**
@@ -20,7 +21,7 @@ import org.eclipse.scout.rt.platform.util.ObjectUtility;
  *
  * @since 5.1
  */
-public class ExecutionSemaphoreFutureFilter implements Predicate<IFuture<?>> {
+public class ExecutionSemaphoreFutureFilter implements Predicate<IFuture<?>>, IAdaptable {
 
   private final IExecutionSemaphore m_semaphore;
 
@@ -32,4 +33,13 @@ public class ExecutionSemaphoreFutureFilter implements Predicate<IFuture<?>> {
   public boolean test(final IFuture<?> future) {
     return ObjectUtility.equals(m_semaphore, future.getJobInput().getExecutionSemaphore());
   }
+
+  @SuppressWarnings("unchecked")
+  @Override
+  public <T> T getAdapter(final Class<T> type) {
+    if (type == FutureIndexKey.class && m_semaphore != null) {
+      return (T) FutureIndexKey.executionSemaphore(m_semaphore);
+    }
+    return null;
+  }
 }
@@ -12,6 +12,7 @@ package org.eclipse.scout.rt.platform.job.filter.future;
 import static org.eclipse.scout.rt.platform.util.Assertions.assertNotNull;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.function.Predicate;
@@ -23,6 +24,7 @@ import org.eclipse.scout.rt.platform.filter.AndFilter;
 import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.JobState;
+import org.eclipse.scout.rt.platform.util.IAdaptable;
 
 /**
  * This builder facilitates the creation of a {@link IFuture} filter to match multiple criteria joined by logical 'AND'
@@ -46,7 +48,7 @@ public class FutureFilterBuilder {
       case 1:
         return m_andFilters.get(0);
       default:
-        return new AndFilter<>(m_andFilters);
+        return new AdaptableAndFilter(m_andFilters);
     }
   }
 
@@ -194,4 +196,79 @@ public class FutureFilterBuilder {
     andMatchNot(new ExecutionHintFutureFilter(hint));
     return this;
   }
+
+  /**
+   * {@link AndFilter} that is adaptable to 'IFuture[]' and 'FutureIndexKey'. That functionality is used by the job
+   * manager to evaluate the filter against the matching Futures only.
+   */
+  protected static class AdaptableAndFilter extends AndFilter<IFuture<?>> implements IAdaptable {
+
+    private final IFuture<?>[] m_futureIntersection;
+    private final FutureIndexKey m_indexKey;
+
+    public AdaptableAndFilter(final Collection<Predicate<IFuture<?>>> filters) {
+      super(filters);
+      m_futureIntersection = calculateFutureIntersection(filters);
+      m_indexKey = findIndexKey(filters);
+    }
+
+    /**
+     * Resolves each filter's futures (if filter supports adaptable mechanism), and returns the intersection of all
+     * filter's futures.
+     */
+    protected static IFuture<?>[] calculateFutureIntersection(final Collection<Predicate<IFuture<?>>> filters) {
+      List<IFuture<?>> intersection = null;
+
+      for (final Predicate<IFuture<?>> filter : filters) {
+        if (!(filter instanceof IAdaptable)) {
+          continue;
+        }
+
+        final IFuture<?>[] futures = ((IAdaptable) filter).getAdapter(IFuture[].class);
+        if (futures == null) {
+          continue;
+        }
+
+        if (intersection == null) {
+          intersection = new ArrayList<>(Arrays.asList(futures));
+        }
+        else {
+          intersection.retainAll(Arrays.asList(futures));
+        }
+      }
+
+      if (intersection == null) {
+        return null; // NOSONAR
+      }
+      return intersection.toArray(new IFuture<?>[0]);
+    }
+
+    /**
+     * Returns the index key of the first filter adaptable to 'FutureIndexKey'. Because all filters are joined by
+     * logical 'AND' operation, any of them limits the Futures to be evaluated.
+     */
+    protected static FutureIndexKey findIndexKey(final Collection<Predicate<IFuture<?>>> filters) {
+      for (final Predicate<IFuture<?>> filter : filters) {
+        if (filter instanceof IAdaptable) {
+          final FutureIndexKey indexKey = ((IAdaptable) filter).getAdapter(FutureIndexKey.class);
+          if (indexKey != null) {
+            return indexKey;
+          }
+        }
+      }
+      return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T getAdapter(final Class<T> type) {
+      if (type == IFuture[].class) {
+        return (T) m_futureIntersection;
+      }
+      if (type == FutureIndexKey.class) {
+        return (T) m_indexKey;
+      }
+      return null;
+    }
+  }
 }
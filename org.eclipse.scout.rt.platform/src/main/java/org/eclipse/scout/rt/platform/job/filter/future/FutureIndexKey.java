@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.filter.future;
+
+import static org.eclipse.scout.rt.platform.util.Assertions.assertNotNull;
+
+import java.util.function.Predicate;
+
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
+import org.eclipse.scout.rt.platform.job.IJobManager;
+import org.eclipse.scout.rt.platform.util.IAdaptable;
+
+/**
+ * Key under which the {@link IJobManager} indexes its Futures. A Future is indexed by its {@link IExecutionSemaphore},
+ * by each of its execution hints, and by the adapters of its {@link RunContext} (e.g. the session).
+ * <p>
+ * A {@link Predicate} which implements {@link IAdaptable} for the type <code>FutureIndexKey.class</code> is only
+ * evaluated against the Futures indexed under that key. For that to work, the filter must never accept a Future which
+ * is not indexed under its key.
+ *
+ * @since 24.2
+ */
+public final class FutureIndexKey {
+
+  private static final Object EXECUTION_SEMAPHORE = "executionSemaphore";
+  private static final Object EXECUTION_HINT = "executionHint";
+
+  private final Object m_dimension;
+  private final Object m_value;
+
+  private FutureIndexKey(final Object dimension, final Object value) {
+    m_dimension = dimension;
+    m_value = assertNotNull(value, "Value must not be null");
+  }
+
+  /**
+   * Key of all Futures assigned to the given {@link IExecutionSemaphore}.
+   */
+  public static FutureIndexKey executionSemaphore(final IExecutionSemaphore semaphore) {
+    return new FutureIndexKey(EXECUTION_SEMAPHORE, semaphore);
+  }
+
+  /**
+   * Key of all Futures tagged with the given execution hint.
+   */
+  public static FutureIndexKey executionHint(final String hint) {
+    return new FutureIndexKey(EXECUTION_HINT, hint);
+  }
+
+  /**
+   * Key of all Futures whose {@link RunContext} returns the given adapter for the given adapter type.
+   */
+  public static FutureIndexKey runContextAdapter(final Class<?> adapterType, final Object adapter) {
+    return new FutureIndexKey(assertNotNull(adapterType, "AdapterType must not be null"), adapter);
+  }
+
+  /**
+   * @return the adapter type if this key is based on a {@link RunContext} adapter, or else <code>null</code>.
+   */
+  public Class<?> getRunContextAdapterType() {
+    return m_dimension instanceof Class ? (Class<?>) m_dimension : null;
+  }
+
+  public Object getValue() {
+    return m_value;
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * m_dimension.hashCode() + m_value.hashCode();
+  }
+
+  @Override
+  public boolean equals(final Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (obj == null || getClass() != obj.getClass()) {
+      return false;
+    }
+    final FutureIndexKey other = (FutureIndexKey) obj;
+    return m_dimension.equals(other.m_dimension) && m_value.equals(other.m_value);
+  }
+
+  @Override
+  public String toString() {
+    final Object dimension = m_dimension instanceof Class ? ((Class<?>) m_dimension).getSimpleName() : m_dimension;
+    return getClass().getSimpleName() + "[" + dimension + "=" + m_value + "]";
+  }
+}
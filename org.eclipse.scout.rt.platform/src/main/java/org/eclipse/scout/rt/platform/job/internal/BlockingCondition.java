@@ -154,6 +154,8 @@ public class BlockingCondition implements IBlockingCondition {
 
       // Release the permit if being a semaphore aware task, but only if currently being a permit owner.
       futureTask.releasePermit();
+      // Release the thread of the job as well, so that queued jobs may run meanwhile (e.g. the jobs waited for).
+      final boolean blocking = futureTask.getJobManager().beginBlocking();
       try {
         awaitUntilSignaledOrTimeout(timeout, unit);
       }
@@ -163,6 +165,11 @@ public class BlockingCondition implements IBlockingCondition {
       catch (final Error e) { // NOSONAR
         errorWhileWaiting = e;
       }
+      finally {
+        if (blocking) {
+          futureTask.getJobManager().endBlocking();
+        }
+      }
     }
     finally {
       m_lock.unlock();
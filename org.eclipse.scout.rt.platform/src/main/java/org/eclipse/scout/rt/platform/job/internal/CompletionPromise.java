@@ -14,7 +14,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executor;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
@@ -50,7 +50,7 @@ class CompletionPromise<RESULT> {
 
   private static final Logger LOG = LoggerFactory.getLogger(CompletionPromise.class);
 
-  private final ExecutorService m_executor;
+  private final Executor m_executor;
 
   private final Lock m_lock = new ReentrantLock();
   private final Condition m_doneCondition = m_lock.newCondition();
@@ -62,7 +62,7 @@ class CompletionPromise<RESULT> {
   private final FinalValue<DoneEvent<RESULT>> m_doneEvent = new FinalValue<>();
   private final FinalValue<Boolean> m_finished = new FinalValue<>();
 
-  CompletionPromise(final JobFutureTask<RESULT> future, final ExecutorService executor) {
+  CompletionPromise(final JobFutureTask<RESULT> future, final Executor executor) {
     m_future = future;
     m_handlers = new ArrayList<>();
     m_executor = executor;
@@ -20,6 +20,7 @@ import java.util.concurrent.atomic.AtomicLong;
 
 import org.eclipse.scout.rt.platform.job.internal.NamedThreadFactory.ThreadInfo;
 import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,7 +38,7 @@ import org.slf4j.LoggerFactory;
  *
  * @since 5.1
  */
-class DelayedExecutor {
+class DelayedExecutor implements IDelayedExecutor {
 
   private static final Logger LOG = LoggerFactory.getLogger(DelayedExecutor.class);
 
@@ -59,20 +60,21 @@ class DelayedExecutor {
   }
 
   /**
-   * Runs the given Runnable asynchronously once the given fire time elapses. The caller of this method continues to run
-   * in parallel.
+   * {@inheritDoc}
    * <p>
-   * The run method of the {@link Runnable} is invoked from within the scheduler thread. Hence, any long running
-   * operation should be done asynchronously within a separate job.
-   *
-   * @param runnable
-   *          the Runnable to be executed some time in the future.
-   * @param fireTime
-   *          the time the Runnable should commence execution. Must not be <code>null</code>.
+   * A disposed task is not removed from the queue because that is an O(n) operation, but skipped once expired.
    */
-  public void schedule(final Runnable runnable, final Date fireTime) {
+  @Override
+  public IRegistrationHandle schedule(final Runnable runnable, final Date fireTime) {
     Assertions.assertNotNull(fireTime, "FireTime must not be null");
-    m_delayedTaskQueue.put(new P_DelayedTask(runnable, fireTime));
+    final P_DelayedTask task = new P_DelayedTask(runnable, fireTime);
+    m_delayedTaskQueue.put(task);
+    return task;
+  }
+
+  @Override
+  public int getQueueSize() {
+    return m_delayedTaskQueue.size();
   }
 
   /**
@@ -116,11 +118,12 @@ class DelayedExecutor {
   /**
    * Represents a task to be executed some time in the future.
    */
-  private class P_DelayedTask implements Delayed, Runnable {
+  private class P_DelayedTask implements Delayed, Runnable, IRegistrationHandle {
 
     private final Runnable m_runnable;
     private final long m_executionTime;
     private final long m_sequenceNumber;
+    private volatile boolean m_disposed;
 
     P_DelayedTask(final Runnable runnable, final Date fireTime) {
       m_runnable = runnable;
@@ -130,7 +133,14 @@ class DelayedExecutor {
 
     @Override
     public void run() {
-      m_runnable.run();
+      if (!m_disposed) {
+        m_runnable.run();
+      }
+    }
+
+    @Override
+    public void dispose() {
+      m_disposed = true;
     }
 
     @Override
@@ -9,16 +9,14 @@
  */
 package org.eclipse.scout.rt.platform.job.internal;
 
-import java.util.ArrayDeque;
 import java.util.Deque;
-import java.util.HashSet;
 import java.util.Set;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
+import java.util.concurrent.locks.LockSupport;
 
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
 import org.eclipse.scout.rt.platform.job.IFuture;
@@ -33,6 +31,12 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Default implementation of {@link IExecutionSemaphore}.
+ * <p>
+ * This implementation does not use any locks. The number of permit owners is maintained by CAS operations, and the
+ * competing tasks are queued in a non-blocking deque. A permit is only granted directly to a new competitor if no
+ * other task is queued, so that queued tasks are served in FIFO order (or at the head of the queue if competing with
+ * {@link QueuePosition#HEAD}). Whenever the queue or the number of permit owners changes, queued tasks are assigned
+ * free permits, so that no permit is lost to a concurrently queued task.
  *
  * @since 5.2
  */
@@ -41,25 +45,24 @@ public class ExecutionSemaphore implements IExecutionSemaphore {
 
   private static final Logger LOG = LoggerFactory.getLogger(ExecutionSemaphore.class);
 
-  private final ReadLock m_readLock;
-  private final WriteLock m_writeLock;
-
   private volatile int m_permits;
   private volatile boolean m_sealed;
   private final Deque<AcquisitionTask> m_queue;
+  private final AtomicInteger m_queueSize;
   private final Set<IFuture<?>> m_permitOwners;
+  private final AtomicInteger m_permitOwnerCount;
 
   private final AtomicInteger m_executionPriority;
+  private final JobManagerMetricProvider m_metrics;
 
   public ExecutionSemaphore() {
     m_permits = Integer.MAX_VALUE; // unbounded according to JavaDoc
-    m_queue = new ArrayDeque<>();
-    m_permitOwners = new HashSet<>();
+    m_queue = new ConcurrentLinkedDeque<>();
+    m_queueSize = new AtomicInteger();
+    m_permitOwners = ConcurrentHashMap.newKeySet();
+    m_permitOwnerCount = new AtomicInteger();
     m_executionPriority = new AtomicInteger(Integer.MAX_VALUE);
-
-    final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
-    m_readLock = lock.readLock();
-    m_writeLock = lock.writeLock();
+    m_metrics = BEANS.get(JobManagerMetricProvider.class);
   }
 
   @Override
@@ -89,24 +92,12 @@ public class ExecutionSemaphore implements IExecutionSemaphore {
 
   @Override
   public int getCompetitorCount() {
-    m_readLock.lock();
-    try {
-      return m_queue.size() + m_permitOwners.size();
-    }
-    finally {
-      m_readLock.unlock();
-    }
+    return m_queueSize.get() + m_permitOwnerCount.get();
   }
 
   @Override
   public boolean isPermitOwner(final IFuture<?> task) {
-    m_readLock.lock();
-    try {
-      return m_permitOwners.contains(task);
-    }
-    finally {
-      m_readLock.unlock();
-    }
+    return m_permitOwners.contains(task);
   }
 
   /**
@@ -123,34 +114,17 @@ public class ExecutionSemaphore implements IExecutionSemaphore {
   protected void acquire(final IFuture<?> task, final QueuePosition queuePosition) {
     assertSameSemaphore(task);
 
-    final Object acquisitionLock = new Object();
-    final AtomicBoolean waitingForPermit = new AtomicBoolean(true);
-
-    compete(task, queuePosition, () -> {
-      synchronized (acquisitionLock) {
-        if (waitingForPermit.get()) {
-          acquisitionLock.notify();
-        }
-        else {
-          release(task);
-        }
-      }
-    });
+    final BlockingAcquisition acquisition = new BlockingAcquisition(task);
+    compete(task, queuePosition, acquisition);
 
     // Block the current thread until a permit is acquired.
-    synchronized (acquisitionLock) {
-      while (!isPermitOwner(task)) {
-        try {
-          acquisitionLock.wait();
-        }
-        catch (final InterruptedException e) {
-          Thread.currentThread().interrupt(); // Restore the interrupted status because cleared by catching InterruptedException.
-          waitingForPermit.set(false);
-
-          throw new ThreadInterruptedError("Interrupted while competing for a permit")
-              .withContextInfo("task", task.getJobInput().getName())
-              .withContextInfo("executionSemaphore", this);
-        }
+    while (!acquisition.isAcquired()) {
+      LockSupport.park(this);
+
+      if (Thread.currentThread().isInterrupted() && acquisition.abandon()) {
+        throw new ThreadInterruptedError("Interrupted while competing for a permit")
+            .withContextInfo("task", task.getJobInput().getName())
+            .withContextInfo("executionSemaphore", this);
       }
     }
   }
@@ -172,39 +146,45 @@ public class ExecutionSemaphore implements IExecutionSemaphore {
   protected boolean compete(final IFuture<?> task, final QueuePosition queuePosition, final IPermitAcquiredCallback permitAcquiredCallback) {
     assertSameSemaphore(task);
 
-    boolean permitFree;
-    m_writeLock.lock();
-    try {
-      permitFree = (m_permitOwners.size() < m_permits && m_queue.isEmpty());
+    // Fast path: take a free permit, but only if no other task is waiting.
+    if (m_queueSize.get() == 0 && tryReservePermit()) {
+      m_permitOwners.add(task);
+      m_metrics.semaphorePermitAcquired(false, 0L);
+
+      // Notify the new permit owner about its permit acquisition.
+      permitAcquiredCallback.onPermitAcquired();
+      return true;
+    }
+
+    final AcquisitionTask acquisitionTask = new AcquisitionTask(task, permitAcquiredCallback);
+    switch (queuePosition) {
+      case HEAD:
+        m_queue.offerFirst(acquisitionTask);
+        break;
+      case TAIL:
+        m_queue.offerLast(acquisitionTask);
+        break;
+      default:
+        throw new IllegalArgumentException("illegal queue position");
+    }
+    m_metrics.semaphoreTaskQueued(m_queueSize.incrementAndGet());
 
-      if (permitFree) {
-        m_permitOwners.add(task);
+    // A permit might have been released in the meantime.
+    boolean permitAcquired = false;
+    for (AcquisitionTask assignedTask = assignOnePermit(); assignedTask != null; assignedTask = assignOnePermit()) {
+      if (assignedTask == acquisitionTask) {
+        permitAcquired = true;
       }
       else {
-        switch (queuePosition) {
-          case HEAD:
-            m_queue.offerFirst(new AcquisitionTask(task, permitAcquiredCallback));
-            break;
-          case TAIL:
-            m_queue.offerLast(new AcquisitionTask(task, permitAcquiredCallback));
-            break;
-          default:
-            throw new IllegalArgumentException("illegal queue position");
-        }
+        assignedTask.notifyPermitAcquired();
       }
     }
-    finally {
-      m_writeLock.unlock();
-    }
 
-    // Notify the new permit owner about its permit acquisition.
-    if (permitFree) {
+    // Notify on behalf of the current thread, as if the permit was free at the time of invocation.
+    if (permitAcquired) {
       permitAcquiredCallback.onPermitAcquired();
-      return true;
-    }
-    else {
-      return false;
     }
+    return permitAcquired;
   }
 
   /**
@@ -215,21 +195,11 @@ public class ExecutionSemaphore implements IExecutionSemaphore {
    */
   protected void release(final IFuture<?> permitOwner) {
     assertSameSemaphore(permitOwner);
-    assertPermitOwner(permitOwner);
-
-    final AcquisitionTask acquisitionTask;
-    m_writeLock.lock();
-    try {
-      m_permitOwners.remove(permitOwner);
-      // Assign the permit the next competing task.
-      acquisitionTask = assignOnePermit();
-    }
-    finally {
-      m_writeLock.unlock();
-    }
+    Assertions.assertTrue(m_permitOwners.remove(permitOwner), "Task does not own a permit [task={}]", permitOwner);
+    m_permitOwnerCount.decrementAndGet();
 
-    // Notify outside of the lock.
-    if (acquisitionTask != null) {
+    // Assign the free permits to the next competing tasks.
+    for (AcquisitionTask acquisitionTask = assignOnePermit(); acquisitionTask != null; acquisitionTask = assignOnePermit()) {
       acquisitionTask.notifyPermitAcquired();
     }
   }
@@ -238,31 +208,48 @@ public class ExecutionSemaphore implements IExecutionSemaphore {
    * Assigns a permit to the next competing task, unless no permit is available, or no competing task is queued.
    * <p>
    * If a permit was assigned, this method returns the corresponding {@link AcquisitionTask}, so that the caller can
-   * notify any waiting thread outside this semaphore's lock.
+   * notify the new permit owner.
    *
    * @return the {@link AcquisitionTask} a permit was assigned to, or <code>null</code> if either no permit was
    *         available, or the queue was empty.
    */
   protected AcquisitionTask assignOnePermit() {
-    m_writeLock.lock();
-    try {
-      // Check total concurrency level.
-      if (m_permitOwners.size() >= m_permits) {
+    while (m_queueSize.get() > 0) {
+      // Check total concurrency level by reserving a permit first.
+      if (!tryReservePermit()) {
         return null;
       }
 
       // Check for queued task.
       final AcquisitionTask acquisitionTask = m_queue.poll();
-      if (acquisitionTask == null) {
-        return null;
+      if (acquisitionTask != null) {
+        m_queueSize.decrementAndGet();
+
+        // Make the task a permit owner
+        m_permitOwners.add(acquisitionTask.getCompetingTask());
+        m_metrics.semaphorePermitAcquired(true, System.nanoTime() - acquisitionTask.getQueuedNanos());
+        return acquisitionTask;
       }
 
-      // Make the task a permit owner
-      m_permitOwners.add(acquisitionTask.getCompetingTask());
-      return acquisitionTask;
+      // Queue was drained concurrently: give back the reserved permit and check again, because a task might have been
+      // queued after the poll but before giving back the permit.
+      m_permitOwnerCount.decrementAndGet();
     }
-    finally {
-      m_writeLock.unlock();
+    return null;
+  }
+
+  /**
+   * Increments the number of permit owners if below the number of permits.
+   */
+  protected boolean tryReservePermit() {
+    while (true) {
+      final int owners = m_permitOwnerCount.get();
+      if (owners >= m_permits) {
+        return false;
+      }
+      if (m_permitOwnerCount.compareAndSet(owners, owners + 1)) {
+        return true;
+      }
     }
   }
 
@@ -290,16 +277,10 @@ public class ExecutionSemaphore implements IExecutionSemaphore {
 
   @Override
   public String toString() {
-    m_readLock.lock();
-    try {
-      final ToStringBuilder builder = new ToStringBuilder(this);
-      builder.attr("permitOwners", m_permitOwners);
-      builder.attr("queue", m_queue);
-      return builder.toString();
-    }
-    finally {
-      m_readLock.unlock();
-    }
+    final ToStringBuilder builder = new ToStringBuilder(this);
+    builder.attr("permitOwners", m_permitOwners);
+    builder.attr("queue", m_queue);
+    return builder.toString();
   }
 
   // ==== Helper classes ==== //
@@ -308,10 +289,12 @@ public class ExecutionSemaphore implements IExecutionSemaphore {
 
     private final IFuture<?> m_competingTask;
     private final IPermitAcquiredCallback m_callback;
+    private final long m_queuedNanos;
 
     public AcquisitionTask(final IFuture<?> competingTask, final IPermitAcquiredCallback callback) {
       m_competingTask = competingTask;
       m_callback = callback;
+      m_queuedNanos = System.nanoTime();
     }
 
     public IFuture<?> getCompetingTask() {
@@ -319,8 +302,14 @@ public class ExecutionSemaphore implements IExecutionSemaphore {
     }
 
     /**
-     * Notifies the associated job about its permit acquisition.<br/>
-     * <strong>Do this outside this semaphore's lock.</strong>
+     * Returns the time (as returned by {@link System#nanoTime()}) this task was queued.
+     */
+    public long getQueuedNanos() {
+      return m_queuedNanos;
+    }
+
+    /**
+     * Notifies the associated job about its permit acquisition.
      */
     public void notifyPermitAcquired() {
       try {
@@ -337,6 +326,48 @@ public class ExecutionSemaphore implements IExecutionSemaphore {
     }
   }
 
+  /**
+   * Callback of a thread blocking in {@link ExecutionSemaphore#acquire(IFuture, QueuePosition)}. If the waiting thread
+   * is interrupted and abandons the acquisition before the permit is assigned, the permit is passed on as soon as
+   * assigned.
+   */
+  protected class BlockingAcquisition implements IPermitAcquiredCallback {
+
+    private static final int WAITING = 0;
+    private static final int ACQUIRED = 1;
+    private static final int ABANDONED = 2;
+
+    private final IFuture<?> m_task;
+    private final Thread m_waitingThread;
+    private final AtomicInteger m_state = new AtomicInteger(WAITING);
+
+    public BlockingAcquisition(final IFuture<?> task) {
+      m_task = task;
+      m_waitingThread = Thread.currentThread();
+    }
+
+    @Override
+    public void onPermitAcquired() {
+      if (m_state.compareAndSet(WAITING, ACQUIRED)) {
+        LockSupport.unpark(m_waitingThread);
+      }
+      else {
+        release(m_task);
+      }
+    }
+
+    public boolean isAcquired() {
+      return m_state.get() == ACQUIRED;
+    }
+
+    /**
+     * @return <code>true</code> if abandoned, or <code>false</code> if the permit was acquired in the meantime.
+     */
+    public boolean abandon() {
+      return m_state.compareAndSet(WAITING, ABANDONED);
+    }
+  }
+
   /**
    * Position in the queue of competing tasks.
    */
@@ -11,8 +11,10 @@ package org.eclipse.scout.rt.platform.job.internal;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -25,21 +27,32 @@ import java.util.function.Predicate;
 import org.eclipse.scout.rt.platform.Bean;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerCorePoolSizeProperty;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.job.IExecutionSemaphore;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.IJobManager;
+import org.eclipse.scout.rt.platform.job.filter.future.FutureIndexKey;
 import org.eclipse.scout.rt.platform.job.listener.JobEvent;
+import org.eclipse.scout.rt.platform.job.listener.JobEventType;
 import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.IAdaptable;
 import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
 
 /**
  * Thread-safe implementation of a {@link Set} to contain {@link IFuture}s.
+ * <p>
+ * The Futures are indexed by {@link FutureIndexKey}, so that filters adaptable to <code>FutureIndexKey.class</code> or
+ * <code>IFuture[].class</code> are only evaluated against the matching Futures. Indexes by {@link RunContext} adapter
+ * type (e.g. the session) are built upon the first query for that type.
  *
  * @since 5.1
  */
 @Bean
 public class FutureSet {
 
-  private final Set<JobFutureTask<?>> m_futures;
+  private final Map<JobFutureTask<?>, List<FutureIndexKey>> m_futures; // Futures with the keys they are indexed by
+  private final Map<FutureIndexKey, Set<JobFutureTask<?>>> m_index;
+  private volatile Set<Class<?>> m_indexedAdapterTypes = Collections.emptySet(); // copy-on-write, modified while holding the write lock
 
   private final ReadLock m_readLock;
   private final WriteLock m_writeLock;
@@ -48,7 +61,8 @@ public class FutureSet {
   private IRegistrationHandle m_jobListenerRegistration;
 
   public FutureSet() {
-    m_futures = new HashSet<>(CONFIG.getPropertyValue(JobManagerCorePoolSizeProperty.class));
+    m_futures = new HashMap<>(CONFIG.getPropertyValue(JobManagerCorePoolSizeProperty.class));
+    m_index = new HashMap<>();
 
     final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
     m_readLock = lock.readLock();
@@ -63,6 +77,9 @@ public class FutureSet {
     m_jobListenerRegistration = jobManager.addListener(newSignalingFilter(), event -> {
       m_writeLock.lock();
       try {
+        if (event.getType() == JobEventType.JOB_EXECUTION_HINT_ADDED || event.getType() == JobEventType.JOB_EXECUTION_HINT_REMOVED) {
+          reindex(event.getData().getFuture());
+        }
         m_changedCondition.signalAll();
       }
       finally {
@@ -83,6 +100,7 @@ public class FutureSet {
     try {
       runningFutures = copyFutures();
       m_futures.clear();
+      m_index.clear();
       m_changedCondition.signalAll();
     }
     finally {
@@ -100,7 +118,7 @@ public class FutureSet {
   public void add(final JobFutureTask<?> future) {
     m_writeLock.lock();
     try {
-      m_futures.add(future);
+      index(future);
       m_changedCondition.signalAll();
     }
     finally {
@@ -114,7 +132,7 @@ public class FutureSet {
   public void remove(final JobFutureTask<?> future) {
     m_writeLock.lock();
     try {
-      m_futures.remove(future);
+      unindex(future);
       m_changedCondition.signalAll();
     }
     finally {
@@ -133,7 +151,7 @@ public class FutureSet {
    * @return <code>true</code> if all Futures accepted by the specified Filter are successfully matched.
    */
   public boolean matchesEvery(final Predicate<IFuture<?>> filter, final Predicate<JobFutureTask<?>> matcher) {
-    for (final JobFutureTask<?> future : copyFutures()) {
+    for (final JobFutureTask<?> future : candidates(filter)) {
       final boolean accepted = (filter == null || filter.test(future));
 
       if (accepted && !matcher.test(future)) {
@@ -147,7 +165,7 @@ public class FutureSet {
    * Returns <code>true</code>, if this {@link FutureSet} contains one Future matching the given filter at minimum.
    */
   public boolean containsSome(final Predicate<IFuture<?>> filter) {
-    for (final JobFutureTask<?> future : copyFutures()) {
+    for (final JobFutureTask<?> future : candidates(filter)) {
       if (filter == null || filter.test(future)) {
         return true;
       }
@@ -239,7 +257,7 @@ public class FutureSet {
    */
   public final Set<IFuture<?>> values(final Predicate<IFuture<?>> filter) {
     final Set<IFuture<?>> futures = new HashSet<>();
-    for (final IFuture<?> candidate : copyFutures()) {
+    for (final IFuture<?> candidate : candidates(filter)) {
       if (filter == null || filter.test(candidate)) {
         futures.add(candidate);
       }
@@ -270,13 +288,152 @@ public class FutureSet {
   protected List<JobFutureTask<?>> copyFutures() {
     m_readLock.lock();
     try {
-      return new ArrayList<>(m_futures); // performance hint: creating an ArrayList has much better performance than creating a HashSet.
+      return new ArrayList<>(m_futures.keySet()); // performance hint: creating an ArrayList has much better performance than creating a HashSet.
     }
     finally {
       m_readLock.unlock();
     }
   }
 
+  /**
+   * Returns the Futures to be evaluated by the given filter. If the filter is adaptable to <code>IFuture[].class</code>
+   * or <code>FutureIndexKey.class</code>, only the matching Futures are returned, or else all Futures.
+   * <p>
+   * Must not be invoked while holding the read lock only, because building a new index requires the write lock.
+   */
+  protected List<JobFutureTask<?>> candidates(final Predicate<IFuture<?>> filter) {
+    if (!(filter instanceof IAdaptable)) {
+      return copyFutures();
+    }
+
+    final IFuture<?>[] futures = ((IAdaptable) filter).getAdapter(IFuture[].class);
+    final FutureIndexKey indexKey = (futures == null ? ((IAdaptable) filter).getAdapter(FutureIndexKey.class) : null);
+    if (futures == null && indexKey == null) {
+      return copyFutures();
+    }
+    if (indexKey != null) {
+      ensureIndexed(indexKey);
+    }
+
+    m_readLock.lock();
+    try {
+      if (futures != null) {
+        final List<JobFutureTask<?>> candidates = new ArrayList<>(futures.length);
+        for (final IFuture<?> future : futures) {
+          if (future instanceof JobFutureTask && m_futures.containsKey(future)) {
+            candidates.add((JobFutureTask<?>) future);
+          }
+        }
+        return candidates;
+      }
+
+      final Set<JobFutureTask<?>> indexedFutures = m_index.get(indexKey);
+      return indexedFutures == null ? new ArrayList<>(0) : new ArrayList<>(indexedFutures);
+    }
+    finally {
+      m_readLock.unlock();
+    }
+  }
+
+  /**
+   * Builds the index for the {@link RunContext} adapter type of the given key, unless already built.
+   */
+  protected void ensureIndexed(final FutureIndexKey indexKey) {
+    final Class<?> adapterType = indexKey.getRunContextAdapterType();
+    if (adapterType == null || m_indexedAdapterTypes.contains(adapterType)) {
+      return;
+    }
+
+    m_writeLock.lock();
+    try {
+      if (m_indexedAdapterTypes.contains(adapterType)) {
+        return;
+      }
+      final Set<Class<?>> indexedAdapterTypes = new HashSet<>(m_indexedAdapterTypes);
+      indexedAdapterTypes.add(adapterType);
+      m_indexedAdapterTypes = indexedAdapterTypes;
+
+      for (final JobFutureTask<?> future : new ArrayList<>(m_futures.keySet())) {
+        index(future);
+      }
+    }
+    finally {
+      m_writeLock.unlock();
+    }
+  }
+
+  /**
+   * Returns the keys to index the given Future by.
+   */
+  protected List<FutureIndexKey> computeIndexKeys(final JobFutureTask<?> future) {
+    final List<FutureIndexKey> indexKeys = new ArrayList<>();
+
+    final IExecutionSemaphore semaphore = future.getJobInput().getExecutionSemaphore();
+    if (semaphore != null) {
+      indexKeys.add(FutureIndexKey.executionSemaphore(semaphore));
+    }
+
+    for (final String hint : future.getExecutionHints()) {
+      if (hint != null) {
+        indexKeys.add(FutureIndexKey.executionHint(hint));
+      }
+    }
+
+    final RunContext runContext = future.getJobInput().getRunContext();
+    if (runContext != null) {
+      for (final Class<?> adapterType : m_indexedAdapterTypes) {
+        final Object adapter = runContext.getAdapter(adapterType);
+        if (adapter != null) {
+          indexKeys.add(FutureIndexKey.runContextAdapter(adapterType, adapter));
+        }
+      }
+    }
+    return indexKeys;
+  }
+
+  /**
+   * Adds the given Future, or updates its index entries if already contained. The caller must hold the write lock.
+   */
+  private void index(final JobFutureTask<?> future) {
+    final List<FutureIndexKey> indexKeys = computeIndexKeys(future);
+    final List<FutureIndexKey> previousIndexKeys = m_futures.put(future, indexKeys);
+    if (previousIndexKeys != null) {
+      removeIndexEntries(future, previousIndexKeys);
+    }
+    for (final FutureIndexKey indexKey : indexKeys) {
+      m_index.computeIfAbsent(indexKey, k -> new HashSet<>()).add(future);
+    }
+  }
+
+  /**
+   * Removes the given Future. The caller must hold the write lock.
+   */
+  private void unindex(final JobFutureTask<?> future) {
+    final List<FutureIndexKey> indexKeys = m_futures.remove(future);
+    if (indexKeys != null) {
+      removeIndexEntries(future, indexKeys);
+    }
+  }
+
+  /**
+   * Updates the index entries of the given Future if contained, e.g. because its execution hints changed. The caller
+   * must hold the write lock.
+   */
+  private void reindex(final IFuture<?> future) {
+    if (future instanceof JobFutureTask && m_futures.containsKey(future)) {
+      index((JobFutureTask<?>) future);
+    }
+  }
+
+  private void removeIndexEntries(final JobFutureTask<?> future, final List<FutureIndexKey> indexKeys) {
+    for (final FutureIndexKey indexKey : indexKeys) {
+      final Set<JobFutureTask<?>> indexedFutures = m_index.get(indexKey);
+      if (indexedFutures != null && indexedFutures.remove(future) && indexedFutures.isEmpty()) {
+        m_index.remove(indexKey);
+      }
+    }
+  }
+
   /**
    * Creates the filter to signal waiting threads upon a job event.
    */
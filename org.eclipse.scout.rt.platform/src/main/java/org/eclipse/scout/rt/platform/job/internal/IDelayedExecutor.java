@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.util.Date;
+
+import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
+
+/**
+ * Executes Runnables some time in the future, used by {@link JobManager} for delayed and repetitive jobs.
+ *
+ * @see DelayedExecutor
+ * @see TimingWheelDelayedExecutor
+ * @since 24.2
+ */
+interface IDelayedExecutor {
+
+  /**
+   * Runs the given Runnable asynchronously once the given fire time elapses. The caller of this method continues to run
+   * in parallel.
+   * <p>
+   * The run method of the {@link Runnable} is invoked from within the scheduler thread. Hence, any long running
+   * operation should be done asynchronously within a separate job.
+   *
+   * @param runnable
+   *          the Runnable to be executed some time in the future.
+   * @param fireTime
+   *          the time the Runnable should commence execution. Must not be <code>null</code>.
+   * @return handle to cancel the execution. Once disposed, the Runnable is not run anymore.
+   */
+  IRegistrationHandle schedule(Runnable runnable, Date fireTime);
+
+  /**
+   * Returns the number of tasks waiting for their fire time.
+   */
+  int getQueueSize();
+}
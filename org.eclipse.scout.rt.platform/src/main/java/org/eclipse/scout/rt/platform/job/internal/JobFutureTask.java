@@ -89,6 +89,11 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
   protected final OperableTrigger m_trigger;
   protected final Calendar m_calendar;
 
+  /**
+   * Handle of the pending delayed execution, used to cancel it once this task is done.
+   */
+  protected volatile IRegistrationHandle m_delayedExecutionHandle = IRegistrationHandle.NULL_HANDLE;
+
   /**
    * The thread currently running the task
    * <p>
@@ -112,7 +117,7 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
     m_callableChain = callableChain;
 
     // Initialize this Future
-    m_completionPromise = new CompletionPromise<>(this, jobManager.getExecutor());
+    m_completionPromise = new CompletionPromise<>(this, jobManager.getDoneHandlerExecutor(input.getPriority()));
     m_expirationDate = (input.getExpirationTimeMillis() != JobInput.EXPIRE_NEVER ? System.currentTimeMillis() + input.getExpirationTimeMillis() : null);
     m_executionHints.addAll(input.getExecutionHints());
 
@@ -166,6 +171,7 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
   public void run() {
     m_trigger.triggered(m_calendar);
     m_runner = Thread.currentThread();
+    final long start = System.nanoTime();
     try {
       if (isExpired()) {
         cancel(true); // to enter done state and to interrupt a potential waiting submitter.
@@ -181,6 +187,7 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
       synchronized (m_runnerLock) {
         m_runner = null;
       }
+      m_jobManager.getMetrics().jobExecuted(m_input, System.nanoTime() - start);
       finishInternal();
       releasePermit();
     }
@@ -197,11 +204,22 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
 
     m_runMonitor.unregisterCancellable(this);
     m_completionPromise.done();
+    m_delayedExecutionHandle.dispose();
     finishInternal();
 
     // IMPORTANT: do not release permit here because also invoked upon cancellation.
   }
 
+  /**
+   * Sets the handle of the pending delayed execution of this task, which is disposed once this task is done.
+   */
+  protected void setDelayedExecutionHandle(final IRegistrationHandle handle) {
+    m_delayedExecutionHandle = handle;
+    if (isDone()) {
+      handle.dispose();
+    }
+  }
+
   /**
    * Method invoked once this task gets cancelled, and is invoked only once.
    */
@@ -321,6 +339,13 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
     return m_executionHints.contains(hint);
   }
 
+  /**
+   * Returns a copy of the execution hints this job is tagged with.
+   */
+  protected Set<String> getExecutionHints() {
+    return new HashSet<>(m_executionHints);
+  }
+
   /**
    * Returns <code>true</code> if expired and this job should not commence execution, or else <code>false</code>.
    */
@@ -347,6 +372,7 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
   public void awaitDone() {
     assertNotSameSemaphore();
 
+    final boolean blocking = m_jobManager.beginBlocking();
     try {
       m_completionPromise.awaitDoneAndGet();
     }
@@ -357,12 +383,18 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
       restoreInterruptionStatus();
       throw interceptException(BEANS.get(JobExceptionTranslator.class).translateInterruptedException(e, "Interrupted while waiting for a job to complete"));
     }
+    finally {
+      if (blocking) {
+        m_jobManager.endBlocking();
+      }
+    }
   }
 
   @Override
   public void awaitDone(final long timeout, final TimeUnit unit) {
     assertNotSameSemaphore();
 
+    final boolean blocking = m_jobManager.beginBlocking();
     try {
       m_completionPromise.awaitDoneAndGet(timeout, unit);
     }
@@ -376,12 +408,18 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
     catch (final TimeoutException e) {
       throw interceptException(BEANS.get(JobExceptionTranslator.class).translateTimeoutException(e, "Failed to wait for a job to complete because the maximal wait time elapsed", timeout, unit));
     }
+    finally {
+      if (blocking) {
+        m_jobManager.endBlocking();
+      }
+    }
   }
 
   @Override
   public void awaitFinished(final long timeout, final TimeUnit unit) {
     assertNotSameSemaphore();
 
+    final boolean blocking = m_jobManager.beginBlocking();
     try {
       m_completionPromise.awaitFinished(timeout, unit);
     }
@@ -392,6 +430,11 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
     catch (final TimeoutException e) {
       throw interceptException(BEANS.get(JobExceptionTranslator.class).translateTimeoutException(e, "Failed to wait for a job to finish because the maximal wait time elapsed", timeout, unit));
     }
+    finally {
+      if (blocking) {
+        m_jobManager.endBlocking();
+      }
+    }
   }
 
   @Override
@@ -403,6 +446,7 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
   public <EXCEPTION extends Throwable> RESULT awaitDoneAndGet(final Class<? extends IExceptionTranslator<EXCEPTION>> exceptionTranslator) throws EXCEPTION {
     assertNotSameSemaphore();
 
+    final boolean blocking = m_jobManager.beginBlocking();
     try {
       return m_completionPromise.awaitDoneAndGet();
     }
@@ -416,6 +460,11 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
       restoreInterruptionStatus();
       throw interceptException(BEANS.get(JobExceptionTranslator.class).translateInterruptedException(e, "Interrupted while waiting for a job to complete"));
     }
+    finally {
+      if (blocking) {
+        m_jobManager.endBlocking();
+      }
+    }
   }
 
   @Override
@@ -427,6 +476,7 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
   public <EXCEPTION extends Throwable> RESULT awaitDoneAndGet(final long timeout, final TimeUnit unit, final Class<? extends IExceptionTranslator<EXCEPTION>> exceptionTranslator) throws EXCEPTION {
     assertNotSameSemaphore();
 
+    final boolean blocking = m_jobManager.beginBlocking();
     try {
       return m_completionPromise.awaitDoneAndGet(timeout, unit);
     }
@@ -443,6 +493,11 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
     catch (final TimeoutException e) {
       throw interceptException(BEANS.get(JobExceptionTranslator.class).translateTimeoutException(e, "Failed to wait for a job to complete because the maximal wait time elapsed", timeout, unit));
     }
+    finally {
+      if (blocking) {
+        m_jobManager.endBlocking();
+      }
+    }
   }
 
   @Override
@@ -500,6 +555,10 @@ public class JobFutureTask<RESULT> extends FutureTask<RESULT> implements IFuture
     return m_listeners;
   }
 
+  protected JobManager getJobManager() {
+    return m_jobManager;
+  }
+
   protected CompletionPromise<RESULT> getCompletionPromise() {
     return m_completionPromise;
   }
@@ -11,6 +11,9 @@ package org.eclipse.scout.rt.platform.job.internal;
 
 import java.util.Set;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.SynchronousQueue;
@@ -31,14 +34,21 @@ import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerAllowCoreThreadTimeoutProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerCorePoolSizeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerKeepAliveTimeProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerMaxConcurrentBackgroundJobsProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerMaxConcurrentDefaultJobsProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerMaxConcurrentInteractiveJobsProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerMaximumPoolSizeProperty;
 import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerPrestartCoreThreadsProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerQueueCapacityProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerTimingWheelSchedulerProperty;
+import org.eclipse.scout.rt.platform.config.PlatformConfigProperties.JobManagerVirtualThreadsProperty;
 import org.eclipse.scout.rt.platform.context.RunContextRunner;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.job.IBlockingCondition;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.IJobManager;
 import org.eclipse.scout.rt.platform.job.JobInput;
+import org.eclipse.scout.rt.platform.job.JobPriority;
 import org.eclipse.scout.rt.platform.job.JobState;
 import org.eclipse.scout.rt.platform.job.internal.ExecutionSemaphore.QueuePosition;
 import org.eclipse.scout.rt.platform.job.listener.IJobListener;
@@ -59,13 +69,19 @@ import org.slf4j.LoggerFactory;
 /**
  * Default implementation of {@link IJobManager}.
  * <p>
- * This job manager is based on {@link ThreadPoolExecutor}, {@link DelayedExecutor} and Quartz {@link Trigger} to
+ * This job manager is based on {@link ThreadPoolExecutor}, {@link IDelayedExecutor} and Quartz {@link Trigger} to
  * compute firing times.
  * <p>
  * Jobs which run immediately and exactly one time are executed directly via {@link ExecutorService}. For all other
- * jobs, they are first queued via {@link DelayedExecutor}, and will commence execution once the trigger's first fire
+ * jobs, they are first queued via {@link IDelayedExecutor}, and will commence execution once the trigger's first fire
  * time elapses. In turn, they are also given to {@link ExecutorService} for execution, so Quartz simply provides the
  * firing facility.
+ * <p>
+ * The number of concurrently running jobs is limited by {@link JobPriorityDispatcher} according to
+ * {@link JobManagerMaximumPoolSizeProperty}, not by the {@link ExecutorService} itself. This way, the threads which run
+ * outside of a job (i.e. the dispatch loop of the {@link IDelayedExecutor}) do not take a thread from jobs, and a job
+ * waiting for other jobs to complete releases its thread while waiting. Done handlers of jobs are notified via the
+ * dispatcher as well, so that they are queued instead of rejected if all threads are in use.
  *
  * @since 5.1
  */
@@ -75,20 +91,26 @@ public class JobManager implements IJobManager {
   private static final Logger LOG = LoggerFactory.getLogger(JobManager.class);
 
   protected final ExecutorService m_executor;
-  protected final DelayedExecutor m_delayedExecutor;
+  protected final JobPriorityDispatcher m_dispatcher;
+  protected final IDelayedExecutor m_delayedExecutor;
 
   protected final FutureSet m_futures;
+  protected final ConcurrentMap<Object, JobFutureTask<?>> m_coalescableFutures;
   protected final JobListeners m_listeners;
+  protected final JobManagerMetricProvider m_metrics;
 
   protected final ReentrantReadWriteLock m_shutdownLock;
   protected volatile boolean m_shutdown;
 
   public JobManager() {
+    m_metrics = BEANS.get(JobManagerMetricProvider.class);
     m_executor = createExecutor();
-    m_delayedExecutor = new DelayedExecutor(m_executor, "scout-scheduler-thread");
+    m_dispatcher = createDispatcher(m_executor);
+    m_delayedExecutor = createDelayedExecutor(m_executor);
     m_listeners = BEANS.get(JobListeners.class);
     m_futures = BEANS.get(FutureSet.class);
     m_futures.init(this);
+    m_coalescableFutures = new ConcurrentHashMap<>();
     m_shutdownLock = new ReentrantReadWriteLock();
   }
 
@@ -102,12 +124,46 @@ public class JobManager implements IJobManager {
     Assertions.assertNotNull(input, "JobInput must not be null");
     Assertions.assertFalse(isShutdown(), "{} not available because the platform has been shut down.", getClass().getSimpleName());
 
+    if (input.getCoalescingKey() != null) {
+      return scheduleCoalescable(callable, input);
+    }
+
     final JobFutureTask<RESULT> futureTask = createJobFutureTask(callable, input);
     submit(futureTask);
 
     return futureTask;
   }
 
+  /**
+   * Schedules a job with a coalescing key. If a job with the same key is pending, its Future is returned instead of
+   * scheduling a new job. The key is released once the job commences execution or completes.
+   */
+  @SuppressWarnings("unchecked")
+  protected <RESULT> IFuture<RESULT> scheduleCoalescable(final Callable<RESULT> callable, final JobInput input) {
+    final Object coalescingKey = input.getCoalescingKey();
+    final JobInput namedInput = ensureJobInputName(input, callable.getClass().getName());
+    final Callable<RESULT> releasingCallable = () -> {
+      m_coalescableFutures.remove(coalescingKey, IFuture.CURRENT.get());
+      return callable.call();
+    };
+
+    final JobFutureTask<RESULT> futureTask;
+    synchronized (m_coalescableFutures) {
+      // Not created within ConcurrentMap.compute, because creating a Future may notify listeners.
+      final JobFutureTask<?> pending = m_coalescableFutures.get(coalescingKey);
+      if (pending != null && !pending.isDone()) {
+        m_metrics.jobCoalesced();
+        return (IFuture<RESULT>) pending;
+      }
+      futureTask = createJobFutureTask(releasingCallable, namedInput);
+      m_coalescableFutures.put(coalescingKey, futureTask);
+    }
+
+    futureTask.whenDone(event -> m_coalescableFutures.remove(coalescingKey, futureTask), null);
+    submit(futureTask);
+    return futureTask;
+  }
+
   /**
    * Submits the given future for asynchronous execution. Upon expiry of its fire time and the acquisition of a
    * potential execution permit, the future is given to {@link ExecutorService}. In turn, a worker thread is allocated
@@ -126,7 +182,7 @@ public class JobManager implements IJobManager {
           futureTask.changeState(JobState.PENDING);
         }
 
-        m_delayedExecutor.schedule(() -> competeForPermitAndExecute(futureTask, new FutureRunner<>(JobManager.this, futureTask)), futureTask.getFirstFireTime());
+        futureTask.setDelayedExecutionHandle(m_delayedExecutor.schedule(() -> competeForPermitAndExecute(futureTask, new FutureRunner<>(JobManager.this, futureTask)), futureTask.getFirstFireTime()));
       }
     }
     catch (final RuntimeException | Error e) { // NOSONAR
@@ -136,16 +192,18 @@ public class JobManager implements IJobManager {
   }
 
   /**
-   * Competes for an execution permit (if semaphore aware) and executes the runnable via {@link ExecutorService}.
+   * Competes for an execution permit (if semaphore aware) and executes the runnable via {@link ExecutorService},
+   * according to the job's {@link JobPriority}.
    */
   protected void competeForPermitAndExecute(final JobFutureTask<?> futureTask, final IRejectableRunnable futureRunner) {
     final ExecutionSemaphore executionSemaphore = futureTask.getExecutionSemaphore();
+    final JobPriority priority = futureTask.getJobInput().getPriority();
     if (executionSemaphore == null) {
-      m_executor.execute(futureRunner);
+      m_dispatcher.execute(futureRunner, priority);
     }
     else {
       futureTask.changeState(JobState.WAITING_FOR_PERMIT);
-      executionSemaphore.compete(futureTask, QueuePosition.TAIL, () -> m_executor.execute(futureRunner));
+      executionSemaphore.compete(futureTask, QueuePosition.TAIL, () -> m_dispatcher.execute(futureRunner, priority));
     }
   }
 
@@ -156,6 +214,7 @@ public class JobManager implements IJobManager {
 
   @Override
   public void awaitDone(final Predicate<IFuture<?>> filter, final long timeout, final TimeUnit unit) {
+    final boolean blocking = beginBlocking();
     try {
       m_futures.awaitDone(filter, timeout, unit);
     }
@@ -166,10 +225,16 @@ public class JobManager implements IJobManager {
       Thread.currentThread().interrupt(); // Restore the interrupted status because cleared by catching InterruptedException.
       throw BEANS.get(JobExceptionTranslator.class).translateInterruptedException(e, "Interrupted while waiting for jobs to complete");
     }
+    finally {
+      if (blocking) {
+        endBlocking();
+      }
+    }
   }
 
   @Override
   public void awaitFinished(final Predicate<IFuture<?>> filter, final long timeout, final TimeUnit unit) {
+    final boolean blocking = beginBlocking();
     try {
       m_futures.awaitFinished(filter, timeout, unit);
     }
@@ -180,6 +245,11 @@ public class JobManager implements IJobManager {
       Thread.currentThread().interrupt(); // Restore the interrupted status because cleared by catching InterruptedException.
       throw BEANS.get(JobExceptionTranslator.class).translateInterruptedException(e, "Interrupted while waiting for jobs to complete");
     }
+    finally {
+      if (blocking) {
+        endBlocking();
+      }
+    }
   }
 
   @Override
@@ -207,6 +277,7 @@ public class JobManager implements IJobManager {
     m_futures.dispose();
 
     // Shutdown the Executor.
+    m_dispatcher.shutdown();
     shutdownExecutor(m_executor);
 
     // Fire event that job manager was shutdown.
@@ -251,27 +322,21 @@ public class JobManager implements IJobManager {
    * Creates the executor to run jobs.
    */
   protected ExecutorService createExecutor() {
+    final RejectedExecutionHandler rejectHandler = createRejectedExecutionHandler();
+    if (isVirtualThreads()) {
+      return createVirtualThreadExecutor(rejectHandler);
+    }
+    if (CONFIG.getPropertyValue(JobManagerVirtualThreadsProperty.class)) {
+      LOG.warn("Virtual threads are not supported by this Java runtime. Using platform threads instead. [property={}]", BEANS.get(JobManagerVirtualThreadsProperty.class).getKey());
+    }
+
     final int corePoolSize = CONFIG.getPropertyValue(JobManagerCorePoolSizeProperty.class);
-    final int maximumPoolSize = CONFIG.getPropertyValue(JobManagerMaximumPoolSizeProperty.class);
+    // Not limited by the maximum pool size, which is enforced by the dispatcher for running jobs (see createDispatcher).
+    final int maximumPoolSize = Integer.MAX_VALUE;
     final long keepAliveTime = CONFIG.getPropertyValue(JobManagerKeepAliveTimeProperty.class);
     final boolean allowCoreThreadTimeOut = CONFIG.getPropertyValue(JobManagerAllowCoreThreadTimeoutProperty.class);
     final boolean prestartCoreThreads = CONFIG.getPropertyValue(JobManagerPrestartCoreThreadsProperty.class);
 
-    // Create the rejection handler.
-    final RejectedExecutionHandler rejectHandler = (runnable, executor) -> {
-      if (isShutdown()) {
-        LOG.debug("Job rejected because the job manager is shutdown.");
-      }
-      else {
-        // Do not propagate exception, because the caller is not the submitting thread.
-        LOG.error("Job rejected because no more threads or queue slots available. [runnable={}]", runnable);
-      }
-
-      if (runnable instanceof IRejectableRunnable) {
-        ((IRejectableRunnable) runnable).reject();
-      }
-    };
-
     final ThreadPoolExecutor executor = new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, TimeUnit.SECONDS, new SynchronousQueue<>(), new NamedThreadFactory("scout-thread"), rejectHandler);
     executor.allowCoreThreadTimeOut(allowCoreThreadTimeOut);
     if (prestartCoreThreads) {
@@ -281,6 +346,97 @@ public class JobManager implements IJobManager {
     return executor;
   }
 
+  /**
+   * @return <code>true</code> if jobs are run in virtual threads (see {@link JobManagerVirtualThreadsProperty}).
+   */
+  protected boolean isVirtualThreads() {
+    return CONFIG.getPropertyValue(JobManagerVirtualThreadsProperty.class) && VirtualThreads.isSupported();
+  }
+
+  /**
+   * Creates the executor to run delayed and repetitive jobs once their fire time elapses.
+   */
+  protected IDelayedExecutor createDelayedExecutor(final ExecutorService executor) {
+    if (CONFIG.getPropertyValue(JobManagerTimingWheelSchedulerProperty.class)) {
+      return new TimingWheelDelayedExecutor(executor, "scout-scheduler-thread", TimingWheelDelayedExecutor.DEFAULT_TICK_MILLIS);
+    }
+    return new DelayedExecutor(executor, "scout-scheduler-thread");
+  }
+
+  /**
+   * Creates the executor to run every job in a new virtual thread. Virtual threads are not pooled, which is why there
+   * is neither a core pool nor an upper limit. Blocking jobs (e.g. long polling) therefore do not occupy a platform
+   * thread while waiting.
+   * <p>
+   * The threads are created via {@link NamedThreadFactory}, so that the thread name decoration and the uncaught
+   * exception handling works the same as for platform threads.
+   */
+  protected ExecutorService createVirtualThreadExecutor(final RejectedExecutionHandler rejectHandler) {
+    LOG.info("JobManager executes jobs in virtual threads.");
+    return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 0L, TimeUnit.SECONDS, new SynchronousQueue<>(), new NamedThreadFactory("scout-vthread", VirtualThreads.factory()), rejectHandler);
+  }
+
+  /**
+   * Creates the dispatcher which queues jobs by their {@link JobPriority} if the maximal number of running jobs, or the
+   * concurrency limit of their priority class is reached.
+   */
+  protected JobPriorityDispatcher createDispatcher(final ExecutorService executor) {
+    final int maxThreads = isVirtualThreads() ? Integer.MAX_VALUE : CONFIG.getPropertyValue(JobManagerMaximumPoolSizeProperty.class);
+    final int[] maxConcurrency = new int[JobPriority.values().length];
+    maxConcurrency[JobPriority.INTERACTIVE.ordinal()] = CONFIG.getPropertyValue(JobManagerMaxConcurrentInteractiveJobsProperty.class);
+    maxConcurrency[JobPriority.DEFAULT.ordinal()] = CONFIG.getPropertyValue(JobManagerMaxConcurrentDefaultJobsProperty.class);
+    maxConcurrency[JobPriority.BACKGROUND.ordinal()] = CONFIG.getPropertyValue(JobManagerMaxConcurrentBackgroundJobsProperty.class);
+    final int queueCapacity = CONFIG.getPropertyValue(JobManagerQueueCapacityProperty.class);
+    return new JobPriorityDispatcher(executor, this::reject, m_metrics, maxThreads, maxConcurrency, queueCapacity);
+  }
+
+  protected RejectedExecutionHandler createRejectedExecutionHandler() {
+    return (runnable, executor) -> reject(runnable);
+  }
+
+  /**
+   * Rejects the given job because the job manager is shut down, or no more threads or queue slots are available.
+   */
+  protected void reject(final Runnable runnable) {
+    if (isShutdown()) {
+      LOG.debug("Job rejected because the job manager is shutdown.");
+    }
+    else {
+      // Do not propagate exception, because the caller is not the submitting thread.
+      LOG.error("Job rejected because no more threads or queue slots available. [runnable={}]", runnable);
+    }
+    m_metrics.jobRejected(isShutdown());
+
+    if (runnable instanceof IRejectableRunnable) {
+      ((IRejectableRunnable) runnable).reject();
+    }
+  }
+
+  /**
+   * Returns the executor to notify the done handlers of a job with the given priority. Like jobs, the notification is
+   * queued if the maximal number of running jobs is reached.
+   */
+  protected Executor getDoneHandlerExecutor(final JobPriority priority) {
+    return runnable -> m_dispatcher.execute(new P_DoneHandlerNotification(runnable), priority);
+  }
+
+  /**
+   * Releases the thread of the job running in the current thread while it waits for other jobs to complete.
+   *
+   * @return <code>true</code> if released, in which case {@link #endBlocking()} must be invoked once the waiting ended.
+   * @see JobPriorityDispatcher#beginBlocking()
+   */
+  protected boolean beginBlocking() {
+    return m_dispatcher.beginBlocking();
+  }
+
+  /**
+   * @see JobPriorityDispatcher#endBlocking()
+   */
+  protected void endBlocking() {
+    m_dispatcher.endBlocking();
+  }
+
   /**
    * Returns the internal Executor Service.
    */
@@ -288,10 +444,24 @@ public class JobManager implements IJobManager {
     return m_executor;
   }
 
+  /**
+   * Returns the dispatcher which queues jobs by their priority.
+   */
+  protected JobPriorityDispatcher getDispatcher() {
+    return m_dispatcher;
+  }
+
+  /**
+   * Returns the metrics of this job manager.
+   */
+  protected JobManagerMetricProvider getMetrics() {
+    return m_metrics;
+  }
+
   /**
    * Returns the internal delayed Executor Service.
    */
-  protected DelayedExecutor getDelayedExecutor() {
+  protected IDelayedExecutor getDelayedExecutor() {
     return m_delayedExecutor;
   }
 
@@ -396,4 +566,32 @@ public class JobManager implements IJobManager {
       }
     }
   }
+
+  /**
+   * Notifies the done handlers of a job. If rejected, the handlers are not notified, which is logged by
+   * {@link JobManager#reject(Runnable)}.
+   */
+  protected static class P_DoneHandlerNotification implements IRejectableRunnable {
+
+    private final Runnable m_runnable;
+
+    protected P_DoneHandlerNotification(final Runnable runnable) {
+      m_runnable = runnable;
+    }
+
+    @Override
+    public void run() {
+      m_runnable.run();
+    }
+
+    @Override
+    public void reject() {
+      // NOOP
+    }
+
+    @Override
+    public String toString() {
+      return m_runnable.toString();
+    }
+  }
 }
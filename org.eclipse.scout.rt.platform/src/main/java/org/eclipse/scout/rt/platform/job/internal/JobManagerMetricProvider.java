@@ -0,0 +1,332 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.job.IJobManager;
+import org.eclipse.scout.rt.platform.job.JobInput;
+import org.eclipse.scout.rt.platform.job.JobPriority;
+import org.eclipse.scout.rt.platform.opentelemetry.AttributesCache;
+import org.eclipse.scout.rt.platform.opentelemetry.IMetricProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.BatchCallback;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.LongHistogram;
+import io.opentelemetry.api.metrics.LongUpDownCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableLongMeasurement;
+
+/**
+ * {@link IMetricProvider} for the {@link JobManager} and its {@link ExecutionSemaphore}s:
+ * <ul>
+ * <li>number of active and idle worker threads</li>
+ * <li>number of tasks waiting in the {@link IDelayedExecutor}</li>
+ * <li>number of tasks queued in execution semaphores, queue length upon enqueuing and permit wait time</li>
+ * <li>number of jobs queued by priority class because no thread was available, queue length upon enqueuing and wait
+ * time</li>
+ * <li>job run duration by job name and execution hint</li>
+ * <li>number of rejected jobs</li>
+ * <li>number of jobs coalesced with a pending job</li>
+ * </ul>
+ * <p>
+ * As long as this provider is not registered (e.g. no OpenTelemetry SDK is available), the recording methods do
+ * nothing.
+ * </p>
+ * <p>
+ * To keep the cardinality low, at most {@link #MAX_JOB_NAMES} distinct job names are recorded. Further names are
+ * recorded as {@link #OTHER_JOB_NAME}.
+ * </p>
+ */
+public class JobManagerMetricProvider implements IMetricProvider {
+
+  private static final Logger LOG = LoggerFactory.getLogger(JobManagerMetricProvider.class);
+
+  protected static final AttributeKey<String> JOB_NAME = AttributeKey.stringKey("job.name");
+  protected static final AttributeKey<String> JOB_HINT = AttributeKey.stringKey("job.hint");
+  protected static final AttributeKey<String> THREAD_STATE = AttributeKey.stringKey("state");
+  protected static final AttributeKey<String> REJECT_REASON = AttributeKey.stringKey("reason");
+  protected static final AttributeKey<String> JOB_PRIORITY = AttributeKey.stringKey("job.priority");
+
+  protected static final int MAX_JOB_NAMES = 200;
+  protected static final String OTHER_JOB_NAME = "other";
+  protected static final String NO_HINT = "none";
+
+  private final Set<String> m_jobNames = ConcurrentHashMap.newKeySet();
+  private final AttributesCache<String, String> m_jobAttributes = AttributesCache.of(MAX_JOB_NAMES, 4, (name, hint) -> Attributes.of(JOB_NAME, name, JOB_HINT, hint));
+  private volatile P_Instruments m_instruments;
+
+  @Override
+  public void register(OpenTelemetry openTelemetry) {
+    Meter meter = openTelemetry.getMeter(getClass().getName());
+    m_instruments = new P_Instruments(meter);
+  }
+
+  @Override
+  public void close() {
+    P_Instruments instruments = m_instruments;
+    m_instruments = null;
+    if (instruments != null) {
+      instruments.close();
+    }
+  }
+
+  /**
+   * @return <code>true</code> if metrics are recorded.
+   */
+  public boolean isActive() {
+    return m_instruments != null;
+  }
+
+  /**
+   * Records the duration of a single execution of a job.
+   */
+  public void jobExecuted(JobInput input, long durationNanos) {
+    P_Instruments instruments = m_instruments;
+    if (instruments == null) {
+      return;
+    }
+    instruments.m_jobDuration.record(toMillis(durationNanos), m_jobAttributes.getOrCreate(boundJobName(input.getName()), toHint(input.getExecutionHints())));
+  }
+
+  /**
+   * Records a job rejected by the executor.
+   *
+   * @param shutdown
+   *          <code>true</code> if rejected because the job manager is shut down, <code>false</code> if rejected because
+   *          of exhausted resources.
+   */
+  public void jobRejected(boolean shutdown) {
+    P_Instruments instruments = m_instruments;
+    if (instruments == null) {
+      return;
+    }
+    instruments.m_rejectedJobs.add(1, shutdown ? instruments.m_rejectedShutdownAttributes : instruments.m_rejectedExhaustedAttributes);
+  }
+
+  /**
+   * Records a job not scheduled because coalesced with a pending job of the same coalescing key.
+   */
+  public void jobCoalesced() {
+    P_Instruments instruments = m_instruments;
+    if (instruments == null) {
+      return;
+    }
+    instruments.m_coalescedJobs.add(1);
+  }
+
+  /**
+   * Records a task queued in an execution semaphore because no permit was free.
+   *
+   * @param queueLength
+   *          the length of the semaphore's queue including the queued task
+   */
+  public void semaphoreTaskQueued(int queueLength) {
+    P_Instruments instruments = m_instruments;
+    if (instruments == null) {
+      return;
+    }
+    instruments.m_semaphoreQueued.add(1);
+    instruments.m_semaphoreQueueLength.record(queueLength);
+  }
+
+  /**
+   * Records a permit acquisition.
+   *
+   * @param queued
+   *          <code>true</code> if the task was queued before, <code>false</code> if a permit was free at once
+   * @param waitNanos
+   *          time the task waited for its permit
+   */
+  public void semaphorePermitAcquired(boolean queued, long waitNanos) {
+    P_Instruments instruments = m_instruments;
+    if (instruments == null) {
+      return;
+    }
+    if (queued) {
+      instruments.m_semaphoreQueued.add(-1);
+    }
+    instruments.m_semaphoreWaitTime.record(toMillis(waitNanos));
+  }
+
+  /**
+   * Records a job queued by the {@link JobPriorityDispatcher} because no thread was available for its priority class.
+   *
+   * @param queueLength
+   *          the number of queued jobs of all priority classes including the queued job
+   */
+  public void priorityTaskQueued(JobPriority priority, int queueLength) {
+    P_Instruments instruments = m_instruments;
+    if (instruments == null) {
+      return;
+    }
+    Attributes attributes = instruments.m_priorityAttributes[priority.ordinal()];
+    instruments.m_priorityQueued.add(1, attributes);
+    instruments.m_priorityQueueLength.record(queueLength, attributes);
+  }
+
+  /**
+   * Records a job which left the queue of the {@link JobPriorityDispatcher}, either to run or because rejected.
+   *
+   * @param waitNanos
+   *          time the job waited in the queue
+   */
+  public void priorityTaskDequeued(JobPriority priority, long waitNanos) {
+    P_Instruments instruments = m_instruments;
+    if (instruments == null) {
+      return;
+    }
+    Attributes attributes = instruments.m_priorityAttributes[priority.ordinal()];
+    instruments.m_priorityQueued.add(-1, attributes);
+    instruments.m_priorityWaitTime.record(toMillis(waitNanos), attributes);
+  }
+
+  protected String boundJobName(String name) {
+    if (name == null) {
+      return OTHER_JOB_NAME;
+    }
+    if (m_jobNames.contains(name)) {
+      return name;
+    }
+    if (m_jobNames.size() >= MAX_JOB_NAMES) {
+      return OTHER_JOB_NAME;
+    }
+    if (m_jobNames.add(name) && m_jobNames.size() == MAX_JOB_NAMES) {
+      LOG.info("Maximum number of distinct job names for metrics reached ({}). Further job names are recorded as '{}'.", MAX_JOB_NAMES, OTHER_JOB_NAME);
+    }
+    return name;
+  }
+
+  protected String toHint(Set<String> hints) {
+    if (hints == null || hints.isEmpty()) {
+      return NO_HINT;
+    }
+    if (hints.size() == 1) {
+      return hints.iterator().next();
+    }
+    return String.join(",", new TreeSet<>(hints));
+  }
+
+  protected static double toMillis(long nanos) {
+    return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+  }
+
+  /**
+   * Observes the current state of the job manager. Invoked by OpenTelemetry upon metrics export.
+   */
+  protected void observe(ObservableLongMeasurement threads, ObservableLongMeasurement delayedTasks, Attributes activeAttributes, Attributes idleAttributes) {
+    IJobManager jobManager = BEANS.opt(IJobManager.class);
+    if (!(jobManager instanceof JobManager)) {
+      return;
+    }
+    JobManager scoutJobManager = (JobManager) jobManager;
+    ExecutorService executor = scoutJobManager.getExecutor();
+    if (executor instanceof ThreadPoolExecutor) {
+      ThreadPoolExecutor pool = (ThreadPoolExecutor) executor;
+      int active = pool.getActiveCount();
+      threads.record(active, activeAttributes);
+      threads.record(Math.max(0, pool.getPoolSize() - active), idleAttributes);
+    }
+    delayedTasks.record(scoutJobManager.getDelayedExecutor().getQueueSize());
+  }
+
+  protected class P_Instruments {
+
+    protected final DoubleHistogram m_jobDuration;
+    protected final LongCounter m_rejectedJobs;
+    protected final LongCounter m_coalescedJobs;
+    protected final LongUpDownCounter m_semaphoreQueued;
+    protected final LongHistogram m_semaphoreQueueLength;
+    protected final DoubleHistogram m_semaphoreWaitTime;
+    protected final LongUpDownCounter m_priorityQueued;
+    protected final LongHistogram m_priorityQueueLength;
+    protected final DoubleHistogram m_priorityWaitTime;
+    protected final Attributes[] m_priorityAttributes;
+    protected final BatchCallback m_observer;
+    protected final Attributes m_rejectedShutdownAttributes = Attributes.of(REJECT_REASON, "shutdown");
+    protected final Attributes m_rejectedExhaustedAttributes = Attributes.of(REJECT_REASON, "exhausted");
+
+    protected P_Instruments(Meter meter) {
+      m_jobDuration = meter.histogramBuilder("scout.jobs.duration")
+          .setDescription("The duration of a single job execution.")
+          .setUnit("ms")
+          .build();
+      m_rejectedJobs = meter.counterBuilder("scout.jobs.rejected")
+          .setDescription("The number of jobs rejected by the executor.")
+          .setUnit("{job}")
+          .build();
+      m_coalescedJobs = meter.counterBuilder("scout.jobs.coalesced")
+          .setDescription("The number of jobs not scheduled because coalesced with a pending job.")
+          .setUnit("{job}")
+          .build();
+      m_semaphoreQueued = meter.upDownCounterBuilder("scout.jobs.semaphore.queued")
+          .setDescription("The number of tasks queued in execution semaphores waiting for a permit.")
+          .setUnit("{task}")
+          .build();
+      m_semaphoreQueueLength = meter.histogramBuilder("scout.jobs.semaphore.queue.length")
+          .setDescription("The length of the execution semaphore queue when a task had to be queued.")
+          .setUnit("{task}")
+          .ofLongs()
+          .build();
+      m_semaphoreWaitTime = meter.histogramBuilder("scout.jobs.semaphore.wait.time")
+          .setDescription("The time it took to acquire an execution semaphore permit.")
+          .setUnit("ms")
+          .build();
+
+      m_priorityQueued = meter.upDownCounterBuilder("scout.jobs.priority.queued")
+          .setDescription("The number of jobs queued by priority class because no thread was available.")
+          .setUnit("{job}")
+          .build();
+      m_priorityQueueLength = meter.histogramBuilder("scout.jobs.priority.queue.length")
+          .setDescription("The number of queued jobs of all priority classes when a job had to be queued.")
+          .setUnit("{job}")
+          .ofLongs()
+          .build();
+      m_priorityWaitTime = meter.histogramBuilder("scout.jobs.priority.wait.time")
+          .setDescription("The time a job waited in the queue for a thread.")
+          .setUnit("ms")
+          .build();
+      JobPriority[] priorities = JobPriority.values();
+      m_priorityAttributes = new Attributes[priorities.length];
+      for (JobPriority priority : priorities) {
+        m_priorityAttributes[priority.ordinal()] = Attributes.of(JOB_PRIORITY, priority.name().toLowerCase(Locale.ROOT));
+      }
+
+      ObservableLongMeasurement threads = meter.upDownCounterBuilder("scout.jobs.threads")
+          .setDescription("The number of worker threads that are currently in state described by the state attribute.")
+          .setUnit("{thread}")
+          .buildObserver();
+      ObservableLongMeasurement delayedTasks = meter.upDownCounterBuilder("scout.jobs.delayed.size")
+          .setDescription("The number of tasks waiting for their fire time.")
+          .setUnit("{task}")
+          .buildObserver();
+      Attributes activeAttributes = Attributes.of(THREAD_STATE, "active");
+      Attributes idleAttributes = Attributes.of(THREAD_STATE, "idle");
+      m_observer = meter.batchCallback(() -> observe(threads, delayedTasks, activeAttributes, idleAttributes), threads, delayedTasks);
+    }
+
+    protected void close() {
+      m_observer.close();
+    }
+  }
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+
+import org.eclipse.scout.rt.platform.job.JobPriority;
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * Dispatches jobs to the {@link ExecutorService} of the {@link JobManager} according to their {@link JobPriority}.
+ * <p>
+ * A job is given to the executor at once, unless the maximal number of threads is in use, or the concurrency limit of
+ * its priority class is reached. In that case, the job is put into a bounded queue, and is run by the next worker
+ * thread which completes a job, in the order of the priority classes and FIFO within a class. Because a worker thread
+ * runs the next queued job itself instead of returning to the executor, queued jobs do not compete with new jobs for
+ * the threads of the executor. If the queue is full, the job is rejected.
+ * <p>
+ * The dispatcher limits the number of running jobs, not the number of threads of the executor. A job waiting for other
+ * jobs (see {@link #beginBlocking()}) releases its thread while waiting, so that the awaited jobs are not starved if
+ * they are queued. The executor must therefore be able to run more threads than the dispatcher allows jobs to run.
+ *
+ * @since 24.2
+ */
+public class JobPriorityDispatcher {
+
+  private static final JobPriority[] PRIORITIES = JobPriority.values();
+
+  private final ExecutorService m_executor;
+  private final Consumer<IRejectableRunnable> m_rejector;
+  private final JobManagerMetricProvider m_metrics;
+  private final int m_maxThreads;
+  private final int[] m_maxConcurrency;
+  private final int m_queueCapacity;
+
+  private final Object m_lock = new Object();
+  private final List<Deque<P_Task>> m_queues; // guarded by m_lock
+  private final int[] m_runningCount; // guarded by m_lock
+  private int m_runningTotal; // guarded by m_lock
+  private int m_queuedTotal; // guarded by m_lock
+  private boolean m_shutdown; // guarded by m_lock
+  private final ThreadLocal<P_Task> m_currentTask = new ThreadLocal<>();
+
+  /**
+   * @param executor
+   *          executor to run the jobs.
+   * @param rejector
+   *          invoked to reject a job because the queue is full or the dispatcher is shut down.
+   * @param metrics
+   *          to record the queueing of jobs.
+   * @param maxThreads
+   *          the maximal number of jobs running concurrently.
+   * @param maxConcurrency
+   *          the maximal number of jobs running concurrently per priority class, indexed by
+   *          {@link JobPriority#ordinal()}.
+   * @param queueCapacity
+   *          the maximal number of queued jobs.
+   */
+  public JobPriorityDispatcher(final ExecutorService executor, final Consumer<IRejectableRunnable> rejector, final JobManagerMetricProvider metrics, final int maxThreads, final int[] maxConcurrency,
+      final int queueCapacity) {
+    Assertions.assertEqual(PRIORITIES.length, maxConcurrency.length, "A concurrency limit is required for each priority class");
+    m_executor = executor;
+    m_rejector = rejector;
+    m_metrics = metrics;
+    m_maxThreads = maxThreads;
+    m_maxConcurrency = maxConcurrency.clone();
+    m_queueCapacity = queueCapacity;
+    m_queues = new ArrayList<>(PRIORITIES.length);
+    for (int i = 0; i < PRIORITIES.length; i++) {
+      m_queues.add(new ArrayDeque<>());
+    }
+    m_runningCount = new int[PRIORITIES.length];
+  }
+
+  /**
+   * Runs the given job at once if a thread is available for its priority class, or queues it otherwise.
+   */
+  public void execute(final IRejectableRunnable runnable, final JobPriority priority) {
+    final P_Task task = new P_Task(runnable, priority);
+    final int queueLength;
+    synchronized (m_lock) {
+      if (m_shutdown) {
+        queueLength = -1;
+      }
+      else if (canRun(priority) && m_queues.get(priority.ordinal()).isEmpty()) {
+        acquire(priority);
+        queueLength = 0;
+      }
+      else if (m_queuedTotal < m_queueCapacity) {
+        task.m_queuedAtNanos = System.nanoTime();
+        m_queues.get(priority.ordinal()).add(task);
+        m_queuedTotal++;
+        queueLength = m_queuedTotal;
+      }
+      else {
+        queueLength = -1;
+      }
+    }
+
+    if (queueLength == 0) {
+      m_executor.execute(task);
+    }
+    else if (queueLength > 0) {
+      m_metrics.priorityTaskQueued(priority, queueLength);
+      dispatchQueued(); // run queued jobs which are eligible again, e.g. after a rejection
+    }
+    else {
+      m_rejector.accept(runnable);
+    }
+  }
+
+  /**
+   * Releases the thread occupied by the job running in the current thread while that job waits for other jobs to
+   * complete, e.g. in {@link org.eclipse.scout.rt.platform.job.IFuture#awaitDone()}. Meanwhile, queued jobs may run in
+   * its place. Otherwise, if all threads are occupied by jobs waiting for queued jobs, none of them could ever continue.
+   *
+   * @return <code>true</code> if the thread was released, in which case {@link #endBlocking()} must be invoked once the
+   *         waiting ended, or <code>false</code> if the current thread is not running a job of this dispatcher.
+   */
+  public boolean beginBlocking() {
+    final P_Task task = m_currentTask.get();
+    if (task == null || task.m_blocking) {
+      return false;
+    }
+    synchronized (m_lock) {
+      release(task.m_priority);
+      task.m_blocking = true;
+    }
+    dispatchQueued();
+    return true;
+  }
+
+  /**
+   * Occupies the thread released by {@link #beginBlocking()} again. The number of running jobs may temporarily exceed
+   * the limit, in which case no queued job is started until enough jobs completed.
+   */
+  public void endBlocking() {
+    final P_Task task = m_currentTask.get();
+    synchronized (m_lock) {
+      acquire(task.m_priority);
+      task.m_blocking = false;
+    }
+  }
+
+  /**
+   * Rejects all queued jobs, and rejects jobs given to this dispatcher from now on.
+   */
+  public void shutdown() {
+    final List<P_Task> queuedTasks = new ArrayList<>();
+    synchronized (m_lock) {
+      m_shutdown = true;
+      for (final Deque<P_Task> queue : m_queues) {
+        queuedTasks.addAll(queue);
+        queue.clear();
+      }
+      m_queuedTotal = 0;
+    }
+    for (final P_Task task : queuedTasks) {
+      m_metrics.priorityTaskDequeued(task.m_priority, System.nanoTime() - task.m_queuedAtNanos);
+      m_rejector.accept(task.m_runnable);
+    }
+  }
+
+  /**
+   * @return the number of jobs of the given priority class waiting for a thread.
+   */
+  public int getQueueSize(final JobPriority priority) {
+    synchronized (m_lock) {
+      return m_queues.get(priority.ordinal()).size();
+    }
+  }
+
+  /**
+   * @return the number of jobs of the given priority class currently running.
+   */
+  public int getRunningCount(final JobPriority priority) {
+    synchronized (m_lock) {
+      return m_runningCount[priority.ordinal()];
+    }
+  }
+
+  /**
+   * Gives queued jobs to the executor as long as threads are available. Typically, there is no such job, because queued
+   * jobs are run by the completing worker threads.
+   */
+  protected void dispatchQueued() {
+    P_Task task;
+    while ((task = pollNext(null)) != null) {
+      m_executor.execute(task);
+    }
+  }
+
+  /**
+   * Releases the thread of the given completed job (if not <code>null</code>), and returns the next queued job
+   * eligible to run, which then occupies the released thread.
+   */
+  protected P_Task pollNext(final P_Task completedTask) {
+    final P_Task next;
+    synchronized (m_lock) {
+      if (completedTask != null) {
+        release(completedTask.m_priority);
+      }
+      next = m_shutdown ? null : pollEligible();
+    }
+    if (next != null) {
+      m_metrics.priorityTaskDequeued(next.m_priority, System.nanoTime() - next.m_queuedAtNanos);
+    }
+    return next;
+  }
+
+  private P_Task pollEligible() {
+    if (m_queuedTotal == 0) {
+      return null;
+    }
+    for (final JobPriority priority : PRIORITIES) {
+      final Deque<P_Task> queue = m_queues.get(priority.ordinal());
+      if (!queue.isEmpty() && canRun(priority)) {
+        m_queuedTotal--;
+        acquire(priority);
+        return queue.poll();
+      }
+    }
+    return null;
+  }
+
+  private boolean canRun(final JobPriority priority) {
+    return m_runningTotal < m_maxThreads && m_runningCount[priority.ordinal()] < m_maxConcurrency[priority.ordinal()];
+  }
+
+  private void acquire(final JobPriority priority) {
+    m_runningTotal++;
+    m_runningCount[priority.ordinal()]++;
+  }
+
+  private void release(final JobPriority priority) {
+    m_runningTotal--;
+    m_runningCount[priority.ordinal()]--;
+  }
+
+  /**
+   * Job which occupies a thread of its priority class while running.
+   */
+  protected class P_Task implements IRejectableRunnable {
+
+    private final IRejectableRunnable m_runnable;
+    private final JobPriority m_priority;
+    private long m_queuedAtNanos;
+    private boolean m_blocking; // only accessed by the thread running this job
+
+    protected P_Task(final IRejectableRunnable runnable, final JobPriority priority) {
+      m_runnable = runnable;
+      m_priority = priority;
+    }
+
+    @Override
+    public void run() {
+      P_Task task = this;
+      while (task != null) {
+        final P_Task current = task;
+        task = null;
+        boolean completed = false;
+        m_currentTask.set(current);
+        try {
+          current.m_runnable.run();
+          completed = true;
+        }
+        finally {
+          m_currentTask.remove();
+          task = pollNext(current);
+          if (!completed && task != null) {
+            // This thread terminates abnormally, so the next job is given to the executor.
+            m_executor.execute(task);
+          }
+        }
+      }
+    }
+
+    @Override
+    public void reject() {
+      synchronized (m_lock) {
+        release(m_priority);
+      }
+      m_runnable.reject();
+    }
+
+    @Override
+    public String toString() {
+      return m_runnable.toString();
+    }
+  }
+}
@@ -34,9 +34,20 @@ public class NamedThreadFactory implements ThreadFactory, UncaughtExceptionHandl
   private final AtomicLong m_sequence;
   private final String m_threadName;
   private final ThreadGroup m_group;
+  private final ThreadFactory m_delegate;
 
   public NamedThreadFactory(final String threadName) {
+    this(threadName, null);
+  }
+
+  /**
+   * @param delegate
+   *          optional factory to create the threads, e.g. a factory for virtual threads. If <code>null</code>, platform
+   *          threads are created.
+   */
+  public NamedThreadFactory(final String threadName, final ThreadFactory delegate) {
     m_threadName = threadName;
+    m_delegate = delegate;
     m_sequence = new AtomicLong();
 
     final SecurityManager securityManager = System.getSecurityManager();
@@ -45,6 +56,10 @@ public class NamedThreadFactory implements ThreadFactory, UncaughtExceptionHandl
 
   @Override
   public Thread newThread(final Runnable runnable) {
+    if (m_delegate != null) {
+      return newDelegateThread(runnable);
+    }
+
     final AtomicReference<ThreadInfo> threadInfoRef = new AtomicReference<>();
     final Thread thread = new Thread(m_group, runnable, m_threadName, 0) {
 
@@ -75,6 +90,30 @@ public class NamedThreadFactory implements ThreadFactory, UncaughtExceptionHandl
     return thread;
   }
 
+  /**
+   * Creates the thread via delegate factory. Such threads cannot be subclassed, which is why the runnable is wrapped
+   * instead. Daemon flag and priority are left as provided by the delegate, because virtual threads are always daemon
+   * threads with normal priority.
+   */
+  protected Thread newDelegateThread(final Runnable runnable) {
+    final AtomicReference<ThreadInfo> threadInfoRef = new AtomicReference<>();
+    final Thread thread = m_delegate.newThread(() -> {
+      MDC.clear();
+
+      ThreadInfo.CURRENT.set(threadInfoRef.get());
+      try {
+        runnable.run();
+      }
+      finally {
+        ThreadInfo.CURRENT.remove();
+      }
+    });
+    threadInfoRef.set(new ThreadInfo(thread, m_threadName, m_sequence.incrementAndGet()));
+    thread.setUncaughtExceptionHandler(this);
+
+    return thread;
+  }
+
   // === UncaughtExceptionHandler ===
 
   @Override
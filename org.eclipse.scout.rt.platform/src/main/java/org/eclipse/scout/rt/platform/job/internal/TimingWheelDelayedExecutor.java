@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.util.Date;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.eclipse.scout.rt.platform.job.internal.NamedThreadFactory.ThreadInfo;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.eclipse.scout.rt.platform.util.IRegistrationHandle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link IDelayedExecutor} based on a hierarchical timing wheel, which is optimized for a high volume of pending tasks.
+ * <p>
+ * Time is divided into ticks of {@link #getTickMillis()} milliseconds. The wheel consists of {@link #LEVELS} levels
+ * with {@link #WHEEL_SIZE} slots each, where a slot of level <code>n</code> spans <code>WHEEL_SIZE^n</code> ticks.
+ * Tasks are put into the slot of the lowest level which covers their fire time, and are cascaded to the lower levels
+ * as time advances. Tasks which fire later than the range of the wheel (about 500 days with the default tick) are
+ * re-inserted until due.
+ * <p>
+ * Scheduling and cancelling are O(1): both only enqueue the task into a non-blocking queue, which is drained by the
+ * dispatcher thread. The wheel itself is only accessed by the dispatcher thread and therefore requires no locking. A
+ * cancelled task is unlinked from its slot immediately, so that it does not occupy memory until its fire time.
+ * <p>
+ * Tasks never fire before their fire time, but up to one tick later.
+ *
+ * @since 24.2
+ */
+class TimingWheelDelayedExecutor implements IDelayedExecutor {
+
+  private static final Logger LOG = LoggerFactory.getLogger(TimingWheelDelayedExecutor.class);
+
+  public static final long DEFAULT_TICK_MILLIS = 10;
+
+  protected static final int WHEEL_BITS = 8;
+  protected static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+  protected static final int WHEEL_MASK = WHEEL_SIZE - 1;
+  protected static final int LEVELS = 4;
+  protected static final long MAX_DELTA_TICKS = (1L << (WHEEL_BITS * LEVELS)) - 1;
+
+  private static final long IDLE_PARK_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final ExecutorService m_executor;
+  private final String m_threadName;
+  private final long m_tickMillis;
+
+  private final Queue<P_TimerTask> m_insertions = new ConcurrentLinkedQueue<>();
+  private final Queue<P_TimerTask> m_cancellations = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger m_pendingCount = new AtomicInteger();
+  private volatile Thread m_dispatcherThread;
+  private volatile boolean m_idle;
+
+  // Only accessed by the dispatcher thread.
+  private final P_Slot[][] m_wheel;
+  private long m_currentTick;
+  private int m_wheelTaskCount;
+
+  /**
+   * @param executor
+   *          executor to run the 'Dispatch-Loop-Runnable'.
+   * @param threadName
+   *          the thread-name of the 'Dispatch-Loop-Runnable'.
+   * @param tickMillis
+   *          the duration of a tick in milliseconds
+   */
+  TimingWheelDelayedExecutor(final ExecutorService executor, final String threadName, final long tickMillis) {
+    Assertions.assertGreater(tickMillis, 0L, "Tick must be greater than 0");
+    m_executor = executor;
+    m_threadName = threadName;
+    m_tickMillis = tickMillis;
+    m_wheel = new P_Slot[LEVELS][WHEEL_SIZE];
+    for (int level = 0; level < LEVELS; level++) {
+      for (int index = 0; index < WHEEL_SIZE; index++) {
+        m_wheel[level][index] = new P_Slot();
+      }
+    }
+    m_currentTick = System.currentTimeMillis() / m_tickMillis;
+    m_executor.execute(new P_DispatchLoop());
+  }
+
+  public long getTickMillis() {
+    return m_tickMillis;
+  }
+
+  /**
+   * Returns the tick the wheel has advanced to. Must only be invoked by the dispatcher thread.
+   */
+  protected long getCurrentTick() {
+    return m_currentTick;
+  }
+
+  @Override
+  public IRegistrationHandle schedule(final Runnable runnable, final Date fireTime) {
+    Assertions.assertNotNull(fireTime, "FireTime must not be null");
+    final P_TimerTask task = new P_TimerTask(runnable, fireTime.getTime());
+    m_pendingCount.incrementAndGet();
+    m_insertions.add(task);
+    if (m_idle) {
+      LockSupport.unpark(m_dispatcherThread);
+    }
+    return task;
+  }
+
+  @Override
+  public int getQueueSize() {
+    return m_pendingCount.get();
+  }
+
+  /**
+   * Advances the wheel to the given tick and runs all expired tasks. Must only be invoked by the dispatcher thread.
+   */
+  protected void advanceTo(final long nowTick) {
+    processInsertions();
+    processCancellations();
+
+    if (m_wheelTaskCount == 0) {
+      m_currentTick = Math.max(m_currentTick, nowTick);
+      return;
+    }
+    while (m_currentTick < nowTick) {
+      final long tick = ++m_currentTick;
+
+      // Cascade higher levels whose slot boundary is reached.
+      for (int level = LEVELS - 1; level > 0; level--) {
+        final int shift = WHEEL_BITS * level;
+        if ((tick & ((1L << shift) - 1)) == 0) {
+          for (P_TimerTask task = m_wheel[level][(int) ((tick >>> shift) & WHEEL_MASK)].detachAll(); task != null;) {
+            final P_TimerTask next = task.m_next;
+            task.m_next = null;
+            m_wheelTaskCount--;
+            place(task);
+            task = next;
+          }
+        }
+      }
+
+      // Run the expired tasks of the lowest level.
+      for (P_TimerTask task = m_wheel[0][(int) (tick & WHEEL_MASK)].detachAll(); task != null;) {
+        final P_TimerTask next = task.m_next;
+        task.m_next = null;
+        m_wheelTaskCount--;
+        place(task);
+        task = next;
+      }
+    }
+  }
+
+  /**
+   * Puts the given task into its slot, or runs it if already expired.
+   */
+  private void place(final P_TimerTask task) {
+    final long delta = task.m_expiryTick - m_currentTick;
+    if (delta <= 0) {
+      task.expire();
+      return;
+    }
+
+    final long placementTick = delta > MAX_DELTA_TICKS ? m_currentTick + MAX_DELTA_TICKS : task.m_expiryTick;
+    final long placementDelta = placementTick - m_currentTick;
+    int level = 0;
+    while (level < LEVELS - 1 && placementDelta >= (1L << (WHEEL_BITS * (level + 1)))) {
+      level++;
+    }
+    m_wheel[level][(int) ((placementTick >>> (WHEEL_BITS * level)) & WHEEL_MASK)].add(task);
+    m_wheelTaskCount++;
+  }
+
+  private void processInsertions() {
+    for (P_TimerTask task = m_insertions.poll(); task != null; task = m_insertions.poll()) {
+      if (!task.isCancelled()) {
+        place(task);
+      }
+    }
+  }
+
+  private void processCancellations() {
+    for (P_TimerTask task = m_cancellations.poll(); task != null; task = m_cancellations.poll()) {
+      if (task.m_slot != null) {
+        task.m_slot.remove(task);
+        m_wheelTaskCount--;
+      }
+    }
+  }
+
+  /**
+   * Dispatch loop to advance the wheel. This Runnable runs as long as the executor is not shutdown.
+   */
+  private class P_DispatchLoop implements Runnable {
+
+    @Override
+    public void run() {
+      m_dispatcherThread = Thread.currentThread();
+      ThreadInfo.CURRENT.get().updateThreadName(m_threadName, null);
+      try {
+        while (!m_executor.isShutdown()) {
+          try {
+            advanceTo(System.currentTimeMillis() / m_tickMillis);
+            parkUntilNextTick();
+          }
+          catch (final RuntimeException | Error t) { // NOSONAR
+            LOG.error("Unexpected exception while waiting for expired runnables to be executed.", t);
+          }
+        }
+      }
+      finally {
+        ThreadInfo.CURRENT.get().reset();
+      }
+    }
+
+    private void parkUntilNextTick() {
+      if (m_wheelTaskCount == 0) {
+        // No pending task: sleep until a task is scheduled.
+        m_idle = true;
+        try {
+          if (m_insertions.isEmpty()) {
+            LockSupport.parkNanos(TimingWheelDelayedExecutor.this, IDLE_PARK_NANOS);
+          }
+        }
+        finally {
+          m_idle = false;
+        }
+      }
+      else {
+        final long millisToNextTick = (m_currentTick + 1) * m_tickMillis - System.currentTimeMillis();
+        if (millisToNextTick > 0) {
+          LockSupport.parkNanos(TimingWheelDelayedExecutor.this, TimeUnit.MILLISECONDS.toNanos(millisToNextTick));
+        }
+      }
+      Thread.interrupted(); // ensure the interrupted status to be cleared.
+    }
+  }
+
+  /**
+   * Doubly linked list of tasks.
+   */
+  private static final class P_Slot {
+
+    private P_TimerTask m_head;
+    private P_TimerTask m_tail;
+
+    void add(final P_TimerTask task) {
+      task.m_slot = this;
+      task.m_prev = m_tail;
+      task.m_next = null;
+      if (m_tail == null) {
+        m_head = task;
+      }
+      else {
+        m_tail.m_next = task;
+      }
+      m_tail = task;
+    }
+
+    void remove(final P_TimerTask task) {
+      if (task.m_prev == null) {
+        m_head = task.m_next;
+      }
+      else {
+        task.m_prev.m_next = task.m_next;
+      }
+      if (task.m_next == null) {
+        m_tail = task.m_prev;
+      }
+      else {
+        task.m_next.m_prev = task.m_prev;
+      }
+      task.m_slot = null;
+      task.m_prev = null;
+      task.m_next = null;
+    }
+
+    /**
+     * Removes all tasks from this slot. The tasks are still linked by {@link P_TimerTask#m_next}.
+     */
+    P_TimerTask detachAll() {
+      final P_TimerTask head = m_head;
+      for (P_TimerTask task = head; task != null; task = task.m_next) {
+        task.m_slot = null;
+        task.m_prev = null;
+      }
+      m_head = null;
+      m_tail = null;
+      return head;
+    }
+  }
+
+  /**
+   * Represents a task to be executed some time in the future.
+   */
+  private final class P_TimerTask implements IRegistrationHandle {
+
+    private static final int PENDING = 0;
+    private static final int EXPIRED = 1;
+    private static final int CANCELLED = 2;
+
+    private final Runnable m_runnable;
+    private final long m_expiryTick;
+    private final AtomicInteger m_state = new AtomicInteger(PENDING);
+
+    // Only accessed by the dispatcher thread.
+    private P_Slot m_slot;
+    private P_TimerTask m_prev;
+    private P_TimerTask m_next;
+
+    P_TimerTask(final Runnable runnable, final long fireTimeMillis) {
+      m_runnable = runnable;
+      // Round up, so that the task does not fire before its fire time.
+      m_expiryTick = (fireTimeMillis + m_tickMillis - 1) / m_tickMillis;
+    }
+
+    boolean isCancelled() {
+      return m_state.get() == CANCELLED;
+    }
+
+    void expire() {
+      if (!m_state.compareAndSet(PENDING, EXPIRED)) {
+        return;
+      }
+      m_pendingCount.decrementAndGet();
+      try {
+        m_runnable.run();
+      }
+      catch (final RuntimeException | Error t) { // NOSONAR
+        LOG.error("Unexpected exception while executing expired runnable.", t);
+      }
+    }
+
+    @Override
+    public void dispose() {
+      if (m_state.compareAndSet(PENDING, CANCELLED)) {
+        m_pendingCount.decrementAndGet();
+        m_cancellations.add(this);
+      }
+    }
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.job.internal;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ThreadFactory;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Access to virtual threads of the running Java runtime.
+ * <p>
+ * Virtual threads are accessed reflectively, so that this code also runs on Java runtimes without virtual thread
+ * support. Use {@link #isSupported()} to check whether virtual threads are available.
+ *
+ * @since 24.2
+ */
+public final class VirtualThreads {
+
+  private static final Logger LOG = LoggerFactory.getLogger(VirtualThreads.class);
+
+  private static final ThreadFactory FACTORY = createFactory();
+  private static final Method IS_VIRTUAL = findIsVirtualMethod();
+
+  private VirtualThreads() {
+  }
+
+  /**
+   * @return <code>true</code> if the running Java runtime supports virtual threads.
+   */
+  public static boolean isSupported() {
+    return FACTORY != null;
+  }
+
+  /**
+   * @return a {@link ThreadFactory} creating unstarted virtual threads, or <code>null</code> if not supported.
+   */
+  public static ThreadFactory factory() {
+    return FACTORY;
+  }
+
+  /**
+   * @return <code>true</code> if the given thread is a virtual thread.
+   */
+  public static boolean isVirtual(final Thread thread) {
+    if (IS_VIRTUAL == null || thread == null) {
+      return false;
+    }
+    try {
+      return (Boolean) IS_VIRTUAL.invoke(thread);
+    }
+    catch (ReflectiveOperationException e) { // NOSONAR
+      return false;
+    }
+  }
+
+  private static ThreadFactory createFactory() {
+    try {
+      final Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+      final Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+      return (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+    }
+    catch (ReflectiveOperationException | RuntimeException | LinkageError e) { // NOSONAR
+      LOG.debug("Virtual threads are not supported by this Java runtime", e);
+      return null;
+    }
+  }
+
+  private static Method findIsVirtualMethod() {
+    try {
+      return Thread.class.getMethod("isVirtual");
+    }
+    catch (NoSuchMethodException e) { // NOSONAR
+      return null;
+    }
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.management;
+
+import java.beans.ConstructorProperties;
+
+import javax.management.MXBean;
+
+/**
+ * Jmx access to the timeline recorded during the last platform startup.
+ *
+ * @since 24.2
+ */
+@MXBean
+public interface IPlatformStartupMonitorMBean {
+
+  /**
+   * @return duration in milliseconds from the start of the platform until the end of the last recorded entry.
+   */
+  long getStartupDurationMillis();
+
+  /**
+   * @return all recorded entries (startup phases, platform listeners, @CreateImmediately beans) ordered by start time.
+   */
+  StartupEntryInfo[] getEntries();
+
+  /**
+   * @return the timeline as JSON array.
+   */
+  String exportJson();
+
+  /**
+   * @return the timeline in the Chrome trace event format.
+   */
+  String exportChromeTrace();
+
+  class StartupEntryInfo {
+    private final String m_category;
+    private final String m_name;
+    private final String m_thread;
+    private final long m_startMillis;
+    private final long m_durationMillis;
+
+    @ConstructorProperties({"category", "name", "thread", "startMillis", "durationMillis"})
+    public StartupEntryInfo(String category, String name, String thread, long startMillis, long durationMillis) {
+      m_category = category;
+      m_name = name;
+      m_thread = thread;
+      m_startMillis = startMillis;
+      m_durationMillis = durationMillis;
+    }
+
+    public String getCategory() {
+      return m_category;
+    }
+
+    public String getName() {
+      return m_name;
+    }
+
+    public String getThread() {
+      return m_thread;
+    }
+
+    public long getStartMillis() {
+      return m_startMillis;
+    }
+
+    public long getDurationMillis() {
+      return m_durationMillis;
+    }
+
+    @Override
+    public String toString() {
+      return String.format("%s [category=%s, name=%s, thread=%s, startMillis=%s, durationMillis=%s]",
+          StartupEntryInfo.class.getSimpleName(), m_category, m_name, m_thread, m_startMillis, m_durationMillis);
+    }
+  }
+}
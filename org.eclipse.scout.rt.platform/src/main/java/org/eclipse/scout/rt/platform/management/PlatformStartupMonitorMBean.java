@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.management;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.management.ObjectName;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.CreateImmediately;
+import org.eclipse.scout.rt.platform.IPlatform;
+import org.eclipse.scout.rt.platform.Platform;
+import org.eclipse.scout.rt.platform.internal.PlatformImplementor;
+import org.eclipse.scout.rt.platform.internal.PlatformStartupProfiler;
+import org.eclipse.scout.rt.platform.internal.PlatformStartupProfiler.Entry;
+import org.eclipse.scout.rt.platform.jmx.MBeanUtility;
+
+@ApplicationScoped
+@CreateImmediately
+public class PlatformStartupMonitorMBean implements IPlatformStartupMonitorMBean {
+
+  /*
+   * JMX registration
+   */
+
+  protected ObjectName jmxObjectName() {
+    return MBeanUtility.toJmxName("org.eclipse.scout.rt.platform", "PlatformStartup");
+  }
+
+  @PostConstruct
+  protected void postConstruct() {
+    MBeanUtility.register(jmxObjectName(), this);
+  }
+
+  @PreDestroy
+  protected void preDestroy() {
+    MBeanUtility.unregister(jmxObjectName());
+  }
+
+  /*
+   * MBean implementation
+   */
+
+  protected PlatformStartupProfiler getProfiler() {
+    IPlatform platform = Platform.get();
+    PlatformStartupProfiler profiler = null;
+    if (platform instanceof PlatformImplementor) {
+      profiler = ((PlatformImplementor) platform).getStartupProfiler();
+    }
+    return profiler != null ? profiler : new PlatformStartupProfiler(); // empty
+  }
+
+  @Override
+  public long getStartupDurationMillis() {
+    long endNanos = 0;
+    for (Entry entry : getProfiler().getEntries()) {
+      endNanos = Math.max(endNanos, entry.getStartNanos() + entry.getDurationNanos());
+    }
+    return TimeUnit.NANOSECONDS.toMillis(endNanos);
+  }
+
+  @Override
+  public StartupEntryInfo[] getEntries() {
+    return getProfiler().getEntries()
+        .stream()
+        .map(this::createStartupEntryInfo)
+        .toArray(StartupEntryInfo[]::new);
+  }
+
+  protected StartupEntryInfo createStartupEntryInfo(Entry entry) {
+    return new StartupEntryInfo(
+        entry.getCategory(),
+        entry.getName(),
+        entry.getThreadName(),
+        TimeUnit.NANOSECONDS.toMillis(entry.getStartNanos()),
+        TimeUnit.NANOSECONDS.toMillis(entry.getDurationNanos()));
+  }
+
+  @Override
+  public String exportJson() {
+    return getProfiler().toJson();
+  }
+
+  @Override
+  public String exportChromeTrace() {
+    return getProfiler().toChromeTraceJson();
+  }
+}
@@ -124,6 +124,26 @@ public abstract class AbstractTransactionalMap<K, V> implements Map<K, V> {
     }
   }
 
+  /**
+   * @return true if values were removed from this map or marked dirty within the current transaction. Values
+   *         resolved within such a transaction may reflect uncommitted changes of the transactional source and must
+   *         not be handed to other transactions.
+   * @since 24.2
+   */
+  public boolean isModifiedInCurrentTransaction() {
+    AbstractMapTransactionMember transactionMember = getTransactionMember(false);
+    return transactionMember != null && transactionMember.isModified();
+  }
+
+  /**
+   * @return the version of inserts, which is incremented by the commit of each transaction that marked inserts dirty
+   *         (see {@link #markInsertsDirty()}). Values resolved before a change of this version may be outdated.
+   * @since 24.2
+   */
+  public int getInsertVersion() {
+    return m_insertVersion.get();
+  }
+
   protected Map<K, V> getTransactionMap(boolean onlyReadOperation) {
     Map<K, V> m = getTransactionMember(!onlyReadOperation);
     if (m == null) {
@@ -268,6 +288,15 @@ public abstract class AbstractTransactionalMap<K, V> implements Map<K, V> {
       m_removesDirty = true;
     }
 
+    /**
+     * @return true if values were removed or marked dirty within this transaction. Inserts of values resolved within
+     *         this transaction are no modification.
+     * @since 24.2
+     */
+    public boolean isModified() {
+      return !m_removedMap.isEmpty() || m_insertsDirty || m_removesDirty;
+    }
+
     @Override
     public String getMemberId() {
       return m_transactionMemberId;
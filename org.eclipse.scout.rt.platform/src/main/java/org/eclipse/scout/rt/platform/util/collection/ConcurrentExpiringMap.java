@@ -13,6 +13,7 @@ import java.io.Serializable;
 import java.util.AbstractCollection;
 import java.util.AbstractMap;
 import java.util.AbstractSet;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.Map;
@@ -22,6 +23,7 @@ import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -35,6 +37,9 @@ import java.util.concurrent.locks.ReentrantLock;
  * is <em>not</em> enforced and is just a guidance value. In fact, the map grows up to <tt>overflowSize</tt> till it is
  * shrunk back to the targeted size.
  * <p>
+ * Alternatively, an {@link IEvictionPolicy} may decide which entries are evicted, e.g. a {@link TinyLfuEvictionPolicy}
+ * which evicts by access frequency in amortized constant time and enforces its capacity as a strict size bound.
+ * <p>
  * If the <tt>touchOnGet</tt> property is set, the {@link #get(Object)} operation does the same as
  * {@link #getAndTouch(Object)}.
  * <p>
@@ -69,6 +74,8 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
   private final int m_targetSize;
   private final int m_overflowSize;
   private final Lock m_validateSizeLock = new ReentrantLock();
+  private final IEvictionPolicy<K> m_evictionPolicy;
+  private final LongAdder m_evictionCount = new LongAdder();
 
   /**
    * Creates a new map with a default timeout of 60 seconds and no target size.
@@ -122,14 +129,14 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
    *          unit of timeToLive
    */
   public ConcurrentExpiringMap(ConcurrentExpiringMap<K, V> map, long timeToLiveDuration, TimeUnit timeToLiveUnit) {
-    this(map.m_elementMap, timeToLiveUnit.toMillis(timeToLiveDuration), map.m_touchOnGet, map.m_touchOnIterate, map.m_targetSize, map.m_overflowSize);
+    this(map.m_elementMap, timeToLiveUnit.toMillis(timeToLiveDuration), map.m_touchOnGet, map.m_touchOnIterate, map.m_targetSize, map.m_overflowSize, map.m_evictionPolicy);
   }
 
   /**
    * <b>Copy constructor</b>
    * <p>
    * This constructor is useful if the targetSize should be changed. The ration between targetSize and overflowSize is
-   * preserved.
+   * preserved. If the map has an {@link IEvictionPolicy}, its capacity is changed, which affects the given map too.
    *
    * @param map
    *          instance to copy
@@ -137,7 +144,10 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
    *          if greater than zero, entries may be evicted at a put operation until the map reaches this size
    */
   public ConcurrentExpiringMap(ConcurrentExpiringMap<K, V> map, int targetSize) {
-    this(map.m_elementMap, map.m_timeToLive, map.m_touchOnGet, map.m_touchOnIterate, targetSize, sameRatioOverflowSize(targetSize, map.m_targetSize, map.m_overflowSize));
+    this(map.m_elementMap, map.m_timeToLive, map.m_touchOnGet, map.m_touchOnIterate, targetSize, sameRatioOverflowSize(targetSize, map.m_targetSize, map.m_overflowSize), map.m_evictionPolicy);
+    if (m_evictionPolicy != null) {
+      evict(m_evictionPolicy.setCapacity(targetSize));
+    }
   }
 
   /**
@@ -154,6 +164,26 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     this(elementMap, timeToLiveDurationMillis, touchOnGet, false, targetSize, defaultOverflowSize(targetSize));
   }
 
+  /**
+   * <b>Cache with eviction policy</b>
+   * <p>
+   * Creates a new map in which the given {@link IEvictionPolicy} decides which entries are evicted once the map reaches
+   * the capacity of the policy.
+   *
+   * @param elementMap
+   *          {@link ConcurrentMap} that contains {@link ExpiringElement}s
+   * @param timeToLiveDurationMillis
+   *          if greater than zero, entries expire after the given duration
+   * @param touchOnGet
+   *          if true, {@link #get(Object)} operation updates the timestamp of an entry
+   * @param evictionPolicy
+   *          policy to decide which entries are evicted; the map becomes its only user
+   * @since 24.2
+   */
+  public ConcurrentExpiringMap(ConcurrentMap<K, ExpiringElement<V>> elementMap, long timeToLiveDurationMillis, boolean touchOnGet, IEvictionPolicy<K> evictionPolicy) {
+    this(elementMap, timeToLiveDurationMillis, touchOnGet, false, evictionPolicy.getCapacity(), defaultOverflowSize(evictionPolicy.getCapacity()), evictionPolicy);
+  }
+
   /**
    * @param elementMap
    *          {@link ConcurrentMap} that contains {@link ExpiringElement}s
@@ -172,6 +202,11 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
    *           if targetSize is greater than zero but overflow size is not greater than targetSize
    */
   public ConcurrentExpiringMap(ConcurrentMap<K, ExpiringElement<V>> elementMap, long timeToLiveDurationMillis, boolean touchOnGet, boolean touchOnIterate, int targetSize, int overflowSize) {
+    this(elementMap, timeToLiveDurationMillis, touchOnGet, touchOnIterate, targetSize, overflowSize, null);
+  }
+
+  private ConcurrentExpiringMap(ConcurrentMap<K, ExpiringElement<V>> elementMap, long timeToLiveDurationMillis, boolean touchOnGet, boolean touchOnIterate, int targetSize, int overflowSize,
+      IEvictionPolicy<K> evictionPolicy) {
     m_elementMap = elementMap;
     m_timeToLive = timeToLiveDurationMillis;
     m_touchOnGet = touchOnGet;
@@ -181,6 +216,7 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     }
     m_targetSize = targetSize;
     m_overflowSize = overflowSize;
+    m_evictionPolicy = evictionPolicy;
   }
 
   private static int defaultOverflowSize(int targetSize) {
@@ -228,6 +264,14 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     return m_overflowSize;
   }
 
+  /**
+   * @return the policy deciding which entries are evicted, or <code>null</code> if the oldest entries are evicted.
+   * @since 24.2
+   */
+  public IEvictionPolicy<K> getEvictionPolicy() {
+    return m_evictionPolicy;
+  }
+
   /**
    * <b>Note:</b> The implementation of this method does not check if entries are expired, else it would have to iterate
    * though the whole map at each call. Therefore the following may be true: {@code size()==1 && isEmpty()}. Like the
@@ -292,11 +336,15 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
   @Override
   public void clear() {
     m_elementMap.clear();
+    if (m_evictionPolicy != null) {
+      m_evictionPolicy.clear();
+    }
   }
 
   @Override
   public V put(K key, V value) {
     ExpiringElement<V> e = m_elementMap.put(key, createElement(value));
+    recordWrite(key);
     validateSize();
     return extractValidElementValue(e);
   }
@@ -305,6 +353,7 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
   public void putAll(Map<? extends K, ? extends V> m) {
     for (Entry<? extends K, ? extends V> e : m.entrySet()) {
       m_elementMap.put(e.getKey(), createElement(e.getValue()));
+      recordWrite(e.getKey());
     }
     validateSize();
   }
@@ -312,6 +361,9 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
   @Override
   public V remove(Object key) {
     ExpiringElement<V> e = m_elementMap.remove(key);
+    if (e != null) {
+      recordRemoval(key);
+    }
     return extractValidElementValue(e);
   }
 
@@ -321,11 +373,18 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     if (e != null && !isElementValid(e)) {
       // timeout
       if (m_elementMap.remove(key, e)) {
-        execEntryEvicted(key, e.getValue());
+        recordRemoval(key);
+        entryEvicted(key, e.getValue());
       }
       // retry
       e = m_elementMap.putIfAbsent(key, createElement(value));
     }
+    if (e == null) {
+      recordWrite(key);
+    }
+    else if (m_evictionPolicy != null) {
+      m_evictionPolicy.recordAccess(key);
+    }
     validateSize();
     return e != null ? e.getValue() : null;
   }
@@ -336,7 +395,11 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     if (e != null) {
       V currValue = e.getValue();
       if (currValue == value /* null case too */ || (currValue != null && currValue.equals(value))) {
-        return m_elementMap.remove(key, e);
+        boolean success = m_elementMap.remove(key, e);
+        if (success) {
+          recordRemoval(key);
+        }
+        return success;
       }
     }
     // did not contain mapping / not correct mapping / no remove (see containsKey)
@@ -350,6 +413,9 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
       V currValue = currElement.getValue();
       if (currValue == oldValue /* null case too */ || (currValue != null && currValue.equals(oldValue))) {
         boolean success = m_elementMap.replace(key, currElement, createElement(newValue));
+        if (success) {
+          recordWrite(key);
+        }
         validateSize();
         return success;
       }
@@ -363,6 +429,9 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     ExpiringElement<V> e = getElement(key);
     if (e != null) {
       e = m_elementMap.replace(key, createElement(value));
+      if (e != null) {
+        recordWrite(key);
+      }
     }
     validateSize();
     return e != null ? e.getValue() : null;
@@ -389,12 +458,16 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
         if (touchOnReadAccess) {
           e = touch((K) key, e);
         }
+        if (m_evictionPolicy != null) {
+          m_evictionPolicy.recordAccess((K) key);
+        }
         return e;
       }
       else {
         // timeout
         if (m_elementMap.remove(key, e)) {
-          execEntryEvicted((K) key, e.getValue());
+          recordRemoval(key);
+          entryEvicted((K) key, e.getValue());
         }
       }
     }
@@ -432,6 +505,7 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
         }
         else if (m_targetSize > 0 && m_elementMap.size() >= m_overflowSize) {
           // note: in JRE 1.8 the performance of ConcurrentHashMap#size() is increased, however other ConcurrentMaps may be slower
+          // with an eviction policy, this is just a safety net for entries the policy lost track of due to concurrent modifications
           evictOldestEntries();
         }
       }
@@ -451,7 +525,8 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
       K key = entry.getKey();
       ExpiringElement<V> element = entry.getValue();
       if (!isElementValid(element) && m_elementMap.remove(key, element)) {
-        execEntryEvicted(key, element.getValue());
+        recordRemoval(key);
+        entryEvicted(key, element.getValue());
       }
     }
   }
@@ -479,7 +554,8 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
       ExpiringElement<V> element = oldestEntry.getValue();
       if (m_elementMap.remove(key, element)) {
         numberOfEntriesToEvict--;
-        execEntryEvicted(key, element.getValue());
+        recordRemoval(key);
+        entryEvicted(key, element.getValue());
       }
       else if (!m_elementMap.containsKey(key)) {
         // concurrently removed by another thread
@@ -488,6 +564,42 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     }
   }
 
+  /**
+   * Reports a put or replace of the given key to the eviction policy, and evicts the entries selected by the policy.
+   */
+  protected void recordWrite(K key) {
+    if (m_evictionPolicy != null) {
+      evict(m_evictionPolicy.recordWrite(key));
+    }
+  }
+
+  /**
+   * Reports the removal of the given key to the eviction policy.
+   */
+  @SuppressWarnings("unchecked")
+  protected void recordRemoval(Object key) {
+    if (m_evictionPolicy == null) {
+      return;
+    }
+    m_evictionPolicy.recordRemoval((K) key);
+    if (m_elementMap.containsKey(key)) {
+      // concurrently put again by another thread
+      recordWrite((K) key);
+    }
+  }
+
+  /**
+   * Evicts the given keys selected by the eviction policy.
+   */
+  protected void evict(Collection<K> keys) {
+    for (K key : keys) {
+      ExpiringElement<V> element = m_elementMap.remove(key);
+      if (element != null) {
+        entryEvicted(key, element.getValue());
+      }
+    }
+  }
+
   private static class StableTimestampComparator<K, V> implements Comparator<Entry<K, ExpiringElement<V>>>, Serializable {
     private static final long serialVersionUID = 1L;
 
@@ -507,6 +619,20 @@ public class ConcurrentExpiringMap<K, V> extends AbstractMap<K, V> implements Co
     }
   }
 
+  private void entryEvicted(K key, V value) {
+    m_evictionCount.increment();
+    execEntryEvicted(key, value);
+  }
+
+  /**
+   * @return the number of entries evicted by this map so far because their time to live elapsed or because the map
+   *         reduced its size.
+   * @since 24.2
+   */
+  public long getEvictionCount() {
+    return m_evictionCount.sum();
+  }
+
   /**
    * Called when the map evicted an entry because its time to live elapsed or because the map is reducing its size.
    *
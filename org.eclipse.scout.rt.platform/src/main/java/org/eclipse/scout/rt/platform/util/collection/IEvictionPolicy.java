@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.util.collection;
+
+import java.util.Collection;
+
+/**
+ * Policy deciding which keys are evicted from a size bounded {@link ConcurrentExpiringMap}.
+ * <p>
+ * The map reports every access, write and removal of a key to the policy. Whenever a write makes the map grow beyond
+ * the capacity of the policy, the policy returns the keys to be evicted, which the map then removes. Implementations
+ * must be thread-safe.
+ *
+ * @param <K>
+ *          the type of keys maintained by the map
+ * @since 24.2
+ */
+public interface IEvictionPolicy<K> {
+
+  /**
+   * @return the maximal number of keys retained by this policy.
+   */
+  int getCapacity();
+
+  /**
+   * Changes the capacity of this policy.
+   *
+   * @return the keys to be evicted because the policy retains more keys than the new capacity; never <code>null</code>.
+   */
+  Collection<K> setCapacity(int capacity);
+
+  /**
+   * Records a read access to the given key of the map. This method is called very frequently and should therefore not
+   * block.
+   */
+  void recordAccess(K key);
+
+  /**
+   * Records that the given key was put into the map, or that its value was replaced.
+   *
+   * @return the keys to be evicted from the map; never <code>null</code>.
+   */
+  Collection<K> recordWrite(K key);
+
+  /**
+   * Records that the given key was removed from the map.
+   */
+  void recordRemoval(K key);
+
+  /**
+   * Records that all keys were removed from the map.
+   */
+  void clear();
+}
@@ -0,0 +1,358 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.platform.util.collection;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.eclipse.scout.rt.platform.util.Assertions;
+
+/**
+ * Frequency aware {@link IEvictionPolicy} following the W-TinyLFU scheme.
+ * <p>
+ * New keys enter a small LRU <em>window</em> (1% of the capacity). Keys leaving the window compete with the least
+ * recently used key of the <em>main</em> area for admission: the key with the higher estimated access frequency is
+ * retained, the other one is evicted. On equal frequencies the more recent key is retained, so that in small caches,
+ * whose window holds a single key only, a new key is not evicted by the next write already. The main area is a
+ * segmented LRU: keys are admitted to the <em>probation</em> segment and promoted to the <em>protected</em> segment
+ * (80% of the main area) when accessed again. Access frequencies are estimated by a count-min sketch with 4-bit
+ * counters, which are halved periodically so that the history ages.
+ * <p>
+ * All operations are O(1). Read accesses are buffered and applied in batches by the thread which obtains the lock, so
+ * that readers do not block each other. If the buffer is full, read accesses are dropped, which only slightly reduces
+ * the accuracy of the policy. Unlike the default behavior of {@link ConcurrentExpiringMap}, the capacity is a strict
+ * bound and not a guidance value.
+ *
+ * @param <K>
+ *          the type of keys maintained by the map
+ * @since 24.2
+ */
+public class TinyLfuEvictionPolicy<K> implements IEvictionPolicy<K> {
+
+  private static final int READ_BUFFER_CAPACITY = 128;
+  private static final int READ_BUFFER_DRAIN_THRESHOLD = 16;
+
+  private final Lock m_lock = new ReentrantLock();
+  private final Queue<K> m_readBuffer = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger m_readBufferSize = new AtomicInteger();
+
+  // LinkedHashMaps in access order; the eldest entry is the least recently used key; guarded by m_lock
+  private final LinkedHashMap<K, Boolean> m_window = new LinkedHashMap<>(16, 0.75f, true);
+  private final LinkedHashMap<K, Boolean> m_probation = new LinkedHashMap<>(16, 0.75f, true);
+  private final LinkedHashMap<K, Boolean> m_protected = new LinkedHashMap<>(16, 0.75f, true);
+
+  private volatile int m_capacity; // guarded by m_lock for writes
+  private int m_windowCapacity; // guarded by m_lock
+  private int m_protectedCapacity; // guarded by m_lock
+  private FrequencySketch m_sketch; // guarded by m_lock
+
+  /**
+   * @param capacity
+   *          the maximal number of keys retained; must be greater than zero.
+   */
+  public TinyLfuEvictionPolicy(int capacity) {
+    initCapacity(capacity);
+  }
+
+  @Override
+  public int getCapacity() {
+    return m_capacity;
+  }
+
+  @Override
+  public Collection<K> setCapacity(int capacity) {
+    m_lock.lock();
+    try {
+      drainReadBuffer();
+      initCapacity(capacity);
+      List<K> evicted = new ArrayList<>();
+      while (size() > m_capacity) {
+        evicted.add(removeEldest(!m_probation.isEmpty() ? m_probation : !m_protected.isEmpty() ? m_protected : m_window));
+      }
+      while (m_window.size() > m_windowCapacity) {
+        m_probation.put(removeEldest(m_window), Boolean.TRUE);
+      }
+      demoteProtected();
+      return evicted;
+    }
+    finally {
+      m_lock.unlock();
+    }
+  }
+
+  @Override
+  public void recordAccess(K key) {
+    int bufferSize = m_readBufferSize.incrementAndGet();
+    if (bufferSize > READ_BUFFER_CAPACITY) {
+      // buffer full; drop the access
+      m_readBufferSize.decrementAndGet();
+    }
+    else {
+      m_readBuffer.offer(key);
+    }
+
+    if (bufferSize >= READ_BUFFER_DRAIN_THRESHOLD && m_lock.tryLock()) { // NOSONAR
+      try {
+        drainReadBuffer();
+      }
+      finally {
+        m_lock.unlock();
+      }
+    }
+  }
+
+  @Override
+  public Collection<K> recordWrite(K key) {
+    m_lock.lock();
+    try {
+      drainReadBuffer();
+      m_sketch.increment(key);
+      if (contains(key)) {
+        onAccess(key);
+        return Collections.emptyList();
+      }
+
+      m_window.put(key, Boolean.TRUE);
+      List<K> evicted = null;
+      while (m_window.size() > m_windowCapacity) {
+        K victim = admitFromWindow();
+        if (victim != null) {
+          if (evicted == null) {
+            evicted = new ArrayList<>(1);
+          }
+          evicted.add(victim);
+        }
+      }
+      return evicted != null ? evicted : Collections.emptyList();
+    }
+    finally {
+      m_lock.unlock();
+    }
+  }
+
+  @Override
+  public void recordRemoval(K key) {
+    m_lock.lock();
+    try {
+      drainReadBuffer();
+      if (m_window.remove(key) == null && m_probation.remove(key) == null) {
+        m_protected.remove(key);
+      }
+    }
+    finally {
+      m_lock.unlock();
+    }
+  }
+
+  @Override
+  public void clear() {
+    m_lock.lock();
+    try {
+      drainReadBuffer();
+      m_window.clear();
+      m_probation.clear();
+      m_protected.clear();
+      m_sketch = new FrequencySketch(m_capacity);
+    }
+    finally {
+      m_lock.unlock();
+    }
+  }
+
+  /**
+   * @return the number of keys retained by this policy.
+   */
+  public int size() {
+    m_lock.lock();
+    try {
+      return m_window.size() + m_probation.size() + m_protected.size();
+    }
+    finally {
+      m_lock.unlock();
+    }
+  }
+
+  /**
+   * @return the estimated access frequency of the given key.
+   */
+  public int frequency(K key) {
+    m_lock.lock();
+    try {
+      drainReadBuffer();
+      return m_sketch.frequency(key);
+    }
+    finally {
+      m_lock.unlock();
+    }
+  }
+
+  private void initCapacity(int capacity) {
+    Assertions.assertGreater(capacity, 0, "capacity must be greater than 0");
+    m_capacity = capacity;
+    m_windowCapacity = Math.max(1, capacity / 100);
+    m_protectedCapacity = (capacity - m_windowCapacity) * 4 / 5;
+    if (m_sketch == null || m_sketch.getCapacity() < capacity) {
+      m_sketch = new FrequencySketch(capacity);
+    }
+  }
+
+  private void drainReadBuffer() {
+    K key;
+    while ((key = m_readBuffer.poll()) != null) {
+      m_readBufferSize.decrementAndGet();
+      m_sketch.increment(key);
+      onAccess(key);
+    }
+  }
+
+  private boolean contains(K key) {
+    return m_window.containsKey(key) || m_probation.containsKey(key) || m_protected.containsKey(key);
+  }
+
+  private void onAccess(K key) {
+    if (m_window.get(key) != null || m_protected.get(key) != null) {
+      // moved to the most recently used position by get
+      return;
+    }
+    if (m_probation.remove(key) != null) {
+      m_protected.put(key, Boolean.TRUE);
+      demoteProtected();
+    }
+  }
+
+  private void demoteProtected() {
+    while (m_protected.size() > m_protectedCapacity) {
+      m_probation.put(removeEldest(m_protected), Boolean.TRUE);
+    }
+  }
+
+  /**
+   * Moves the eldest key of the window into the main area.
+   *
+   * @return the key evicted to make room for it, or <code>null</code> if the main area had room left.
+   */
+  private K admitFromWindow() {
+    K candidate = removeEldest(m_window);
+    if (m_probation.size() + m_protected.size() < m_capacity - m_windowCapacity) {
+      m_probation.put(candidate, Boolean.TRUE);
+      return null;
+    }
+
+    LinkedHashMap<K, Boolean> victimSegment = !m_probation.isEmpty() ? m_probation : m_protected;
+    if (victimSegment.isEmpty()) {
+      return candidate;
+    }
+    K victim = victimSegment.keySet().iterator().next();
+    if (m_sketch.frequency(candidate) >= m_sketch.frequency(victim)) {
+      victimSegment.remove(victim);
+      m_probation.put(candidate, Boolean.TRUE);
+      return victim;
+    }
+    return candidate;
+  }
+
+  private static <K> K removeEldest(LinkedHashMap<K, Boolean> segment) {
+    Iterator<K> it = segment.keySet().iterator();
+    K key = it.next();
+    it.remove();
+    return key;
+  }
+
+  /**
+   * Count-min sketch with four 4-bit counters per key. Sixteen counters are packed into a <code>long</code>. Once the
+   * number of increments reaches ten times the capacity, all counters are halved.
+   */
+  protected static class FrequencySketch {
+    private static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_TABLE_SIZE = 1 << 30;
+
+    private final int m_capacity;
+    private final long[] m_table;
+    private final int m_tableMask;
+    private final int m_sampleSize;
+    private int m_size;
+
+    protected FrequencySketch(int capacity) {
+      m_capacity = capacity;
+      int tableSize = Math.max(8, capacity);
+      tableSize = tableSize >= MAX_TABLE_SIZE ? MAX_TABLE_SIZE : Integer.highestOneBit(tableSize - 1) << 1;
+      m_table = new long[tableSize];
+      m_tableMask = tableSize - 1;
+      m_sampleSize = (int) Math.min(10L * capacity, Integer.MAX_VALUE);
+    }
+
+    protected int getCapacity() {
+      return m_capacity;
+    }
+
+    protected int frequency(Object key) {
+      int hash = spread(key.hashCode());
+      int start = (hash & 3) << 2;
+      int frequency = Integer.MAX_VALUE;
+      for (int i = 0; i < 4; i++) {
+        int index = indexOf(hash, i);
+        int count = (int) ((m_table[index] >>> ((start + i) << 2)) & 0xfL);
+        frequency = Math.min(frequency, count);
+      }
+      return frequency;
+    }
+
+    protected void increment(Object key) {
+      int hash = spread(key.hashCode());
+      int start = (hash & 3) << 2;
+      boolean added = false;
+      for (int i = 0; i < 4; i++) {
+        added |= incrementAt(indexOf(hash, i), start + i);
+      }
+      if (added && ++m_size >= m_sampleSize) {
+        reset();
+      }
+    }
+
+    private boolean incrementAt(int index, int counter) {
+      int offset = counter << 2;
+      long mask = 0xfL << offset;
+      if ((m_table[index] & mask) != mask) {
+        m_table[index] += 1L << offset;
+        return true;
+      }
+      return false;
+    }
+
+    private void reset() {
+      for (int i = 0; i < m_table.length; i++) {
+        m_table[i] = (m_table[i] >>> 1) & RESET_MASK;
+      }
+      m_size >>>= 1;
+    }
+
+    private int indexOf(int hash, int i) {
+      long h = (hash + SEEDS[i]) * SEEDS[i];
+      h += h >>> 32;
+      return ((int) h) & m_tableMask;
+    }
+
+    private static int spread(int x) {
+      x = ((x >>> 16) ^ x) * 0x45d9f3b;
+      x = ((x >>> 16) ^ x) * 0x45d9f3b;
+      return (x >>> 16) ^ x;
+    }
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.jdbc.internal.exec;
+
+import static org.junit.Assert.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link PreparedStatementCache}
+ */
+public class PreparedStatementCacheTest {
+
+  private Connection m_connection;
+  private Set<PreparedStatement> m_closedStatements;
+
+  @Before
+  public void before() throws SQLException {
+    m_closedStatements = new HashSet<>();
+    m_connection = mock(Connection.class);
+    when(m_connection.prepareStatement(anyString())).thenAnswer(invocation -> {
+      PreparedStatement ps = mock(PreparedStatement.class);
+      doAnswer(closeInvocation -> m_closedStatements.add(ps)).when(ps).close();
+      return ps;
+    });
+  }
+
+  @Test
+  public void testStatementCachedOnSecondUse() throws SQLException {
+    PreparedStatementCache cache = new PreparedStatementCache(10);
+    PreparedStatement ps1 = cache.getPreparedStatement(m_connection, "a");
+    cache.releasePreparedStatement(ps1);
+    assertTrue(m_closedStatements.contains(ps1));
+
+    PreparedStatement ps2 = cache.getPreparedStatement(m_connection, "a");
+    cache.releasePreparedStatement(ps2);
+    assertFalse(m_closedStatements.contains(ps2));
+    assertSame(ps2, cache.getPreparedStatement(m_connection, "a"));
+
+    cache.release();
+    assertTrue(m_closedStatements.contains(ps2));
+  }
+
+  @Test
+  public void testEvictionDoesNotCloseCheckedOutStatement() throws SQLException {
+    PreparedStatementCache cache = new PreparedStatementCache(1);
+    cache.releasePreparedStatement(cache.getPreparedStatement(m_connection, "a"));
+    PreparedStatement psA = cache.getPreparedStatement(m_connection, "a");
+    cache.releasePreparedStatement(cache.getPreparedStatement(m_connection, "b"));
+    PreparedStatement psB = cache.getPreparedStatement(m_connection, "b");
+    assertEquals(2, m_closedStatements.size());
+
+    // caching the second statement evicts one of them, but both are still in use
+    assertFalse(m_closedStatements.contains(psA));
+    assertFalse(m_closedStatements.contains(psB));
+
+    // the evicted statement is closed by its release, the cached one is retained
+    cache.releasePreparedStatement(psA);
+    cache.releasePreparedStatement(psB);
+    assertEquals(3, m_closedStatements.size());
+    assertTrue(m_closedStatements.contains(psA) ^ m_closedStatements.contains(psB));
+
+    cache.release();
+    assertTrue(m_closedStatements.contains(psA));
+    assertTrue(m_closedStatements.contains(psB));
+  }
+}
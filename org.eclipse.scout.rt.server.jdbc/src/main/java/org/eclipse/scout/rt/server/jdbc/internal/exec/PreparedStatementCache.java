@@ -15,6 +15,8 @@ import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.Iterator;
 import java.util.Map.Entry;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.rt.platform.transaction.AbstractTransactionMember;
@@ -31,6 +33,8 @@ public class PreparedStatementCache extends AbstractTransactionMember implements
 
   private final ConcurrentExpiringMap<String, Integer> m_countCache;
   private final ConcurrentExpiringMap<String, PreparedStatement> m_statementCache;
+  // cached statements currently in use; they are closed by their release instead of their eviction
+  private final Set<PreparedStatement> m_checkedOutStatements = ConcurrentHashMap.newKeySet();
 
   public PreparedStatementCache(int statementCacheSize) {
     super(TRANSACTION_MEMBER_ID);
@@ -38,7 +42,9 @@ public class PreparedStatementCache extends AbstractTransactionMember implements
     m_statementCache = new ConcurrentExpiringMap<String, PreparedStatement>(1L, TimeUnit.HOURS, statementCacheSize) {
       @Override
       protected void execEntryEvicted(String key, PreparedStatement value) {
-        closePreparedStatement(value);
+        if (!m_checkedOutStatements.contains(value)) {
+          closePreparedStatement(value);
+        }
       }
     };
   }
@@ -63,13 +69,18 @@ public class PreparedStatementCache extends AbstractTransactionMember implements
       ps.clearParameters();
       ps.clearWarnings();
     }
+    m_checkedOutStatements.add(ps);
     return ps;
   }
 
   @Override
   public void releasePreparedStatement(PreparedStatement ps) {
+    if (ps == null) {
+      return;
+    }
+    m_checkedOutStatements.remove(ps);
     // close statement when it is not cached
-    if (ps != null && !m_statementCache.containsValue(ps)) {
+    if (!m_statementCache.containsValue(ps)) {
       try {
         ps.close();
       }
@@ -95,13 +106,18 @@ public class PreparedStatementCache extends AbstractTransactionMember implements
         m_statementCache.put(s, cs);
       }
     }
+    m_checkedOutStatements.add(cs);
     return cs;
   }
 
   @Override
   public void releaseCallableStatement(CallableStatement cs) {
+    if (cs == null) {
+      return;
+    }
+    m_checkedOutStatements.remove(cs);
     // close statement when it is not cached
-    if (cs != null && !m_statementCache.containsValue(cs)) {
+    if (!m_statementCache.containsValue(cs)) {
       try {
         cs.close();
       }
@@ -119,6 +135,7 @@ public class PreparedStatementCache extends AbstractTransactionMember implements
       closePreparedStatement(entry.getValue());
     }
     m_countCache.clear();
+    m_checkedOutStatements.clear();
   }
 
   private void closePreparedStatement(Object value) {
@@ -44,6 +44,7 @@ import org.eclipse.scout.rt.server.context.ServerRunContexts;
 import org.eclipse.scout.rt.server.session.ServerSessionCache;
 import org.eclipse.scout.rt.server.session.ServerSessionProvider;
 import org.eclipse.scout.rt.shared.services.common.ping.IPingService;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchHelper;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
 import org.eclipse.scout.rt.shared.ui.UserAgents;
@@ -171,6 +172,32 @@ public class ServiceTunnelServletTest {
     assertEquals(0, res.getNotifications().size());
   }
 
+  @Test
+  public void testPostBatch() {
+    ServiceTunnelServlet s = new ServiceTunnelServlet();
+    List<ServiceTunnelRequest> requests = new ArrayList<>();
+    requests.add(createPingRequest("first"));
+    requests.add(new ServiceTunnelRequest(IPingService.class.getName(), "unknownOperation", new Class[0], new Object[0]));
+    requests.add(createPingRequest("third"));
+    requests.forEach(req -> req.setUserAgent(UserAgents.createDefault().createIdentifier()));
+
+    ServiceTunnelBatchHelper batchHelper = BEANS.get(ServiceTunnelBatchHelper.class);
+    ServiceTunnelResponse res = s.doPost(batchHelper.createBatchRequest(requests));
+    assertNull(res.getException());
+    List<ServiceTunnelResponse> responses = batchHelper.getResponses(res, requests.size());
+    assertEquals("first", responses.get(0).getData());
+    assertNull(responses.get(0).getException());
+    assertEquals(0, responses.get(0).getNotifications().size());
+    assertNull(responses.get(1).getData());
+    assertNotNull(responses.get(1).getException());
+    assertEquals("third", responses.get(2).getData());
+    assertNull(responses.get(2).getException());
+  }
+
+  private ServiceTunnelRequest createPingRequest(String message) {
+    return new ServiceTunnelRequest(IPingService.class.getName(), "ping", new Class[]{String.class}, new Object[]{message});
+  }
+
   private Answer<IServerSession> slowCreateTestsession(final TestServerSession testSession) {
     return invocation -> {
       Thread.sleep(2000); // simulate long running task
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.cache;
+
+import static org.junit.Assert.*;
+
+import java.util.Collections;
+import java.util.Set;
+
+import org.eclipse.scout.rt.platform.cache.AllCacheEntryFilter;
+import org.eclipse.scout.rt.platform.cache.InvalidateCacheNotification;
+import org.junit.Test;
+
+/**
+ * Tests for {@link ClusterCacheInvalidationVersions}
+ *
+ * @since 24.2
+ */
+public class ClusterCacheInvalidationVersionsTest {
+
+  private static final String CACHE_ID = "CacheTestId";
+  private static final String ORIGIN = "otherNode";
+
+  private final ClusterCacheInvalidationVersions m_versions = new ClusterCacheInvalidationVersions();
+
+  protected InvalidateCacheNotification notification(long sequence) {
+    return new InvalidateCacheNotification(CACHE_ID, new AllCacheEntryFilter<>(), ORIGIN, sequence);
+  }
+
+  protected Set<String> digest(long sequence) {
+    return m_versions.checkDigest(new CacheInvalidationDigestNotification(ORIGIN, Collections.singletonMap(CACHE_ID, sequence)));
+  }
+
+  @Test
+  public void testStamp() {
+    InvalidateCacheNotification notification = new InvalidateCacheNotification(CACHE_ID, new AllCacheEntryFilter<>());
+    assertFalse(notification.isVersioned());
+    assertEquals(1L, m_versions.stamp(notification).getSequence());
+    InvalidateCacheNotification stamped = m_versions.stamp(notification);
+    assertEquals(2L, stamped.getSequence());
+    assertEquals(m_versions.getOrigin(), stamped.getOrigin());
+    assertEquals(Collections.singletonMap(CACHE_ID, 2L), m_versions.getPublishedSequences());
+
+    // own notifications are not tracked
+    assertTrue(m_versions.accept(stamped));
+    assertTrue(m_versions.accept(stamped));
+  }
+
+  @Test
+  public void testIgnoreDuplicates() {
+    assertTrue(m_versions.accept(new InvalidateCacheNotification(CACHE_ID, new AllCacheEntryFilter<>())));
+    assertTrue(m_versions.accept(notification(1)));
+    assertTrue(m_versions.accept(notification(3)));
+    assertTrue(m_versions.accept(notification(2)));
+    assertFalse(m_versions.accept(notification(2)));
+    assertFalse(m_versions.accept(notification(3)));
+    assertTrue(m_versions.accept(notification(5)));
+    assertFalse(m_versions.accept(notification(5)));
+  }
+
+  @Test
+  public void testDetectMissedNotification() {
+    assertTrue(digest(2).isEmpty());
+    assertTrue(m_versions.accept(notification(3)));
+    // notification 4 may still be in transit
+    assertTrue(digest(5).isEmpty());
+    assertTrue(m_versions.accept(notification(5)));
+    assertEquals(Collections.singleton(CACHE_ID), digest(5));
+
+    // all notifications up to the digest are considered as received after the cache was invalidated
+    assertFalse(m_versions.accept(notification(4)));
+    assertTrue(digest(5).isEmpty());
+    assertTrue(m_versions.accept(notification(6)));
+  }
+
+  @Test
+  public void testNotificationsInTransit() {
+    assertTrue(m_versions.accept(notification(1)));
+    assertTrue(digest(3).isEmpty());
+    assertTrue(m_versions.accept(notification(3)));
+    assertTrue(m_versions.accept(notification(2)));
+    assertTrue(digest(3).isEmpty());
+  }
+
+  @Test
+  public void testOutOfOrderAtStartup() {
+    assertTrue(m_versions.accept(notification(5)));
+    // published before notification 5, but delivered later
+    assertTrue(m_versions.accept(notification(3)));
+    assertTrue(m_versions.accept(notification(4)));
+    assertFalse(m_versions.accept(notification(3)));
+    assertFalse(m_versions.accept(notification(5)));
+    assertTrue(digest(6).isEmpty());
+    assertTrue(m_versions.accept(notification(2)));
+    assertTrue(m_versions.accept(notification(6)));
+    assertTrue(digest(6).isEmpty());
+
+    // the window settled, notifications published before the start are not applied anymore
+    assertFalse(m_versions.accept(notification(1)));
+    assertFalse(m_versions.accept(notification(4)));
+  }
+
+  @Test
+  public void testOutOfOrderAfterDigestAtStartup() {
+    assertTrue(digest(4).isEmpty());
+    // published before the digest, but delivered later
+    assertTrue(m_versions.accept(notification(4)));
+    assertFalse(m_versions.accept(notification(4)));
+    assertTrue(m_versions.accept(notification(5)));
+    assertTrue(digest(5).isEmpty());
+    assertFalse(m_versions.accept(notification(3)));
+  }
+
+  @Test
+  public void testRemoveInactiveOrigins() {
+    assertTrue(m_versions.accept(notification(1)));
+    m_versions.removeInactiveOrigins(System.currentTimeMillis() + 1);
+    // unknown origin: the first notification is accepted
+    assertTrue(m_versions.accept(notification(1)));
+  }
+}
@@ -75,6 +75,19 @@ public class InvalidateCacheNotificationCoalescerTest {
     }
   }
 
+  @Test
+  public void testVersionedNotificationsAreNotCoalesced() {
+    InvalidateCacheNotificationCoalescer coalescer = new InvalidateCacheNotificationCoalescer();
+    ICacheEntryFilter<Object, Object> filter1 = new KeyCacheEntryFilter<>(CollectionUtility.<Object> arrayList(CodeType1.class));
+    ICacheEntryFilter<Object, Object> filter2 = new KeyCacheEntryFilter<>(CollectionUtility.<Object> arrayList(CodeType2.class));
+    List<InvalidateCacheNotification> res = coalescer.coalesce(CollectionUtility.arrayList(
+        new InvalidateCacheNotification(CACHE_ID_1, filter1, "origin", 1L),
+        new InvalidateCacheNotification(CACHE_ID_1, filter2, "origin", 2L)));
+    assertEquals(2, res.size());
+    assertEquals(1L, res.get(0).getSequence());
+    assertEquals(2L, res.get(1).getSequence());
+  }
+
   class CodeType1 extends AbstractCodeType<Long, Long> {
     private static final long serialVersionUID = 1L;
 
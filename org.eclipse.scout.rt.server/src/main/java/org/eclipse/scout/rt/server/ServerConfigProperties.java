@@ -58,6 +58,26 @@ public final class ServerConfigProperties {
     }
   }
 
+  public static class CacheInvalidationDigestIntervalProperty extends AbstractPositiveLongConfigProperty {
+
+    @Override
+    public Long getDefaultValue() {
+      return 60L;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.cache.invalidationDigestInterval";
+    }
+
+    @Override
+    public String description() {
+      return "Interval (in seconds) in which each cluster node announces the last sequence of its published cache invalidations to the other nodes, "
+          + "so that they detect missed invalidations. Caches which missed an invalidation are invalidated completely. "
+          + "The value 0 disables the announcements. The default value is one minute.";
+    }
+  }
+
   public static class RemoteFilesRootDirProperty extends AbstractStringConfigProperty {
 
     @Override
@@ -11,6 +11,9 @@ package org.eclipse.scout.rt.server;
 
 import java.io.IOException;
 import java.security.AccessController;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.function.LongPredicate;
 
@@ -22,7 +25,11 @@ import jakarta.servlet.http.HttpSession;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.exception.DefaultExceptionTranslator;
+import org.eclipse.scout.rt.platform.exception.PlatformError;
+import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.transaction.TransactionCancelledError;
+import org.eclipse.scout.rt.platform.transaction.TransactionScope;
 import org.eclipse.scout.rt.platform.util.ConnectionErrorDetector;
 import org.eclipse.scout.rt.platform.util.LazyValue;
 import org.eclipse.scout.rt.platform.util.concurrent.AbstractInterruptionError;
@@ -43,7 +50,10 @@ import org.eclipse.scout.rt.server.context.RunMonitorCancelRegistry;
 import org.eclipse.scout.rt.server.context.RunMonitorCancelRegistry.IRegistrationHandle;
 import org.eclipse.scout.rt.server.context.ServerRunContext;
 import org.eclipse.scout.rt.server.context.ServerRunContexts;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelContentTypeProperty;
 import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchHelper;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelContentHandlerFactory;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
 import org.eclipse.scout.rt.shared.ui.UserAgents;
@@ -62,11 +72,13 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
   protected static final String DUPLICATE_REQUEST_DETECTOR_SESSION_KEY = "DuplicateRequestDetector";
 
   protected transient IServiceTunnelContentHandler m_contentHandler;
+  protected transient Map<String, IServiceTunnelContentHandler> m_contentHandlers;
   protected transient LazyValue<HttpServerRunContextProducer> m_serverRunContextProducer = new LazyValue<>(HttpServerRunContextProducer.class);
   protected transient LazyValue<HttpServletControl> m_httpServletControl = new LazyValue<>(HttpServletControl.class);
   protected transient LazyValue<HttpCacheControl> m_httpCacheControl = new LazyValue<>(HttpCacheControl.class);
   protected transient LazyValue<ServiceOperationInvoker> m_svcInvoker = new LazyValue<>(ServiceOperationInvoker.class);
   protected transient LazyValue<RunMonitorCancelRegistry> m_runMonCancelRegistry = new LazyValue<>(RunMonitorCancelRegistry.class);
+  protected transient LazyValue<ServiceTunnelBatchHelper> m_batchHelper = new LazyValue<>(ServiceTunnelBatchHelper.class);
 
   // === HTTP-GET ===
 
@@ -177,6 +189,9 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
   }
 
   protected ServiceTunnelResponse doPost(ServiceTunnelRequest serviceRequest) {
+    if (m_batchHelper.get().isBatchRequest(serviceRequest)) {
+      return doPostBatch(serviceRequest);
+    }
     if (LOG.isDebugEnabled()) {
       LOG.debug("requestSequence {} {}.{}", serviceRequest.getRequestSequence(), serviceRequest.getServiceInterfaceClassName(), serviceRequest.getOperation());
     }
@@ -194,6 +209,63 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
     }
   }
 
+  /**
+   * Dispatches the requests of a batch request (see {@link ServiceTunnelBatchHelper}) in parallel. Each request is
+   * processed like a single request by {@link #doPost(ServiceTunnelRequest)} in its own transaction and can be
+   * cancelled on its own. The response of a failed request contains its exception, the other requests are not
+   * affected.
+   *
+   * @since 24.2
+   */
+  protected ServiceTunnelResponse doPostBatch(ServiceTunnelRequest batchRequest) {
+    List<ServiceTunnelRequest> serviceRequests = m_batchHelper.get().getRequests(batchRequest);
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("requestSequence {} batch of {} requests", batchRequest.getRequestSequence(), serviceRequests.size());
+    }
+
+    List<IFuture<ServiceTunnelResponse>> futures = new ArrayList<>(serviceRequests.size());
+    for (ServiceTunnelRequest serviceRequest : serviceRequests) {
+      futures.add(Jobs.schedule(() -> doPost(serviceRequest), Jobs.newInput()
+          .withRunContext(ServerRunContexts.copyCurrent()
+              .withTransactionScope(TransactionScope.REQUIRES_NEW))
+          .withName("Processing batched service request [seq={}]", serviceRequest.getRequestSequence())
+          .withExceptionHandling(null, false)));
+    }
+
+    List<ServiceTunnelResponse> serviceResponses = new ArrayList<>(futures.size());
+    try {
+      for (IFuture<ServiceTunnelResponse> future : futures) {
+        serviceResponses.add(awaitBatchResponse(future));
+      }
+    }
+    finally {
+      if (serviceResponses.size() < futures.size()) {
+        // interrupted while waiting
+        futures.forEach(future -> future.cancel(true));
+      }
+    }
+    return m_batchHelper.get().createBatchResponse(serviceResponses);
+  }
+
+  protected ServiceTunnelResponse awaitBatchResponse(IFuture<ServiceTunnelResponse> future) {
+    try {
+      return future.awaitDoneAndGet();
+    }
+    catch (ThreadInterruptedError e) {
+      if (Thread.currentThread().isInterrupted()) {
+        throw e; // processing of the batch request was interrupted
+      }
+      return new ServiceTunnelResponse(e);
+    }
+    catch (DuplicateRequestException e) {
+      LOG.warn("Duplicate Request", e);
+      return new ServiceTunnelResponse(e);
+    }
+    catch (RuntimeException | PlatformError e) {
+      return new ServiceTunnelResponse(e);
+    }
+  }
+
   protected String interruptInfo(boolean interrupted) {
     return interrupted ? ", thread was interrupted" : ", thread was not interrupted";
   }
@@ -250,7 +322,8 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
    * Method invoked to deserialize a service request to be given to the service handler.
    */
   protected ServiceTunnelRequest deserializeServiceRequest() throws IOException, ClassNotFoundException {
-    return m_contentHandler.readRequest(IHttpServletRoundtrip.CURRENT_HTTP_SERVLET_REQUEST.get().getInputStream());
+    HttpServletRequest req = IHttpServletRoundtrip.CURRENT_HTTP_SERVLET_REQUEST.get();
+    return getContentHandler(req).readRequest(req.getInputStream());
   }
 
   /**
@@ -263,8 +336,25 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
     m_httpServletControl.get().doDefaults(this, req, resp);
 
     m_httpCacheControl.get().checkAndSetCacheHeaders(req, resp, null);
-    resp.setContentType(m_contentHandler.getContentType());
-    m_contentHandler.writeResponse(resp.getOutputStream(), serviceResponse);
+    IServiceTunnelContentHandler contentHandler = getContentHandler(req);
+    resp.setContentType(contentHandler.getContentType());
+    contentHandler.writeResponse(resp.getOutputStream(), serviceResponse);
+  }
+
+  /**
+   * @return the content handler for the content type of the given request. The response is written with the same
+   *         content handler. Requests with the content type of the default content handler or a content type which is
+   *         not accepted (see {@link #createContentHandlers()}) are handled by the default content handler (see
+   *         {@link #createContentHandler()}).
+   */
+  protected IServiceTunnelContentHandler getContentHandler(HttpServletRequest req) {
+    ServiceTunnelContentHandlerFactory factory = BEANS.get(ServiceTunnelContentHandlerFactory.class);
+    String mimeType = factory.toMimeType(req.getContentType());
+    if (mimeType == null || mimeType.equals(factory.toMimeType(m_contentHandler.getContentType()))) {
+      return m_contentHandler;
+    }
+    IServiceTunnelContentHandler contentHandler = m_contentHandlers.get(mimeType);
+    return contentHandler != null ? contentHandler : m_contentHandler;
   }
 
   // === INITIALIZATION ===
@@ -277,6 +367,7 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
     if (m_contentHandler != null) {
       return;
     }
+    m_contentHandlers = createContentHandlers();
     m_contentHandler = createContentHandler();
   }
 
@@ -291,6 +382,17 @@ public class ServiceTunnelServlet extends AbstractHttpServlet {
     return e;
   }
 
+  /**
+   * Create the (reusable) content handlers of all content types accepted in addition to the default content handler.
+   * These are only the ones enabled by {@link ServiceTunnelContentTypeProperty}.
+   *
+   * @see #getContentHandler(HttpServletRequest)
+   * @see ServiceTunnelContentHandlerFactory#createAccepted()
+   */
+  protected Map<String, IServiceTunnelContentHandler> createContentHandlers() {
+    return BEANS.get(ServiceTunnelContentHandlerFactory.class).createAccepted();
+  }
+
   protected boolean isConnectionError(Throwable e) {
     return BEANS.get(ConnectionErrorDetector.class).isConnectionError(e);
   }
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.cache;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.scout.rt.platform.cache.InvalidateCacheNotification;
+
+/**
+ * Cluster notification periodically announcing the last sequence of the {@link InvalidateCacheNotification}s published
+ * by a node for each cache. Receivers compare it with the received sequences to detect missed invalidations.
+ * <p>
+ * This class is immutable.
+ *
+ * @since 24.2
+ * @see ClusterCacheInvalidationVersions
+ */
+public class CacheInvalidationDigestNotification implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private final String m_origin;
+  private final HashMap<String, Long> m_sequences;
+
+  public CacheInvalidationDigestNotification(String origin, Map<String, Long> sequences) {
+    if (origin == null) {
+      throw new IllegalArgumentException("origin should not be null");
+    }
+    m_origin = origin;
+    m_sequences = new HashMap<>(sequences);
+  }
+
+  public String getOrigin() {
+    return m_origin;
+  }
+
+  /**
+   * @return the last published sequence by cache id
+   */
+  public Map<String, Long> getSequences() {
+    return Collections.unmodifiableMap(m_sequences);
+  }
+
+  @Override
+  public String toString() {
+    return "CacheInvalidationDigestNotification [origin=" + m_origin + ", sequences=" + m_sequences + "]";
+  }
+}
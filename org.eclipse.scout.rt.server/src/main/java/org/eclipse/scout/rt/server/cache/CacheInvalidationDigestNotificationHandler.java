@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.cache;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.cache.AllCacheEntryFilter;
+import org.eclipse.scout.rt.platform.cache.CacheStatistics;
+import org.eclipse.scout.rt.platform.cache.ICache;
+import org.eclipse.scout.rt.platform.cache.ICacheRegistryService;
+import org.eclipse.scout.rt.shared.notification.INotificationHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Handler for {@link CacheInvalidationDigestNotification}. Invalidates caches which missed an invalidation of the
+ * origin of the digest completely, but does not propagate the invalidation any further.
+ *
+ * @since 24.2
+ */
+public class CacheInvalidationDigestNotificationHandler implements INotificationHandler<CacheInvalidationDigestNotification> {
+  private static final Logger LOG = LoggerFactory.getLogger(CacheInvalidationDigestNotificationHandler.class);
+
+  @Override
+  public void handleNotification(CacheInvalidationDigestNotification notification) {
+    for (String cacheId : BEANS.get(ClusterCacheInvalidationVersions.class).checkDigest(notification)) {
+      invalidateCache(cacheId, notification.getOrigin());
+    }
+  }
+
+  protected <K, V> void invalidateCache(String cacheId, String origin) {
+    ICache<K, V> cache = BEANS.get(ICacheRegistryService.class).opt(cacheId);
+    if (cache == null) {
+      return;
+    }
+    LOG.warn("Cache '{}' missed invalidations published by cluster node {}. Invalidating all entries.", cacheId, origin);
+    CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+    if (statistics != null) {
+      statistics.recordRemoteInvalidation();
+    }
+    cache.invalidate(new AllCacheEntryFilter<>(), false);
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.cache;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.IPlatform.State;
+import org.eclipse.scout.rt.platform.IPlatformListener;
+import org.eclipse.scout.rt.platform.PlatformEvent;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.context.RunContexts;
+import org.eclipse.scout.rt.platform.job.FixedDelayScheduleBuilder;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.server.ServerConfigProperties.CacheInvalidationDigestIntervalProperty;
+import org.eclipse.scout.rt.server.services.common.clustersync.IClusterSynchronizationService;
+
+/**
+ * Periodically publishes a {@link CacheInvalidationDigestNotification} of this node, see
+ * {@link CacheInvalidationDigestIntervalProperty}.
+ *
+ * @since 24.2
+ */
+@ApplicationScoped
+public class CacheInvalidationDigestPublisher {
+
+  public static final String JOB_NAME = "Publishing cache invalidation digest";
+
+  /**
+   * Number of intervals without any notification after which the sequences of another node are forgotten.
+   */
+  protected static final int INACTIVE_INTERVALS = 10;
+
+  public void publishDigest() {
+    ClusterCacheInvalidationVersions versions = BEANS.get(ClusterCacheInvalidationVersions.class);
+    versions.removeInactiveOrigins(System.currentTimeMillis() - INACTIVE_INTERVALS * TimeUnit.SECONDS.toMillis(getIntervalSeconds()));
+
+    IClusterSynchronizationService service = BEANS.get(IClusterSynchronizationService.class);
+    Map<String, Long> sequences = versions.getPublishedSequences();
+    if (service.isEnabled() && !sequences.isEmpty()) {
+      service.publish(new CacheInvalidationDigestNotification(versions.getOrigin(), sequences));
+    }
+  }
+
+  protected void startPublishJob() {
+    long interval = getIntervalSeconds();
+    if (interval <= 0) {
+      return;
+    }
+    Jobs.schedule(this::publishDigest, Jobs.newInput()
+        .withName(JOB_NAME)
+        .withRunContext(RunContexts.empty())
+        .withExecutionTrigger(Jobs.newExecutionTrigger()
+            .withStartIn(interval, TimeUnit.SECONDS)
+            .withSchedule(FixedDelayScheduleBuilder.repeatForever(interval, TimeUnit.SECONDS))));
+  }
+
+  protected long getIntervalSeconds() {
+    return CONFIG.getPropertyValue(CacheInvalidationDigestIntervalProperty.class);
+  }
+
+  /**
+   * {@link IPlatformListener} to start publishing digests once the platform is started.
+   */
+  public static class PlatformListener implements IPlatformListener {
+
+    @Override
+    public void stateChanged(PlatformEvent event) {
+      if (event.getState() == State.PlatformStarted) {
+        BEANS.get(CacheInvalidationDigestPublisher.class).startPublishJob();
+      }
+    }
+  }
+}
@@ -9,11 +9,26 @@
  */
 package org.eclipse.scout.rt.server.cache;
 
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.cache.InvalidateCacheNotification;
 import org.eclipse.scout.rt.shared.cache.CacheNotificationHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
+ * Ignores duplicate notifications of other cluster nodes, see {@link ClusterCacheInvalidationVersions}.
+ *
  * @since 5.2
  */
 public class CacheServerNotificationHandler extends CacheNotificationHandler {
+  private static final Logger LOG = LoggerFactory.getLogger(CacheServerNotificationHandler.class);
 
+  @Override
+  public void handleNotification(InvalidateCacheNotification notification) {
+    if (!BEANS.get(ClusterCacheInvalidationVersions.class).accept(notification)) {
+      LOG.debug("Ignore duplicate {}", notification);
+      return;
+    }
+    super.handleNotification(notification);
+  }
 }
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.server.cache;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.cache.InvalidateCacheNotification;
+
+/**
+ * Version stamps of {@link InvalidateCacheNotification}s distributed within a server cluster.
+ * <p>
+ * Published notifications are stamped with the origin id of this node and a sequence number per cache, which is only
+ * increased for notifications actually published. The origin id is unique per start of the node, so that the sequences
+ * of a restarted node are not mistaken for duplicates.
+ * <p>
+ * For received notifications the sequences seen are tracked per cache and origin:
+ * <ul>
+ * <li>A notification whose sequence was seen already is a duplicate and is ignored.</li>
+ * <li>The first notification or digest received from an origin marks the start. Notifications with a lower sequence
+ * may still arrive out of order until the second digest, they are accepted once each. Later they are ignored.</li>
+ * <li>A {@link CacheInvalidationDigestNotification} periodically announces the last sequence published by an origin. If
+ * a sequence announced by the previous digest was still not received, the notification was lost and the whole cache
+ * has to be invalidated. Waiting for one digest interval tolerates notifications which are still in transit.</li>
+ * </ul>
+ *
+ * @since 24.2
+ */
+@ApplicationScoped
+public class ClusterCacheInvalidationVersions {
+
+  private final String m_origin = UUID.randomUUID().toString();
+  private final Map<String, AtomicLong> m_publishedSequences = new ConcurrentHashMap<>();
+  private final Map<P_SequenceKey, P_ReceivedSequences> m_receivedSequences = new ConcurrentHashMap<>();
+
+  /**
+   * @return the origin id of this node
+   */
+  public String getOrigin() {
+    return m_origin;
+  }
+
+  /**
+   * @return a copy of the given notification stamped with this node as origin and the next sequence of its cache.
+   *         Call this method only right before the notification is published.
+   */
+  public InvalidateCacheNotification stamp(InvalidateCacheNotification notification) {
+    long sequence = m_publishedSequences.computeIfAbsent(notification.getCacheId(), cacheId -> new AtomicLong()).incrementAndGet();
+    return new InvalidateCacheNotification(notification.getCacheId(), notification.getFilter(), m_origin, sequence);
+  }
+
+  /**
+   * @return the last published sequence by cache id
+   */
+  public Map<String, Long> getPublishedSequences() {
+    Map<String, Long> sequences = new HashMap<>();
+    for (Entry<String, AtomicLong> entry : m_publishedSequences.entrySet()) {
+      sequences.put(entry.getKey(), entry.getValue().get());
+    }
+    return sequences;
+  }
+
+  /**
+   * Records the sequence of a received notification.
+   *
+   * @return false if the notification was received already and must be ignored, true otherwise (always true for
+   *         notifications without version stamp).
+   */
+  public boolean accept(InvalidateCacheNotification notification) {
+    if (!notification.isVersioned() || m_origin.equals(notification.getOrigin())) {
+      return true;
+    }
+    return getReceivedSequences(notification.getCacheId(), notification.getOrigin()).accept(notification.getSequence());
+  }
+
+  /**
+   * Compares the last sequences published by the given origin with the received ones.
+   *
+   * @return ids of the caches which missed notifications and have to be invalidated completely.
+   */
+  public Set<String> checkDigest(CacheInvalidationDigestNotification digest) {
+    Set<String> cacheIds = new HashSet<>();
+    if (m_origin.equals(digest.getOrigin())) {
+      return cacheIds;
+    }
+    for (Entry<String, Long> entry : digest.getSequences().entrySet()) {
+      if (getReceivedSequences(entry.getKey(), digest.getOrigin()).checkDigest(entry.getValue())) {
+        cacheIds.add(entry.getKey());
+      }
+    }
+    return cacheIds;
+  }
+
+  /**
+   * Forgets the sequences of all origins which did not publish anything since the given time, e.g. stopped nodes.
+   */
+  public void removeInactiveOrigins(long inactiveSinceMillis) {
+    m_receivedSequences.values().removeIf(sequences -> sequences.getLastActivityMillis() < inactiveSinceMillis);
+  }
+
+  protected P_ReceivedSequences getReceivedSequences(String cacheId, String origin) {
+    return m_receivedSequences.computeIfAbsent(new P_SequenceKey(cacheId, origin), key -> new P_ReceivedSequences());
+  }
+
+  protected static final class P_SequenceKey {
+    private final String m_cacheId;
+    private final String m_origin;
+
+    protected P_SequenceKey(String cacheId, String origin) {
+      m_cacheId = cacheId;
+      m_origin = origin;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * m_cacheId.hashCode() + m_origin.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+      P_SequenceKey other = (P_SequenceKey) obj;
+      return m_cacheId.equals(other.m_cacheId) && m_origin.equals(other.m_origin);
+    }
+  }
+
+  /**
+   * Sequences received from one origin for one cache: all sequences from {@link #m_start} up to {@link #m_contiguous}
+   * and the ones in {@link #m_ahead} were received. Sequences below {@link #m_start} were published before the first
+   * notification or digest was received. They are tracked in {@link #m_beforeStart} until the window settles.
+   */
+  protected static class P_ReceivedSequences {
+    private long m_contiguous = -1; // unknown until the first notification or digest
+    private long m_start;
+    private final TreeSet<Long> m_ahead = new TreeSet<>();
+    private Set<Long> m_beforeStart = new HashSet<>(); // null once the window settled
+    private int m_digestCount;
+    private long m_previousDigest;
+    private volatile long m_lastActivityMillis = System.currentTimeMillis();
+
+    protected synchronized boolean accept(long sequence) {
+      m_lastActivityMillis = System.currentTimeMillis();
+      if (m_contiguous < 0) {
+        m_start = sequence;
+        m_contiguous = sequence;
+        return true;
+      }
+      if (sequence < m_start) {
+        // published before the start, accept each late one until the window settled
+        return m_beforeStart != null && m_beforeStart.add(sequence);
+      }
+      if (sequence <= m_contiguous || !m_ahead.add(sequence)) {
+        return false;
+      }
+      while (m_ahead.remove(m_contiguous + 1)) {
+        m_contiguous++;
+      }
+      return true;
+    }
+
+    /**
+     * @return true if a sequence published before the previous digest is still missing
+     */
+    protected synchronized boolean checkDigest(long publishedSequence) {
+      m_lastActivityMillis = System.currentTimeMillis();
+      if (++m_digestCount >= 2) {
+        // notifications published before the start had one digest interval to arrive
+        m_beforeStart = null;
+      }
+      if (m_contiguous < 0) {
+        m_start = publishedSequence + 1;
+        m_contiguous = publishedSequence;
+        m_previousDigest = publishedSequence;
+        return false;
+      }
+      boolean missed = m_contiguous < m_previousDigest;
+      if (missed) {
+        // the cache is invalidated completely, notifications published until now must not be applied anymore
+        m_contiguous = Math.max(m_contiguous, publishedSequence);
+        m_ahead.headSet(m_contiguous, true).clear();
+        while (m_ahead.remove(m_contiguous + 1)) {
+          m_contiguous++;
+        }
+      }
+      m_previousDigest = publishedSequence;
+      return missed;
+    }
+
+    protected long getLastActivityMillis() {
+      return m_lastActivityMillis;
+    }
+  }
+}
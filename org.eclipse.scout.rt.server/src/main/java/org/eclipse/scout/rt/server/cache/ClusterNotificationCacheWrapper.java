@@ -9,36 +9,103 @@
  */
 package org.eclipse.scout.rt.server.cache;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.cache.AbstractCacheWrapper;
+import org.eclipse.scout.rt.platform.cache.CacheStatistics;
 import org.eclipse.scout.rt.platform.cache.ICache;
 import org.eclipse.scout.rt.platform.cache.ICacheEntryFilter;
 import org.eclipse.scout.rt.platform.cache.InvalidateCacheNotification;
+import org.eclipse.scout.rt.platform.transaction.AbstractTransactionMember;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
 import org.eclipse.scout.rt.server.services.common.clustersync.IClusterSynchronizationService;
 
 /**
  * Cache wrapper used to distribute invalidate operations within a server cluster.
+ * <p>
+ * Invalidations within a transaction are coalesced and published after the commit. Each published notification is
+ * stamped with a sequence number right before it is published (see {@link ClusterCacheInvalidationVersions}), so that
+ * rolled back invalidations do not leave gaps which receivers would take for lost notifications.
  *
  * @since 5.2
  */
 public class ClusterNotificationCacheWrapper<K, V> extends AbstractCacheWrapper<K, V> {
 
+  private final String m_transactionMemberId;
+
   public ClusterNotificationCacheWrapper(ICache<K, V> delegate) {
     super(delegate);
+    m_transactionMemberId = ClusterNotificationCacheWrapper.class.getName() + "." + delegate.getCacheId();
   }
 
   @Override
   public void invalidate(ICacheEntryFilter<K, V> filter, boolean propagate) {
     super.invalidate(filter, propagate);
     if (propagate) {
+      CacheStatistics statistics = getAdapter(CacheStatistics.class);
+      if (statistics != null) {
+        statistics.recordPropagatedInvalidation();
+      }
       InvalidateCacheNotification notification = new InvalidateCacheNotification(getCacheId(), filter);
-      if (ITransaction.CURRENT.get() != null) {
-        BEANS.get(IClusterSynchronizationService.class).publishTransactional(notification);
+      ITransaction transaction = ITransaction.CURRENT.get();
+      if (transaction != null) {
+        getTransactionMember(transaction).addNotification(notification);
       }
       else {
-        BEANS.get(IClusterSynchronizationService.class).publish(notification);
+        publish(notification);
+      }
+    }
+  }
+
+  protected void publish(InvalidateCacheNotification notification) {
+    IClusterSynchronizationService service = BEANS.get(IClusterSynchronizationService.class);
+    if (service.isEnabled()) {
+      service.publish(BEANS.get(ClusterCacheInvalidationVersions.class).stamp(notification));
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  protected P_InvalidationTransactionMember getTransactionMember(ITransaction transaction) {
+    P_InvalidationTransactionMember member = (P_InvalidationTransactionMember) transaction.getMember(m_transactionMemberId);
+    if (member == null) {
+      member = new P_InvalidationTransactionMember(m_transactionMemberId);
+      transaction.registerMember(member);
+    }
+    return member;
+  }
+
+  /**
+   * Publishes the invalidations of a transaction after it has been committed.
+   */
+  protected class P_InvalidationTransactionMember extends AbstractTransactionMember {
+    private final List<InvalidateCacheNotification> m_notifications = new ArrayList<>();
+
+    public P_InvalidationTransactionMember(String memberId) {
+      super(memberId);
+    }
+
+    public synchronized void addNotification(InvalidateCacheNotification notification) {
+      m_notifications.add(notification);
+    }
+
+    @Override
+    public synchronized boolean needsCommit() {
+      return !m_notifications.isEmpty();
+    }
+
+    @Override
+    public synchronized void commitPhase2() {
+      for (InvalidateCacheNotification notification : BEANS.get(InvalidateCacheNotificationCoalescer.class).coalesce(m_notifications)) {
+        publish(notification);
       }
+      m_notifications.clear();
+    }
+
+    @Override
+    public synchronized void rollback() {
+      m_notifications.clear();
     }
   }
 }
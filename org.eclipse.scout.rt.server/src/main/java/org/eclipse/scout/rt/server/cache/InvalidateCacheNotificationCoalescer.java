@@ -22,6 +22,9 @@ import org.eclipse.scout.rt.server.notification.ICoalescer;
 
 /**
  * {@link ICoalescer} for {@link InvalidateCacheNotification}
+ * <p>
+ * Notifications with a version stamp are not coalesced, as receivers would take the sequence numbers of coalesced
+ * notifications for lost ones.
  *
  * @since 5.2
  */
@@ -35,6 +38,10 @@ public class InvalidateCacheNotificationCoalescer implements ICoalescer<Invalida
     }
     Map<String, List<ICacheEntryFilter<?, ?>>> filterMap = new HashMap<>();
     for (InvalidateCacheNotification notification : notifications) {
+      if (notification.isVersioned()) {
+        result.add(notification);
+        continue;
+      }
       List<ICacheEntryFilter<?, ?>> list = filterMap.get(notification.getCacheId());
       if (list == null) {
         list = new ArrayList<>();
@@ -22,6 +22,8 @@ import org.eclipse.scout.rt.platform.IBean;
 import org.eclipse.scout.rt.platform.IBeanManager;
 import org.eclipse.scout.rt.platform.config.IConfigProperty;
 import org.eclipse.scout.rt.shared.SharedConfigProperties.CompressServiceTunnelRequestProperty;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelCompressionCodecProperty;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelCompressionThresholdProperty;
 import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
 import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
 import org.junit.After;
@@ -39,6 +41,8 @@ public class BinaryServiceTunnelContentHandlerTest {
 
   private IConfigProperty m_compressProperty;
   private IBean m_serviceReg;
+  private IBean m_codecReg;
+  private IBean m_thresholdReg;
   private List<IBean<IConfigProperty>> m_oldBeans;
 
   @Before
@@ -50,11 +54,20 @@ public class BinaryServiceTunnelContentHandlerTest {
     m_compressProperty = Mockito.mock(IConfigProperty.class);
     Mockito.when(m_compressProperty.getValue(ArgumentMatchers.<String> any())).thenReturn(true);
     m_serviceReg = BeanTestingHelper.get().registerBean(new BeanMetaData(CompressServiceTunnelRequestProperty.class, m_compressProperty));
+    IConfigProperty codecProperty = Mockito.mock(IConfigProperty.class);
+    Mockito.when(codecProperty.getValue(ArgumentMatchers.<String> any())).thenReturn(DeflateServiceTunnelCompressionCodec.NAME);
+    m_codecReg = BeanTestingHelper.get().registerBean(new BeanMetaData(ServiceTunnelCompressionCodecProperty.class, codecProperty));
+    // compress all messages regardless of their size
+    IConfigProperty thresholdProperty = Mockito.mock(IConfigProperty.class);
+    Mockito.when(thresholdProperty.getValue(ArgumentMatchers.<String> any())).thenReturn(0);
+    m_thresholdReg = BeanTestingHelper.get().registerBean(new BeanMetaData(ServiceTunnelCompressionThresholdProperty.class, thresholdProperty));
   }
 
   @After
   public void after() {
     BeanTestingHelper.get().unregisterBean(m_serviceReg);
+    BeanTestingHelper.get().unregisterBean(m_codecReg);
+    BeanTestingHelper.get().unregisterBean(m_thresholdReg);
 
     IBeanManager beanManager = BEANS.getBeanManager();
     // restore
@@ -0,0 +1,271 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.management.BadAttributeValueExpException;
+
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.IDataObject;
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.id.NodeId;
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.exception.VetoException;
+import org.eclipse.scout.rt.platform.nls.NlsLocale;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelContentTypeProperty;
+import org.eclipse.scout.rt.shared.data.form.AbstractFormData;
+import org.eclipse.scout.rt.shared.data.form.fields.AbstractValueFieldData;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+/**
+ * JUnit test for {@link DataObjectServiceTunnelContentHandler}
+ *
+ * @since 24.2
+ */
+@RunWith(PlatformTestRunner.class)
+public class DataObjectServiceTunnelContentHandlerTest {
+
+  private static final String DATA_OBJECT_JSON = "{\"name\":\"test\"}";
+
+  private IBean<IDataObjectMapper> m_mapperRegistration;
+  private DoEntity m_dataObject;
+
+  @Before
+  public void before() {
+    m_dataObject = new DoEntity();
+    m_dataObject.put("name", "test");
+    IDataObjectMapper mapper = Mockito.mock(IDataObjectMapper.class);
+    when(mapper.writeValue(ArgumentMatchers.any(Object.class))).thenReturn(DATA_OBJECT_JSON);
+    when(mapper.readValue(ArgumentMatchers.eq(DATA_OBJECT_JSON), ArgumentMatchers.eq(IDataObject.class))).thenReturn(m_dataObject);
+    m_mapperRegistration = BeanTestingHelper.get().registerBean(new BeanMetaData(IDataObjectMapper.class, mapper).withApplicationScoped(true));
+  }
+
+  @After
+  public void after() {
+    BeanTestingHelper.get().unregisterBean(m_mapperRegistration);
+  }
+
+  protected DataObjectServiceTunnelContentHandler createHandler() {
+    DataObjectServiceTunnelContentHandler handler = new DataObjectServiceTunnelContentHandler();
+    handler.initialize();
+    return handler;
+  }
+
+  protected ServiceTunnelRequest roundtrip(ServiceTunnelRequest request) throws Exception {
+    DataObjectServiceTunnelContentHandler handler = createHandler();
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeRequest(bos, request);
+    return handler.readRequest(new ByteArrayInputStream(bos.toByteArray()));
+  }
+
+  protected ServiceTunnelResponse roundtrip(ServiceTunnelResponse response) throws Exception {
+    DataObjectServiceTunnelContentHandler handler = createHandler();
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeResponse(bos, response);
+    return handler.readResponse(new ByteArrayInputStream(bos.toByteArray()));
+  }
+
+  @Test
+  public void testRequest() throws Exception {
+    TestFormData formData = new TestFormData();
+    formData.getText().setValue("text");
+    ServiceTunnelRequest request;
+    NlsLocale.set(Locale.GERMANY);
+    try {
+      request = new ServiceTunnelRequest("svc", "op",
+          new Class[]{String.class, long.class, Integer.class, Boolean.class, byte[].class, IDataObject.class, TestFormData.class, Object.class},
+          new Object[]{"arg", 1L, 2, true, new byte[]{3, 4}, m_dataObject, formData, null});
+    }
+    finally {
+      NlsLocale.set(null);
+    }
+    request.setSessionId("sessionId");
+    request.setUserAgent("userAgent");
+    request.setClientNodeId(NodeId.of("node"));
+
+    ServiceTunnelRequest read = roundtrip(request);
+    assertEquals(request.getRequestSequence(), read.getRequestSequence());
+    assertEquals("sessionId", read.getSessionId());
+    assertEquals("svc", read.getServiceInterfaceClassName());
+    assertEquals("op", read.getOperation());
+    assertEquals(Locale.GERMANY, read.getLocale());
+    assertEquals("userAgent", read.getUserAgent());
+    assertEquals(NodeId.of("node"), read.getClientNodeId());
+    assertArrayEquals(request.getParameterTypes(), read.getParameterTypes());
+    Object[] args = read.getArgs();
+    assertEquals(8, args.length);
+    assertEquals("arg", args[0]);
+    assertEquals(1L, args[1]);
+    assertEquals(2, args[2]);
+    assertEquals(true, args[3]);
+    assertArrayEquals(new byte[]{3, 4}, (byte[]) args[4]);
+    assertSame(m_dataObject, args[5]);
+    assertEquals("text", ((TestFormData) args[6]).getText().getValue());
+    assertNull(args[7]);
+  }
+
+  @Test
+  public void testSharedReferences() throws Exception {
+    TestFormData formData = new TestFormData();
+    formData.getText().setValue("text");
+    List<Object> list = new ArrayList<>();
+    list.add(formData);
+    ServiceTunnelRequest request = new ServiceTunnelRequest("svc", "op", new Class[]{TestFormData.class, String.class, List.class, TestFormData.class},
+        new Object[]{formData, "arg", list, formData});
+
+    Object[] args = roundtrip(request).getArgs();
+    assertEquals("text", ((TestFormData) args[0]).getText().getValue());
+    assertEquals("arg", args[1]);
+    // values written with Java serialization share the objects they reference, as with the binary content handler
+    assertSame(args[0], args[3]);
+    assertSame(args[0], ((List<?>) args[2]).get(0));
+  }
+
+  @Test
+  public void testRequestWithoutOptionalAttributes() throws Exception {
+    ServiceTunnelRequest read = roundtrip(new ServiceTunnelRequest("test", null, null, null));
+    assertEquals("test", read.getServiceInterfaceClassName());
+    assertNull(read.getOperation());
+    assertNull(read.getParameterTypes());
+    assertEquals(0, read.getArgs().length);
+    assertNull(read.getSessionId());
+    assertNull(read.getClientNodeId());
+  }
+
+  @Test
+  public void testResponse() throws Exception {
+    ServiceTunnelResponse response = new ServiceTunnelResponse(m_dataObject);
+    response.setProcessingDuration(42L);
+    response.setNotifications(new ArrayList<>());
+    ServiceTunnelResponse read = roundtrip(response);
+    assertSame(m_dataObject, read.getData());
+    assertNull(read.getException());
+    assertEquals(Long.valueOf(42L), read.getProcessingDuration());
+    assertTrue(read.getNotifications().isEmpty());
+  }
+
+  @Test
+  public void testResponseWithException() throws Exception {
+    VetoException exception = new VetoException("veto");
+    ServiceTunnelResponse read = roundtrip(new ServiceTunnelResponse(exception));
+    assertNull(read.getData());
+    assertTrue(read.getException() instanceof VetoException);
+    assertEquals(exception.getMessage(), read.getException().getMessage());
+    assertNull(read.getProcessingDuration());
+    assertNull(read.getNotifications());
+  }
+
+  @Test(expected = ProcessingException.class)
+  public void testBlacklistedParameterType() throws Exception {
+    roundtrip(new ServiceTunnelRequest("svc", "op", new Class[]{BadAttributeValueExpException.class}, new Object[]{null}));
+  }
+
+  @Test
+  public void testReadBytesRejectsInvalidLength() throws Exception {
+    DataObjectServiceTunnelContentHandler handler = new DataObjectServiceTunnelContentHandler() {
+      @Override
+      protected int getMaxValueSize() {
+        return 100;
+      }
+    };
+    assertNull(handler.readBytes(lengthPrefixed(-1)));
+    assertArrayEquals(new byte[100], handler.readBytes(lengthPrefixed(100, new byte[100])));
+    assertReadBytesFails(handler, lengthPrefixed(-2), StreamCorruptedException.class);
+    assertReadBytesFails(handler, lengthPrefixed(101, new byte[101]), StreamCorruptedException.class);
+    assertReadBytesFails(handler, lengthPrefixed(Integer.MAX_VALUE), StreamCorruptedException.class);
+  }
+
+  @Test
+  public void testReadBytesDoesNotTrustLength() throws Exception {
+    DataObjectServiceTunnelContentHandler handler = createHandler();
+    byte[] bytes = new byte[3 * DataObjectServiceTunnelContentHandler.READ_CHUNK_SIZE + 1];
+    bytes[bytes.length - 1] = 1;
+    assertArrayEquals(bytes, handler.readBytes(lengthPrefixed(bytes.length, bytes)));
+    // announced length is not sent
+    assertReadBytesFails(handler, lengthPrefixed(handler.getMaxValueSize(), new byte[]{1, 2, 3}), EOFException.class);
+  }
+
+  protected DataInputStream lengthPrefixed(int length, byte... bytes) throws IOException {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    DataOutputStream out = new DataOutputStream(bos);
+    out.writeInt(length);
+    out.write(bytes);
+    out.flush();
+    return new DataInputStream(new ByteArrayInputStream(bos.toByteArray()));
+  }
+
+  protected void assertReadBytesFails(DataObjectServiceTunnelContentHandler handler, DataInputStream in, Class<? extends IOException> expectedException) {
+    try {
+      handler.readBytes(in);
+      fail(expectedException.getSimpleName() + " expected");
+    }
+    catch (IOException e) {
+      assertEquals(expectedException, e.getClass());
+    }
+  }
+
+  @Test
+  public void testContentHandlerFactory() {
+    ServiceTunnelContentHandlerFactory factory = new ServiceTunnelContentHandlerFactory();
+    assertTrue(factory.createAll().get(factory.toMimeType(DataObjectServiceTunnelContentHandler.CONTENT_TYPE)) instanceof DataObjectServiceTunnelContentHandler);
+    assertTrue(factory.createAll().get(factory.toMimeType("Application/Octet-Stream; charset=UTF-8")) instanceof BinaryServiceTunnelContentHandler);
+    assertTrue(factory.create() instanceof BinaryServiceTunnelContentHandler);
+    assertTrue(factory.createAccepted().isEmpty());
+  }
+
+  @Test
+  public void testContentHandlerFactoryAccepted() {
+    IBean<?> property = BeanTestingHelper.get().mockConfigProperty(ServiceTunnelContentTypeProperty.class, DataObjectServiceTunnelContentHandler.CONTENT_TYPE);
+    try {
+      ServiceTunnelContentHandlerFactory factory = new ServiceTunnelContentHandlerFactory();
+      Map<String, IServiceTunnelContentHandler> accepted = factory.createAccepted();
+      assertEquals(1, accepted.size());
+      assertTrue(accepted.get(factory.toMimeType(DataObjectServiceTunnelContentHandler.CONTENT_TYPE)) instanceof DataObjectServiceTunnelContentHandler);
+    }
+    finally {
+      BeanTestingHelper.get().unregisterBean(property);
+    }
+  }
+
+  public static class TestFormData extends AbstractFormData {
+    private static final long serialVersionUID = 1L;
+
+    public Text getText() {
+      return getFieldByClass(Text.class);
+    }
+
+    public class Text extends AbstractValueFieldData<String> {
+      private static final long serialVersionUID = 1L;
+    }
+  }
+}
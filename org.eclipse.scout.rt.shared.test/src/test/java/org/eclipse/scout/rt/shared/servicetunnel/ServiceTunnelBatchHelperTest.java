@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.exception.VetoException;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * JUnit test for {@link ServiceTunnelBatchHelper}
+ *
+ * @since 24.2
+ */
+@RunWith(PlatformTestRunner.class)
+public class ServiceTunnelBatchHelperTest {
+
+  protected ServiceTunnelRequest createRequest(String operation) {
+    ServiceTunnelRequest request = new ServiceTunnelRequest("svc", operation, new Class[]{String.class}, new Object[]{operation});
+    request.setSessionId("sessionId");
+    return request;
+  }
+
+  @Test
+  public void testBatchRequest() throws Exception {
+    ServiceTunnelBatchHelper helper = BEANS.get(ServiceTunnelBatchHelper.class);
+    ServiceTunnelRequest batchRequest = helper.createBatchRequest(Arrays.asList(createRequest("first"), createRequest("second")));
+    assertTrue(helper.isBatchRequest(batchRequest));
+    assertEquals("sessionId", batchRequest.getSessionId());
+
+    BinaryServiceTunnelContentHandler handler = new BinaryServiceTunnelContentHandler();
+    handler.initialize();
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeRequest(bos, batchRequest);
+    ServiceTunnelRequest read = handler.readRequest(new ByteArrayInputStream(bos.toByteArray()));
+
+    assertTrue(helper.isBatchRequest(read));
+    List<ServiceTunnelRequest> requests = helper.getRequests(read);
+    assertEquals(2, requests.size());
+    assertEquals("first", requests.get(0).getOperation());
+    assertEquals("second", requests.get(1).getOperation());
+    assertFalse(helper.isBatchRequest(requests.get(0)));
+  }
+
+  @Test(expected = ProcessingException.class)
+  public void testNestedBatchRequest() {
+    ServiceTunnelBatchHelper helper = BEANS.get(ServiceTunnelBatchHelper.class);
+    ServiceTunnelRequest batchRequest = helper.createBatchRequest(Arrays.asList(createRequest("first")));
+    helper.getRequests(helper.createBatchRequest(Arrays.asList(batchRequest)));
+  }
+
+  @Test
+  public void testBatchResponse() {
+    ServiceTunnelBatchHelper helper = BEANS.get(ServiceTunnelBatchHelper.class);
+    VetoException exception = new VetoException("veto");
+    ServiceTunnelResponse batchResponse = helper.createBatchResponse(Arrays.asList(new ServiceTunnelResponse("first"), new ServiceTunnelResponse(exception)));
+    List<ServiceTunnelResponse> responses = helper.getResponses(batchResponse, 2);
+    assertEquals("first", responses.get(0).getData());
+    assertSame(exception, responses.get(1).getException());
+  }
+
+  @Test
+  public void testFailedBatchResponse() {
+    ServiceTunnelBatchHelper helper = BEANS.get(ServiceTunnelBatchHelper.class);
+    VetoException exception = new VetoException("veto");
+    List<ServiceTunnelResponse> responses = helper.getResponses(new ServiceTunnelResponse(exception), 2);
+    assertSame(exception, responses.get(0).getException());
+    // every caller gets its own exception
+    assertNotSame(exception, responses.get(1).getException());
+    assertEquals(exception.getMessage(), responses.get(1).getException().getMessage());
+
+    // response of another size
+    responses = helper.getResponses(helper.createBatchResponse(Arrays.asList(new ServiceTunnelResponse("first"))), 2);
+    assertTrue(responses.get(0).getException() instanceof ProcessingException);
+  }
+}
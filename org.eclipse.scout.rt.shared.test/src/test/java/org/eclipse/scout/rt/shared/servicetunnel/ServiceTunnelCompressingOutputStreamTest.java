@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.BeanMetaData;
+import org.eclipse.scout.rt.platform.IBean;
+import org.eclipse.scout.rt.platform.util.IOUtility;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelCompressionCodecProperty;
+import org.eclipse.scout.rt.testing.platform.BeanTestingHelper;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * JUnit test for {@link ServiceTunnelCompressingOutputStream} and the negotiation of the compression codec by the
+ * content handlers.
+ *
+ * @since 24.2
+ */
+@RunWith(PlatformTestRunner.class)
+public class ServiceTunnelCompressingOutputStreamTest {
+
+  private static final byte[] SMALL = "small message".getBytes(StandardCharsets.UTF_8);
+  private static final byte[] LARGE = StringUtility.repeat("large message ", 100).getBytes(StandardCharsets.UTF_8);
+
+  protected IServiceTunnelCompressionCodec none() {
+    return BEANS.get(NoneServiceTunnelCompressionCodec.class);
+  }
+
+  protected IServiceTunnelCompressionCodec deflate() {
+    return BEANS.get(DeflateServiceTunnelCompressionCodec.class);
+  }
+
+  protected byte[] write(byte[] message, IServiceTunnelCompressionCodec codec, IServiceTunnelCompressionCodec acceptedCodec, int threshold) throws Exception {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try (OutputStream out = new ServiceTunnelCompressingOutputStream(bos, codec, acceptedCodec, threshold)) {
+      // write in chunks to cross the threshold within a write
+      for (int i = 0; i < message.length; i += 100) {
+        out.write(message, i, Math.min(100, message.length - i));
+      }
+    }
+    return bos.toByteArray();
+  }
+
+  @Test
+  public void testBelowThreshold() throws Exception {
+    byte[] bytes = write(SMALL, deflate(), deflate(), 1024);
+    assertEquals(DeflateServiceTunnelCompressionCodec.ID << 4, bytes[0]);
+    assertArrayEquals(SMALL, Arrays.copyOfRange(bytes, 1, bytes.length));
+  }
+
+  @Test
+  public void testAboveThreshold() throws Exception {
+    byte[] bytes = write(LARGE, deflate(), deflate(), 1024);
+    assertEquals(DeflateServiceTunnelCompressionCodec.ID, bytes[0]);
+    assertTrue(bytes.length < LARGE.length);
+    try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+      assertArrayEquals(LARGE, IOUtility.readBytes(in));
+    }
+  }
+
+  @Test
+  public void testNoneCodec() throws Exception {
+    byte[] bytes = write(LARGE, none(), none(), 0);
+    assertEquals(0, bytes[0]);
+    assertArrayEquals(LARGE, Arrays.copyOfRange(bytes, 1, bytes.length));
+  }
+
+  @Test
+  public void testFlushBelowThreshold() throws Exception {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    ServiceTunnelCompressingOutputStream out = new ServiceTunnelCompressingOutputStream(bos, deflate(), deflate(), 1024);
+    out.write(SMALL);
+    out.flush();
+    assertEquals(0, bos.size());
+    assertNull(out.getUsedCodec());
+    out.close();
+    assertEquals(SMALL.length + 1, bos.size());
+    assertSame(none(), out.getUsedCodec());
+  }
+
+  @Test
+  public void testNegotiation() throws Exception {
+    BinaryServiceTunnelContentHandler client = new BinaryServiceTunnelContentHandler();
+    client.initialize();
+    BinaryServiceTunnelContentHandler server = new BinaryServiceTunnelContentHandler();
+    server.initialize();
+
+    // small request is not compressed but announces deflate
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    client.writeRequest(bos, new ServiceTunnelRequest("test", null, null, null));
+    assertEquals(DeflateServiceTunnelCompressionCodec.ID << 4, bos.toByteArray()[0]);
+    server.readRequest(new ByteArrayInputStream(bos.toByteArray()));
+    assertSame(deflate(), server.getCompressionCodec());
+
+    // large response is compressed with the announced codec
+    bos = new ByteArrayOutputStream();
+    server.writeResponse(bos, new ServiceTunnelResponse(new String(LARGE, StandardCharsets.UTF_8), null));
+    assertEquals(DeflateServiceTunnelCompressionCodec.ID, bos.toByteArray()[0]);
+    assertEquals(new String(LARGE, StandardCharsets.UTF_8), client.readResponse(new ByteArrayInputStream(bos.toByteArray())).getData());
+  }
+
+  @Test
+  public void testNegotiationWithUncompressedPeer() throws Exception {
+    BinaryServiceTunnelContentHandler server = new BinaryServiceTunnelContentHandler();
+    server.initialize();
+    // header of an uncompressed message written by a content handler prior to 24.2
+    server.createDecompressingInputStream(new ByteArrayInputStream(new byte[]{0}));
+    assertSame(none(), server.getCompressionCodec());
+    assertFalse(server.isUseCompression());
+  }
+
+  @Test
+  public void testNegotiationWithCodecUnknownToPeer() throws Exception {
+    // the server only knows the default codecs
+    BinaryServiceTunnelContentHandler server = new BinaryServiceTunnelContentHandler();
+    server.initialize();
+
+    // the client knows an additional codec and is configured to use it
+    List<IBean<?>> clientBeans = new ArrayList<>();
+    clientBeans.add(BeanTestingHelper.get().registerBean(new BeanMetaData(P_TestCodec.class, new P_TestCodec())));
+    clientBeans.add(BeanTestingHelper.get().registerBean(new BeanMetaData(ServiceTunnelCompressionCodecRegistry.class, new ServiceTunnelCompressionCodecRegistry())));
+    clientBeans.add(BeanTestingHelper.get().mockConfigProperty(ServiceTunnelCompressionCodecProperty.class, P_TestCodec.NAME));
+    byte[] largeRequest;
+    byte[] smallRequest;
+    try {
+      BinaryServiceTunnelContentHandler client = new BinaryServiceTunnelContentHandler();
+      client.initialize();
+
+      // large request is compressed with deflate because the server has not announced a codec yet
+      ByteArrayOutputStream bos = new ByteArrayOutputStream();
+      client.writeRequest(bos, new ServiceTunnelRequest(new String(LARGE, StandardCharsets.UTF_8), null, null, null));
+      largeRequest = bos.toByteArray();
+      assertEquals(DeflateServiceTunnelCompressionCodec.ID, largeRequest[0]);
+
+      // small request announces the configured codec
+      bos = new ByteArrayOutputStream();
+      client.writeRequest(bos, new ServiceTunnelRequest("test", null, null, null));
+      smallRequest = bos.toByteArray();
+      assertEquals(P_TestCodec.ID << 4, smallRequest[0]);
+
+      // a peer knowing the codec uses it for the answer
+      BinaryServiceTunnelContentHandler peer = new BinaryServiceTunnelContentHandler();
+      peer.initialize();
+      peer.readRequest(new ByteArrayInputStream(smallRequest));
+      assertSame(P_TestCodec.class, peer.getCompressionCodec().getClass());
+    }
+    finally {
+      BeanTestingHelper.get().unregisterBeans(clientBeans);
+    }
+
+    assertEquals(new String(LARGE, StandardCharsets.UTF_8), server.readRequest(new ByteArrayInputStream(largeRequest)).getServiceInterfaceClassName());
+    assertEquals("test", server.readRequest(new ByteArrayInputStream(smallRequest)).getServiceInterfaceClassName());
+
+    // the server ignores the codec unknown to it and answers with deflate
+    assertSame(deflate(), server.getCompressionCodec());
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    server.writeResponse(bos, new ServiceTunnelResponse(new String(LARGE, StandardCharsets.UTF_8), null));
+    assertEquals(DeflateServiceTunnelCompressionCodec.ID, bos.toByteArray()[0]);
+  }
+
+  @Test(expected = StreamCorruptedException.class)
+  public void testUnknownCodec() throws Exception {
+    BinaryServiceTunnelContentHandler handler = new BinaryServiceTunnelContentHandler();
+    handler.initialize();
+    handler.createDecompressingInputStream(new ByteArrayInputStream(new byte[]{15}));
+  }
+
+  /**
+   * Codec only known to the client in {@link #testNegotiationWithCodecUnknownToPeer()}.
+   */
+  public static class P_TestCodec implements IServiceTunnelCompressionCodec {
+
+    public static final int ID = 7;
+    public static final String NAME = "test";
+
+    @Override
+    public int getId() {
+      return ID;
+    }
+
+    @Override
+    public String getName() {
+      return NAME;
+    }
+
+    @Override
+    public OutputStream compress(OutputStream out) throws IOException {
+      return new GZIPOutputStream(out);
+    }
+
+    @Override
+    public InputStream decompress(InputStream in) throws IOException {
+      return new GZIPInputStream(in);
+    }
+  }
+}
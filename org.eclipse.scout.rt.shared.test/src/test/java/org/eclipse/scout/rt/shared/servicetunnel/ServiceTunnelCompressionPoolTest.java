@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import static org.junit.Assert.*;
+
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.junit.Test;
+
+/**
+ * JUnit test for {@link ServiceTunnelCompressionPool}
+ *
+ * @since 24.2
+ */
+public class ServiceTunnelCompressionPoolTest {
+
+  private final ServiceTunnelCompressionPool m_pool = new ServiceTunnelCompressionPool() {
+    @Override
+    protected int getMaxPoolSize() {
+      return 1;
+    }
+  };
+
+  @Test
+  public void testReuseDeflater() {
+    Deflater deflater = m_pool.acquireDeflater();
+    deflater.setInput(new byte[]{1, 2, 3});
+    deflater.finish();
+    deflater.deflate(new byte[100]);
+    assertTrue(deflater.finished());
+    m_pool.releaseDeflater(deflater);
+
+    Deflater reused = m_pool.acquireDeflater();
+    assertSame(deflater, reused);
+    assertFalse(reused.finished());
+    assertNotSame(reused, m_pool.acquireDeflater());
+  }
+
+  @Test
+  public void testReuseInflater() {
+    Inflater inflater = m_pool.acquireInflater();
+    m_pool.releaseInflater(inflater);
+    assertSame(inflater, m_pool.acquireInflater());
+  }
+
+  @Test
+  public void testMaxPoolSize() {
+    Deflater deflater1 = m_pool.acquireDeflater();
+    Deflater deflater2 = m_pool.acquireDeflater();
+    m_pool.releaseDeflater(deflater1);
+    m_pool.releaseDeflater(deflater2);
+    m_pool.releaseDeflater(null);
+
+    assertSame(deflater1, m_pool.acquireDeflater());
+    Deflater deflater3 = m_pool.acquireDeflater();
+    assertNotSame(deflater1, deflater3);
+    assertNotSame(deflater2, deflater3);
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.dataobject.DoEntity;
+import org.eclipse.scout.rt.dataobject.IDataObject;
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.shared.data.form.AbstractFormData;
+import org.eclipse.scout.rt.shared.data.form.fields.AbstractValueFieldData;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.eclipse.scout.rt.testing.platform.testcategory.ResourceIntensiveTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Benchmark of {@link DataObjectServiceTunnelContentHandler} against {@link BinaryServiceTunnelContentHandler}. Logs
+ * the throughput of writing and reading a request and the size of the written request.
+ * <p>
+ * Each payload is sent with both handlers. The person is sent as form data, which both handlers write with Java
+ * serialization, and as the equivalent data object, which both handlers write as JSON using the
+ * {@link IDataObjectMapper}, i.e. the formats of a service before and after migrating its arguments to data objects.
+ *
+ * @since 24.2
+ */
+@Category(ResourceIntensiveTest.class)
+@RunWith(PlatformTestRunner.class)
+public class ServiceTunnelContentHandlerBenchmarkTest {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ServiceTunnelContentHandlerBenchmarkTest.class);
+
+  private static final int WARMUP_ITERATIONS = 5_000;
+  private static final int ITERATIONS = 20_000;
+
+  @Test
+  public void testPerson() throws Exception {
+    PersonFormData formData = new PersonFormData();
+    formData.getPersonNr().setValue(4711L);
+    formData.getFirstName().setValue("John");
+    formData.getLastName().setValue("Doe");
+    formData.getBirthday().setValue(new Date(0));
+    formData.getSalary().setValue(new BigDecimal("4200.50"));
+    formData.getActive().setValue(Boolean.TRUE);
+    formData.getComment().setValue("Lorem ipsum dolor sit amet, consectetur adipiscing elit.");
+    ServiceTunnelRequest formDataRequest = new ServiceTunnelRequest("org.eclipse.scout.shared.IPersonService", "store", new Class[]{PersonFormData.class}, new Object[]{formData});
+    measure("personFormData", new BinaryServiceTunnelContentHandler(), formDataRequest);
+    measure("personFormData", new DataObjectServiceTunnelContentHandler(), formDataRequest);
+
+    DoEntity person = BEANS.get(DoEntity.class);
+    person.put("personNr", 4711L);
+    person.put("firstName", "John");
+    person.put("lastName", "Doe");
+    person.put("birthday", new Date(0));
+    person.put("salary", new BigDecimal("4200.50"));
+    person.put("active", Boolean.TRUE);
+    person.put("comment", "Lorem ipsum dolor sit amet, consectetur adipiscing elit.");
+    ServiceTunnelRequest dataObjectRequest = new ServiceTunnelRequest("org.eclipse.scout.shared.IPersonService", "store", new Class[]{IDataObject.class}, new Object[]{person});
+    measure("personDataObject", new BinaryServiceTunnelContentHandler(), dataObjectRequest);
+    measure("personDataObject", new DataObjectServiceTunnelContentHandler(), dataObjectRequest);
+  }
+
+  @Test
+  public void testScalarArguments() throws Exception {
+    ServiceTunnelRequest request = new ServiceTunnelRequest("org.eclipse.scout.shared.IPersonService", "find", new Class[]{String.class, Long.class, int.class, boolean.class},
+        new Object[]{"Doe", 4711L, 100, true});
+
+    measure("scalarArguments", new BinaryServiceTunnelContentHandler(), request);
+    measure("scalarArguments", new DataObjectServiceTunnelContentHandler(), request);
+  }
+
+  protected void measure(String name, IServiceTunnelContentHandler handler, ServiceTunnelRequest request) throws Exception {
+    handler.initialize();
+    for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+      roundtrip(handler, request);
+    }
+
+    int size = 0;
+    long start = System.nanoTime();
+    for (int i = 0; i < ITERATIONS; i++) {
+      size = roundtrip(handler, request);
+    }
+    long elapsedNanos = System.nanoTime() - start;
+
+    LOG.info("{} {}: {} ops/s, {} ns/op, {} bytes", name, handler.getClass().getSimpleName(), ITERATIONS * TimeUnit.SECONDS.toNanos(1) / Math.max(1, elapsedNanos),
+        elapsedNanos / ITERATIONS, size);
+  }
+
+  protected int roundtrip(IServiceTunnelContentHandler handler, ServiceTunnelRequest request) throws Exception {
+    ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    handler.writeRequest(bos, request);
+    ServiceTunnelRequest read = handler.readRequest(new ByteArrayInputStream(bos.toByteArray()));
+    assertEquals(request.getArgs().length, read.getArgs().length);
+    return bos.size();
+  }
+
+  public static class PersonFormData extends AbstractFormData {
+    private static final long serialVersionUID = 1L;
+
+    public PersonNr getPersonNr() {
+      return getFieldByClass(PersonNr.class);
+    }
+
+    public FirstName getFirstName() {
+      return getFieldByClass(FirstName.class);
+    }
+
+    public LastName getLastName() {
+      return getFieldByClass(LastName.class);
+    }
+
+    public Birthday getBirthday() {
+      return getFieldByClass(Birthday.class);
+    }
+
+    public Salary getSalary() {
+      return getFieldByClass(Salary.class);
+    }
+
+    public Active getActive() {
+      return getFieldByClass(Active.class);
+    }
+
+    public Comment getComment() {
+      return getFieldByClass(Comment.class);
+    }
+
+    public class PersonNr extends AbstractValueFieldData<Long> {
+      private static final long serialVersionUID = 1L;
+    }
+
+    public class FirstName extends AbstractValueFieldData<String> {
+      private static final long serialVersionUID = 1L;
+    }
+
+    public class LastName extends AbstractValueFieldData<String> {
+      private static final long serialVersionUID = 1L;
+    }
+
+    public class Birthday extends AbstractValueFieldData<Date> {
+      private static final long serialVersionUID = 1L;
+    }
+
+    public class Salary extends AbstractValueFieldData<BigDecimal> {
+      private static final long serialVersionUID = 1L;
+    }
+
+    public class Active extends AbstractValueFieldData<Boolean> {
+      private static final long serialVersionUID = 1L;
+    }
+
+    public class Comment extends AbstractValueFieldData<String> {
+      private static final long serialVersionUID = 1L;
+    }
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel.http;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.util.concurrent.FutureCancelledError;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.eclipse.scout.rt.shared.servicetunnel.http.ServiceTunnelRequestBatcher.BatchEntry;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+
+/**
+ * Tests for {@link ServiceTunnelRequestBatcher}
+ *
+ * @since 24.2
+ */
+@RunWith(PlatformTestRunner.class)
+public class ServiceTunnelRequestBatcherTest {
+
+  private static final long LONG_WINDOW_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+  private HttpServiceTunnel m_tunnel;
+
+  @Before
+  public void before() throws Exception {
+    m_tunnel = mock(HttpServiceTunnel.class);
+    // each response contains the operation of its request
+    when(m_tunnel.tunnelBatch(ArgumentMatchers.anyList())).thenAnswer(invocation -> {
+      List<ServiceTunnelRequest> requests = invocation.getArgument(0);
+      List<ServiceTunnelResponse> responses = new ArrayList<>();
+      for (ServiceTunnelRequest request : requests) {
+        responses.add(new ServiceTunnelResponse(request.getOperation()));
+      }
+      return responses;
+    });
+  }
+
+  protected ServiceTunnelRequest createRequest(String sessionId, String operation) {
+    ServiceTunnelRequest request = new ServiceTunnelRequest("IPingService", operation, null, null);
+    request.setSessionId(sessionId);
+    return request;
+  }
+
+  protected ServiceTunnelResponse await(BatchEntry entry) throws Exception {
+    return entry.getResponse().get(10, TimeUnit.SECONDS);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testFullBatchIsSent() throws Exception {
+    ServiceTunnelRequestBatcher batcher = new ServiceTunnelRequestBatcher(m_tunnel, LONG_WINDOW_MILLIS, 2);
+    BatchEntry first = batcher.add(createRequest("session", "first"));
+    BatchEntry second = batcher.add(createRequest("session", "second"));
+
+    assertEquals("first", await(first).getData());
+    assertEquals("second", await(second).getData());
+    ArgumentCaptor<List<ServiceTunnelRequest>> captor = ArgumentCaptor.forClass(List.class);
+    verify(m_tunnel, times(1)).tunnelBatch(captor.capture());
+    assertEquals(2, captor.getValue().size());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testBatchesBySession() throws Exception {
+    ServiceTunnelRequestBatcher batcher = new ServiceTunnelRequestBatcher(m_tunnel, LONG_WINDOW_MILLIS, 2);
+    List<BatchEntry> entries = new ArrayList<>();
+    entries.add(batcher.add(createRequest("session1", "a")));
+    entries.add(batcher.add(createRequest("session2", "b")));
+    entries.add(batcher.add(createRequest("session2", "c")));
+    entries.add(batcher.add(createRequest("session1", "d")));
+    for (BatchEntry entry : entries) {
+      assertEquals(entry.getRequest().getOperation(), await(entry).getData());
+    }
+
+    ArgumentCaptor<List<ServiceTunnelRequest>> captor = ArgumentCaptor.forClass(List.class);
+    verify(m_tunnel, times(2)).tunnelBatch(captor.capture());
+    for (List<ServiceTunnelRequest> batch : captor.getAllValues()) {
+      assertEquals(batch.get(0).getSessionId(), batch.get(1).getSessionId());
+    }
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testCancelBeforeSent() throws Exception {
+    ServiceTunnelRequestBatcher batcher = new ServiceTunnelRequestBatcher(m_tunnel, LONG_WINDOW_MILLIS, 2);
+    BatchEntry cancelled = batcher.add(createRequest("session", "cancelled"));
+    assertTrue(cancelled.cancel());
+    assertTrue(await(cancelled).getException() instanceof FutureCancelledError);
+
+    BatchEntry second = batcher.add(createRequest("session", "second"));
+    BatchEntry third = batcher.add(createRequest("session", "third"));
+    assertEquals("second", await(second).getData());
+    assertEquals("third", await(third).getData());
+    assertFalse(second.cancel());
+
+    ArgumentCaptor<List<ServiceTunnelRequest>> captor = ArgumentCaptor.forClass(List.class);
+    verify(m_tunnel, times(1)).tunnelBatch(captor.capture());
+    assertEquals(2, captor.getValue().size());
+    assertEquals("second", captor.getValue().get(0).getOperation());
+  }
+
+  @Test
+  public void testBatchFailure() throws Exception {
+    IOException exception = new IOException("expected");
+    when(m_tunnel.tunnelBatch(ArgumentMatchers.anyList())).thenThrow(exception);
+    ServiceTunnelRequestBatcher batcher = new ServiceTunnelRequestBatcher(m_tunnel, LONG_WINDOW_MILLIS, 2);
+    BatchEntry first = batcher.add(createRequest("session", "first"));
+    BatchEntry second = batcher.add(createRequest("session", "second"));
+    for (BatchEntry entry : new BatchEntry[]{first, second}) {
+      try {
+        await(entry);
+        fail("exception expected");
+      }
+      catch (ExecutionException e) {
+        assertSame(exception, e.getCause());
+      }
+    }
+  }
+}
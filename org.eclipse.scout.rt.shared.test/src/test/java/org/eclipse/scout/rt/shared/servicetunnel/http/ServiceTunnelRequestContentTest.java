@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel.http;
+
+import static org.junit.Assert.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+
+import org.eclipse.scout.rt.shared.servicetunnel.BinaryServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
+import org.eclipse.scout.rt.testing.platform.runner.PlatformTestRunner;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+/**
+ * JUnit test for {@link ServiceTunnelRequestContent}
+ *
+ * @since 24.2
+ */
+@RunWith(PlatformTestRunner.class)
+public class ServiceTunnelRequestContentTest {
+
+  @Test
+  public void testWriteTo() throws Exception {
+    BinaryServiceTunnelContentHandler handler = new BinaryServiceTunnelContentHandler();
+    handler.initialize();
+    ServiceTunnelRequest request = new ServiceTunnelRequest("svc", "op", new Class[]{String.class}, new Object[]{"arg"});
+    ServiceTunnelRequestContent content = new ServiceTunnelRequestContent(handler, request);
+    assertEquals(-1, content.getLength());
+    assertFalse(content.retrySupported());
+
+    P_CloseTrackingOutputStream out = new P_CloseTrackingOutputStream();
+    content.writeTo(out);
+    // the HTTP connection stream must not be closed
+    assertFalse(out.isClosed());
+    assertEquals(out.size(), content.getWrittenBytes());
+
+    ServiceTunnelRequest read = handler.readRequest(new ByteArrayInputStream(out.toByteArray()));
+    assertEquals(request.getRequestSequence(), read.getRequestSequence());
+    assertArrayEquals(new Object[]{"arg"}, read.getArgs());
+  }
+
+  private static class P_CloseTrackingOutputStream extends ByteArrayOutputStream {
+    private boolean m_closed;
+
+    @Override
+    public void close() {
+      m_closed = true;
+    }
+
+    public boolean isClosed() {
+      return m_closed;
+    }
+  }
+}
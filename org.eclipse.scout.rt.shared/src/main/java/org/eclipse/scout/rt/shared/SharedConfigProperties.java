@@ -17,6 +17,7 @@ import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.Platform;
 import org.eclipse.scout.rt.platform.config.AbstractBinaryConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
+import org.eclipse.scout.rt.platform.config.AbstractPositiveIntegerConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractPositiveLongConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractStringConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractSubjectConfigProperty;
@@ -205,6 +206,92 @@ public final class SharedConfigProperties {
     }
   }
 
+  /**
+   * @since 24.2
+   */
+  public static class ServiceTunnelContentTypeProperty extends AbstractStringConfigProperty {
+
+    @Override
+    public String description() {
+      return "Content type of the format used by the service tunnel to exchange data with the backend, e.g. 'application/x-scout-dataobject' for the\n"
+          + "DataObjectServiceTunnelContentHandler. If not set, the content handler with the highest priority is used. The backend accepts\n"
+          + "the content type of the content handler with the highest priority and the one of this property (if set on the backend as well)\n"
+          + "and responds with the same content type.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.contentType";
+    }
+  }
+
+  /**
+   * @since 24.2
+   */
+  public static class ServiceTunnelCompressionCodecProperty extends AbstractStringConfigProperty {
+
+    @Override
+    public String getDefaultValue() {
+      return "deflate";
+    }
+
+    @Override
+    public String description() {
+      return "Name of the codec used to compress service tunnel messages if compression is enabled, e.g. 'deflate' or 'none'. The receiver\n"
+          + "announces the codec it accepts with uncompressed messages and the sender uses it for the answer. Until the peer has announced\n"
+          + "a codec, messages are compressed with 'deflate', so a peer not knowing the configured codec can still read them.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.compressionCodec";
+    }
+  }
+
+  /**
+   * @since 24.2
+   */
+  public static class ServiceTunnelCompressionThresholdProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 1024;
+    }
+
+    @Override
+    public String description() {
+      return "Minimal size in bytes of a service tunnel message to be compressed. Smaller messages are sent uncompressed because compressing them\n"
+          + "costs more time than it saves. The default value is 1024 bytes.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.compressionThreshold";
+    }
+  }
+
+  /**
+   * @since 24.2
+   */
+  public static class ServiceTunnelMaxValueSizeProperty extends AbstractPositiveIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 64 * 1024 * 1024;
+    }
+
+    @Override
+    public String description() {
+      return "Maximal size in bytes of a single value (e.g. a string, a byte array or a serialized object) read by the DataObjectServiceTunnelContentHandler.\n"
+          + "Messages announcing a larger value are rejected. The default value is 64 MB.";
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.maxValueSize";
+    }
+  }
+
   public static class CreateTunnelToServerBeansProperty extends AbstractBooleanConfigProperty {
 
     @Override
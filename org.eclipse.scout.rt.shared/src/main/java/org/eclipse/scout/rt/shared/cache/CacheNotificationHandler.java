@@ -11,6 +11,7 @@ package org.eclipse.scout.rt.shared.cache;
 
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.IgnoreBean;
+import org.eclipse.scout.rt.platform.cache.CacheStatistics;
 import org.eclipse.scout.rt.platform.cache.ICache;
 import org.eclipse.scout.rt.platform.cache.ICacheEntryFilter;
 import org.eclipse.scout.rt.platform.cache.ICacheRegistryService;
@@ -39,6 +40,10 @@ public class CacheNotificationHandler implements INotificationHandler<Invalidate
     ICache<K, V> cache = BEANS.get(ICacheRegistryService.class).opt(cacheId);
     if (cache != null) {
       // cache may be null (not be initialized yet on client)
+      CacheStatistics statistics = cache.getAdapter(CacheStatistics.class);
+      if (statistics != null) {
+        statistics.recordRemoteInvalidation();
+      }
       cache.invalidate((ICacheEntryFilter<K, V>) notification.getFilter(), false);
     }
   }
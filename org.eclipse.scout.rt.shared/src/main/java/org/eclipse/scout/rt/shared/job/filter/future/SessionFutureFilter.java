@@ -13,6 +13,7 @@ import java.util.function.Predicate;
 
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.filter.future.FutureIndexKey;
 import org.eclipse.scout.rt.platform.util.IAdaptable;
 import org.eclipse.scout.rt.shared.ISession;
 
@@ -50,6 +51,9 @@ public class SessionFutureFilter implements Predicate<IFuture<?>>, IAdaptable {
     if (ISession.class.isAssignableFrom(type)) {
       return (T) m_session;
     }
+    if (type == FutureIndexKey.class && m_session != null) {
+      return (T) FutureIndexKey.runContextAdapter(ISession.class, m_session);
+    }
     return null;
   }
 }
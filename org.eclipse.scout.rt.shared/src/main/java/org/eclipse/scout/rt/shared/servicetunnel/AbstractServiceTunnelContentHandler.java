@@ -9,20 +9,33 @@
  */
 package org.eclipse.scout.rt.shared.servicetunnel;
 
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+
+import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.serialization.IObjectSerializer;
 import org.eclipse.scout.rt.platform.serialization.SerializationUtility;
 import org.eclipse.scout.rt.shared.SharedConfigProperties.CompressServiceTunnelRequestProperty;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelCompressionThresholdProperty;
 
 abstract class AbstractServiceTunnelContentHandler implements IServiceTunnelContentHandler {
 
   private IObjectSerializer m_objectSerializer;
   private Boolean m_sendCompressed;
+  private IServiceTunnelCompressionCodec m_compressionCodec;
+  private int m_compressionThreshold;
+  private IServiceTunnelCompressionCodec m_receivedCompressionCodec;
 
   @Override
   public void initialize() {
     m_sendCompressed = CONFIG.getPropertyValue(CompressServiceTunnelRequestProperty.class);
     m_objectSerializer = createObjectSerializer();
+    m_compressionCodec = BEANS.get(ServiceTunnelCompressionCodecRegistry.class).getConfiguredCodec();
+    m_compressionThreshold = CONFIG.getPropertyValue(ServiceTunnelCompressionThresholdProperty.class);
   }
 
   /**
@@ -41,4 +54,93 @@ abstract class AbstractServiceTunnelContentHandler implements IServiceTunnelCont
     return m_objectSerializer;
   }
 
+  /**
+   * @return {@link #isSendCompressed()} if set, otherwise if the last received message announced a compression codec,
+   *         {@code true} if no message has been received yet.
+   */
+  protected boolean isUseCompression() {
+    if (isSendCompressed() != null) {
+      return isSendCompressed();
+    }
+    if (m_receivedCompressionCodec != null) {
+      return m_receivedCompressionCodec.getId() != IServiceTunnelCompressionCodec.NONE_ID;
+    }
+    return true;
+  }
+
+  /**
+   * @return codec to compress messages larger than the compression threshold: the codec accepted by the last received
+   *         message. Deflate as long as the peer has not announced a codec, because the peer might not know the
+   *         configured one. The configured codec is only announced to the peer, which uses it for the answer.
+   * @since 24.2
+   */
+  protected IServiceTunnelCompressionCodec getCompressionCodec() {
+    ServiceTunnelCompressionCodecRegistry registry = BEANS.get(ServiceTunnelCompressionCodecRegistry.class);
+    if (!isUseCompression()) {
+      return registry.getNoneCodec();
+    }
+    IServiceTunnelCompressionCodec receivedCodec = m_receivedCompressionCodec;
+    if (receivedCodec != null && receivedCodec.getId() != IServiceTunnelCompressionCodec.NONE_ID) {
+      return receivedCodec;
+    }
+    return registry.getDeflateCodec();
+  }
+
+  /**
+   * @return codec announced to the receiver for the answer if a message is not compressed
+   * @since 24.2
+   */
+  protected IServiceTunnelCompressionCodec getAcceptedCompressionCodec() {
+    if (Boolean.FALSE.equals(isSendCompressed())) {
+      return BEANS.get(ServiceTunnelCompressionCodecRegistry.class).getNoneCodec();
+    }
+    return m_compressionCodec;
+  }
+
+  /**
+   * @return minimal size in bytes of a message to be compressed
+   * @since 24.2
+   */
+  protected int getCompressionThreshold() {
+    return m_compressionThreshold;
+  }
+
+  /**
+   * Writes the compression header and returns the stream to write the message to. Closing it closes the given stream.
+   *
+   * @see ServiceTunnelCompressingOutputStream
+   * @since 24.2
+   */
+  protected OutputStream createCompressingOutputStream(OutputStream out) {
+    return new ServiceTunnelCompressingOutputStream(out, getCompressionCodec(), getAcceptedCompressionCodec(), getCompressionThreshold());
+  }
+
+  /**
+   * Reads the compression header written by {@link #createCompressingOutputStream(OutputStream)} and returns the
+   * stream to read the message from. The codec accepted by the sender is used for the next message written by this
+   * content handler if {@link #isSendCompressed()} is not set.
+   *
+   * @since 24.2
+   */
+  protected InputStream createDecompressingInputStream(InputStream in) throws IOException {
+    int header = in.read();
+    if (header < 0) {
+      throw new EOFException("Missing compression header");
+    }
+    ServiceTunnelCompressionCodecRegistry registry = BEANS.get(ServiceTunnelCompressionCodecRegistry.class);
+    IServiceTunnelCompressionCodec codec = registry.getCodec(header & 0x0F);
+    if (codec == null) {
+      throw new StreamCorruptedException("Unknown compression codec " + (header & 0x0F));
+    }
+    if (codec.getId() != IServiceTunnelCompressionCodec.NONE_ID) {
+      m_receivedCompressionCodec = codec;
+    }
+    else {
+      // a codec unknown to this side is ignored, deflate is known to both sides
+      IServiceTunnelCompressionCodec acceptedCodec = registry.getCodec((header >> 4) & 0x0F);
+      m_receivedCompressionCodec = acceptedCodec != null ? acceptedCodec : registry.getDeflateCodec();
+    }
+    return codec.decompress(in);
+  }
+
 }
@@ -13,10 +13,6 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.NotSerializableException;
 import java.io.OutputStream;
-import java.util.zip.Deflater;
-import java.util.zip.DeflaterOutputStream;
-import java.util.zip.Inflater;
-import java.util.zip.InflaterInputStream;
 
 import org.eclipse.scout.rt.platform.Order;
 import org.slf4j.Logger;
@@ -31,8 +27,6 @@ public class BinaryServiceTunnelContentHandler extends AbstractServiceTunnelCont
   private static final Logger LOG = LoggerFactory.getLogger(BinaryServiceTunnelContentHandler.class);
   private static final String CONTENT_TYPE = "application/octet-stream";
 
-  private Boolean m_receivedCompressed;
-
   @Override
   public String getContentType() {
     return CONTENT_TYPE;
@@ -59,65 +53,19 @@ public class BinaryServiceTunnelContentHandler extends AbstractServiceTunnelCont
   }
 
   private void writeData(OutputStream out, Object msg) throws IOException {
-    Deflater deflater = null;
-    boolean compressed = isUseCompression();
     try {
-      // signal compression
-      out.write(compressed ? 1 : 0);
-      // build serialized data
-      if (compressed) {
-        deflater = new Deflater(Deflater.BEST_SPEED);
-        out = new DeflaterOutputStream(out, deflater);
-      }
-      getObjectSerializer().serialize(out, msg);
+      // signal compression and build serialized data
+      getObjectSerializer().serialize(createCompressingOutputStream(out), msg);
     }
     catch (NotSerializableException e) {
       LOG.error("Error serializing data '{}'", msg);
       throw e;
     }
-    finally {
-      if (deflater != null) {
-        try {
-          deflater.end();
-        }
-        catch (Throwable fatal) { // NOSONAR
-        }
-      }
-    }
   }
 
   private <T> T readData(InputStream in, Class<T> clazz) throws IOException, ClassNotFoundException {
-    Inflater inflater = null;
-    try {
-      // read compressed flag
-      boolean compressed = in.read() == 1;
-      m_receivedCompressed = compressed;
-      // decode serial data
-      if (compressed) {
-        inflater = new Inflater();
-        in = new InflaterInputStream(in, inflater);
-      }
-      return getObjectSerializer().deserialize(in, clazz);
-    }
-    finally {
-      if (inflater != null) {
-        try {
-          inflater.end();
-        }
-        catch (Throwable fatal) { // NOSONAR
-        }
-      }
-    }
-  }
-
-  protected boolean isUseCompression() {
-    if (isSendCompressed() != null) {
-      return isSendCompressed();
-    }
-    if (m_receivedCompressed != null) {
-      return m_receivedCompressed;
-    }
-    return true;
+    // read compression header and decode serial data
+    return getObjectSerializer().deserialize(createDecompressingInputStream(in), clazz);
   }
 
 }
@@ -0,0 +1,412 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.scout.rt.dataobject.IDataObject;
+import org.eclipse.scout.rt.dataobject.IDataObjectMapper;
+import org.eclipse.scout.rt.dataobject.id.NodeId;
+import org.eclipse.scout.rt.platform.Order;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.serialization.SerializationUtility;
+import org.eclipse.scout.rt.platform.util.LazyValue;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelContentTypeProperty;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelMaxValueSizeProperty;
+import org.eclipse.scout.rt.shared.clientnotification.ClientNotificationMessage;
+
+/**
+ * Content handler which does not serialize {@link ServiceTunnelRequest} and {@link ServiceTunnelResponse} with Java
+ * serialization but writes their attributes to a compact binary envelope with optional compression.
+ * <p>
+ * Arguments and return values are encoded by type: strings, numbers, booleans and byte arrays are written in binary
+ * form, {@link IDataObject}s as JSON using the {@link IDataObjectMapper}. All other values (e.g. form data, exceptions
+ * and client notifications) are written with the Java serialization of {@link #createObjectSerializer()}, including its
+ * whitelist. They are written together in a single object stream in front of the attributes, so that objects
+ * referenced by several values are written once and shared after reading, as with the
+ * {@link BinaryServiceTunnelContentHandler}.
+ * <p>
+ * To use this content handler set {@link ServiceTunnelContentTypeProperty} to {@value #CONTENT_TYPE} on the client and
+ * on the backend. The backend selects the content handler by the content type of the request. The size of a single
+ * value read is limited by {@link ServiceTunnelMaxValueSizeProperty}; the object stream of all Java serialized values of
+ * a message counts as one value.
+ *
+ * @since 24.2
+ */
+@Order(5050)
+public class DataObjectServiceTunnelContentHandler extends AbstractServiceTunnelContentHandler {
+
+  public static final String CONTENT_TYPE = "application/x-scout-dataobject";
+
+  protected static final int FORMAT_VERSION = 2;
+
+  protected static final byte TYPE_NULL = 0;
+  protected static final byte TYPE_STRING = 1;
+  protected static final byte TYPE_BOOLEAN = 2;
+  protected static final byte TYPE_INTEGER = 3;
+  protected static final byte TYPE_LONG = 4;
+  protected static final byte TYPE_BYTES = 5;
+  protected static final byte TYPE_DATA_OBJECT = 6;
+  protected static final byte TYPE_SERIALIZED = 7;
+
+  /**
+   * Maximal number of parameters of a Java method.
+   */
+  protected static final int MAX_PARAMETER_COUNT = 255;
+
+  /**
+   * Values are read in chunks of this size, so that the memory allocated for a value is bounded by the bytes actually
+   * received and not by the length announced by the sender.
+   */
+  protected static final int READ_CHUNK_SIZE = 64 * 1024;
+
+  private static final Map<String, Class<?>> PRIMITIVE_TYPES = new HashMap<>();
+
+  static {
+    for (Class<?> c : new Class<?>[]{boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class, void.class}) {
+      PRIMITIVE_TYPES.put(c.getName(), c);
+    }
+  }
+
+  private final LazyValue<IDataObjectMapper> m_dataObjectMapper = new LazyValue<>(IDataObjectMapper.class);
+  private int m_maxValueSize;
+
+  @Override
+  public void initialize() {
+    super.initialize();
+    m_maxValueSize = CONFIG.getPropertyValue(ServiceTunnelMaxValueSizeProperty.class);
+  }
+
+  /**
+   * @return maximal size in bytes of a single value read by this content handler
+   */
+  protected int getMaxValueSize() {
+    return m_maxValueSize;
+  }
+
+  @Override
+  public String getContentType() {
+    return CONTENT_TYPE;
+  }
+
+  @Override
+  public void writeRequest(OutputStream out, ServiceTunnelRequest msg) throws IOException {
+    Object[] args = msg.getArgs();
+    try (DataOutputStream data = createDataOutputStream(out)) {
+      writeSerializedValues(data, args);
+      data.writeLong(msg.getRequestSequence());
+      writeString(data, msg.getSessionId());
+      writeString(data, msg.getServiceInterfaceClassName());
+      writeString(data, msg.getOperation());
+      writeString(data, msg.getLocale() != null ? msg.getLocale().toLanguageTag() : null);
+      writeString(data, msg.getUserAgent());
+      writeString(data, msg.getClientNodeId() != null ? msg.getClientNodeId().unwrapAsString() : null);
+      Class[] parameterTypes = msg.getParameterTypes();
+      data.writeInt(parameterTypes != null ? parameterTypes.length : -1);
+      if (parameterTypes != null) {
+        for (Class parameterType : parameterTypes) {
+          writeString(data, parameterType.getName());
+        }
+      }
+      data.writeInt(args.length);
+      for (Object arg : args) {
+        writeValue(data, arg);
+      }
+    }
+  }
+
+  @Override
+  public ServiceTunnelRequest readRequest(InputStream in) throws IOException, ClassNotFoundException {
+    try (DataInputStream data = createDataInputStream(in)) {
+      Iterator<Object> serializedValues = readSerializedValues(data);
+      long requestSequence = data.readLong();
+      String sessionId = readString(data);
+      String serviceInterfaceClassName = readString(data);
+      String operation = readString(data);
+      String locale = readString(data);
+      String userAgent = readString(data);
+      String clientNodeId = readString(data);
+      int parameterTypeCount = readCount(data);
+      Class[] parameterTypes = null;
+      if (parameterTypeCount >= 0) {
+        parameterTypes = new Class[parameterTypeCount];
+        for (int i = 0; i < parameterTypeCount; i++) {
+          parameterTypes[i] = resolveClass(readString(data));
+        }
+      }
+      int argCount = readCount(data);
+      if (argCount < 0) {
+        throw new StreamCorruptedException("Invalid argument count " + argCount);
+      }
+      Object[] args = new Object[argCount];
+      for (int i = 0; i < args.length; i++) {
+        args[i] = readValue(data, serializedValues);
+      }
+      ServiceTunnelRequest msg = new ServiceTunnelRequest(requestSequence, serviceInterfaceClassName, operation, parameterTypes, args, locale != null ? Locale.forLanguageTag(locale) : null);
+      msg.setSessionId(sessionId);
+      msg.setUserAgent(userAgent);
+      msg.setClientNodeId(NodeId.of(clientNodeId));
+      return msg;
+    }
+  }
+
+  @Override
+  public void writeResponse(OutputStream out, ServiceTunnelResponse msg) throws IOException {
+    try (DataOutputStream data = createDataOutputStream(out)) {
+      writeSerializedValues(data, msg.getData(), msg.getException(), msg.getNotifications());
+      writeValue(data, msg.getData());
+      writeValue(data, msg.getException());
+      Long processingDuration = msg.getProcessingDuration();
+      data.writeLong(processingDuration != null ? processingDuration : -1L);
+      writeValue(data, msg.getNotifications());
+    }
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public ServiceTunnelResponse readResponse(InputStream in) throws IOException, ClassNotFoundException {
+    try (DataInputStream data = createDataInputStream(in)) {
+      Iterator<Object> serializedValues = readSerializedValues(data);
+      Object result = readValue(data, serializedValues);
+      Throwable exception = readValue(data, serializedValues, Throwable.class);
+      long processingDuration = data.readLong();
+      List<ClientNotificationMessage> notifications = readValue(data, serializedValues, List.class);
+      ServiceTunnelResponse msg = new ServiceTunnelResponse(result, exception);
+      if (processingDuration >= 0) {
+        msg.setProcessingDuration(processingDuration);
+      }
+      msg.setNotifications(notifications);
+      return msg;
+    }
+  }
+
+  protected DataOutputStream createDataOutputStream(OutputStream out) throws IOException {
+    DataOutputStream data = new DataOutputStream(new BufferedOutputStream(createCompressingOutputStream(out)));
+    data.writeByte(FORMAT_VERSION);
+    return data;
+  }
+
+  protected DataInputStream createDataInputStream(InputStream in) throws IOException {
+    DataInputStream data = new DataInputStream(new BufferedInputStream(createDecompressingInputStream(in)));
+    int formatVersion = data.readUnsignedByte();
+    if (formatVersion != FORMAT_VERSION) {
+      throw new StreamCorruptedException("Unsupported format version " + formatVersion);
+    }
+    return data;
+  }
+
+  /**
+   * @return true if the given value is written with Java serialization, i.e. by
+   *         {@link #writeSerializedValues(DataOutputStream, Object...)}
+   */
+  protected boolean isSerializedValue(Object value) {
+    return value != null
+        && !(value instanceof String)
+        && !(value instanceof Boolean)
+        && !(value instanceof Integer)
+        && !(value instanceof Long)
+        && !(value instanceof byte[])
+        && !(value instanceof IDataObject);
+  }
+
+  /**
+   * Writes those of the given values accepted by {@link #isSerializedValue(Object)} into a single object stream. The
+   * values must be passed in the order they are written by {@link #writeValue(DataOutputStream, Object)}.
+   */
+  protected void writeSerializedValues(DataOutputStream out, Object... values) throws IOException {
+    List<Object> serializedValues = new ArrayList<>();
+    for (Object value : values) {
+      if (isSerializedValue(value)) {
+        serializedValues.add(value);
+      }
+    }
+    writeBytes(out, serializedValues.isEmpty() ? null : getObjectSerializer().serialize(serializedValues.toArray()));
+  }
+
+  /**
+   * @return the values written by {@link #writeSerializedValues(DataOutputStream, Object...)} in the order they are read
+   *         by {@link #readValue(DataInputStream, Iterator)}
+   */
+  protected Iterator<Object> readSerializedValues(DataInputStream in) throws IOException, ClassNotFoundException {
+    byte[] bytes = readBytes(in);
+    if (bytes == null) {
+      return Collections.emptyIterator();
+    }
+    Object[] serializedValues = getObjectSerializer().deserialize(bytes, Object[].class);
+    if (serializedValues == null) {
+      throw new StreamCorruptedException("Missing serialized values");
+    }
+    return Arrays.asList(serializedValues).iterator();
+  }
+
+  protected void writeValue(DataOutputStream out, Object value) throws IOException {
+    if (value == null) {
+      out.writeByte(TYPE_NULL);
+    }
+    else if (value instanceof String) {
+      out.writeByte(TYPE_STRING);
+      writeString(out, (String) value);
+    }
+    else if (value instanceof Boolean) {
+      out.writeByte(TYPE_BOOLEAN);
+      out.writeBoolean((Boolean) value);
+    }
+    else if (value instanceof Integer) {
+      out.writeByte(TYPE_INTEGER);
+      out.writeInt((Integer) value);
+    }
+    else if (value instanceof Long) {
+      out.writeByte(TYPE_LONG);
+      out.writeLong((Long) value);
+    }
+    else if (value instanceof byte[]) {
+      out.writeByte(TYPE_BYTES);
+      writeBytes(out, (byte[]) value);
+    }
+    else if (value instanceof IDataObject) {
+      out.writeByte(TYPE_DATA_OBJECT);
+      writeString(out, m_dataObjectMapper.get().writeValue(value));
+    }
+    else {
+      // the value itself is written by writeSerializedValues
+      out.writeByte(TYPE_SERIALIZED);
+    }
+  }
+
+  protected Object readValue(DataInputStream in, Iterator<Object> serializedValues) throws IOException {
+    byte type = in.readByte();
+    switch (type) {
+      case TYPE_NULL:
+        return null;
+      case TYPE_STRING:
+        return readString(in);
+      case TYPE_BOOLEAN:
+        return in.readBoolean();
+      case TYPE_INTEGER:
+        return in.readInt();
+      case TYPE_LONG:
+        return in.readLong();
+      case TYPE_BYTES:
+        return readBytes(in);
+      case TYPE_DATA_OBJECT:
+        return m_dataObjectMapper.get().readValue(readString(in), IDataObject.class);
+      case TYPE_SERIALIZED:
+        if (!serializedValues.hasNext()) {
+          throw new StreamCorruptedException("Missing serialized value");
+        }
+        return serializedValues.next();
+      default:
+        throw new StreamCorruptedException("Unknown value type " + type);
+    }
+  }
+
+  protected <T> T readValue(DataInputStream in, Iterator<Object> serializedValues, Class<T> expectedType) throws IOException {
+    Object value = readValue(in, serializedValues);
+    if (value != null && !expectedType.isInstance(value)) {
+      throw new IOException("Value has unexpected type: expected '" + expectedType + "', actual '" + value.getClass() + "'.");
+    }
+    return expectedType.cast(value);
+  }
+
+  protected void writeString(DataOutputStream out, String s) throws IOException {
+    writeBytes(out, s != null ? s.getBytes(UTF_8) : null);
+  }
+
+  protected String readString(DataInputStream in) throws IOException {
+    byte[] bytes = readBytes(in);
+    return bytes != null ? new String(bytes, UTF_8) : null;
+  }
+
+  protected void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+    if (bytes == null) {
+      out.writeInt(-1);
+      return;
+    }
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  /**
+   * Reads a length prefixed byte array written by {@link #writeBytes(DataOutputStream, byte[])}.
+   *
+   * @throws StreamCorruptedException
+   *           if the length is invalid or greater than {@link #getMaxValueSize()}
+   */
+  protected byte[] readBytes(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length == -1) {
+      return null;
+    }
+    if (length < 0 || length > getMaxValueSize()) {
+      throw new StreamCorruptedException("Invalid value length " + length + " (maximum " + getMaxValueSize() + ")");
+    }
+    byte[] bytes = new byte[Math.min(length, READ_CHUNK_SIZE)];
+    int count = 0;
+    while (count < length) {
+      if (count == bytes.length) {
+        bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * bytes.length));
+      }
+      int n = in.read(bytes, count, bytes.length - count);
+      if (n < 0) {
+        throw new EOFException("Value ended after " + count + " of " + length + " bytes");
+      }
+      count += n;
+    }
+    return bytes;
+  }
+
+  /**
+   * Reads the number of parameter types or arguments of a request, which is {@code -1} for {@code null}.
+   *
+   * @throws StreamCorruptedException
+   *           if the number is greater than the number of parameters a Java method may have
+   */
+  protected int readCount(DataInputStream in) throws IOException {
+    int count = in.readInt();
+    if (count < -1 || count > MAX_PARAMETER_COUNT) {
+      throw new StreamCorruptedException("Invalid parameter count " + count);
+    }
+    return count;
+  }
+
+  /**
+   * Resolves a parameter type of a service operation. The class must pass the blacklist and whitelist of the object
+   * serializer.
+   */
+  protected Class<?> resolveClass(String className) throws ClassNotFoundException {
+    Class<?> primitiveType = PRIMITIVE_TYPES.get(className);
+    if (primitiveType != null) {
+      return primitiveType;
+    }
+    if (getObjectSerializer().getBlacklist().test(className) || !getObjectSerializer().getWhitelist().test(className)) {
+      throw new ProcessingException("Security check: parameter type '{}' is not accepted by the blacklist or whitelist of the object serializer.", className);
+    }
+    return Class.forName(className, false, SerializationUtility.getClassLoader());
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.Order;
+
+/**
+ * Codec compressing with deflate, using the pooled {@link java.util.zip.Deflater}s and {@link java.util.zip.Inflater}s
+ * of the {@link ServiceTunnelCompressionPool}. Its id is the compression flag written by content handlers prior to
+ * 24.2, hence messages compressed by this codec can be read by them.
+ *
+ * @since 24.2
+ */
+@Order(5010)
+public class DeflateServiceTunnelCompressionCodec implements IServiceTunnelCompressionCodec {
+
+  public static final int ID = 1;
+  public static final String NAME = "deflate";
+
+  @Override
+  public int getId() {
+    return ID;
+  }
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public OutputStream compress(OutputStream out) {
+    return new P_DeflaterOutputStream(out);
+  }
+
+  @Override
+  public InputStream decompress(InputStream in) {
+    return new P_InflaterInputStream(in);
+  }
+
+  /**
+   * Uses a pooled deflater and releases it on the first close.
+   */
+  protected static class P_DeflaterOutputStream extends DeflaterOutputStream {
+
+    private boolean m_released;
+
+    public P_DeflaterOutputStream(OutputStream out) {
+      super(out, BEANS.get(ServiceTunnelCompressionPool.class).acquireDeflater());
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (m_released) {
+        return;
+      }
+      try {
+        super.close();
+      }
+      finally {
+        m_released = true;
+        BEANS.get(ServiceTunnelCompressionPool.class).releaseDeflater(def);
+      }
+    }
+  }
+
+  /**
+   * Uses a pooled inflater and releases it on the first close.
+   */
+  protected static class P_InflaterInputStream extends InflaterInputStream {
+
+    private boolean m_released;
+
+    public P_InflaterInputStream(InputStream in) {
+      super(in, BEANS.get(ServiceTunnelCompressionPool.class).acquireInflater());
+    }
+
+    @Override
+    public void close() throws IOException {
+      if (m_released) {
+        return;
+      }
+      try {
+        super.close();
+      }
+      finally {
+        m_released = true;
+        BEANS.get(ServiceTunnelCompressionPool.class).releaseInflater(inf);
+      }
+    }
+  }
+}
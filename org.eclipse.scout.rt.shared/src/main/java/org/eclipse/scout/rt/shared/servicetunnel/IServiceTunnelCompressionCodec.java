@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelCompressionCodecProperty;
+
+/**
+ * Codec used by the service tunnel content handlers to compress messages. The codec is selected by its name with
+ * {@link ServiceTunnelCompressionCodecProperty} and identified on the wire by its id.
+ * <p>
+ * The id is written to the first byte of a message, see {@link ServiceTunnelCompressingOutputStream}. Therefore it must
+ * be in the range 1 to 15 and unique, except for the codec which does not compress at all and has the id
+ * {@link #NONE_ID}.
+ *
+ * @since 24.2
+ */
+@ApplicationScoped
+public interface IServiceTunnelCompressionCodec {
+
+  int NONE_ID = 0;
+
+  int getId();
+
+  String getName();
+
+  /**
+   * @return stream compressing the data written to it into the given stream. Closing it finishes the compression and
+   *         closes the given stream.
+   */
+  OutputStream compress(OutputStream out) throws IOException;
+
+  /**
+   * @return stream decompressing the data read from the given stream. Closing it closes the given stream.
+   */
+  InputStream decompress(InputStream in) throws IOException;
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.eclipse.scout.rt.platform.Order;
+
+/**
+ * Codec which does not compress at all.
+ *
+ * @since 24.2
+ */
+@Order(5000)
+public class NoneServiceTunnelCompressionCodec implements IServiceTunnelCompressionCodec {
+
+  public static final String NAME = "none";
+
+  @Override
+  public int getId() {
+    return NONE_ID;
+  }
+
+  @Override
+  public String getName() {
+    return NAME;
+  }
+
+  @Override
+  public OutputStream compress(OutputStream out) {
+    return out;
+  }
+
+  @Override
+  public InputStream decompress(InputStream in) {
+    return in;
+  }
+}
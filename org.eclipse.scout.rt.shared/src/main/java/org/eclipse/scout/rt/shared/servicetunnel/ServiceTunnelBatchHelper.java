@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.exception.ProcessingException;
+import org.eclipse.scout.rt.platform.serialization.IObjectSerializer;
+import org.eclipse.scout.rt.platform.serialization.SerializationUtility;
+import org.eclipse.scout.rt.platform.util.Assertions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Wraps several {@link ServiceTunnelRequest}s into one batch request and unwraps the responses of the batch response.
+ * <p>
+ * A batch request is a regular {@link ServiceTunnelRequest} with the marker service name {@link #BATCH_SERVICE_NAME}
+ * whose arguments are the batched requests. The data of the batch response is an array of the responses in the same
+ * order. Hence batches are written by all content handlers without changes to the wire format. The backend dispatches
+ * the batched requests in parallel, each with its own session, transaction and cancellation.
+ *
+ * @since 24.2
+ */
+@ApplicationScoped
+public class ServiceTunnelBatchHelper {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ServiceTunnelBatchHelper.class);
+
+  public static final String BATCH_SERVICE_NAME = "scout.servicetunnel.batch";
+  public static final String BATCH_OPERATION = "invoke";
+
+  /**
+   * @return a batch request with the given requests. Session, user agent and client node are taken from the first
+   *         request.
+   */
+  public ServiceTunnelRequest createBatchRequest(List<ServiceTunnelRequest> requests) {
+    Assertions.assertFalse(requests.isEmpty(), "no requests to batch");
+    ServiceTunnelRequest first = requests.get(0);
+    ServiceTunnelRequest batchRequest = new ServiceTunnelRequest(BATCH_SERVICE_NAME, BATCH_OPERATION, null, requests.toArray());
+    batchRequest.setSessionId(first.getSessionId());
+    batchRequest.setUserAgent(first.getUserAgent());
+    batchRequest.setClientNodeId(first.getClientNodeId());
+    return batchRequest;
+  }
+
+  public boolean isBatchRequest(ServiceTunnelRequest request) {
+    return request != null && BATCH_SERVICE_NAME.equals(request.getServiceInterfaceClassName()) && BATCH_OPERATION.equals(request.getOperation());
+  }
+
+  /**
+   * @return the requests of the given batch request
+   * @throws ProcessingException
+   *           if the batch contains something else than requests or another batch
+   */
+  public List<ServiceTunnelRequest> getRequests(ServiceTunnelRequest batchRequest) {
+    List<ServiceTunnelRequest> requests = new ArrayList<>(batchRequest.getArgs().length);
+    for (Object arg : batchRequest.getArgs()) {
+      if (!(arg instanceof ServiceTunnelRequest) || isBatchRequest((ServiceTunnelRequest) arg)) {
+        throw new ProcessingException("Invalid batch request: unexpected element {}", arg != null ? arg.getClass().getName() : null);
+      }
+      requests.add((ServiceTunnelRequest) arg);
+    }
+    return requests;
+  }
+
+  public ServiceTunnelResponse createBatchResponse(List<ServiceTunnelResponse> responses) {
+    return new ServiceTunnelResponse(responses.toArray(new ServiceTunnelResponse[0]));
+  }
+
+  /**
+   * @return the responses of the given batch response in the order of the requests. If the batch failed as a whole,
+   *         every response contains a copy of the exception of the batch response (exceptions are modified by the
+   *         callers, e.g. by adding context information).
+   */
+  public List<ServiceTunnelResponse> getResponses(ServiceTunnelResponse batchResponse, int requestCount) {
+    Throwable exception = batchResponse.getException();
+    if (exception == null) {
+      Object data = batchResponse.getData();
+      if (data instanceof ServiceTunnelResponse[] && ((ServiceTunnelResponse[]) data).length == requestCount) {
+        return Arrays.asList((ServiceTunnelResponse[]) data);
+      }
+      exception = new ProcessingException("Invalid batch response for {} requests", requestCount);
+    }
+    List<ServiceTunnelResponse> responses = new ArrayList<>(requestCount);
+    for (int i = 0; i < requestCount; i++) {
+      responses.add(new ServiceTunnelResponse(i == 0 ? exception : copy(exception)));
+    }
+    return responses;
+  }
+
+  protected Throwable copy(Throwable exception) {
+    try {
+      IObjectSerializer serializer = SerializationUtility.createObjectSerializer();
+      return serializer.deserialize(serializer.serialize(exception), Throwable.class);
+    }
+    catch (IOException | ClassNotFoundException | RuntimeException e) {
+      LOG.debug("Could not copy exception", e);
+      return exception;
+    }
+  }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.eclipse.scout.rt.platform.BEANS;
+
+/**
+ * Writes a service tunnel message with a header byte followed by the message, which is compressed only if it is larger
+ * than a threshold. The message is buffered up to the threshold, so small messages are written uncompressed without
+ * compressing them first.
+ * <p>
+ * Header byte:
+ * <ul>
+ * <li>Low 4 bits: id of the {@link IServiceTunnelCompressionCodec} used to compress the message, or
+ * {@link IServiceTunnelCompressionCodec#NONE_ID} if it is not compressed.</li>
+ * <li>High 4 bits: if the message is not compressed, the id of the codec the sender accepts for the answer. Otherwise
+ * the used codec is the accepted one.</li>
+ * </ul>
+ * A message compressed with deflate hence starts with 1, as written by content handlers prior to 24.2.
+ * <p>
+ * Closing this stream closes the underlying stream and records the message in the
+ * {@link ServiceTunnelCompressionMetricProvider}.
+ *
+ * @since 24.2
+ */
+public class ServiceTunnelCompressingOutputStream extends OutputStream {
+
+  private final OutputStream m_out;
+  private final IServiceTunnelCompressionCodec m_codec;
+  private final IServiceTunnelCompressionCodec m_acceptedCodec;
+  private final int m_threshold;
+  private final P_CountingOutputStream m_countingOut;
+  private ByteArrayOutputStream m_buffer;
+  private OutputStream m_target;
+  private IServiceTunnelCompressionCodec m_usedCodec;
+  private long m_uncompressedBytes;
+  private long m_durationNanos;
+  private boolean m_closed;
+
+  /**
+   * @param codec
+   *          codec used if the message is larger than the threshold
+   * @param acceptedCodec
+   *          codec announced to the receiver if the message is not compressed
+   * @param threshold
+   *          minimal size of the message in bytes to be compressed
+   */
+  public ServiceTunnelCompressingOutputStream(OutputStream out, IServiceTunnelCompressionCodec codec, IServiceTunnelCompressionCodec acceptedCodec, int threshold) {
+    m_out = out;
+    m_codec = codec;
+    m_acceptedCodec = acceptedCodec;
+    m_threshold = threshold;
+    m_countingOut = new P_CountingOutputStream(out);
+    m_buffer = new ByteArrayOutputStream(Math.max(32, Math.min(threshold, 8192)));
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    write(new byte[]{(byte) b}, 0, 1);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    m_uncompressedBytes += len;
+    if (m_target == null) {
+      if (m_buffer.size() + len <= m_threshold) {
+        m_buffer.write(b, off, len);
+        return;
+      }
+      start(m_codec);
+    }
+    writeTarget(b, off, len);
+  }
+
+  /**
+   * Flushes the written data only if the decision to compress has been made, the buffered data is kept otherwise.
+   */
+  @Override
+  public void flush() throws IOException {
+    if (m_target != null) {
+      m_target.flush();
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (m_closed) {
+      return;
+    }
+    m_closed = true;
+    if (m_target == null) {
+      start(BEANS.get(ServiceTunnelCompressionCodecRegistry.class).getNoneCodec());
+    }
+    long start = System.nanoTime();
+    long downstreamNanos = m_countingOut.m_nanos;
+    try {
+      m_target.close();
+    }
+    finally {
+      m_durationNanos += System.nanoTime() - start - (m_countingOut.m_nanos - downstreamNanos);
+      BEANS.get(ServiceTunnelCompressionMetricProvider.class).messageWritten(m_usedCodec.getName(), m_uncompressedBytes, m_countingOut.m_bytes, m_durationNanos);
+    }
+  }
+
+  /**
+   * @return codec used to write the message or {@code null} if this has not been decided yet
+   */
+  public IServiceTunnelCompressionCodec getUsedCodec() {
+    return m_usedCodec;
+  }
+
+  protected void start(IServiceTunnelCompressionCodec codec) throws IOException {
+    m_usedCodec = codec;
+    if (codec.getId() == IServiceTunnelCompressionCodec.NONE_ID) {
+      m_out.write(m_acceptedCodec.getId() << 4);
+      m_target = m_countingOut;
+    }
+    else {
+      m_out.write(codec.getId());
+      m_target = codec.compress(m_countingOut);
+    }
+    ByteArrayOutputStream buffer = m_buffer;
+    m_buffer = null;
+    writeTarget(buffer.toByteArray(), 0, buffer.size());
+  }
+
+  protected void writeTarget(byte[] b, int off, int len) throws IOException {
+    if (len == 0) {
+      return;
+    }
+    long start = System.nanoTime();
+    long downstreamNanos = m_countingOut.m_nanos;
+    m_target.write(b, off, len);
+    m_durationNanos += System.nanoTime() - start - (m_countingOut.m_nanos - downstreamNanos);
+  }
+
+  /**
+   * Counts the bytes written to the underlying stream and the time spent doing so, which is not part of the
+   * compression time.
+   */
+  protected static class P_CountingOutputStream extends FilterOutputStream {
+
+    private long m_bytes;
+    private long m_nanos;
+
+    public P_CountingOutputStream(OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      long start = System.nanoTime();
+      try {
+        out.write(b, off, len);
+      }
+      finally {
+        m_nanos += System.nanoTime() - start;
+      }
+      m_bytes += len;
+    }
+
+    @Override
+    public void flush() throws IOException {
+      long start = System.nanoTime();
+      try {
+        out.flush();
+      }
+      finally {
+        m_nanos += System.nanoTime() - start;
+      }
+    }
+
+    @Override
+    public void close() throws IOException {
+      long start = System.nanoTime();
+      try {
+        out.close();
+      }
+      finally {
+        m_nanos += System.nanoTime() - start;
+      }
+    }
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelCompressionCodecProperty;
+
+/**
+ * Provides the available {@link IServiceTunnelCompressionCodec}s by id and name. If several codecs have the same id or
+ * name, the one with the highest priority is used.
+ *
+ * @since 24.2
+ */
+@ApplicationScoped
+public class ServiceTunnelCompressionCodecRegistry {
+
+  private final IServiceTunnelCompressionCodec[] m_codecsById = new IServiceTunnelCompressionCodec[16];
+  private final Map<String, IServiceTunnelCompressionCodec> m_codecsByName = new HashMap<>();
+
+  public ServiceTunnelCompressionCodecRegistry() {
+    for (IServiceTunnelCompressionCodec codec : BEANS.all(IServiceTunnelCompressionCodec.class)) {
+      int id = codec.getId();
+      if (id < 0 || id >= m_codecsById.length) {
+        throw new PlatformException("Id {} of service tunnel compression codec {} is not in the range 0 to {}", id, codec.getClass().getName(), m_codecsById.length - 1);
+      }
+      if (m_codecsById[id] == null) {
+        m_codecsById[id] = codec;
+      }
+      m_codecsByName.putIfAbsent(toKey(codec.getName()), codec);
+    }
+  }
+
+  /**
+   * @return codec with the given id or {@code null} if there is none
+   */
+  public IServiceTunnelCompressionCodec getCodec(int id) {
+    if (id < 0 || id >= m_codecsById.length) {
+      return null;
+    }
+    return m_codecsById[id];
+  }
+
+  /**
+   * @return codec with the given name (case insensitive) or {@code null} if there is none
+   */
+  public IServiceTunnelCompressionCodec getCodec(String name) {
+    if (name == null) {
+      return null;
+    }
+    return m_codecsByName.get(toKey(name));
+  }
+
+  /**
+   * @return codec which does not compress at all
+   */
+  public IServiceTunnelCompressionCodec getNoneCodec() {
+    return getCodec(IServiceTunnelCompressionCodec.NONE_ID);
+  }
+
+  /**
+   * @return deflate codec, which is known to all peers including content handlers prior to 24.2
+   */
+  public IServiceTunnelCompressionCodec getDeflateCodec() {
+    return getCodec(DeflateServiceTunnelCompressionCodec.ID);
+  }
+
+  /**
+   * @return codec configured by {@link ServiceTunnelCompressionCodecProperty}
+   */
+  public IServiceTunnelCompressionCodec getConfiguredCodec() {
+    String name = CONFIG.getPropertyValue(ServiceTunnelCompressionCodecProperty.class);
+    IServiceTunnelCompressionCodec codec = getCodec(name);
+    if (codec == null) {
+      throw new PlatformException("No service tunnel compression codec with name '{}' (property '{}')", name, BEANS.get(ServiceTunnelCompressionCodecProperty.class).getKey());
+    }
+    return codec;
+  }
+
+  protected String toKey(String name) {
+    return name.trim().toLowerCase(Locale.ROOT);
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.opentelemetry.AttributesCache;
+import org.eclipse.scout.rt.platform.opentelemetry.IMetricProvider;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+
+/**
+ * {@link IMetricProvider} for the compression of service tunnel messages written by
+ * {@link ServiceTunnelCompressingOutputStream}:
+ * <ul>
+ * <li>number of bytes before and after compression</li>
+ * <li>compression ratio and duration of compressed messages</li>
+ * </ul>
+ * <p>
+ * These metrics are differentiated by codec. Messages below the compression threshold are recorded with the codec
+ * {@value NoneServiceTunnelCompressionCodec#NAME}. As long as this provider is not registered (e.g. no OpenTelemetry
+ * SDK is available), the recording methods do nothing.
+ * </p>
+ *
+ * @since 24.2
+ */
+public class ServiceTunnelCompressionMetricProvider implements IMetricProvider {
+
+  protected static final AttributeKey<String> CODEC = AttributeKey.stringKey("codec");
+
+  private final AttributesCache<String, String> m_codecAttributes = AttributesCache.of(4, 1, (codec, unused) -> Attributes.of(CODEC, codec));
+  private volatile P_Instruments m_instruments;
+
+  @Override
+  public void register(OpenTelemetry openTelemetry) {
+    Meter meter = openTelemetry.getMeter(getClass().getName());
+    m_instruments = new P_Instruments(meter);
+  }
+
+  @Override
+  public void close() {
+    m_instruments = null;
+  }
+
+  /**
+   * Records a written message.
+   *
+   * @param uncompressedBytes
+   *          size of the message before compression
+   * @param compressedBytes
+   *          size of the message after compression (same as uncompressedBytes if it was not compressed)
+   * @param durationNanos
+   *          time spent compressing the message, without the time spent writing to the underlying stream
+   */
+  public void messageWritten(String codec, long uncompressedBytes, long compressedBytes, long durationNanos) {
+    P_Instruments instruments = m_instruments;
+    if (instruments == null) {
+      return;
+    }
+    Attributes attributes = m_codecAttributes.getOrCreate(codec, "");
+    instruments.m_uncompressedBytes.add(uncompressedBytes, attributes);
+    instruments.m_compressedBytes.add(compressedBytes, attributes);
+    if (NoneServiceTunnelCompressionCodec.NAME.equals(codec) || compressedBytes <= 0) {
+      return;
+    }
+    instruments.m_ratio.record(uncompressedBytes / (double) compressedBytes, attributes);
+    instruments.m_duration.record(durationNanos / (double) TimeUnit.MILLISECONDS.toNanos(1), attributes);
+  }
+
+  protected static class P_Instruments {
+
+    protected final LongCounter m_uncompressedBytes;
+    protected final LongCounter m_compressedBytes;
+    protected final DoubleHistogram m_ratio;
+    protected final DoubleHistogram m_duration;
+
+    protected P_Instruments(Meter meter) {
+      m_uncompressedBytes = meter.counterBuilder("scout.servicetunnel.compression.uncompressed.size")
+          .setDescription("The number of bytes of service tunnel messages before compression.")
+          .setUnit("By")
+          .build();
+      m_compressedBytes = meter.counterBuilder("scout.servicetunnel.compression.compressed.size")
+          .setDescription("The number of bytes of service tunnel messages after compression.")
+          .setUnit("By")
+          .build();
+      m_ratio = meter.histogramBuilder("scout.servicetunnel.compression.ratio")
+          .setDescription("The size of a compressed service tunnel message before compression divided by its size after compression.")
+          .setUnit("1")
+          .build();
+      m_duration = meter.histogramBuilder("scout.servicetunnel.compression.duration")
+          .setDescription("The time spent compressing a service tunnel message.")
+          .setUnit("ms")
+          .build();
+    }
+  }
+}
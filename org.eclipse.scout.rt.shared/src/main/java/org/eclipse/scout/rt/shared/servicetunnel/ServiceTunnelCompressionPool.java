@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+
+/**
+ * Pool of {@link Deflater}s and {@link Inflater}s used by the service tunnel content handlers to compress messages.
+ * Creating them for every call allocates their native buffers again and again, which is expensive compared to
+ * resetting a pooled instance.
+ * <p>
+ * Released instances are reset and kept up to {@link #getMaxPoolSize()} per type, further ones are ended.
+ *
+ * @since 24.2
+ */
+@ApplicationScoped
+public class ServiceTunnelCompressionPool {
+
+  private final Deque<Deflater> m_deflaters = new ConcurrentLinkedDeque<>();
+  private final AtomicInteger m_deflaterCount = new AtomicInteger();
+  private final Deque<Inflater> m_inflaters = new ConcurrentLinkedDeque<>();
+  private final AtomicInteger m_inflaterCount = new AtomicInteger();
+
+  /**
+   * @return a deflater with {@link Deflater#BEST_SPEED}. Release it with {@link #releaseDeflater(Deflater)} after use.
+   */
+  public Deflater acquireDeflater() {
+    Deflater deflater = m_deflaters.pollFirst();
+    if (deflater == null) {
+      return new Deflater(Deflater.BEST_SPEED);
+    }
+    m_deflaterCount.decrementAndGet();
+    return deflater;
+  }
+
+  public void releaseDeflater(Deflater deflater) {
+    if (deflater == null) {
+      return;
+    }
+    if (m_deflaterCount.incrementAndGet() > getMaxPoolSize()) {
+      m_deflaterCount.decrementAndGet();
+      deflater.end();
+      return;
+    }
+    deflater.reset();
+    m_deflaters.offerFirst(deflater);
+  }
+
+  /**
+   * @return an inflater. Release it with {@link #releaseInflater(Inflater)} after use.
+   */
+  public Inflater acquireInflater() {
+    Inflater inflater = m_inflaters.pollFirst();
+    if (inflater == null) {
+      return new Inflater();
+    }
+    m_inflaterCount.decrementAndGet();
+    return inflater;
+  }
+
+  public void releaseInflater(Inflater inflater) {
+    if (inflater == null) {
+      return;
+    }
+    if (m_inflaterCount.incrementAndGet() > getMaxPoolSize()) {
+      m_inflaterCount.decrementAndGet();
+      inflater.end();
+      return;
+    }
+    inflater.reset();
+    m_inflaters.offerFirst(inflater);
+  }
+
+  protected int getMaxPoolSize() {
+    return 2 * Runtime.getRuntime().availableProcessors();
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.eclipse.scout.rt.platform.ApplicationScoped;
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
+import org.eclipse.scout.rt.platform.exception.PlatformException;
+import org.eclipse.scout.rt.platform.util.StringUtility;
+import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelContentTypeProperty;
+
+/**
+ * Creates initialized {@link IServiceTunnelContentHandler}s, either the one configured by
+ * {@link ServiceTunnelContentTypeProperty} or the ones accepted for the content type of a request.
+ *
+ * @since 24.2
+ */
+@ApplicationScoped
+public class ServiceTunnelContentHandlerFactory {
+
+  /**
+   * @return the content handler with the content type of {@link ServiceTunnelContentTypeProperty} or the content handler
+   *         with the highest priority if the property is not set.
+   */
+  public IServiceTunnelContentHandler create() {
+    String contentType = CONFIG.getPropertyValue(ServiceTunnelContentTypeProperty.class);
+    if (!StringUtility.hasText(contentType)) {
+      return initialize(BEANS.get(IServiceTunnelContentHandler.class));
+    }
+    IServiceTunnelContentHandler contentHandler = createAll().get(toMimeType(contentType));
+    if (contentHandler == null) {
+      throw new PlatformException("No service tunnel content handler for content type '{}' (property '{}')", contentType, BEANS.get(ServiceTunnelContentTypeProperty.class).getKey());
+    }
+    return contentHandler;
+  }
+
+  /**
+   * @return the content handler with the content type of {@link ServiceTunnelContentTypeProperty} by its mime type (see
+   *         {@link #toMimeType(String)}) or an empty map if the property is not set. The backend accepts requests with
+   *         these content types in addition to the content type of its default content handler, so that other content
+   *         handlers must be enabled explicitly.
+   */
+  public Map<String, IServiceTunnelContentHandler> createAccepted() {
+    String contentType = CONFIG.getPropertyValue(ServiceTunnelContentTypeProperty.class);
+    if (!StringUtility.hasText(contentType)) {
+      return Collections.emptyMap();
+    }
+    IServiceTunnelContentHandler contentHandler = create();
+    return Collections.singletonMap(toMimeType(contentHandler.getContentType()), contentHandler);
+  }
+
+  /**
+   * @return all content handlers by their mime type (see {@link #toMimeType(String)}), ordered by priority. If several
+   *         content handlers have the same content type, the one with the highest priority is used.
+   */
+  public Map<String, IServiceTunnelContentHandler> createAll() {
+    Map<String, IServiceTunnelContentHandler> contentHandlers = new LinkedHashMap<>();
+    for (IServiceTunnelContentHandler contentHandler : BEANS.all(IServiceTunnelContentHandler.class)) {
+      contentHandlers.computeIfAbsent(toMimeType(contentHandler.getContentType()), k -> initialize(contentHandler));
+    }
+    return contentHandlers;
+  }
+
+  /**
+   * @return the given content type without parameters (e.g. charset) in lower case
+   */
+  public String toMimeType(String contentType) {
+    if (contentType == null) {
+      return null;
+    }
+    int i = contentType.indexOf(';');
+    if (i >= 0) {
+      contentType = contentType.substring(0, i);
+    }
+    return contentType.trim().toLowerCase(Locale.ROOT);
+  }
+
+  protected IServiceTunnelContentHandler initialize(IServiceTunnelContentHandler contentHandler) {
+    contentHandler.initialize();
+    return contentHandler;
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel.http;
+
+import java.util.concurrent.ExecutionException;
+
+import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+
+/**
+ * {@link RemoteServiceInvocationCallable} which does not send its request on its own but adds it to a batch of the
+ * {@link ServiceTunnelRequestBatcher} and waits for its response.
+ * <p>
+ * On cancellation the request is removed from its batch if the batch has not been sent yet. Otherwise the request is
+ * cancelled on the server like a regular request, which cancels only this request and not the whole batch.
+ *
+ * @since 24.2
+ */
+public class BatchedRemoteServiceInvocationCallable extends RemoteServiceInvocationCallable {
+
+  private final ServiceTunnelRequestBatcher m_batcher;
+  private volatile ServiceTunnelRequestBatcher.BatchEntry m_entry;
+
+  public BatchedRemoteServiceInvocationCallable(HttpServiceTunnel tunnel, ServiceTunnelRequest serviceRequest, ServiceTunnelRequestBatcher batcher) {
+    super(tunnel, serviceRequest);
+    m_batcher = batcher;
+  }
+
+  @Override
+  public ServiceTunnelResponse call() throws Exception {
+    ServiceTunnelRequestBatcher.BatchEntry entry = m_batcher.add(getServiceRequest());
+    m_entry = entry;
+    try {
+      return entry.getResponse().get();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return new ServiceTunnelResponse(new ThreadInterruptedError("Interrupted while waiting for batched service request", e));
+    }
+    catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof Exception) {
+        throw (Exception) cause;
+      }
+      throw (Error) cause;
+    }
+  }
+
+  @Override
+  public void cancel() {
+    ServiceTunnelRequestBatcher.BatchEntry entry = m_entry;
+    if (entry != null && entry.cancel()) {
+      return; // not sent yet
+    }
+    super.cancel();
+  }
+}
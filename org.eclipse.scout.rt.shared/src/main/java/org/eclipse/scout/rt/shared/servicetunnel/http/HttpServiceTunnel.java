@@ -12,29 +12,40 @@ package org.eclipse.scout.rt.shared.servicetunnel.http;
 import java.io.IOException;
 import java.lang.reflect.Method;
 import java.net.URL;
+import java.util.List;
 import java.util.concurrent.Callable;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.context.CorrelationId;
 import org.eclipse.scout.rt.platform.context.RunContext;
 import org.eclipse.scout.rt.platform.context.RunMonitor;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.LazyValue;
 import org.eclipse.scout.rt.platform.util.UriUtility;
 import org.eclipse.scout.rt.platform.util.concurrent.FutureCancelledError;
 import org.eclipse.scout.rt.platform.util.concurrent.ICancellable;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
 import org.eclipse.scout.rt.shared.SharedConfigProperties.ServiceTunnelTargetUrlProperty;
 import org.eclipse.scout.rt.shared.http.IHttpTransportManager;
+import org.eclipse.scout.rt.shared.services.common.context.IRunMonitorCancelService;
 import org.eclipse.scout.rt.shared.servicetunnel.AbstractServiceTunnel;
 import org.eclipse.scout.rt.shared.servicetunnel.BinaryServiceTunnelContentHandler;
 import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelBatchHelper;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelContentHandlerFactory;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
 import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnelConfigurationProperties.HttpServiceTunnelBatchMaxSizeProperty;
+import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnelConfigurationProperties.HttpServiceTunnelBatchWindowProperty;
+import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnelConfigurationProperties.HttpServiceTunnelBatchingProperty;
+import org.eclipse.scout.rt.shared.servicetunnel.http.HttpServiceTunnelConfigurationProperties.HttpServiceTunnelStreamingProperty;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpContent;
 import com.google.api.client.http.HttpHeaders;
 import com.google.api.client.http.HttpRequest;
 import com.google.api.client.http.HttpRequestFactory;
@@ -52,6 +63,7 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
   private final URL m_serverUrl;
   private final GenericUrl m_genericUrl;
   private final boolean m_active;
+  private final LazyValue<ServiceTunnelRequestBatcher> m_requestBatcher = new LazyValue<>(this::createRequestBatcher);
 
   public HttpServiceTunnel() {
     this(getConfiguredServerUrl());
@@ -97,9 +109,31 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
    *          write post data (if required)
    * @throws IOException
    *           override this method to customize the creation of the {@link HttpResponse} see
-   *           {@link #addCustomHeaders(HttpRequest, ServiceTunnelRequest, byte[])}
+   *           {@link #addCustomHeaders(HttpRequest, ServiceTunnelRequest, byte[])}. This method is not called if
+   *           streaming is enabled (see {@link #isStreamingEnabled()}), override
+   *           {@link #executeRequest(ServiceTunnelRequest, HttpContent, byte[])} instead, which is used in both cases.
    */
   protected HttpResponse executeRequest(ServiceTunnelRequest call, byte[] callData) throws IOException {
+    return executeRequest(call, new ByteArrayContentEx(null, callData, false), callData);
+  }
+
+  /**
+   * Execute a {@link ServiceTunnelRequest} with the given content, returns the plain {@link HttpResponse} - (executed
+   * and) ready to be processed to create a {@link ServiceTunnelResponse}.
+   * <p>
+   * Both buffered and streamed requests are executed by this method, so it is the one to override to customize the
+   * creation of the {@link HttpResponse}.
+   *
+   * @param call
+   *          the original call
+   * @param content
+   *          the content of the HTTP request, e.g. a {@link ServiceTunnelRequestContent} which writes the call directly
+   *          to the HTTP connection
+   * @param callData
+   *          the data created by the {@link IServiceTunnelContentHandler} or <code>null</code> if the call is streamed
+   * @since 24.2
+   */
+  protected HttpResponse executeRequest(ServiceTunnelRequest call, HttpContent content, byte[] callData) throws IOException {
     // fast check of wrong URL's for this tunnel
     if (!"http".equalsIgnoreCase(getServerUrl().getProtocol()) && !"https".equalsIgnoreCase(getServerUrl().getProtocol())) {
       throw new IOException("URL '" + getServerUrl().toString() + "' is not supported by this tunnel ('" + getClass().getName() + "').");
@@ -110,7 +144,7 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
     }
 
     HttpRequestFactory requestFactory = getHttpTransportManager().getHttpRequestFactory();
-    HttpRequest request = requestFactory.buildPostRequest(getGenericUrl(), new ByteArrayContentEx(null, callData, false));
+    HttpRequest request = requestFactory.buildPostRequest(getGenericUrl(), content);
     HttpHeaders headers = request.getHeaders();
     headers.setCacheControl("no-cache");
     headers.setContentType(getContentHandler().getContentType());
@@ -119,6 +153,25 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
     return request.execute();
   }
 
+  /**
+   * @return true if requests are written directly to the HTTP connection instead of being buffered in a byte array. In
+   *         this case {@link #executeRequest(ServiceTunnelRequest, byte[])} is not called and
+   *         {@link #addCustomHeaders(HttpRequest, ServiceTunnelRequest, byte[])} receives no call data.
+   * @see HttpServiceTunnelStreamingProperty
+   * @since 24.2
+   */
+  protected boolean isStreamingEnabled() {
+    return CONFIG.getPropertyValue(HttpServiceTunnelStreamingProperty.class);
+  }
+
+  /**
+   * @return the content writing the given call directly to the HTTP connection
+   * @since 24.2
+   */
+  protected ServiceTunnelRequestContent createRequestContent(ServiceTunnelRequest call) {
+    return new ServiceTunnelRequestContent(getContentHandler(), call);
+  }
+
   /**
    * @return the {@link IHttpTransportManager}
    */
@@ -134,7 +187,7 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
    * @param call
    *          request information
    * @param callData
-   *          data as byte array
+   *          data as byte array or <code>null</code> if the call is streamed (see {@link #isStreamingEnabled()})
    * @throws IOException
    * @since 6.0
    */
@@ -185,8 +238,7 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
   @Override
   public Object invokeService(Class serviceInterfaceClass, Method operation, Object[] callerArgs) {
     if (m_contentHandler == null) {
-      m_contentHandler = BEANS.get(IServiceTunnelContentHandler.class);
-      m_contentHandler.initialize();
+      m_contentHandler = BEANS.get(ServiceTunnelContentHandlerFactory.class).create();
     }
     return super.invokeService(serviceInterfaceClass, operation, callerArgs);
   }
@@ -196,11 +248,62 @@ public class HttpServiceTunnel extends AbstractServiceTunnel {
    * <p>
    * To enable cancellation, the callable returned must also implement {@link ICancellable}, so that the remote
    * operation can be cancelled once the current {@link RunMonitor} gets cancelled.
+   * <p>
+   * If batching is enabled (see {@link #isBatchingEnabled()}) and the request can be batched, the callable adds the
+   * request to a batch of the {@link ServiceTunnelRequestBatcher}.
    */
   protected RemoteServiceInvocationCallable createRemoteServiceInvocationCallable(ServiceTunnelRequest serviceRequest) {
+    if (isBatchingEnabled() && isBatchable(serviceRequest)) {
+      return new BatchedRemoteServiceInvocationCallable(this, serviceRequest, m_requestBatcher.get());
+    }
     return new RemoteServiceInvocationCallable(this, serviceRequest);
   }
 
+  /**
+   * @return true if service requests issued within a short time window are sent as one batch request
+   * @see HttpServiceTunnelBatchingProperty
+   * @since 24.2
+   */
+  protected boolean isBatchingEnabled() {
+    return CONFIG.getPropertyValue(HttpServiceTunnelBatchingProperty.class);
+  }
+
+  /**
+   * @return true if the given request may be sent in a batch request. Requests without session are not batched because
+   *         batches are collected by session, requests cancelling another request are not batched to not delay them.
+   * @since 24.2
+   */
+  protected boolean isBatchable(ServiceTunnelRequest serviceRequest) {
+    return serviceRequest.getSessionId() != null
+        && !IRunMonitorCancelService.class.getName().equals(serviceRequest.getServiceInterfaceClassName());
+  }
+
+  /**
+   * @since 24.2
+   */
+  protected ServiceTunnelRequestBatcher createRequestBatcher() {
+    return new ServiceTunnelRequestBatcher(this,
+        CONFIG.getPropertyValue(HttpServiceTunnelBatchWindowProperty.class),
+        CONFIG.getPropertyValue(HttpServiceTunnelBatchMaxSizeProperty.class));
+  }
+
+  /**
+   * Sends the given requests as one batch request. The backend dispatches them in parallel.
+   *
+   * @return the responses in the order of the given requests; is never <code>null</code>.
+   * @see ServiceTunnelBatchHelper
+   * @since 24.2
+   */
+  protected List<ServiceTunnelResponse> tunnelBatch(List<ServiceTunnelRequest> serviceRequests) throws Exception {
+    ServiceTunnelBatchHelper batchHelper = BEANS.get(ServiceTunnelBatchHelper.class);
+    ServiceTunnelRequest batchRequest = batchHelper.createBatchRequest(serviceRequests);
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("requestSequence {} batch of {} requests", batchRequest.getRequestSequence(), serviceRequests.size());
+    }
+    ServiceTunnelResponse batchResponse = new RemoteServiceInvocationCallable(this, batchRequest).call();
+    return batchHelper.getResponses(batchResponse, serviceRequests.size());
+  }
+
   @Override
   protected ServiceTunnelResponse tunnel(final ServiceTunnelRequest serviceRequest) {
     if (LOG.isDebugEnabled()) {
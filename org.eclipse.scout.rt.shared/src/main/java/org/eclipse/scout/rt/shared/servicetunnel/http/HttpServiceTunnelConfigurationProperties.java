@@ -10,6 +10,7 @@
 package org.eclipse.scout.rt.shared.servicetunnel.http;
 
 import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.config.AbstractBooleanConfigProperty;
 import org.eclipse.scout.rt.platform.config.AbstractIntegerConfigProperty;
 import org.eclipse.scout.rt.shared.http.HttpConfigurationProperties.ApacheHttpTransportMaxConnectionsPerRouteProperty;
 import org.eclipse.scout.rt.shared.http.HttpConfigurationProperties.ApacheHttpTransportMaxConnectionsTotalProperty;
@@ -69,4 +70,99 @@ public final class HttpServiceTunnelConfigurationProperties {
           BEANS.get(ApacheHttpTransportMaxConnectionsTotalProperty.class).getKey());
     }
   }
+
+  /**
+   * @since 24.2
+   */
+  public static class HttpServiceTunnelStreamingProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.streaming";
+    }
+
+    @Override
+    @SuppressWarnings("findbugs:VA_FORMAT_STRING_USES_NEWLINE")
+    public String description() {
+      return "Specifies if the HTTP service tunnel writes a request directly to the HTTP connection using chunked transfer encoding.\n"
+          + "If false, the request is written to a byte array first and sent with a content length.\n"
+          + "Tunnels overriding executeRequest(ServiceTunnelRequest, byte[]) or expecting the request data in addCustomHeaders must be adapted before enabling it.\n"
+          + "The default value is false.";
+    }
+  }
+
+  /**
+   * @since 24.2
+   */
+  public static class HttpServiceTunnelBatchingProperty extends AbstractBooleanConfigProperty {
+
+    @Override
+    public Boolean getDefaultValue() {
+      return Boolean.FALSE;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.batching";
+    }
+
+    @Override
+    @SuppressWarnings("findbugs:VA_FORMAT_STRING_USES_NEWLINE")
+    public String description() {
+      return String.format("Specifies if the HTTP service tunnel sends service calls of the same session issued within '%s' milliseconds\n"
+          + "as one batch request. The backend dispatches the calls of a batch in parallel. The backend must support batch requests (Scout 24.2 or newer).\n"
+          + "The default value is false.", BEANS.get(HttpServiceTunnelBatchWindowProperty.class).getKey());
+    }
+  }
+
+  /**
+   * @since 24.2
+   */
+  public static class HttpServiceTunnelBatchWindowProperty extends AbstractIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 5;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.batchWindow";
+    }
+
+    @Override
+    @SuppressWarnings("findbugs:VA_FORMAT_STRING_USES_NEWLINE")
+    public String description() {
+      return String.format("Time in milliseconds the HTTP service tunnel waits for further service calls to be sent in the same batch request if '%s' is enabled.\n"
+          + "The default value is 5.", BEANS.get(HttpServiceTunnelBatchingProperty.class).getKey());
+    }
+  }
+
+  /**
+   * @since 24.2
+   */
+  public static class HttpServiceTunnelBatchMaxSizeProperty extends AbstractIntegerConfigProperty {
+
+    @Override
+    public Integer getDefaultValue() {
+      return 20;
+    }
+
+    @Override
+    public String getKey() {
+      return "scout.servicetunnel.batchMaxSize";
+    }
+
+    @Override
+    @SuppressWarnings("findbugs:VA_FORMAT_STRING_USES_NEWLINE")
+    public String description() {
+      return String.format("Maximum number of service calls in one batch request if '%s' is enabled. A full batch is sent immediately.\n"
+          + "The default value is 20.", BEANS.get(HttpServiceTunnelBatchingProperty.class).getKey());
+    }
+  }
 }
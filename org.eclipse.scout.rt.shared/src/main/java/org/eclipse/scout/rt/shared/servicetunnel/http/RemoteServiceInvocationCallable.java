@@ -56,6 +56,20 @@ public class RemoteServiceInvocationCallable implements Callable<ServiceTunnelRe
     m_serviceRequest = serviceRequest;
   }
 
+  /**
+   * @since 24.2
+   */
+  public HttpServiceTunnel getTunnel() {
+    return m_tunnel;
+  }
+
+  /**
+   * @since 24.2
+   */
+  public ServiceTunnelRequest getServiceRequest() {
+    return m_serviceRequest;
+  }
+
   /**
    * Invokes the remote service operation.
    *
@@ -67,15 +81,24 @@ public class RemoteServiceInvocationCallable implements Callable<ServiceTunnelRe
 
     final long tStart = LOG.isDebugEnabled() ? System.nanoTime() : 0L;
     try {
-      // Create the request.
-      final ByteArrayOutputStream requestMessage = new ByteArrayOutputStream();
-      m_tunnel.getContentHandler().writeRequest(requestMessage, m_serviceRequest);
-      requestMessage.close();
-      final byte[] requestData = requestMessage.toByteArray();
-      nBytes = requestData.length;
+      HttpResponse resp;
+      if (m_tunnel.isStreamingEnabled()) {
+        // Write the request directly to the server.
+        final ServiceTunnelRequestContent requestContent = m_tunnel.createRequestContent(m_serviceRequest);
+        resp = m_tunnel.executeRequest(m_serviceRequest, requestContent, null);
+        nBytes = requestContent.getWrittenBytes();
+      }
+      else {
+        // Create the request.
+        final ByteArrayOutputStream requestMessage = new ByteArrayOutputStream();
+        m_tunnel.getContentHandler().writeRequest(requestMessage, m_serviceRequest);
+        requestMessage.close();
+        final byte[] requestData = requestMessage.toByteArray();
+        nBytes = requestData.length;
 
-      // Send the request to the server.
-      HttpResponse resp = m_tunnel.executeRequest(m_serviceRequest, requestData);
+        // Send the request to the server.
+        resp = m_tunnel.executeRequest(m_serviceRequest, requestData);
+      }
       try {
         // Receive the response.
         m_tunnel.interceptHttpResponse(resp, m_serviceRequest);
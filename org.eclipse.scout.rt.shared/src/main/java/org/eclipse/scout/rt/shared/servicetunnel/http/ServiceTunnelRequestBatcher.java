@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel.http;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.rt.platform.BEANS;
+import org.eclipse.scout.rt.platform.context.RunContext;
+import org.eclipse.scout.rt.platform.context.RunMonitor;
+import org.eclipse.scout.rt.platform.job.Jobs;
+import org.eclipse.scout.rt.platform.util.concurrent.FutureCancelledError;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelResponse;
+
+/**
+ * Collects the service requests of a session issued within a time window and sends them as one batch request with
+ * {@link HttpServiceTunnel#tunnelBatch(List)}. A batch is sent once the window elapsed or the batch is full, a batch
+ * with a single request is sent as a regular request.
+ * <p>
+ * The batch is sent in a separate job with the {@link RunContext} of the request which opened the batch but its own
+ * {@link RunMonitor}, so that cancelling one request does not cancel the other requests of the batch.
+ *
+ * @since 24.2
+ */
+public class ServiceTunnelRequestBatcher {
+
+  private final HttpServiceTunnel m_tunnel;
+  private final long m_windowMillis;
+  private final int m_maxSize;
+  private final Map<String, P_Batch> m_openBatches = new HashMap<>();
+
+  public ServiceTunnelRequestBatcher(HttpServiceTunnel tunnel, long windowMillis, int maxSize) {
+    m_tunnel = tunnel;
+    m_windowMillis = windowMillis;
+    m_maxSize = maxSize;
+  }
+
+  /**
+   * Adds the given request to the open batch of its session. Must be called within a {@link RunContext}.
+   *
+   * @return the entry to wait for the response
+   */
+  public BatchEntry add(ServiceTunnelRequest request) {
+    BatchEntry entry = new BatchEntry(request);
+    P_Batch batchToSend = null;
+    synchronized (m_openBatches) {
+      P_Batch batch = m_openBatches.get(request.getSessionId());
+      if (batch == null) {
+        batch = new P_Batch(request.getSessionId());
+        m_openBatches.put(request.getSessionId(), batch);
+        schedule(batch, m_windowMillis);
+      }
+      batch.m_entries.add(entry);
+      entry.m_batch = batch;
+      if (batch.m_entries.size() >= m_maxSize) {
+        close(batch);
+        batchToSend = batch;
+      }
+    }
+    if (batchToSend != null) {
+      schedule(batchToSend, 0);
+    }
+    return entry;
+  }
+
+  protected void schedule(P_Batch batch, long delayMillis) {
+    Jobs.schedule(() -> send(batch), Jobs.newInput()
+        .withRunContext(RunContext.CURRENT.get().copy()
+            .withRunMonitor(BEANS.get(RunMonitor.class)))
+        .withName("Tunneling batched service requests [session={}]", batch.m_sessionId)
+        .withExceptionHandling(null, false)
+        .withExecutionTrigger(Jobs.newExecutionTrigger()
+            .withStartIn(delayMillis, TimeUnit.MILLISECONDS)));
+  }
+
+  /**
+   * Sends the given batch unless it has been sent already and completes its entries. A full batch is scheduled twice,
+   * immediately and by the delayed job scheduled when opening the batch.
+   */
+  protected void send(P_Batch batch) {
+    List<BatchEntry> entries;
+    synchronized (m_openBatches) {
+      if (batch.m_sent) {
+        return;
+      }
+      close(batch);
+      batch.m_sent = true;
+      entries = new ArrayList<>(batch.m_entries);
+    }
+    if (entries.isEmpty()) {
+      return;
+    }
+
+    try {
+      if (entries.size() == 1) {
+        BatchEntry entry = entries.get(0);
+        entry.m_response.complete(new RemoteServiceInvocationCallable(m_tunnel, entry.getRequest()).call());
+        return;
+      }
+      List<ServiceTunnelRequest> requests = new ArrayList<>(entries.size());
+      for (BatchEntry entry : entries) {
+        requests.add(entry.getRequest());
+      }
+      List<ServiceTunnelResponse> responses = m_tunnel.tunnelBatch(requests);
+      for (int i = 0; i < entries.size(); i++) {
+        entries.get(i).m_response.complete(responses.get(i));
+      }
+    }
+    catch (Throwable t) { // NOSONAR
+      for (BatchEntry entry : entries) {
+        entry.m_response.completeExceptionally(t);
+      }
+    }
+  }
+
+  private void close(P_Batch batch) {
+    m_openBatches.remove(batch.m_sessionId, batch);
+  }
+
+  protected static class P_Batch {
+    private final String m_sessionId;
+    private final List<BatchEntry> m_entries = new ArrayList<>();
+    private boolean m_sent;
+
+    protected P_Batch(String sessionId) {
+      m_sessionId = sessionId;
+    }
+  }
+
+  /**
+   * A request added to a batch.
+   */
+  public class BatchEntry {
+    private final ServiceTunnelRequest m_request;
+    private final CompletableFuture<ServiceTunnelResponse> m_response = new CompletableFuture<>();
+    private P_Batch m_batch;
+
+    protected BatchEntry(ServiceTunnelRequest request) {
+      m_request = request;
+    }
+
+    public ServiceTunnelRequest getRequest() {
+      return m_request;
+    }
+
+    /**
+     * @return the response, completed exceptionally if the batch could not be sent
+     */
+    public CompletableFuture<ServiceTunnelResponse> getResponse() {
+      return m_response;
+    }
+
+    /**
+     * Removes this entry from its batch if the batch has not been sent yet.
+     *
+     * @return true if the request was removed and hence never reaches the server, false if it has been sent already
+     */
+    public boolean cancel() {
+      synchronized (m_openBatches) {
+        if (m_batch == null || m_batch.m_sent) {
+          return false;
+        }
+        m_batch.m_entries.remove(this);
+      }
+      m_response.complete(new ServiceTunnelResponse(new FutureCancelledError("Batched service request cancelled before being sent")));
+      return true;
+    }
+  }
+}
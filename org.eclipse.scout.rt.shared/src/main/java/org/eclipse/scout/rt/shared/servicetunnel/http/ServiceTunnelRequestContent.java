@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.rt.shared.servicetunnel.http;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.eclipse.scout.rt.shared.servicetunnel.IServiceTunnelContentHandler;
+import org.eclipse.scout.rt.shared.servicetunnel.ServiceTunnelRequest;
+
+import com.google.api.client.http.HttpContent;
+
+/**
+ * {@link HttpContent} writing a {@link ServiceTunnelRequest} with an {@link IServiceTunnelContentHandler} directly to
+ * the HTTP connection. The length is unknown in advance, hence the request is sent with chunked transfer encoding.
+ *
+ * @since 24.2
+ */
+public class ServiceTunnelRequestContent implements HttpContent {
+
+  private final IServiceTunnelContentHandler m_contentHandler;
+  private final ServiceTunnelRequest m_serviceRequest;
+  private long m_writtenBytes;
+
+  public ServiceTunnelRequestContent(IServiceTunnelContentHandler contentHandler, ServiceTunnelRequest serviceRequest) {
+    m_contentHandler = contentHandler;
+    m_serviceRequest = serviceRequest;
+  }
+
+  @Override
+  public long getLength() {
+    return -1;
+  }
+
+  @Override
+  public String getType() {
+    return null;
+  }
+
+  @Override
+  public boolean retrySupported() {
+    return false;
+  }
+
+  @Override
+  public void writeTo(OutputStream out) throws IOException {
+    m_contentHandler.writeRequest(new P_CountingOutputStream(out), m_serviceRequest);
+  }
+
+  /**
+   * @return number of bytes written by the last {@link #writeTo(OutputStream)}
+   */
+  public long getWrittenBytes() {
+    return m_writtenBytes;
+  }
+
+  /**
+   * Counts the written bytes and does not close the HTTP connection stream when the content handler closes its
+   * stream.
+   */
+  protected class P_CountingOutputStream extends FilterOutputStream {
+
+    public P_CountingOutputStream(OutputStream out) {
+      super(out);
+      m_writtenBytes = 0;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      out.write(b);
+      m_writtenBytes++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+      m_writtenBytes += len;
+    }
+
+    @Override
+    public void close() throws IOException {
+      flush();
+    }
+  }
+}
@@ -31,6 +31,7 @@ import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
 import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.JobPriority;
 import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.util.Assertions;
 import org.eclipse.scout.rt.platform.util.concurrent.ThreadInterruptedError;
@@ -367,6 +368,7 @@ public class SessionStore implements ISessionStore, HttpSessionBindingListener {
     LOG.debug("Session housekeeping: Schedule job for client session with ID {}", clientSession.getId());
     final IFuture<Void> future = Jobs.schedule(() -> doHousekeepingOutsideWriteLock(clientSession), Jobs.newInput()
         .withName("Performing session housekeeping for client session with ID {}", clientSession.getId())
+        .withPriority(JobPriority.BACKGROUND)
         .withExceptionHandling(BEANS.get(SessionHousekeepingExceptionHandler.class), true)
         .withExecutionTrigger(Jobs.newExecutionTrigger()
             .withStartIn(CONFIG.getPropertyValue(SessionStoreHousekeepingDelayProperty.class), TimeUnit.SECONDS)));
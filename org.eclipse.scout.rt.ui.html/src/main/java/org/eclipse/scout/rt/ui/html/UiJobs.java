@@ -21,7 +21,6 @@ import org.eclipse.scout.rt.platform.ApplicationScoped;
 import org.eclipse.scout.rt.platform.BEANS;
 import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
-import org.eclipse.scout.rt.platform.filter.AndFilter;
 import org.eclipse.scout.rt.platform.job.IFuture;
 import org.eclipse.scout.rt.platform.job.JobState;
 import org.eclipse.scout.rt.platform.job.Jobs;
@@ -76,9 +75,10 @@ public class UiJobs {
     Assertions.assertNotNull(clientSession, "'ClientSession' must not be null");
 
     try {
-      await(new AndFilter<>(
-          ModelJobFutureFilter.INSTANCE,
-          new SessionFutureFilter(clientSession)));
+      await(Jobs.newFutureFilterBuilder()
+          .andMatch(new SessionFutureFilter(clientSession))
+          .andMatch(ModelJobFutureFilter.INSTANCE)
+          .toFilter());
     }
     catch (final ThreadInterruptedError e) {
       // Handle exception in proper ClientRunContext.
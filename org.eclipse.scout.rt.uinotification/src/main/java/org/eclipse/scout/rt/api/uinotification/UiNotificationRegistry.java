@@ -42,6 +42,7 @@ import org.eclipse.scout.rt.platform.config.CONFIG;
 import org.eclipse.scout.rt.platform.exception.ExceptionHandler;
 import org.eclipse.scout.rt.platform.job.FixedDelayScheduleBuilder;
 import org.eclipse.scout.rt.platform.job.IFuture;
+import org.eclipse.scout.rt.platform.job.JobPriority;
 import org.eclipse.scout.rt.platform.job.Jobs;
 import org.eclipse.scout.rt.platform.security.SecurityUtility;
 import org.eclipse.scout.rt.platform.transaction.ITransaction;
@@ -517,6 +518,7 @@ public class UiNotificationRegistry {
       }
     }, Jobs.newInput()
         .withName("UI Notification registry cleanup")
+        .withPriority(JobPriority.BACKGROUND)
         .withExceptionHandling(new ExceptionHandler() {
           @Override
           public void handle(Throwable t) {